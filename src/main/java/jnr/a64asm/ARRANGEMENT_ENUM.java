@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2018 Ossdev07
+ *
+ * This file is part of the JNR project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package jnr.a64asm;
+
+/**
+ * Arrangement specifier of a vector register: number and size of its elements.
+ */
+public enum ARRANGEMENT_ENUM {
+
+    T8B(0, 0),
+    T16B(0, 1),
+    T4H(1, 0),
+    T8H(1, 1),
+    T2S(2, 0),
+    T4S(2, 1),
+    T1D(3, 0),
+    T2D(3, 1),
+    //! @brief One 128 bit element, only the result of @c PMULL / @c PMULL2.
+    T1Q(4, 1);
+
+    private final int size;
+    private final int q;
+
+    ARRANGEMENT_ENUM(int size, int q) {
+        this.size = size;
+        this.q = q;
+    }
+
+    //! @brief Return log2 of the element size in bytes (the @c size field).
+    public final int size() {
+        return size;
+    }
+
+    //! @brief Return 1 for the 128 bit, 0 for the 64 bit arrangements (the @c Q field).
+    public final int q() {
+        return q;
+    }
+
+    //! @brief Return the number of elements.
+    public final int lanes() {
+        return (8 << q) >> size;
+    }
+
+}
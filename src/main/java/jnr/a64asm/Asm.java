@@ -71,6 +71,82 @@ public final class Asm {
     public static final Register w14 = Register.gpr(REG_W14);
     public static final Register w15 = Register.gpr(REG_W15);
 
+    /** Single precision floating point argument and result register. */
+    public static final Register s0 = Register.fpr(REG_S0);
+    /** Single precision floating point argument and result register. */
+    public static final Register s1 = Register.fpr(REG_S1);
+    /** Single precision floating point argument and result register. */
+    public static final Register s2 = Register.fpr(REG_S2);
+    /** Single precision floating point argument and result register. */
+    public static final Register s3 = Register.fpr(REG_S3);
+    /** Single precision floating point argument and result register. */
+    public static final Register s4 = Register.fpr(REG_S4);
+    /** Single precision floating point argument and result register. */
+    public static final Register s5 = Register.fpr(REG_S5);
+    /** Single precision floating point argument and result register. */
+    public static final Register s6 = Register.fpr(REG_S6);
+    /** Single precision floating point argument and result register. */
+    public static final Register s7 = Register.fpr(REG_S7);
+    /** Double precision floating point argument and result register. */
+    public static final Register d0 = Register.fpr(REG_D0);
+    /** Double precision floating point argument and result register. */
+    public static final Register d1 = Register.fpr(REG_D1);
+    /** Double precision floating point argument and result register. */
+    public static final Register d2 = Register.fpr(REG_D2);
+    /** Double precision floating point argument and result register. */
+    public static final Register d3 = Register.fpr(REG_D3);
+    /** Double precision floating point argument and result register. */
+    public static final Register d4 = Register.fpr(REG_D4);
+    /** Double precision floating point argument and result register. */
+    public static final Register d5 = Register.fpr(REG_D5);
+    /** Double precision floating point argument and result register. */
+    public static final Register d6 = Register.fpr(REG_D6);
+    /** Double precision floating point argument and result register. */
+    public static final Register d7 = Register.fpr(REG_D7);
+
+    /** Vector argument and result register, use as() for other arrangements. */
+    public static final VectorRegister v0 = VectorRegister.v(0, ARRANGEMENT_ENUM.T16B);
+    /** Vector argument and result register, use as() for other arrangements. */
+    public static final VectorRegister v1 = VectorRegister.v(1, ARRANGEMENT_ENUM.T16B);
+    /** Vector argument and result register, use as() for other arrangements. */
+    public static final VectorRegister v2 = VectorRegister.v(2, ARRANGEMENT_ENUM.T16B);
+    /** Vector argument and result register, use as() for other arrangements. */
+    public static final VectorRegister v3 = VectorRegister.v(3, ARRANGEMENT_ENUM.T16B);
+    /** Vector argument and result register, use as() for other arrangements. */
+    public static final VectorRegister v4 = VectorRegister.v(4, ARRANGEMENT_ENUM.T16B);
+    /** Vector argument and result register, use as() for other arrangements. */
+    public static final VectorRegister v5 = VectorRegister.v(5, ARRANGEMENT_ENUM.T16B);
+    /** Vector argument and result register, use as() for other arrangements. */
+    public static final VectorRegister v6 = VectorRegister.v(6, ARRANGEMENT_ENUM.T16B);
+    /** Vector argument and result register, use as() for other arrangements. */
+    public static final VectorRegister v7 = VectorRegister.v(7, ARRANGEMENT_ENUM.T16B);
+
+    /** Scalable vector argument and result register, use as() for other element sizes. */
+    public static final ScalableRegister z0 = ScalableRegister.z(0, ELEMENT_ENUM.B);
+    /** Scalable vector argument and result register, use as() for other element sizes. */
+    public static final ScalableRegister z1 = ScalableRegister.z(1, ELEMENT_ENUM.B);
+    /** Scalable vector argument and result register, use as() for other element sizes. */
+    public static final ScalableRegister z2 = ScalableRegister.z(2, ELEMENT_ENUM.B);
+    /** Scalable vector argument and result register, use as() for other element sizes. */
+    public static final ScalableRegister z3 = ScalableRegister.z(3, ELEMENT_ENUM.B);
+    /** Scalable vector argument and result register, use as() for other element sizes. */
+    public static final ScalableRegister z4 = ScalableRegister.z(4, ELEMENT_ENUM.B);
+    /** Scalable vector argument and result register, use as() for other element sizes. */
+    public static final ScalableRegister z5 = ScalableRegister.z(5, ELEMENT_ENUM.B);
+    /** Scalable vector argument and result register, use as() for other element sizes. */
+    public static final ScalableRegister z6 = ScalableRegister.z(6, ELEMENT_ENUM.B);
+    /** Scalable vector argument and result register, use as() for other element sizes. */
+    public static final ScalableRegister z7 = ScalableRegister.z(7, ELEMENT_ENUM.B);
+
+    /** Predicate argument and result register, use as(), zeroing() or merging() for the qualified forms. */
+    public static final PredicateRegister p0 = PredicateRegister.p(0);
+    /** Predicate argument and result register, use as(), zeroing() or merging() for the qualified forms. */
+    public static final PredicateRegister p1 = PredicateRegister.p(1);
+    /** Predicate argument and result register, use as(), zeroing() or merging() for the qualified forms. */
+    public static final PredicateRegister p2 = PredicateRegister.p(2);
+    /** Predicate argument and result register, use as(), zeroing() or merging() for the qualified forms. */
+    public static final PredicateRegister p3 = PredicateRegister.p(3);
+
     static final Mem _ptr_build(Label label, long disp, int ptrSize) {
         return new Mem(label, disp, ptrSize);
     }
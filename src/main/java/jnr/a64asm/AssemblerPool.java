@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2018 Ossdev07
+ *
+ * This file is part of the JNR project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package jnr.a64asm;
+
+import java.util.ArrayDeque;
+
+/**
+ * A bounded pool of reusable assemblers.
+ *
+ * Generating many small stubs with a fresh {@link Assembler_A64} each time
+ * throws away a grown code buffer and relocation storage per stub. Assemblers
+ * taken from the pool are reset and keep that storage, so steady-state code
+ * generation only allocates the final code.
+ */
+public final class AssemblerPool {
+    private final CPU_A64 cpu;
+    private final int maxSize;
+    private final ArrayDeque<Assembler_A64> free;
+
+    public AssemblerPool(CPU_A64 cpu, int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("invalid pool size");
+        }
+        this.cpu = cpu;
+        this.maxSize = maxSize;
+        this.free = new ArrayDeque<Assembler_A64>(maxSize);
+    }
+
+    //! @brief Return an empty assembler with default settings, reusing a released one if possible.
+    public Assembler_A64 acquire() {
+        Assembler_A64 a;
+        synchronized (free) {
+            a = free.pollFirst();
+        }
+        return a != null ? a : new Assembler_A64(cpu);
+    }
+
+    /**
+     * Resets @a a, including its CPU, properties and peephole rules, and
+     * returns it to the pool. It must not be used afterwards.
+     */
+    public void release(Assembler_A64 a) {
+        if (a.cpu() != cpu) {
+            throw new IllegalArgumentException("assembler is not for " + cpu);
+        }
+        if (a.hasExternalBuffer()) {
+            return;     /*never hand out a buffer owned by someone else*/
+        }
+        a.reset();
+        a.resetSettings();
+        synchronized (free) {
+            if (free.size() < maxSize) {
+                free.addFirst(a);
+            }
+        }
+    }
+}
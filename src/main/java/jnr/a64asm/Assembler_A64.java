@@ -19,11 +19,15 @@
 package jnr.a64asm;
 
 import java.nio.ByteBuffer;
-import java.util.LinkedList;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static jnr.a64asm.INST_CODE.*;
+import static jnr.a64asm.InstructionEncoder.*;
 import static jnr.a64asm.InstructionGroup.*;
+import static jnr.a64asm.LABEL_STATE.*;
 import static jnr.a64asm.OP.*;
 import static jnr.a64asm.OperandFlags.*;
 import static jnr.a64asm.RELOC_MODE.*;
@@ -36,11 +40,89 @@ import static jnr.a64asm.PrefOp.*;
  * Low level code generation.
  */
 public final class Assembler_A64 extends Serializer {
-    private final CodeBuffer _buffer = new CodeBuffer();
-    private final List<RelocData> _relocData = new LinkedList<RelocData>();
-    private final CpuInfo cpuInfo = CpuInfo.GENERIC;
+    private final CodeBuffer _buffer;
+    private final List<RelocData> _relocData = new ArrayList<RelocData>();
+    //! @brief Number of live entries in @c _relocData, the rest are kept for reuse.
+    private int _relocCount = 0;
+
+    // Label references. Entry i is the instruction at _fixupOffset[i] whose field
+    // of kind _fixupKind[i] (see InstructionEncoder.FIXUP_*) refers to
+    // _fixupLabel[i]. Entries are kept in code order. Unresolved entries of a
+    // label are chained through _fixupNext starting at Label.fixups.
+    private int[] _fixupOffset = new int[16];
+    private int[] _fixupKind = new int[16];
+    private int[] _fixupNext = new int[16];
+    private Label[] _fixupLabel = new Label[16];
+    private int _fixupCount = 0;
+    private Label[] _boundLabels = new Label[16];
+    private int _boundCount = 0;
+    private int _labelCount = 0;
+
+    // Pending layout edit used when a pass moves code: _editDelta[k] bytes are
+    // inserted (or removed if negative) at old offset _editOffset[k]. _editShift
+    // holds the running sum of the deltas. Offsets are sorted.
+    private int[] _editOffset = new int[16];
+    private int[] _editDelta = new int[16];
+    private int[] _editShift = new int[16];
+    private int _editCount = 0;
+
+    // Destinations of the veneers generated by relocate(), also used as scratch
+    // space by trampolineCount().
+    private long[] _veneerTarget = new long[8];
+
+    //! @brief Veneer: ldr x16, #8; br x16; .quad destination
+    private static final int VENEER_SIZE = 16;
+    private static final int VENEER_LDR_X16 = 0x58000050;
+    private static final int VENEER_BR_X16 = 0xd61f0200;
+    private static final int NOP = 0xd503201f;
+
+    // Literal pool. Entries _literalFirst.._literalCount-1 are pending, earlier
+    // ones were already placed. _literalRef is the offset of the first load of a
+    // pending literal (-1 if none). Labels are reused after reset().
+    private long[] _literalValue = new long[16];
+    private int[] _literalSize = new int[16];
+    private Label[] _literalLabel = new Label[16];
+    private int _literalCount = 0;
+    private int _literalFirst = 0;
+    private int _literalRef = -1;
+
+    // Placed pools holding 8 byte literals: offset of the first literal, whether
+    // a NOP in front of it aligns it, and the offset of the branch skipping the
+    // pool (-1 if none). alignPools() keeps them aligned when code moves.
+    private int[] _poolData = new int[4];
+    private boolean[] _poolPadded = new boolean[4];
+    private int[] _poolSkip = new int[4];
+    private int _poolCount = 0;
+
+    //! @brief Distance at which pending literals are placed; +/-1MB minus room for relaxed branches.
+    private static final int LITERAL_RANGE = (1 << 20) - (64 << 10);
+
+    // Offsets of the instructions emitted since the last peephole pass, recorded
+    // while PROPERTY_PEEPHOLE is set. Literal pools and data are not included.
+    private int[] _insnOffset = new int[64];
+    private int _insnCount = 0;
+    private List<PeepholeRule> _peepholeRules = null;
+    private InstructionStream _peepholeStream = null;
+
+    private CpuInfo cpuInfo = CpuInfo.GENERIC;
     private int _properties = 0;
 
+    //! @brief Rewrite conditional branches whose label is out of range (see bind()).
+    public static final int PROPERTY_RELAX_BRANCHES = 1 << 0;
+
+    /**
+     * Record the emitted instructions and run the peephole rules over them
+     * before the code is placed, see peepholeRules(). Only instructions emitted
+     * while the property is set are considered.
+     */
+    public static final int PROPERTY_PEEPHOLE = 1 << 1;
+
+    /**
+     * Reorder the instructions a Compiler_A64 emits into this assembler within
+     * their basic blocks, to hide latencies on the core given by setCpuInfo().
+     */
+    public static final int PROPERTY_SCHEDULE = 1 << 2;
+
     private final Logger _logger = null;
 
     private final CPU_A64 cpu;
@@ -57,15 +139,200 @@ public final class Assembler_A64 extends Serializer {
     public static final CPU_A64 Aarch_64 = CPU_A64.Aarch64;
     public Assembler_A64(CPU_A64 cpu) {
         this.cpu = cpu;
+        this._buffer = new CodeBuffer();
+    }
+
+    /**
+     * Creates an assembler that emits code directly into @a code, starting at
+     * its current position. Use {@link #relocCode(long)} to relocate the code in
+     * place once it is complete; the buffer does not grow, running out of space
+     * throws @c IllegalStateException.
+     */
+    public Assembler_A64(CPU_A64 cpu, ByteBuffer code) {
+        this.cpu = cpu;
+        this._buffer = new CodeBuffer(code);
+    }
+
+    /**
+     * Discards all generated code and relocations so the assembler can be used
+     * for the next function. The code buffer capacity and relocation storage are
+     * kept, so reusing an assembler does not allocate.
+     */
+    public void reset() {
+        _buffer.reset();
+        _relocCount = 0;
+        Arrays.fill(_fixupLabel, 0, _fixupCount, null);
+        _fixupCount = 0;
+        Arrays.fill(_boundLabels, 0, _boundCount, null);
+        _boundCount = 0;
+        _labelCount = 0;
+        _literalCount = 0;
+        _literalFirst = 0;
+        _literalRef = -1;
+        _poolCount = 0;
+        _insnCount = 0;
+    }
+
+    //! @brief Return @c true if @a property (@c PROPERTY_*) is enabled.
+    public final boolean getProperty(int property) {
+        return (_properties & property) != 0;
+    }
+
+    //! @brief Enable or disable @a property (@c PROPERTY_*).
+    public final void setProperty(int property, boolean value) {
+        if (value) {
+            _properties |= property;
+        } else {
+            _properties &= ~property;
+        }
+    }
+
+    //! @brief Return the CPU code is tuned for, CpuInfo.GENERIC by default.
+    public final CpuInfo getCpuInfo() {
+        return cpuInfo;
+    }
+
+    /**
+     * Tunes code for @a cpuInfo, see @c PROPERTY_SCHEDULE. Instructions of
+     * optional features like SVE may only be emitted if @a cpuInfo has them,
+     * see CpuInfo.hasFeature().
+     */
+    public final void setCpuInfo(CpuInfo cpuInfo) {
+        if (cpuInfo == null) {
+            throw new IllegalArgumentException("illegal arguments");
+        }
+        this.cpuInfo = cpuInfo;
+    }
+
+    /**
+     * Returns the rules run by the peephole pass (@c PROPERTY_PEEPHOLE), in
+     * order. The list initially holds PeepholeRule.defaultRules() and may be
+     * changed; each rule counts the instructions it removed.
+     */
+    public final List<PeepholeRule> peepholeRules() {
+        if (_peepholeRules == null) {
+            _peepholeRules = PeepholeRule.defaultRules();
+        }
+
+        return _peepholeRules;
+    }
+
+    // Atomic read-modify-write of the word at [rn], with acquire and release
+    // ordering, for locks and reference counts. With FEATURE_LSE (see
+    // setCpuInfo()) each is a single instruction, otherwise an LDAXR / STLXR
+    // loop that uses x16 and x17, which must not be operands.
+
+    /**
+     * Adds @a rs to the word at [@a rn] and returns its previous value in
+     * @a rt, which may be the zero register.
+     */
+    public final void atomicAdd(int rt, int rs, int rn) {
+        checkAtomicOperands(rt, rs, rn);
+        if (cpuInfo.hasFeature(CpuInfo.FEATURE_LSE)) {
+            ldaddal(rs, rt, rn);
+            return;
+        }
+        int sum = (rs & REGTYPE_MASK) | 16;
+        Label retry = newLabel();
+        bind(retry);
+        ldaxr(sum, rn);
+        addReg(sum, sum, rs, SHIFT_ENUM.LSL, 0);
+        stlxr(REG_W17, sum, rn);
+        cbnz(Register.gpw(17), retry);
+        if ((rt & REGCODE_MASK) != 31) {
+            subReg(rt, sum, rs, SHIFT_ENUM.LSL, 0);
+        }
+    }
+
+    //! @brief Store @a rs to [@a rn] and return the previous value in @a rt.
+    public final void atomicSwap(int rt, int rs, int rn) {
+        checkAtomicOperands(rt, rs, rn);
+        if (cpuInfo.hasFeature(CpuInfo.FEATURE_LSE)) {
+            swpal(rs, rt, rn);
+            return;
+        }
+        int old = (rs & REGTYPE_MASK) | 16;
+        Label retry = newLabel();
+        bind(retry);
+        ldaxr(old, rn);
+        stlxr(REG_W17, rs, rn);
+        cbnz(Register.gpw(17), retry);
+        if ((rt & REGCODE_MASK) != 31) {
+            movReg(rt, old);
+        }
+    }
+
+    /**
+     * Stores @a rt to [@a rn] if the word there equals @a rs. @a rs receives
+     * the previous value either way, so the store happened if it is unchanged.
+     */
+    public final void atomicCompareAndSwap(int rs, int rt, int rn) {
+        checkAtomicOperands(rt, rs, rn);
+        if (cpuInfo.hasFeature(CpuInfo.FEATURE_LSE)) {
+            casal(rs, rt, rn);
+            return;
+        }
+        int old = (rs & REGTYPE_MASK) | 16;
+        int diff = (rs & REGTYPE_MASK) | 17;
+        Label retry = newLabel();
+        Label done = newLabel();
+        bind(retry);
+        ldaxr(old, rn);
+        eorReg(diff, old, rs, SHIFT_ENUM.LSL, 0);
+        cbnz(Register.gpr(diff), done);
+        stlxr(REG_W17, rt, rn);
+        cbnz(Register.gpw(17), retry);
+        bind(done);
+        movReg(rs, old);
+    }
+
+    private static void checkAtomicOperands(int rt, int rs, int rn) {
+        if (isX(rt) != isX(rs) || !isX(rn)) {
+            throw new IllegalArgumentException("illegal arguments");
+        }
+        if (isScratch(rt) || isScratch(rs) || isScratch(rn)) {
+            throw new IllegalArgumentException("x16 and x17 are used by atomic operations");
+        }
+    }
+
+    private static boolean isScratch(int reg) {
+        return (reg & REGCODE_MASK) == 16 || (reg & REGCODE_MASK) == 17;
+    }
+
+    //! @brief Return @c true if code is emitted into a caller supplied buffer.
+    final boolean hasExternalBuffer() {
+        return _buffer.isExternal();
+    }
+
+    //! @brief Return the architecture the assembler was created for.
+    final CPU_A64 cpu() {
+        return cpu;
+    }
+
+    /**
+     * Restores the settings of a new assembler: the @c GENERIC CPU, no
+     * properties and fresh default peephole rules. Unlike reset() this also
+     * drops what setCpuInfo(), setProperty() and peepholeRules() changed.
+     */
+    final void resetSettings() {
+        cpuInfo = CpuInfo.GENERIC;
+        _properties = 0;
+        _peepholeRules = null;
     }
 
     public final int offset() {
         return _buffer.offset();
     }
 
-    /** Gets the required size of memory required to store all the generated code */
+    /**
+     * Gets the required size of memory required to store all the generated code,
+     * including room for the veneers of calls that may turn out to be out of range.
+     * Pending literals are placed at the end of the code first, so this should
+     * only be called once the code is complete.
+     */
     public final int codeSize() {
-        return _buffer.offset();
+        finish();
+        return _buffer.offset() + trampolineSize();
     }
 
     //! @brief Set byte at position @a pos.
@@ -158,6 +425,8 @@ public final class Assembler_A64 extends Serializer {
 
     /** Emit Int32 (4 bytes) to internal buffer. */
     final void _emitInt32(int x) {
+        checkLiteralRange();
+        recordInstruction();
         _buffer.emitDWord(x);
     }
 
@@ -208,808 +477,698 @@ public final class Assembler_A64 extends Serializer {
 
     void _emita64(INST_CODE code, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
         InstructionDescription id = InstructionDescription.find(code);
-        switch(id.group){
-            case addsub_carry:
-            case addsub_ext:
-            {
-                int inst_to_emit = 0;
-                if ((o1.isReg() && o2.isReg() && o3.isReg()) || (o4 != null && o4.isExtend())){
-                    Register regD = (Register) o1;
-                    Register regN = (Register) o2;
-                    Register regM = (Register) o3;
-                    Ext extV = null;
-                    if(o4 != _none && o4.isExtend())
-                        extV = (Ext) o4;
-                    if(o1.size() == SIZE_DWORD){
-                            inst_to_emit |= 1 << 31;
-                    }
-                    inst_to_emit |= regD.code & 0b11111;
-                    inst_to_emit |= (regN.code &  0b11111) << 5;
-                    inst_to_emit |= (regM.code &  0b11111) << 16;
-                    if((id.group == addsub_ext) && (extV != null)){
-                        inst_to_emit |= (extV.value() & 0b111) << 10;
-                        inst_to_emit |= (extV.type() & 0b111) << 13;
-                    }
-                    inst_to_emit |= id.opcode;
-                    _emitInt32(inst_to_emit);
+        checkFeature(id);
+        id.encoder.emit(this, id, o1, o2, o3, o4, o5);
+    }
+
+    void _emitInt32(INST_CODE code, int x) {
+        checkFeature(InstructionDescription.find(code));
+        _emitInt32(x);
+    }
+
+    private void checkFeature(InstructionDescription id) {
+        if (id.feature != 0 && !cpuInfo.hasFeature(id.feature)) {
+            throw new IllegalStateException(id.code + " is not supported by the CPU, see setCpuInfo()");
+        }
+    }
+
+    //! @brief Create a new, unbound label.
+    public final Label newLabel() {
+        return new Label(++_labelCount);
+    }
+
+    /**
+     * Binds @a label to the current offset and patches every instruction that
+     * referenced it so far. Later references are encoded directly.
+     *
+     * A conditional branch whose label turns out to be out of range throws
+     * @c IllegalArgumentException, unless @c PROPERTY_RELAX_BRANCHES is set. It
+     * is then left for codeSize() / relocCode() to rewrite, see relaxBranches().
+     */
+    public final void bind(Label label) {
+        if (label.isBound()) {
+            throw new IllegalStateException("label already bound");
+        }
+        label.position = offset();
+        label.state = LABEL_STATE_BOUND;
+        for (int i = label.fixups; i != -1; i = _fixupNext[i]) {
+            patchFixup(i);
+        }
+        label.fixups = -1;
+
+        if (_boundCount == _boundLabels.length) {
+            _boundLabels = Arrays.copyOf(_boundLabels, _boundCount * 2);
+        }
+        _boundLabels[_boundCount++] = label;
+    }
+
+    //! @brief Emit @a inst whose field of @a kind (@c FIXUP_*) refers to @a label.
+    final void _emitLabelRef(int inst, Label label, int kind) {
+        checkLiteralRange();
+        recordInstruction();
+        int i = addFixup(offset(), kind, label);
+        _buffer.emitDWord(inst);
+        if (kind == FIXUP_ADRP) {
+            return;     /*the page distance depends on the final address, see relocate()*/
+        }
+        if (label.isBound()) {
+            patchFixup(i);
+        } else {
+            _fixupNext[i] = label.fixups;
+            label.fixups = i;
+            label.state = LABEL_STATE_LINKED;
+        }
+    }
+
+    private int addFixup(int offset, int kind, Label label) {
+        if (_fixupCount == _fixupOffset.length) {
+            int n = _fixupCount * 2;
+            _fixupOffset = Arrays.copyOf(_fixupOffset, n);
+            _fixupKind = Arrays.copyOf(_fixupKind, n);
+            _fixupNext = Arrays.copyOf(_fixupNext, n);
+            _fixupLabel = Arrays.copyOf(_fixupLabel, n);
+        }
+        int i = _fixupCount++;
+        _fixupOffset[i] = offset;
+        _fixupKind[i] = kind;
+        _fixupNext[i] = -1;
+        _fixupLabel[i] = label;
+        return i;
+    }
+
+    //! @brief Encode the displacement of fixup @a i, whose label must be bound.
+    private void patchFixup(int i) {
+        int at = _fixupOffset[i];
+        int kind = _fixupKind[i];
+        long disp = _fixupLabel[i].position - at;
+        if (isRelaxable(kind) && getProperty(PROPERTY_RELAX_BRANCHES) && !isDisplacementInRange(kind, disp)) {
+            return;     /*rewritten by relaxBranches()*/
+        }
+        _buffer.setDWordAt(at, encodeDisplacement(_buffer.getDWordAt(at), kind, disp));
+    }
+
+    //! @brief Run the passes that may still change the code, see @c PROPERTY_*.
+    private void finish() {
+        runPeephole();
+        alignPools();
+        placeLiterals(false);
+        if (getProperty(PROPERTY_RELAX_BRANCHES)) {
+            do {
+                relaxBranches();
+            } while (alignPools());     /*a new pad may put another branch out of range*/
+        }
+    }
+
+    /**
+     * Rewrites every conditional branch whose bound label is out of range into
+     * an inverted branch over an unconditional @c B. Each rewrite moves the code
+     * behind it, so the check is repeated until no further branch has to grow.
+     * Branches that stay in range keep their short form, and when nothing is out
+     * of range the code is left untouched.
+     */
+    private void relaxBranches() {
+        boolean[] expand = null;
+        boolean changed = true;
+        _editCount = 0;
+        while (changed) {
+            changed = false;
+            for (int i = 0; i < _fixupCount; i++) {
+                int kind = _fixupKind[i];
+                Label label = _fixupLabel[i];
+                if (!isRelaxable(kind) || !label.isBound() || (expand != null && expand[i])) {
+                    continue;
                 }
-                else
-                    throw new IllegalArgumentException("illegal arguments");
-                break;
-            }
-            case addsub_imm:
-            case addsub_shift:
-            {
-                int inst_to_emit = 0;
-                if ((o1 != _none && o1.isReg()) && (o2 != _none && o2.isReg())){
-                    Register regD = (Register) o1;
-                    Register regN = (Register) o2;
-                    Immediate val = null ;
-                    if(o3 != _none  && o3.isImm())
-                        val = (Immediate) o3;
-                    Shift sft = null;
-                    if(o4 != _none)
-                        sft = (Shift) o4;
-                    Register regM = null;
-                    if(o3 != _none && o3.isReg())
-                        regM = (Register) o3;
-                    if(o1.size() == SIZE_DWORD)
-                        inst_to_emit |= 1 << 31;
-                    inst_to_emit |= regD.code & 0b11111;
-                    inst_to_emit |= (regN.code &  0b11111) << 16;
-                    if(id.group == addsub_shift){
-                        if(regM != null)
-                            inst_to_emit |= (regM.code &  0b11111) << 16;
-                        if (sft != null)
-                            inst_to_emit |= (sft.value() &  0b111111) << 10;
+                if (!isDisplacementInRange(kind, remap(label.position) - remap(_fixupOffset[i]))) {
+                    if (expand == null) {
+                        expand = new boolean[_fixupCount];
                     }
-                    else {
-                        if (val != null)
-                            inst_to_emit |= (val.value() &  0xfff) << 10;
-                    }
-                    if(sft != null)
-                        inst_to_emit |= (sft.type() & 0b11) << 22;
-                    inst_to_emit |= id.opcode;
-                    _emitInt32(inst_to_emit);
+                    expand[i] = true;
+                    changed = true;
                 }
-                else
-                    throw new IllegalArgumentException("illegal arguments");
-                break;
             }
-            case bitfield:
-            {
-                int inst_to_emit = 0;
-                if (o1.isReg() && o2.isReg()){
-                    Register regD = (Register) o1;
-                    Register regN = (Register) o2;
-                    Immediate val1 = null ;
-                    if(o3.isImm())
-                        val1 = (Immediate) o3;
-                    Immediate val2 = null;
-                    if(o4.isImm())
-                        val2 = (Immediate) o4;
-                    if(o1.size() == SIZE_DWORD){
-                        inst_to_emit |= 1 << 31;
-                        inst_to_emit |= 1 << 22;
+            if (changed) {
+                _editCount = 0;
+                for (int i = 0; i < _fixupCount; i++) {
+                    if (expand[i]) {
+                        addEdit(_fixupOffset[i], 4);
                     }
-                    inst_to_emit |= regD.code & 0b11111;
-                    inst_to_emit |= (regN.code &  0b11111) << 5;
-                    if (val1 != null)
-                        inst_to_emit |= (val1.value() &  0b111111) << 10;
-                    if (val2 != null)
-                        inst_to_emit |= (val2.value() &  0b111111) << 16;
-                    inst_to_emit |= id.opcode;
-                    _emitInt32(inst_to_emit);
                 }
-                else
-                    throw new IllegalArgumentException("illegal arguments");
-                break;
             }
-            case branch_imm:
-            {
-                int inst_to_emit = 0;
-                if (o1 != _none){
-                    Immediate mem = (Immediate) o1;
-                    /*<label> Is the program label to be unconditionally branched to. Its offset from the address of this instruction,
-                    in the range +/-128MB, is encoded as "imm26" times 4.*/
-                    _emitJmpOrCallReloc(branch_imm, mem.value());
-                }
-                else
-                    throw new IllegalArgumentException("illegal arguments");
-                break;
+        }
+        if (expand == null) {
+            return;
+        }
+
+        ByteBuffer image = ByteBuffer.allocate(offset()).order(ByteOrder.LITTLE_ENDIAN);
+        _buffer.copyTo(image);
+        _buffer.reset();
+        int from = 0;
+        for (int i = 0; i < _fixupCount; i++) {
+            if (expand[i]) {
+                int at = _fixupOffset[i];
+                image.limit(at).position(from);
+                _buffer.emitData(image, at - from);
+                image.limit(image.capacity());
+                _buffer.emitDWord(invertBranch(image.getInt(at), 8));
+                _buffer.emitDWord(InstructionDescription.find(INST_B_BRANCH_IMM).opcode);
+                from = at + 4;
             }
-            case branch_reg:
-            {
-                int inst_to_emit = 0;
-                Register regN = null;
-                if(o1 != _none && o1 != null && o1.isReg()) /*because at jnr-ffi level this is called like this a.ret((Register)null);*/
-                regN = (Register) o1;
-                if (regN != null)
-                    inst_to_emit |= (regN.code &  0b11111) << 5;
-                if(regN == null && id.code == INST_RET_BRANCH_REG)
-                    inst_to_emit |= 0b11110 << 5;   /*in the case of RET default location is X30*/
-                inst_to_emit |= id.opcode;
-                _emitInt32(inst_to_emit);
-                break;
+        }
+        image.position(from);
+        _buffer.emitData(image, image.remaining());
+
+        applyEdits();
+        for (int i = 0; i < _fixupCount; i++) {
+            if (expand[i]) {
+                _fixupOffset[i] += 4;
+                _fixupKind[i] = FIXUP_BRANCH26;
             }
-            case compbranch:
-            {
-                int inst_to_emit = 0;
-                if (o1.isReg() && o2.isLabel()){
-                    Register regD = (Register) o1;
-                    Label labl = (Label) o2;
-                    if(o1.size() == SIZE_DWORD)
-                        inst_to_emit |= 1 << 31;
-                    inst_to_emit |= regD.code & 0b11111;
-                    inst_to_emit |= (labl.position() & 0x7ffff) << 5;
-                    inst_to_emit |= id.opcode;
-                    _emitInt32(inst_to_emit);
-                }
-                else
-                    throw new IllegalArgumentException("illegal arguments");
-                break;
+        }
+        patchBoundFixups();
+    }
+
+    //! @brief Re-encode the displacements to bound labels after code was moved.
+    private void patchBoundFixups() {
+        for (int i = 0; i < _fixupCount; i++) {
+            if (_fixupLabel[i].isBound() && _fixupKind[i] != FIXUP_ADRP) {
+                patchFixup(i);
             }
-            case condbranch:
-            {
-                int inst_to_emit = 0;
-                if (o1.isImm()){
-                    Immediate imm19 = (Immediate) o1;
-                    if (imm19 != null)
-                        inst_to_emit |= (imm19.value() & 0x7ffff) << 5;
-                    inst_to_emit |= id.opcode;
-                    _emitInt32(inst_to_emit);
-                }
-                else
-                    throw new IllegalArgumentException("illegal arguments");
-                break;
+        }
+    }
+
+    private void recordInstruction() {
+        if ((_properties & PROPERTY_PEEPHOLE) != 0) {
+            if (_insnCount == _insnOffset.length) {
+                _insnOffset = Arrays.copyOf(_insnOffset, _insnCount * 2);
             }
-            case condcmp_imm:
-            case condcmp_reg:
-            {
-                int inst_to_emit = 0;
-                if (o1.isReg() && o2.isImm()){
-                    Register regD = (Register) o1;
-                    Register regM = (Register) o2;
-                    Immediate val = (Immediate) o2;
-                    Immediate nzcv = (Immediate) o3;
-                    Conditions cond = (Conditions) o4;
-                    if (regD != null)
-                        inst_to_emit |= regD.code & 0b11111;
-                    if (id.group == condcmp_reg && regM != null)
-                        inst_to_emit |= (regM.code &  0b11111) << 16;
-                    else{
-                        if (val != null)
-                            inst_to_emit |= (val.value() & 0b11111) << 16;
-                    }
-                    if (nzcv != null)
-                        inst_to_emit |= nzcv.value() & 0b1111;
-                    if (cond != null)
-                        inst_to_emit |= (cond.value() & 0b1111) << 12;
-                    inst_to_emit |= id.opcode;
-                    _emitInt32(inst_to_emit);
+            _insnOffset[_insnCount++] = offset();
+        }
+    }
+
+    /**
+     * Runs the peephole rules over the instructions recorded since the last
+     * pass, then removes the instructions they deleted. Labels bound to a
+     * removed instruction move to the one following it.
+     */
+    private void runPeephole() {
+        int count = _insnCount;
+        _insnCount = 0;
+        if (count == 0) {
+            return;
+        }
+        if (_peepholeStream == null) {
+            _peepholeStream = new InstructionStream(this);
+        }
+        InstructionStream code = _peepholeStream;
+        code.reset(_insnOffset, count);
+        for (PeepholeRule rule : peepholeRules()) {
+            for (int i = 0; i < count; i++) {
+                if (!code.isRemoved(i)) {
+                    int removed = code.removedCount();
+                    rule.apply(code, i);
+                    rule.removed += code.removedCount() - removed;
                 }
-                else
-                    throw new IllegalArgumentException("illegal arguments");
-                break;
             }
-            case condsel:
-            {
-                int inst_to_emit = 0;
-                if (o1.isReg()){
-                    Register regD = (Register) o1;
-                    Register regN = (Register) o2;
-                    Register regM = (Register) o3;
-                    Conditions cond0 = (Conditions) o4;
-                    Conditions cond1 = (Conditions) o3;
-                    Conditions cond2 = (Conditions) o2;
-                    if (regD != null)
-                        inst_to_emit |= regD.code & 0b11111;
-                        if(o4.isCond() && ((cond0.value() & 0b1110) != 0b1110)){
-                            inst_to_emit |= (cond0.value() ^ 0b1) << 12;
-                            inst_to_emit |= (regN.code &  0b11111) << 5;
-                            inst_to_emit |= (regM.code &  0b11111) << 16;
-                        }
-                        else if(o3.isCond() && ((cond1.value() & 0b1110) != 0b1110)){
-                            inst_to_emit |= (cond1.value() ^ 0b1) << 12;
-                            inst_to_emit |= (regN.code &  0b11111) << 5;
-                            inst_to_emit |= (0b11111) << 16;    /*regM is 0b11111 if not explicitly mentioned in ASM inst*/
-                        }
-                        else if(o2.isCond() && ((cond2.value() & 0b1110) != 0b1110)){
-                            inst_to_emit |= (cond1.value() ^ 0b1) << 12;
-                            inst_to_emit |= (0b11111) << 5;
-                            inst_to_emit |= (0b11111) << 16;    /*regM&N is 0b11111 if not explicitly mentioned in ASM inst*/
-                        }
-                        inst_to_emit |= id.opcode;
-                        _emitInt32(inst_to_emit);
-                    }
-                    else
-                        throw new IllegalArgumentException("illegal arguments");
-                    break;
-            }
-            case dp_1src:
-            case dp_2src:
-            case dp_3src:
-            {
-                int inst_to_emit = 0;
-                if (o1.isReg() && o2.isReg()){
-                    Register regD = (Register) o1;
-                    Register regN = (Register) o2;
-                    Register regM = (Register) o3;
-                    Register regA = (Register) o4;
-                    if (regD != null)
-                        inst_to_emit |= regD.code & 0b11111;
-                    if (regN != null)
-                        inst_to_emit |= (regN.code &  0b11111) << 5;
-                    if (regM != null && (id.group == dp_2src || id.group == dp_3src))
-                        inst_to_emit |= (regM.code &  0b11111) << 16;
-                    if (regA != null && id.group == dp_3src)
-                        inst_to_emit |= (regA.code &  0b11111) << 10;
-                    inst_to_emit |= id.opcode;
-                    _emitInt32(inst_to_emit);
+        }
+        if (code.removedCount() == 0) {
+            return;
+        }
+
+        _editCount = 0;
+        ByteBuffer image = ByteBuffer.allocate(offset()).order(ByteOrder.LITTLE_ENDIAN);
+        _buffer.copyTo(image);
+        _buffer.reset();
+        int from = 0;
+        for (int i = 0; i < count; i++) {
+            if (code.isRemoved(i)) {
+                int at = _insnOffset[i];
+                addEdit(at, -4);
+                int f = fixupAt(at);
+                if (f >= 0) {
+                    _fixupLabel[f] = null;
                 }
-                else
-                    throw new IllegalArgumentException("illegal arguments");
-                break;
+                image.limit(at).position(from);
+                _buffer.emitData(image, at - from);
+                image.limit(image.capacity());
+                from = at + 4;
             }
-            case exception:
-            {
-                int inst_to_emit = 0;
-                if (o1.isImm()){
-                    Immediate imm16 = (Immediate) o1;
-                    if(imm16 != null)
-                        inst_to_emit |= (imm16.value() & 0xffff) << 5;
-                    inst_to_emit |= id.opcode;
-                    _emitInt32(inst_to_emit);
-                }
-                else
-                    throw new IllegalArgumentException("illegal arguments");
-                break;
+        }
+        image.position(from);
+        _buffer.emitData(image, image.remaining());
+
+        removeDeadFixups();
+        applyEdits();
+        patchBoundFixups();
+    }
+
+    //! @brief Drop the fixups whose label was cleared and relink the unresolved ones.
+    private void removeDeadFixups() {
+        int n = 0;
+        for (int i = 0; i < _fixupCount; i++) {
+            if (_fixupLabel[i] != null) {
+                _fixupOffset[n] = _fixupOffset[i];
+                _fixupKind[n] = _fixupKind[i];
+                _fixupLabel[n] = _fixupLabel[i];
+                n++;
             }
-            case extract:
-            {
-                int inst_to_emit = 0;
-                if (o1.isReg() && o2.isReg()){
-                    Register regD = (Register) o1;
-                    Register regN = (Register) o2;
-                    Register regM = (Register) o3;
-                    Immediate imm6 = (Immediate) o4;
-                    Immediate imm6_1 = (Immediate) o3;
-                    if (regD != null)
-                        inst_to_emit |= regD.code & 0b11111;
-                    if (regN != null)
-                        inst_to_emit |= (regN.code &  0b11111) << 5;
-                    if (o3.isReg() && regM != null){
-                        inst_to_emit |= (regM.code &  0b11111) << 16;
-                        inst_to_emit |= (imm6.value() & 0b111111) << 10;
-                    }
-                    else if (o3.isImm() && imm6_1 != null ){
-                        inst_to_emit |= (imm6_1.value() & 0b111111) << 10;
-                        inst_to_emit |= (regN.code &  0b11111) << 16;   /*in the case of ROR Rn and Rm will hold same value*/
-                    }
-                    inst_to_emit |= id.opcode;
-                    _emitInt32(inst_to_emit);
-                }
-                else
-                    throw new IllegalArgumentException("illegal arguments");
-                break;
+        }
+        Arrays.fill(_fixupLabel, n, _fixupCount, null);
+        _fixupCount = n;
+        for (int i = 0; i < n; i++) {
+            if (!_fixupLabel[i].isBound()) {
+                _fixupLabel[i].fixups = -1;
             }
-            case ldst_imm9:
-            case ldst_pos:
-            {
-                int inst_to_emit = 0;
-                if (o1.isReg() || id.code == INST_PRFM_LDST_POS__IMMEDIATE){
-                    Register regD = null;
-                    PRFOP_ENUM pfrop = null;
-                    if(id.code == INST_PRFM_LDST_POS__IMMEDIATE && o1 != null)
-                        pfrop = (PRFOP_ENUM)o1;
-                    else if(o1 != _none)
-                        regD = (Register) o1;
-                    Register regN = null;
-                    Post_index postindex = null;
-                    Pre_index preindex = null;
-                    Offset offset = null;
-                    Immediate imm9 = null;
-                    Immediate imm12 = null;
-                    if(o2 != _none && o2.isReg())
-                        regN = (Register) o2;
-                    else if((o2 != _none) && (o2.isPreIndex() || o2.isPostIndex() || o2.isOffset())){
-                        if(o2.isPreIndex()) {
-                            preindex = (Pre_index)o2;
-                            regN = preindex.getRegister();
-                            imm9 = preindex.getPreIndex();
-                        }
-                        else if(o2.isPostIndex()){
-                            postindex = (Post_index)o2;
-                            regN = postindex.getRegister();
-                            imm9 = postindex.getPostIndex();
-                        }
-                        else{
-                            offset = (Offset)o2;
-                            regN = offset.getRegister();
-                            imm12 = offset.getOffset();
-                        }
-                    }
-                    if(o3 != _none && id.group == ldst_imm9 && !(o2.isPreIndex() || o2.isPostIndex()))
-                        imm9 = (Immediate)o3;
-                    if(o3 != _none && id.group == ldst_pos && !(o2.isPreIndex() || o2.isPostIndex()))
-                        imm12 = (Immediate) o3;
-                    if(o1.size() == SIZE_DWORD && id.code != INST_PRFM_LDST_POS__IMMEDIATE && id.code != INST_LDRSW_IMM_OFF && id.code != INST_LDRH_IMM_OFF && id.code != INST_LDRSH_IMM_OFF && id.code != INST_LDRB_IMM_OFF && id.code != INST_LDRSB_IMM_OFF)
-                        inst_to_emit |= 1 << 30;
-                    if(o1.size() == SIZE_WORD && id.code != INST_LDRB_IMM_OFF  && (id.code == INST_LDRSH_IMM_OFF || id.code == INST_LDRSB_IMM_OFF) )
-                        inst_to_emit |= 1 << 22;
-                    if (regD != null)
-                        inst_to_emit |= regD.code & 0b11111;
-                    else if (pfrop != null)
-                        inst_to_emit |= pfrop.intValue() & 0b11111; /*in case of prfm inst*/
-                    if (regN != null)
-                        inst_to_emit |= (regN.code &  0b11111) << 5;
-                    if (id.group == ldst_imm9)
-                        inst_to_emit |= (imm9.value() & 0x1ff) << 12;
-                    else if(id.group == ldst_pos && (id.code == INST_LDRB_IMM_OFF || id.code == INST_LDRSB_IMM_OFF))
-                        inst_to_emit |= (imm12.value() & 0xfff) << 10;
-                    else if(id.group == ldst_pos && (id.code == INST_LDRH_IMM_OFF || id.code == INST_LDRSH_IMM_OFF))
-                        inst_to_emit |= (imm12.value()>>1 & 0xfff) << 10;
-                    else if(id.group == ldst_pos)
-                        inst_to_emit |= (imm12.value()>>((id.code == INST_LDRSW_IMM_OFF)?(2):(3)) & 0xfff) << 10;   /*<pimm> Is the optional positive immediate byte offset, a multiple of 8 in the range 0 to 32760, defaulting to 0 and encoded in the "imm12" field as <pimm>/8.*/
-                    inst_to_emit |= id.opcode;
-                    _emitInt32(inst_to_emit);
-                }
-                else
-                    throw new IllegalArgumentException("illegal arguments");
-                break;
+        }
+        for (int i = 0; i < n; i++) {
+            Label label = _fixupLabel[i];
+            _fixupNext[i] = -1;
+            if (!label.isBound() && _fixupKind[i] != FIXUP_ADRP) {
+                _fixupNext[i] = label.fixups;
+                label.fixups = i;
             }
-            case ldst_imm9_2reg:
-            case ldst_pos_2reg:
-            {
-                int inst_to_emit = 0;
-                if (o1.isReg()){
-                    Register regT = (Register) o1;
-                    Register regT2 = (Register) o2;
-                    Post_index postindex = null;
-                    Pre_index preindex = null;
-                    Offset offset = null;
-                    Immediate imm7 = null;
-                    Register regN = null;
-                    if(o3 != _none && o3.isPreIndex() || o3.isPostIndex() || o3.isOffset()){
-                        if(o3.isPreIndex()) {
-                            preindex = (Pre_index)o3;
-                            regN = preindex.getRegister();
-                            imm7 = preindex.getPreIndex();
-                        }
-                        else if(o3.isPostIndex()){
-                            postindex = (Post_index)o3;
-                            regN = postindex.getRegister();
-                            imm7 = postindex.getPostIndex();
-                        }
-                        else{
-                            offset = (Offset)o3;
-                            regN = offset.getRegister();
-                            imm7 = offset.getOffset();
-                        }
-                    }
-                    if(o1.size() == SIZE_DWORD)
-                        inst_to_emit |= 1 << 31;
-                    if (regT != null)
-                        inst_to_emit |= regT.code & 0b11111;
-                    if (regN != null)
-                        inst_to_emit |= (regN.code &  0b11111) << 5;
-                    if (regT2 != null)
-                        inst_to_emit |= (regT2.code &  0b11111) << 10;
-                    /*<imm> For the 32-bit variant: is the optional signed immediate byte offset, a multiple of 4 in the range -256
-                    to 252, defaulting to 0 and encoded in the "imm7" field as <imm>/4.
-                    <imm> For the 64-bit variant: is the optional signed immediate byte offset, a multiple of 8 in the range -512
-                    to 504, defaulting to 0 and encoded in the "imm7" field as <imm>/8. */
-                    if(imm7 != null)
-                        inst_to_emit |= ((imm7.value()>>((o1.size() == SIZE_DWORD)?(3):(2)))  & 0b1111111) << 15;
-                    inst_to_emit |= id.opcode;
-                    _emitInt32(inst_to_emit);
-                }
-                else
-                    throw new IllegalArgumentException("illegal arguments");
-                break;
+        }
+    }
+
+    //! @brief Return the index of the fixup of the instruction at @a offset, -1 if none.
+    final int fixupAt(int offset) {
+        int lo = 0;
+        int hi = _fixupCount;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (_fixupOffset[mid] < offset) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
             }
-            case ldst_regoff:
-            {
-                int inst_to_emit = 0;
-                if ((o1.isReg() && o2.isReg())  || id.code == INST_PRFM_LDST_REGOFF__REGISTER){
-                    Register regD = null;
-                    PRFOP_ENUM pfrop = null;
-                    if(id.code == INST_PRFM_LDST_REGOFF__REGISTER)
-                        pfrop = (PRFOP_ENUM) o1;
-                    else
-                        regD = (Register) o1;
-                    Register regN = (Register) o2;
-                    Register regM = (Register) o3;
-                    Ext extnd = (Ext) o3;
-                    if(o1.size() == SIZE_DWORD && id.code != INST_PRFM_LDST_REGOFF__REGISTER)
-                        inst_to_emit |= 1 << 30;
-                    if (regD != null)
-                        inst_to_emit |= regD.code & 0b11111;
-                    else
-                        inst_to_emit |= pfrop.intValue() & 0b11111;
-                    if (regN != null)
-                        inst_to_emit |= (regN.code &  0b11111) << 5;
-                    if (regM != null)
-                        inst_to_emit |= (regM.code &  0b11111) << 16;
-                    if (o4 != null && o4.isExtend()){
-                        inst_to_emit |= (extnd.value() == 3 || extnd.value() == 2) ? (0b1 << 12) : (0);
-                        inst_to_emit |= (extnd.type() & 0b111) << 13;
-                    }
-                    inst_to_emit |= id.opcode;
-                    _emitInt32(inst_to_emit);
-                }
-                else
-                    throw new IllegalArgumentException("illegal arguments");
-                break;
+        }
+
+        return lo < _fixupCount && _fixupOffset[lo] == offset ? lo : -1;
+    }
+
+    //! @brief Return the position of the bound label the instruction at @a offset refers to, -1 if none.
+    final int fixupTarget(int offset) {
+        int i = fixupAt(offset);
+        if (i < 0 || _fixupLabel[i] == null || !_fixupLabel[i].isBound() || _fixupKind[i] == FIXUP_ADRP) {
+            return -1;
+        }
+
+        return _fixupLabel[i].position;
+    }
+
+    //! @brief Return @c true if a label is bound at @a offset.
+    final boolean isLabelAt(int offset) {
+        int lo = 0;
+        int hi = _boundCount;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (_boundLabels[mid].position < offset) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
             }
-            case ldst_unpriv:
-            case ldst_unscaled:
-            {
-                int inst_to_emit = 0;
-                if (o1.isReg() && o2.isReg() || id.code == INST_PRFUM_LDST_UNSCALED){
-                    Register regD = null;
-                    PRFOP_ENUM pfrop = null;
-                    if(id.code == INST_PRFUM_LDST_UNSCALED)
-                        pfrop = (PRFOP_ENUM) o1;
-                    else
-                        regD = (Register) o1;
-                    Register regN = (Register) o2;
-                    Immediate imm9 = (Immediate) o3;
-                    if (regD != null)
-                        inst_to_emit |= regD.code & 0b11111;
-                    else
-                        inst_to_emit |= pfrop.intValue() & 0b11111;
-                    if (regN != null)
-                        inst_to_emit |= (regN.code &  0b11111) << 5;
-                    if (o3 != null && o3.isImm())
-                        inst_to_emit |= (imm9.value() &  0x1ff) << 12;
-                    inst_to_emit |= id.opcode;
-                    _emitInt32(inst_to_emit);
-                }
-                else
-                    throw new IllegalArgumentException("illegal arguments");
-                break;
+        }
+
+        return lo < _boundCount && _boundLabels[lo].position == offset;
+    }
+
+    //! @brief Return @c true if a relocation is recorded for @a offset.
+    final boolean hasRelocAt(int offset) {
+        int lo = 0;
+        int hi = _relocCount;
+        while (lo < hi) {   /*relocations are recorded in code order*/
+            int mid = (lo + hi) >>> 1;
+            if (_relocData.get(mid).offset < offset) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
             }
-            case ldstexcl:
-            case ldstexcl_op3:
-            {
-                int inst_to_emit = 0;
-                Register regD = (Register) o1;
-                Register regN = (Register) o2;
-                Register regM = null;
-                Offset offset = null;
-                if(o3 != null && o3.isReg())
-                    regM = (Register) o3;
-                else if (o3 != null && o3.isOffset()){
-                    offset = (Offset) o3;
-                    regM = offset.getRegister();
-                }
-                inst_to_emit |= (regD.code & 0b11111) << 16;
-                inst_to_emit |= regN.code &  0b11111;
-                if(id.group == ldstexcl_op3 && regM != null)
-                    inst_to_emit |= (regM.code &  0b11111) << 5;
-                inst_to_emit |= id.opcode;
-                _emitInt32(inst_to_emit);
-                break;
+        }
+
+        return lo < _relocCount && _relocData.get(lo).offset == offset;
+    }
+
+    //! @brief Record that @a delta bytes are inserted at @a offset, which must be past all previous edits.
+    private void addEdit(int offset, int delta) {
+        if (_editCount == _editOffset.length) {
+            int n = _editCount * 2;
+            _editOffset = Arrays.copyOf(_editOffset, n);
+            _editDelta = Arrays.copyOf(_editDelta, n);
+            _editShift = Arrays.copyOf(_editShift, n);
+        }
+        _editOffset[_editCount] = offset;
+        _editDelta[_editCount] = delta;
+        _editShift[_editCount] = (_editCount == 0 ? 0 : _editShift[_editCount - 1]) + delta;
+        _editCount++;
+    }
+
+    //! @brief Return where old offset @a pos ends up after the pending edits.
+    private int remap(int pos) {
+        int lo = 0;
+        int hi = _editCount;
+        while (lo < hi) {   /*number of edits before pos*/
+            int mid = (lo + hi) >>> 1;
+            if (_editOffset[mid] < pos) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
             }
-            case ldstexcl_op4:
-            {
-                int inst_to_emit = 0;
-                Register regS = (Register) o1;
-                Register regt = (Register) o2;
-                Register regt2 = (Register) o3;
-                Register regN = (Register) o3;
-                inst_to_emit |= (regS.code & 0b11111) << 16;
-                inst_to_emit |= regt.code &  0b11111;
-                inst_to_emit |= (regt2.code &  0b11111) << 10;
-                inst_to_emit |= (regN.code &  0b11111) << 5;
-                inst_to_emit |= id.opcode;
-                _emitInt32(inst_to_emit);
-                break;
+        }
+
+        return lo == 0 ? pos : pos + _editShift[lo - 1];
+    }
+
+    //! @brief Move fixups, labels and relocations to the layout after the pending edits.
+    private void applyEdits() {
+        for (int i = 0; i < _fixupCount; i++) {
+            _fixupOffset[i] = remap(_fixupOffset[i]);
+        }
+        for (int i = 0; i < _boundCount; i++) {
+            _boundLabels[i].position = remap(_boundLabels[i].position);
+        }
+        for (int i = 0; i < _relocCount; i++) {
+            RelocData r = _relocData.get(i);
+            r.offset = remap(r.offset);
+        }
+        if (_literalRef >= 0) {
+            _literalRef = remap(_literalRef);
+        }
+        for (int k = 0; k < _poolCount; k++) {
+            _poolData[k] = remap(_poolData[k]);
+            if (_poolSkip[k] >= 0) {
+                _poolSkip[k] = remap(_poolSkip[k]);
             }
-            case ldstnapair_offs:
-            case ldstpair_off:
-            case ldstpair_indexed:
-            {
-                int inst_to_emit = 0;
-                if (o1.isReg() && o2.isReg()){
-                    Register regD = (Register) o1;
-                    Register regN = (Register) o2;
-                    Register regM = null;
-                    Pre_index preindex = null;
-                    Post_index posindex = null;
-                    Immediate imm7 = null;
-                    if (o3.isReg())
-                        regM = (Register) o3;
-                    else if (o3.isPostIndex()){
-                        posindex = (Post_index) o3;
-                        regM = posindex.getRegister();
-                        imm7 = posindex.getPostIndex();
-                    }
-                    else if(o3.isPreIndex()){
-                        preindex = (Pre_index) o3;
-                        regM = preindex.getRegister();
-                        imm7 = preindex.getPreIndex();
-                    }
-                    if(o4 != _none && o4.isImm())
-                        imm7 = (Immediate) o4;
-                    if (id.group == ldstexcl || id.group == ldstnapair_offs){
-                        if(o1.size() == SIZE_DWORD )
-                            inst_to_emit |= 0b1 << 30;
-                        else if(o1.size() == SIZE_QWORD )
-                            inst_to_emit |= 0b1 << 31;
-                    }
-                    else{
-                        if(o1.size() == SIZE_DWORD)
-                            inst_to_emit |= 0b1 << 31;
-                    }
-                    inst_to_emit |= regD.code & 0b11111;
-                    inst_to_emit |= (regN.code &  0b11111) << 10;
-                    inst_to_emit |= (regM.code &  0b11111) << 5;
-                    /*<imm> For the 32-bit variant: is the optional signed immediate byte offset, a multiple of 4 in the range -256
-                    to 252, defaulting to 0 and encoded in the "imm7" field as <imm>/4.
-                    <imm> For the 64-bit variant: is the optional signed immediate byte offset, a multiple of 8 in the range -512
-                    to 504, defaulting to 0 and encoded in the "imm7" field as <imm>/8. */
-                    if(imm7 != null)
-                        inst_to_emit |= ((imm7.value()>>((o1.size() == SIZE_DWORD)?(3):(2)))  & 0b1111111) << 15;
-                    inst_to_emit |= id.opcode;
-                    _emitInt32(inst_to_emit);
-                }
-                else
-                    throw new IllegalArgumentException("illegal arguments");
-                break;
+        }
+        _editCount = 0;
+    }
+
+    /**
+     * Re-aligns the 8 byte literals of the pools placed so far after the code
+     * in front of them moved, by adding or dropping the NOP before them, and
+     * adjusts the branches over the pools. Returns @c true if the code changed.
+     */
+    private boolean alignPools() {
+        boolean[] toggle = null;
+        _editCount = 0;
+        int shift = 0;
+        for (int k = 0; k < _poolCount; k++) {
+            if ((_poolData[k] + shift & 7) == 0) {
+                continue;
             }
-            case loadlit:
-            {
-                int inst_to_emit = 0;
-                if (o1.isReg() || id.code == INST_PRFM_LOADLIT__LITERAL){
-                    Register regD = null;
-                    PRFOP_ENUM prfop = null;
-                    if(id.code == INST_PRFM_LOADLIT__LITERAL)
-                        prfop = (PRFOP_ENUM)o1;
-                    else
-                        regD = (Register) o1;
-                    Immediate lbl = (Immediate) o2;
-                    if(o1.size() == SIZE_DWORD && id.code != INST_PRFM_LOADLIT__LITERAL)
-                        inst_to_emit |= 0b1 << 30;
-                    if(id.code == INST_PRFM_LOADLIT__LITERAL)
-                        inst_to_emit |= prfop.intValue() & 0b11111;
-                    else
-                        inst_to_emit |= regD.code & 0b11111;
-                    /*<label> Is the program label from which the data is to be loaded. Its offset from the address of this
-                    instruction, in the range +/-1MB, is encoded as "imm19" times 4.*/
-                    inst_to_emit |= (lbl.value()>>2 & 0x7fff) << 5;
-                    inst_to_emit |= id.opcode;
-                    _emitInt32(inst_to_emit);
-                }
-                else
-                    throw new IllegalArgumentException("illegal arguments");
-                break;
+            if (toggle == null) {
+                toggle = new boolean[_poolCount];
             }
-            case log_imm:
-            {
-                int inst_to_emit = 0;
-                if (o1.isReg() && o2.isReg() && o3.isImm()){
-                    Register regD = (Register) o1;
-                    Register regN = (Register) o2;
-                    Immediate imm = (Immediate) o3;
-                    if(o1.size() == SIZE_DWORD)
-                        inst_to_emit |= 0b1 << 31;
-                    else
-                        inst_to_emit &= ~(0b1 << 22);
-                    inst_to_emit |= regD.code & 0b11111;
-                    inst_to_emit |= (regN.code & 0b11111) << 5;
-                    if(o1.size() == SIZE_DWORD)
-                        inst_to_emit |= (imm.value() & 0x1fff) << 10;
-                    else
-                        inst_to_emit |= (imm.value() & 0xfff) << 10;
-                    inst_to_emit |= id.opcode;
-                    _emitInt32(inst_to_emit);
-                }
-                else
-                    throw new IllegalArgumentException("illegal arguments");
-                break;
+            toggle[k] = true;
+            if (_poolPadded[k]) {
+                addEdit(_poolData[k] - 4, -4);
+                shift -= 4;
+            } else {
+                addEdit(_poolData[k] - 1, 4);  /*in front of the literal, which moves*/
+                shift += 4;
             }
-            case log_shift:
-            {
-                int inst_to_emit = 0;
-                if (o1.isReg() && o2.isReg()){
-                    Register regD = (Register) o1;
-                    Register regN = (Register) o2;
-                    Register regM = null;
-                    if(o3 != _none) regM = (Register) o3;
-                    Shift sft = null;
-                    if(o4 != _none)
-                        sft = (Shift) o4;
-                    if(o1.size() == SIZE_DWORD)
-                        inst_to_emit |= 0b1 << 31;
-                    inst_to_emit |= regD.code & 0b11111;
-                    if(id.code == INST_MOV_LOG_SHIFT){
-                        inst_to_emit |= (regN.code & 0b11111) << 5;
-                    }
-                    else{
-                        inst_to_emit |= (regN.code & 0b11111) << 5;
-                        inst_to_emit |= (regM.code & 0b11111) << 16;
-                    }
-                    if(sft != null){
-                        inst_to_emit |= (sft.value() & 0b111111) << 10;
-                        inst_to_emit |= (sft.type() & 0b11) << 22;
-                    }
-                    inst_to_emit |= id.opcode;
-                    _emitInt32(inst_to_emit);
-                }
-                else
-                    throw new IllegalArgumentException("illegal arguments");
-                break;
+        }
+        if (toggle == null) {
+            return false;
+        }
+
+        ByteBuffer image = ByteBuffer.allocate(offset()).order(ByteOrder.LITTLE_ENDIAN);
+        _buffer.copyTo(image);
+        _buffer.reset();
+        int from = 0;
+        for (int k = 0; k < _poolCount; k++) {
+            if (!toggle[k]) {
+                continue;
             }
-            case movewide:
-            {
-                int inst_to_emit = 0;
-                if (o1.isReg() && o2.isImm()){
-                    Register regD = (Register) o1;
-                    Immediate imm16 = (Immediate) o2;
-                    Shift sft = null;
-                    if(o3 != _none)
-                        sft = (Shift) o3;
-                    if(o1.size() == SIZE_DWORD)
-                        inst_to_emit |= 0b1 << 31;
-                    inst_to_emit |= regD.code & 0b11111;
-                    inst_to_emit |= (imm16.value() & 0xffff) << 5;
-                    if(sft != null && sft.value()%16 == 0 && sft.value() < 49 ) /*shift val can be 0, 16, 32, 48 only*/
-                        inst_to_emit |= (sft.value()>>4 & 0b11) << 21;  // type is LSL only,
-                    inst_to_emit |= id.opcode;
-                    _emitInt32(inst_to_emit);
-                }
-                else
-                    throw new IllegalArgumentException("illegal arguments");
-                break;
+            int delta = _poolPadded[k] ? -4 : 4;
+            if (_poolSkip[k] >= 0) {
+                int skip = image.getInt(_poolSkip[k]);
+                image.putInt(_poolSkip[k], encodeDisplacement(skip, FIXUP_BRANCH26, ((skip << 6) >> 4) + delta));
             }
-            case pcreladdr:
-            {
-                int inst_to_emit = 0;
-                if (o1.isReg() && o2.isImm()){
-                    Register regD = (Register) o1;
-                    Immediate imm16 = (Immediate) o2;
-                    inst_to_emit |= regD.code & 0b11111;
-                    /* the program label whose 4KB page address is to be calculated. Its offset from the page address of
-                    this instruction, in the range +/-4GB, is encoded as "immhi:immlo" times 4096.*/
-                    long imm = imm16.value() >> 12;
-                    inst_to_emit |= (imm>>2 & 0x7ffff) << 5;
-                    inst_to_emit |= (imm & 0b11) << 29;
-                    inst_to_emit |= id.opcode;
-                    _emitInt32(inst_to_emit);
-                }
-                else
-                    throw new IllegalArgumentException("illegal arguments");
+            int at = _poolData[k] - (_poolPadded[k] ? 4 : 0);
+            image.limit(at).position(from);
+            _buffer.emitData(image, at - from);
+            image.limit(image.capacity());
+            if (delta > 0) {
+                _buffer.emitDWord(NOP);
+                from = at;
+            } else {
+                from = at + 4;
+            }
+            _poolPadded[k] = !_poolPadded[k];
+        }
+        image.position(from);
+        _buffer.emitData(image, image.remaining());
+
+        applyEdits();
+        patchBoundFixups();
+        return true;
+    }
+
+    void _emitJmpOrCallReloc(int opcode, long target) {
+        checkLiteralRange();
+        recordInstruction();
+        addReloc(RelocData.Type.ABSOLUTE_TO_RELATIVE_TRAMPOLINE, 4, offset(), target);
+        // Emit the opcode only, the displacement is filled in by relocCode().
+        _buffer.emitDWord(opcode);
+    }
+
+    //! @brief Emit the literal load @a inst (without imm19) of the @a size byte constant @a value.
+    final void _emitLiteralLoad(int inst, long value, int size) {
+        checkLiteralRange();
+        int i = _literalFirst;
+        while (i < _literalCount && (_literalValue[i] != value || _literalSize[i] != size)) {
+            i++;
+        }
+        if (i == _literalCount) {
+            addLiteral(value, size);
+        }
+        if (_literalRef < 0) {
+            _literalRef = offset();
+        }
+        _emitLabelRef(inst, _literalLabel[i], FIXUP_LITERAL19);
+    }
+
+    private void addLiteral(long value, int size) {
+        if (_literalCount == _literalValue.length) {
+            int n = _literalCount * 2;
+            _literalValue = Arrays.copyOf(_literalValue, n);
+            _literalSize = Arrays.copyOf(_literalSize, n);
+            _literalLabel = Arrays.copyOf(_literalLabel, n);
+        }
+        Label label = _literalLabel[_literalCount];
+        if (label == null) {
+            _literalLabel[_literalCount] = newLabel();
+        } else {
+            label.clear();      /*left over from before reset()*/
+        }
+        _literalValue[_literalCount] = value;
+        _literalSize[_literalCount] = size;
+        _literalCount++;
+    }
+
+    //! @brief Place the literal pool here if the first pending load would get out of range otherwise.
+    private void checkLiteralRange() {
+        if (_literalRef >= 0 && offset() + (_literalCount - _literalFirst + 2) * 8 - _literalRef > LITERAL_RANGE) {
+            placeLiterals(true);
+        }
+    }
+
+    /**
+     * Places the pending literals at the current position, behind a branch
+     * skipping over them. Literals are otherwise placed automatically, at the
+     * end of the code or when the first load using them would get out of range;
+     * calling this after an unconditional branch avoids the extra jump.
+     */
+    public final void flushLiterals() {
+        placeLiterals(true);
+    }
+
+    private void placeLiterals(boolean jump) {
+        if (_literalFirst == _literalCount) {
+            return;
+        }
+        int skip = offset();
+        if (jump) {
+            _buffer.emitDWord(InstructionDescription.find(INST_B_BRANCH_IMM).opcode);
+        }
+        boolean padded = (offset() & 7) != 0;
+        if (padded) {
+            _buffer.emitDWord(NOP);     /*keep 8 byte literals aligned, see alignPools()*/
+        }
+        for (int i = _literalFirst; i < _literalCount; i++) {
+            if (_literalSize[i] == 8) {
+                addPool(offset(), padded, jump ? skip : -1);
                 break;
             }
-            case ic_system:
-            {
-                int inst_to_emit = 0;
-                if(id.code == INST_NOP_IC_SYSTEM || id.code == INST_YIELD_IC_SYSTEM || id.code == INST_WFE_IC_SYSTEM || id.code == INST_WFI_IC_SYSTEM || id.code == INST_SEV_IC_SYSTEM || id.code == INST_SEVL_IC_SYSTEM )
-                    inst_to_emit |= id.opcode;
-                else if(id.code == INST_HINT_IC_SYSTEM || id.code == INST_CLREX_IC_SYSTEM || id.code == INST_DSB_IC_SYSTEM || id.code == INST_DMB_IC_SYSTEM || id.code == INST_ISB_IC_SYSTEM){
-                    Immediate imm = (Immediate) o1;
-                    if(id.code == INST_HINT_IC_SYSTEM)
-                        inst_to_emit |= (imm.value() & 0b1111111) << 5; /*<imm> Is a 7-bit unsigned immediate, in the range 0 to 127, encoded in "CRm:op2".*/
-                    else
-                        inst_to_emit |= (imm.value() & 0b1111) << 8;
-                }
-                else if(id.code == INST_MSR_IC_SYSTEM_X){
-                    SysRegister sysrt = (SysRegister) o1;
-                    Register rt = (Register) o2;
-                    SysRegDescription sysregid = SysRegDescription.find(sysrt.getEnum());
-                    inst_to_emit |= (sysregid.reg_code & 0xffff) << 5;
-                    inst_to_emit |= rt.code & 0b11111;
-                }
-                else if(id.code == INST_SYS_IC_SYSTEM || id.code == INST_SYSL_IC_SYSTEM){
-                    Immediate imm3_op1 = (Immediate) o1;
-                    Register Rt = (Register) o1;
-                    Register cRn = (Register) o2;
-                    Immediate imm3_op1_2 = (Immediate) o2;
-                    Register cRm = (Register) o3;
-                    Register cRn_2 = (Register) o3;
-                    Immediate imm3_op2_4 = (Immediate) o4;
-                    Register cRm_2 = (Register) o4;
-                    Register rt = null;
-                    Immediate imm3_op2_5_2 = null;
-                    if(o5 != null){
-                        rt = (Register) o5;
-                        imm3_op2_5_2 = (Immediate) o5;
+        }
+        for (int size = 8; size >= 4; size -= 4) {
+            for (int i = _literalFirst; i < _literalCount; i++) {
+                if (_literalSize[i] == size) {
+                    bind(_literalLabel[i]);
+                    if (size == 8) {
+                        _buffer.emitQWord(_literalValue[i]);
+                    } else {
+                        _buffer.emitDWord((int) _literalValue[i]);
                     }
-                    inst_to_emit |= (((id.code == INST_SYS_IC_SYSTEM) ? (imm3_op1.value())   : (imm3_op1_2.value()))   & 0b111)  << 16;
-                    inst_to_emit |= (((id.code == INST_SYS_IC_SYSTEM) ? (cRn.code())         : (cRn_2.code()))         & 0b1111) << 12;
-                    inst_to_emit |= (((id.code == INST_SYS_IC_SYSTEM) ? (cRm.code())         : (cRm_2.code()))         & 0b1111) << 8;
-                    inst_to_emit |= (((id.code == INST_SYS_IC_SYSTEM) ? (imm3_op2_4.value()) : (imm3_op2_5_2.value())) & 0b111)  << 5;
-                    if(id.code == INST_SYS_IC_SYSTEM)
-                        if(rt != null)
-                            inst_to_emit |= rt.code() & 0b11111;
-                        else
-                            inst_to_emit |= 0b11111;  /*<Xt> Is the 64-bit name of the optional general-purpose source register, defaulting to '11111', encoded in the "Rt" field.*/
-                    else
-                        inst_to_emit |= Rt.code() & 0b11111;
                 }
-                else
-                    throw new IllegalArgumentException("illegal arguments");
-                inst_to_emit |= id.opcode;
-                _emitInt32(inst_to_emit);
-                break;
             }
-            case testbranch:
-            {
-                int inst_to_emit = 0;
-                if (o1.isReg()){
-                    Register regD = (Register) o1;
-                    Immediate imm = (Immediate) o2;
-                    Immediate lbl_imm14  = (Immediate) o3;
-                    inst_to_emit |= regD.code & 0b11111;
-                    /* <imm> Is the bit number to be tested, in the range 0 to 63, encoded in "b5:b40".*/
-                    inst_to_emit |= (imm.value() & 0b11111) << 19;
-                    inst_to_emit |= (imm.value()>>5 & 0b1) << 31;
-                    inst_to_emit |= (lbl_imm14.value() & 0x3fff) << 5;
-                    inst_to_emit |= id.opcode;
-                    _emitInt32(inst_to_emit);
-                }
-                else
-                    throw new IllegalArgumentException("illegal arguments");
-                break;
-            }   /*END of case testbranch:*/
-        }   /*END of switch(id.group)*/
-    }   /*END of void _emita64(INST_CODE code, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5)*/
+        }
+        if (jump) {
+            _buffer.setDWordAt(skip, encodeDisplacement(_buffer.getDWordAt(skip), FIXUP_BRANCH26, offset() - skip));
+        }
+        _literalFirst = _literalCount;
+        _literalRef = -1;
+    }
 
-    void _emitJmpOrCallReloc(InstructionGroup instruction, long target) {
-        RelocData rd = new RelocData(RelocData.Type.ABSOLUTE_TO_RELATIVE_TRAMPOLINE, 4, offset(), target);
-        _relocData.add(rd);
-        // Emit dummy 32-bit integer (will be overwritten by relocCode()).
-        _emitInt32(0);
+    private void addPool(int data, boolean padded, int skip) {
+        if (_poolCount == _poolData.length) {
+            int n = _poolCount * 2;
+            _poolData = Arrays.copyOf(_poolData, n);
+            _poolPadded = Arrays.copyOf(_poolPadded, n);
+            _poolSkip = Arrays.copyOf(_poolSkip, n);
+        }
+        _poolData[_poolCount] = data;
+        _poolPadded[_poolCount] = padded;
+        _poolSkip[_poolCount] = skip;
+        _poolCount++;
+    }
+
+    private void addReloc(RelocData.Type type, int size, int offset, long destination) {
+        if (_relocCount == _relocData.size()) {
+            _relocData.add(new RelocData(type, size, offset, destination));
+        } else {
+            _relocData.get(_relocCount).set(type, size, offset, destination);
+        }
+        _relocCount++;
     }
 
+    //! @brief Copy the code to @a buffer (at its position) and relocate it for @a address.
     public void relocCode(ByteBuffer buffer, long address) {
-        // Copy code to virtual memory (this is a given _dst pointer).
-        int csize = codeSize();
+        finish();
+        int base = buffer.position();
 
-        // We are copying exactly size of generated code. Extra code for trampolines
-        // is generated on-the-fly by relocator (this code not exists at now).
+        // We are copying exactly size of generated code. Veneers for calls that
+        // are out of range are written behind it by relocate().
         _buffer.copyTo(buffer);
+        relocate(buffer, base, address);
+    }
 
-        // Relocate recorded locations.
-        for (RelocData r : _relocData) {
-            long val;
+    //! @brief Relocate code that was assembled in place to run at @a address.
+    public void relocCode(long address) {
+        finish();
+        relocate(_buffer.buffer(), 0, address);
+    }
+
+    /**
+     * Returns the number of distinct destinations of @c ABSOLUTE_TO_RELATIVE_TRAMPOLINE
+     * relocations, i.e. the number of veneers relocCode() may have to generate.
+     */
+    private int trampolineCount() {
+        int n = 0;
+        for (int i = 0; i < _relocCount; i++) {
+            RelocData r = _relocData.get(i);
+            if (r.type == RelocData.Type.ABSOLUTE_TO_RELATIVE_TRAMPOLINE) {
+                if (n == _veneerTarget.length) {
+                    _veneerTarget = Arrays.copyOf(_veneerTarget, n * 2);
+                }
+                _veneerTarget[n++] = r.destination;
+            }
+        }
+        Arrays.sort(_veneerTarget, 0, n);
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            if (i == 0 || _veneerTarget[i] != _veneerTarget[i - 1]) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    //! @brief Return the offset of the trampoline area, which follows the code aligned to 8 bytes.
+    private int trampolineOffset() {
+        return (_buffer.offset() + 7) & ~7;
+    }
+
+    //! @brief Return the size of the trampoline area reserved by codeSize().
+    private int trampolineSize() {
+        int count = trampolineCount();
+        return count == 0 ? 0 : trampolineOffset() - _buffer.offset() + count * VENEER_SIZE;
+    }
+
+    private void relocate(ByteBuffer buffer, int base, long address) {
+        ByteBuffer dst = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+
+        // Resolve ADRP references, everything else was patched by bind().
+        for (int i = 0; i < _fixupCount; i++) {
+            Label label = _fixupLabel[i];
+            if (!label.isBound()) {
+                throw new IllegalStateException("label " + label.id + " is not bound");
+            }
+            if (_fixupKind[i] != FIXUP_ADRP) {
+                continue;
+            }
+            long pc = address + _fixupOffset[i];
+            long pages = ((address + label.position) >> 12) - (pc >> 12);
+            int at = base + _fixupOffset[i];
+            dst.putInt(at, encodeDisplacement(dst.getInt(at), FIXUP_ADRP, pages));
+        }
 
-            // Be sure that reloc data structure is correct.
-            assert ((r.offset + r.size) <= csize);
+        // Calls that can't reach their destination go through a veneer in the
+        // trampoline area behind the code. Veneers are shared per destination.
+        int trampolines = trampolineOffset();
+        int veneers = 0;
+
+        // Relocate recorded locations.
+        for (int i = 0; i < _relocCount; i++) {
+            RelocData r = _relocData.get(i);
+            int at = base + r.offset;
 
             switch (r.type) {
                 case ABSOLUTE_TO_ABSOLUTE:
-                    val = r.destination;
-                    break;
-                case RELATIVE_TO_ABSOLUTE:
-                    val = address + r.destination;
+                case RELATIVE_TO_ABSOLUTE: {
+                    long val = r.type == RelocData.Type.ABSOLUTE_TO_ABSOLUTE ? r.destination : address + r.destination;
+                    if (r.size == 8) {
+                        dst.putLong(at, val);
+                    } else if (r.size == 4) {
+                        dst.putInt(at, (int) val);
+                    } else {
+                        throw new IllegalStateException("invalid relocation size");
+                    }
                     break;
+                }
                 case ABSOLUTE_TO_RELATIVE:
-                case ABSOLUTE_TO_RELATIVE_TRAMPOLINE:
-                    if (  (r.destination-(address+r.offset)) > (128*1024*1024) )
-                        System.out.println("IMPOSSIBLE JUMP : ADDRESS AHEAD OF RANGE of 128MB");
-                    if (  (r.destination-(address+r.offset)) < -(128*1024*1024) )
-                        System.out.println("IMPOSSIBLE JUMP : ADDRESS BELOW OF RANGE of 128MB");
-                    val = ((r.destination)-(address+r.offset))/4;
+                case ABSOLUTE_TO_RELATIVE_TRAMPOLINE: {
+                    long pc = address + r.offset;
+                    long disp = r.destination - pc;
+                    if (!isDisplacementInRange(FIXUP_BRANCH26, disp)) {
+                        if (r.type != RelocData.Type.ABSOLUTE_TO_RELATIVE_TRAMPOLINE) {
+                            throw new IllegalStateException("jump out of range");
+                        }
+                        int k = 0;
+                        while (k < veneers && _veneerTarget[k] != r.destination) {
+                            k++;
+                        }
+                        int veneer = trampolines + k * VENEER_SIZE;
+                        if (k == veneers) {
+                            if (base + veneer + VENEER_SIZE > dst.limit()) {
+                                throw new IllegalStateException("no room for trampolines, see codeSize()");
+                            }
+                            if (veneers == 0 && trampolines != _buffer.offset()) {
+                                dst.putInt(base + _buffer.offset(), NOP);
+                            }
+                            dst.putInt(base + veneer, VENEER_LDR_X16);
+                            dst.putInt(base + veneer + 4, VENEER_BR_X16);
+                            dst.putLong(base + veneer + 8, r.destination);
+                            _veneerTarget[veneers++] = r.destination;
+                        }
+                        disp = address + veneer - pc;
+                    }
+                    dst.putInt(at, encodeDisplacement(dst.getInt(at), FIXUP_BRANCH26, disp));
                     break;
+                }
                 default:
                     throw new IllegalStateException("invalid relocation type");
             }
-
-            switch (r.size) {
-                case 4:
-                    val &= (int)0x3FFFFFF;  /*mask for imm27  val*/
-                    val |= 0x94000000;  /*opcode for BL*/
-                    buffer.putInt(r.offset, (int) val);
-                    break;
-                case 8:
-                    buffer.putLong(r.offset, val);
-                    break;
-                default:
-                    throw new IllegalStateException("invalid relocation size");
-            }
         }
     }
 
@@ -24,8 +24,26 @@ import java.nio.ByteOrder;
 final class CodeBuffer {
     private ByteBuffer buf;
 
+    //! @brief @c true if code is written into a caller supplied buffer that can't grow.
+    private final boolean external;
+
     public CodeBuffer() {
         buf = ByteBuffer.allocate(128).order(ByteOrder.LITTLE_ENDIAN);
+        external = false;
+    }
+
+    /**
+     * Creates a code buffer that writes straight into the remaining space of
+     * @a target (usually a direct buffer mapping the final executable region).
+     * Offsets are relative to the position of @a target at construction time.
+     */
+    public CodeBuffer(ByteBuffer target) {
+        buf = target.slice().order(ByteOrder.LITTLE_ENDIAN);
+        external = true;
+    }
+
+    public final boolean isExternal() {
+        return external;
     }
 
     public final void ensureSpace() {
@@ -34,9 +52,18 @@ final class CodeBuffer {
         }
     }
 
+    private void reserve(int size) {
+        if (buf.remaining() < size) {
+            grow();
+        }
+    }
+
     public void grow() {
+        if (external) {
+            throw new IllegalStateException("code buffer overflow");
+        }
         int newSize = buf.capacity() * 2;
-        ByteBuffer newBuffer = ByteBuffer.allocate(newSize).order(ByteOrder.BIG_ENDIAN);
+        ByteBuffer newBuffer = ByteBuffer.allocate(newSize).order(ByteOrder.LITTLE_ENDIAN);
 
         // Copy the data over
         buf.flip();
@@ -50,6 +77,11 @@ final class CodeBuffer {
         dst.put(dup);
     }
 
+    //! @brief Discard the code, keeping the allocated capacity.
+    final void reset() {
+        buf.clear();
+    }
+
     public final int offset() {
         return buf.position();
     }
@@ -58,19 +90,28 @@ final class CodeBuffer {
         return buf.capacity();
     }
 
+    //! @brief Return the underlying buffer, positioned at the end of the code.
+    final ByteBuffer buffer() {
+        return buf;
+    }
+
     public final void emitByte(byte x) {
+        reserve(1);
         buf.put(x);
     }
 
     public final void emitWord(short x) {
+        reserve(2);
         buf.putShort(x);
     }
 
     public final void emitDWord(int x) {
+        reserve(4);
         buf.putInt(x);
     }
 
     public final void emitQWord(long x) {
+        reserve(8);
         buf.putLong(x);
     }
 
@@ -79,6 +120,9 @@ final class CodeBuffer {
         if (dup.remaining() > len) {
             dup.limit(dup.position() + len);
         }
+        while (buf.remaining() < dup.remaining()) {
+            grow();
+        }
         buf.put(dup);
     }
 
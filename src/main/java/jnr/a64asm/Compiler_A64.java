@@ -0,0 +1,987 @@
+/*
+ * Copyright (C) 2018 Ossdev07
+ *
+ * This file is part of the JNR project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package jnr.a64asm;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static jnr.a64asm.INST_CODE.*;
+import static jnr.a64asm.REG.*;
+
+/**
+ * Function level code generation with virtual registers.
+ *
+ * The compiler records the instructions of one function, which may use virtual
+ * registers (newGp()) next to physical ones. compile() computes the liveness of
+ * every register, assigns physical registers with a linear scan following the
+ * AAPCS64 register usage, spills what doesn't fit to the stack and emits the
+ * function into an Assembler_A64, with a prologue and epilogues saving the
+ * callee-saved registers it used.
+ *
+ * Physical registers keep their meaning, arguments are read from @c x0-x7 and
+ * the result is returned in @c x0. Calls (bl, blr, call()) clobber the
+ * caller-saved registers, so virtual registers live across a call end up in
+ * @c x19-x28 or on the stack. The compiler owns the stack frame and reserves
+ * @c x16, @c x17, @c x18, @c x29 and @c x30: the function must not move
+ * @c sp or use these itself. A tail jump (br) through a virtual register kept
+ * in a callee-saved register branches through @c x16 after the epilogue. Memory operands are Offset, Pre_index and
+ * Post_index. Primitive intrinsics taking register codes are emitted as is and
+ * only work with physical registers, as does the second register of the
+ * @c CASP pairs. Floating point, vector and SVE predicate registers are
+ * physical only: the compiler orders the instructions using them, but neither
+ * allocates nor saves them, so a function using @c d8-d15 has to preserve them
+ * itself.
+ */
+public final class Compiler_A64 extends Serializer {
+    // Kinds of recorded nodes.
+    private static final int NODE_INST = 0;     /*_emita64()*/
+    private static final int NODE_MACRO = 1;    /*_emitMacro()*/
+    private static final int NODE_WORD = 2;     /*_emitInt32()*/
+    private static final int NODE_LITERAL = 3;  /*_emitLiteralLoad()*/
+    private static final int NODE_JUMP = 4;     /*_emitJmpOrCallReloc()*/
+    private static final int NODE_BIND = 5;
+
+    private static final class Node {
+        final int kind;
+        INST_CODE code;
+        Operand[] ops;
+        int word;               /*macro, instruction or opcode*/
+        long value;
+        int size;
+        Label label;
+        int args = 8;           /*argument registers read by a call or tail call*/
+
+        Node(int kind) {
+            this.kind = kind;
+        }
+    }
+
+    // How an instruction uses its register operands (memory bases are always read).
+    private static final byte ROLE_DEF = 0;     /*writes the first register, reads the others*/
+    private static final byte ROLE_USE = 1;     /*only reads*/
+    private static final byte ROLE_RMW = 2;     /*reads and writes the first register*/
+    private static final byte ROLE_DEF2 = 3;    /*writes the first two registers*/
+    private static final byte ROLE_ATOMIC = 4;  /*writes the second register, reads the others (LDADD, SWP, ...)*/
+    private static final byte ROLE_DEF_ALL = 5; /*writes all registers (LD1-LD4)*/
+    private static final byte ROLE_MOPS = 6;    /*reads all registers, writes the first two and the third of CPY* */
+    private static final byte[] ROLES = new byte[INST_CODE.values().length];
+
+    static {
+        for (INST_CODE c : INST_CODE.values()) {
+            String n = c.name().substring(5);
+            byte role = ROLE_DEF;
+            if (n.endsWith("_LDST_ATOMIC")) {
+                role = ROLE_ATOMIC;
+            } else if ((n.startsWith("ST") && !n.matches("STL?X[RP].*")) || n.contains("BRANCH")
+                    || n.matches("(CMP|CMN|TST|CCMP|CCMN|FCMP|FCMPE|PRF|MSR|SYS|AT|DC|IC|TLBI|PTEST)_.*")) {
+                role = ROLE_USE;
+            } else if (n.matches("(MOVK|BFI|BFM|BFXIL)_.*") || n.endsWith("_LDST_CAS")
+                    || n.matches("(MLA|BSL|BIT|BIF|SSRA|USRA|SRI|SLI|TBX|INS|XTN|SHRN)_SIMD_.*")
+                    || n.matches("(AESE|AESD|SHA1[CMP]|SHA1SU[01]|SHA256H2?|SHA256SU[01])_CRYPTO_.*")
+                    || n.matches("(INC|DEC).*_SVE_ELT_COUNT|.*_SVE_(ARITH_PRED|MLA|TERNARY)")) {
+                role = ROLE_RMW;        /*vector instructions keeping lanes of the destination*/
+            } else if (n.matches("(LDP|LDNP|LDPSW|LDXP|LDAXP)_.*")) {
+                role = ROLE_DEF2;
+            } else if (n.endsWith("_SIMD_LDST_MULT")) {
+                role = ROLE_DEF_ALL;
+            } else if (n.endsWith("_MOPS")) {
+                role = ROLE_MOPS;
+            }
+            ROLES[c.ordinal()] = role;
+        }
+    }
+
+    // Use of the condition flags, see schedule().
+    private static final byte FLAGS_READ = 1;
+    private static final byte FLAGS_WRITE = 2;
+    private static final byte[] FLAGS = new byte[INST_CODE.values().length];
+
+    static {
+        for (INST_CODE c : INST_CODE.values()) {
+            String n = c.name().substring(5);
+            byte flags = 0;
+            if (n.matches("(ADC|ADCS|SBC|SBCS|NGC|NGCS|CSEL|CSINC|CSINV|CSNEG|CSET|CSETM|CINC|CINV|CNEG|CCMP|CCMN|FCSEL)_.*")) {
+                flags |= FLAGS_READ;
+            }
+            if (n.matches("(ADDS|ADCS|SUBS|SBCS|NEGS|NGCS|ANDS|BICS|CMP|CMN|TST|CCMP|CCMN|FCMP|FCMPE)_.*")
+                    || n.matches("(WHILE..|PTEST|CMP..)_SVE_.*") || n.endsWith("_MOPS")) {
+                flags |= FLAGS_WRITE;
+            }
+            FLAGS[c.ordinal()] = flags;
+        }
+    }
+
+    //! @brief Bit of the condition flags in the register sets of schedule(); 31 is never a register there.
+    private static final int NZCV = 31;
+
+    //! @brief Longest run of nodes scheduled together.
+    private static final int MAX_BLOCK = 256;
+
+    //! @brief Allocation order: temporaries, then argument registers, then callee-saved ones, which cost a save.
+    private static final int[] ALLOCATABLE = {
+        9, 10, 11, 12, 13, 14, 15, 8, 7, 6, 5, 4, 3, 2, 1, 0,
+        19, 20, 21, 22, 23, 24, 25, 26, 27, 28
+    };
+
+    //! @brief Registers a call may change: x0-x18 and lr.
+    private static final int CALL_CLOBBERS = 0x4007ffff;
+
+    //! @brief Scratch registers holding spilled virtual registers around an instruction.
+    private static final int[] SPILL_SCRATCH = { REG_X16, REG_X17, REG_X30 };
+
+    //! @brief Positions of the register fields (Rt/Rd, Rn, Rt2/Ra, Rm) of an encoded instruction.
+    private static final int[] FIELDS = { 0, 5, 10, 16 };
+
+    //! @brief Number of the floating point register @c v0 / @c d0 / @c s0, they are never allocated.
+    private static final int FP = 32;
+
+    //! @brief Number of the SVE predicate register @c p0, they are never allocated.
+    private static final int PRED = 64;
+
+    //! @brief Number of physical register numbers, virtual register i is numbered PHYS + i.
+    private static final int PHYS = 80;
+
+    private static final int SP = REG_X31;
+
+    private final CPU_A64 cpu;
+    private final List<Node> _nodes = new ArrayList<Node>();
+    private final List<Label> _labels = new ArrayList<Label>();
+    private final List<VirtualRegister> _vregs = new ArrayList<VirtualRegister>();
+
+    // Result of the register allocation, see compile().
+    private int[] _assigned;        /*physical register of each virtual one, -1 if spilled*/
+    private int[] _slot;            /*stack slot of spilled virtual registers*/
+    private int _spillCount;
+    private int[] _saved;           /*callee-saved registers to preserve*/
+    private int _frameSize;
+
+    public Compiler_A64(CPU_A64 cpu) {
+        this.cpu = cpu;
+    }
+
+    @Override
+    boolean is64() {
+        return cpu == CPU_A64.A64;
+    }
+
+    //! @brief Create a new 64 bit virtual register, see VirtualRegister.w() for the 32 bit view.
+    public final VirtualRegister newGp() {
+        VirtualRegister r = new VirtualRegister(_vregs.size());
+        _vregs.add(r);
+        return r;
+    }
+
+    //! @brief Create a new, unbound label.
+    public final Label newLabel() {
+        Label label = new Label(_labels.size() + 1);
+        _labels.add(label);
+        return label;
+    }
+
+    //! @brief Bind @a label to the next instruction.
+    public final void bind(Label label) {
+        Node n = new Node(NODE_BIND);
+        n.label = label;
+        _nodes.add(n);
+    }
+
+    /**
+     * Calls @a target, passing @a args (0 to 8) arguments in @c x0 onwards.
+     * Plain bl() and blr() assume all eight argument registers are used; passing
+     * the real count leaves the other argument registers to the allocator.
+     */
+    public final void call(Label target, int args) {
+        bl(target);
+        setArgs(args);
+    }
+
+    //! @brief Call the absolute address @a target with @a args arguments, see call(Label, int).
+    public final void call(long target, int args) {
+        bl(target);
+        setArgs(args);
+    }
+
+    //! @brief Call the address in @a target with @a args arguments, see call(Label, int).
+    public final void call(Register target, int args) {
+        blr(target);
+        setArgs(args);
+    }
+
+    private void setArgs(int args) {
+        if (args < 0 || args > 8) {
+            throw new IllegalArgumentException("illegal arguments");
+        }
+        _nodes.get(_nodes.size() - 1).args = args;
+    }
+
+    void _emita64(INST_CODE code, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+        Node n = new Node(NODE_INST);
+        n.code = code;
+        n.ops = new Operand[] { o1, o2, o3, o4, o5 };
+        _nodes.add(n);
+    }
+
+    @Override
+    void _emitMacro(int macro, Register rd, Register rn, long value) {
+        Node n = new Node(NODE_MACRO);
+        n.word = macro;
+        n.ops = new Operand[] { rd, rn };
+        n.value = value;
+        _nodes.add(n);
+    }
+
+    void _emitInt32(int x) {
+        Node n = new Node(NODE_WORD);
+        n.word = x;
+        _nodes.add(n);
+    }
+
+    void _emitInt32(INST_CODE code, int x) {
+        Node n = new Node(NODE_WORD);
+        n.code = code;          /*checked against the CPU by compile()*/
+        n.word = x;
+        _nodes.add(n);
+    }
+
+    void _emitJmpOrCallReloc(int opcode, long target) {
+        Node n = new Node(NODE_JUMP);
+        n.word = opcode;
+        n.value = target;
+        _nodes.add(n);
+    }
+
+    void _emitLiteralLoad(int inst, long value, int size) {
+        Node n = new Node(NODE_LITERAL);
+        n.word = inst;
+        n.value = value;
+        n.size = size;
+        _nodes.add(n);
+    }
+
+    /**
+     * Allocates registers and emits the function into @a a at its current
+     * offset. The recorded code is kept, so it can be compiled again.
+     */
+    public final void compile(Assembler_A64 a) {
+        if (a.getProperty(Assembler_A64.PROPERTY_SCHEDULE)) {
+            schedule(a.getCpuInfo());
+        }
+
+        int count = _nodes.size();
+        int regs = PHYS + _vregs.size();
+        BitSet[] use = new BitSet[count];
+        BitSet[] def = new BitSet[count];
+        int[] next = new int[count];
+        int[] jump = new int[count];
+        boolean hasCall = false;
+
+        Map<Label, Integer> bound = new IdentityHashMap<Label, Integer>();
+        for (int i = 0; i < count; i++) {
+            Node n = _nodes.get(i);
+            if (n.kind == NODE_BIND && bound.put(n.label, i) != null) {
+                throw new IllegalStateException("label " + n.label.id + " bound twice");
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            Node n = _nodes.get(i);
+            use[i] = new BitSet(regs);
+            def[i] = new BitSet(regs);
+            next[i] = i + 1 < count ? i + 1 : -1;
+            jump[i] = -1;
+            hasCall |= operands(n, use[i], def[i]);
+            if (isExit(n)) {
+                next[i] = -1;
+            }
+            Label target = branchTarget(n);
+            if (target != null) {
+                Integer at = bound.get(target);
+                if (at == null) {
+                    throw new IllegalStateException("label " + target.id + " is not bound");
+                }
+                jump[i] = at;
+                if (n.code == INST_B_BRANCH_IMM) {
+                    next[i] = -1;
+                }
+            }
+        }
+
+        // Backward liveness until nothing changes.
+        BitSet[] liveIn = new BitSet[count];
+        BitSet[] liveOut = new BitSet[count];
+        for (int i = 0; i < count; i++) {
+            liveIn[i] = new BitSet(regs);
+        }
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int i = count - 1; i >= 0; i--) {
+                BitSet out = new BitSet(regs);
+                if (next[i] >= 0) {
+                    out.or(liveIn[next[i]]);
+                }
+                if (jump[i] >= 0) {
+                    out.or(liveIn[jump[i]]);
+                }
+                BitSet in = (BitSet) out.clone();
+                in.andNot(def[i]);
+                in.or(use[i]);
+                liveOut[i] = out;
+                if (!in.equals(liveIn[i])) {
+                    liveIn[i] = in;
+                    changed = true;
+                }
+            }
+        }
+
+        // Instruction i reads its operands at point 2i and writes at 2i + 1.
+        BitSet[] points = new BitSet[regs];
+        for (int r = 0; r < regs; r++) {
+            points[r] = new BitSet(2 * count);
+        }
+        for (int i = 0; i < count; i++) {
+            for (int r = liveIn[i].nextSetBit(0); r >= 0; r = liveIn[i].nextSetBit(r + 1)) {
+                points[r].set(2 * i);
+            }
+            for (int r = liveOut[i].nextSetBit(0); r >= 0; r = liveOut[i].nextSetBit(r + 1)) {
+                points[r].set(2 * i + 1);
+            }
+            for (int r = def[i].nextSetBit(0); r >= 0; r = def[i].nextSetBit(r + 1)) {
+                points[r].set(2 * i + 1);
+            }
+        }
+
+        allocate(points, hasCall);
+        emit(a);
+    }
+
+    /**
+     * Adds the registers @a n reads to @a use and those it writes to @a def.
+     * Returns @c true if @a n is a call.
+     */
+    private boolean operands(Node n, BitSet use, BitSet def) {
+        switch (n.kind) {
+            case NODE_INST: {
+                byte role = ROLES[n.code.ordinal()];
+                int position = 0;
+                for (Operand o : n.ops) {
+                    Register base = baseOf(o);
+                    if (base != null) {
+                        setReg(use, base);
+                        if (!(o instanceof Offset)) {
+                            setReg(def, base);      /*write back*/
+                        }
+                    } else if (o instanceof Register) {
+                        if (position == 0 && role != ROLE_USE && role != ROLE_ATOMIC
+                                || position == 1 && (role == ROLE_DEF2 || role == ROLE_ATOMIC)
+                                || role == ROLE_DEF_ALL
+                                || role == ROLE_MOPS && (position < 2 || n.code.name().startsWith("INST_CPY"))) {
+                            setReg(def, o);
+                            if (role == ROLE_RMW || role == ROLE_MOPS) {
+                                setReg(use, o);
+                            }
+                        } else {
+                            setReg(use, o);
+                        }
+                        position++;
+                    }
+                }
+                if (n.code == INST_TBL_SIMD_TBL || n.code == INST_TBX_SIMD_TBL) {
+                    // Only the first table register is an operand.
+                    for (int k = 1; k < ((Immediate) n.ops[3]).value(); k++) {
+                        use.set(FP + (((Register) n.ops[1]).index() + k) % 32);
+                    }
+                }
+                if (n.code == INST_RET_BRANCH_REG) {
+                    use.set(0);         /*result*/
+                } else if (n.code == INST_BR_BRANCH_REG) {
+                    setArgs(use, n.args);
+                } else if (n.code == INST_BL_BRANCH_IMM || n.code == INST_BLR_BRANCH_REG) {
+                    setArgs(use, n.args);
+                    setClobbers(def);
+                    return true;
+                }
+                return false;
+            }
+            case NODE_MACRO:
+                if (n.ops[0] != null) {
+                    setReg(def, n.ops[0]);
+                }
+                if (n.ops[1] != null) {
+                    setReg(use, n.ops[1]);
+                }
+                return false;
+            case NODE_WORD:
+            case NODE_LITERAL:
+                // Any field may be a register, assume it is read and written.
+                for (int shift : FIELDS) {
+                    int r = n.word >>> shift & 0x1f;
+                    if (r != 31) {
+                        use.set(r);
+                        def.set(r);
+                    }
+                }
+                return false;
+            case NODE_JUMP:
+                setArgs(use, n.args);
+                if (n.word == InstructionDescription.find(INST_BL_BRANCH_IMM).opcode) {
+                    setClobbers(def);
+                    return true;
+                }
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    private static void setArgs(BitSet use, int args) {
+        use.set(0, args);
+    }
+
+    private static void setClobbers(BitSet def) {
+        for (int r = 0; r < 31; r++) {
+            if ((CALL_CLOBBERS & 1 << r) != 0) {
+                def.set(r);
+            }
+        }
+    }
+
+    //! @brief Add the register number of @a o to @a set; @c sp / @c zr are ignored.
+    private static void setReg(BitSet set, Operand o) {
+        if (o instanceof VirtualRegister) {
+            set.set(PHYS + ((VirtualRegister) o).id);
+        } else if (o instanceof Register) {
+            Register r = (Register) o;
+            if ((r.type() == REG_GPR || r.type() == REG_GPT) && r.index() != 31) {
+                set.set(r.index());
+            } else if (r.isFp() || r.type() == REG_VEC || r.type() == REG_ZVEC) {
+                set.set(FP + r.index());
+            } else if (r.type() == REG_PRED) {
+                set.set(PRED + r.index());
+            }
+        }
+    }
+
+    //! @brief Return the base register of memory operand @a o, @c null for other operands.
+    private static Register baseOf(Operand o) {
+        if (o instanceof Offset) {
+            return ((Offset) o).getRegister();
+        } else if (o instanceof Pre_index) {
+            return ((Pre_index) o).getRegister();
+        } else if (o instanceof Post_index) {
+            return ((Post_index) o).getRegister();
+        }
+        return null;
+    }
+
+    //! @brief Return @c true if @a n leaves the function (return or tail call).
+    private boolean isExit(Node n) {
+        if (n.kind == NODE_INST) {
+            return n.code == INST_RET_BRANCH_REG || n.code == INST_BR_BRANCH_REG
+                    || n.code == INST_ERET_BRANCH_REG || n.code == INST_DRPS_BRANCH_REG;
+        }
+        return n.kind == NODE_JUMP && n.word == InstructionDescription.find(INST_B_BRANCH_IMM).opcode;
+    }
+
+    //! @brief Return the label a branch @a n may continue at, @c null if none.
+    private static Label branchTarget(Node n) {
+        if (n.kind != NODE_INST || n.code == INST_BL_BRANCH_IMM || !n.code.name().contains("BRANCH")) {
+            return null;
+        }
+        for (Operand o : n.ops) {
+            if (o instanceof Label) {
+                return (Label) o;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reorders the nodes of every basic block for @a cpuInfo with a
+     * ListScheduler. Labels, branches, calls, system instructions and raw words
+     * end a block and keep their place. Scheduling happens before register
+     * allocation, so it may lengthen lifetimes.
+     */
+    private void schedule(CpuInfo cpuInfo) {
+        ListScheduler scheduler = new ListScheduler(cpuInfo);
+        int count = _nodes.size();
+        int start = 0;
+        for (int i = 0; i <= count; i++) {
+            boolean fits = i < count && classOf(_nodes.get(i)) != null;
+            if (fits && i - start < MAX_BLOCK) {
+                continue;
+            }
+            if (i - start > 1) {
+                scheduleBlock(scheduler, start, i);
+            }
+            start = fits ? i : i + 1;
+        }
+    }
+
+    private void scheduleBlock(ListScheduler scheduler, int from, int to) {
+        int count = to - from;
+        BitSet[] use = new BitSet[count];
+        BitSet[] def = new BitSet[count];
+        boolean[] load = new boolean[count];
+        boolean[] store = new boolean[count];
+        scheduler.reset();
+        for (int k = 0; k < count; k++) {
+            Node n = _nodes.get(from + k);
+            CpuInfo.InstructionClass c = classOf(n);
+            scheduler.add(c);
+            use[k] = new BitSet();
+            def[k] = new BitSet();
+            operands(n, use[k], def[k]);
+            if (n.kind == NODE_INST) {
+                byte flags = FLAGS[n.code.ordinal()];
+                if ((flags & FLAGS_READ) != 0) {
+                    use[k].set(NZCV);
+                }
+                if ((flags & FLAGS_WRITE) != 0) {
+                    def[k].set(NZCV);
+                }
+                load[k] = c == CpuInfo.InstructionClass.LOAD;
+                store[k] = c == CpuInfo.InstructionClass.STORE;
+            } else if (n.word == SerializerIntrinsics_a64.MACRO_ADDS || n.word == SerializerIntrinsics_a64.MACRO_SUBS
+                    || n.word == SerializerIntrinsics_a64.MACRO_CMP || n.word == SerializerIntrinsics_a64.MACRO_CMN
+                    || n.word == SerializerIntrinsics_a64.MACRO_ANDS || n.word == SerializerIntrinsics_a64.MACRO_TST) {
+                def[k].set(NZCV);
+            }
+        }
+
+        for (int j = 1; j < count; j++) {
+            for (int i = 0; i < j; i++) {
+                int latency = -1;
+                if (def[i].intersects(use[j])) {
+                    latency = scheduler.latency(i);
+                } else if (def[i].intersects(def[j])) {
+                    latency = 1;
+                } else if (use[i].intersects(def[j])) {
+                    latency = 0;
+                }
+                if ((store[i] && (load[j] || store[j]) || load[i] && store[j])
+                        && !disjoint(_nodes.get(from + i), _nodes.get(from + j))) {
+                    latency = Math.max(latency, store[i] ? 1 : 0);
+                }
+                if (latency >= 0) {
+                    scheduler.depend(i, j, latency);
+                }
+            }
+        }
+
+        for (int j = 1; j < count; j++) {
+            INST_CODE second = _nodes.get(from + j).code;
+            if (second != INST_AESMC_CRYPTO_AES && second != INST_AESIMC_CRYPTO_AES) {
+                continue;
+            }
+            int i = j - 1;
+            while (i >= 0 && !def[i].intersects(use[j])) {
+                i--;
+            }
+            if (i >= 0 && _nodes.get(from + i).code == (second == INST_AESMC_CRYPTO_AES ? INST_AESE_CRYPTO_AES : INST_AESD_CRYPTO_AES)) {
+                scheduler.fuse(i, j);
+            }
+        }
+
+        int[] order = scheduler.schedule();
+        List<Node> block = new ArrayList<Node>(_nodes.subList(from, to));
+        for (int k = 0; k < count; k++) {
+            _nodes.set(from + k, block.get(order[k]));
+        }
+    }
+
+    //! @brief Return the timing class of @a n, @c null if it may not be moved.
+    private static CpuInfo.InstructionClass classOf(Node n) {
+        if (n.kind == NODE_MACRO) {
+            return n.word == SerializerIntrinsics_a64.MACRO_LDR_LITERAL ? CpuInfo.InstructionClass.LOAD : CpuInfo.InstructionClass.ALU;
+        } else if (n.kind != NODE_INST) {
+            return null;
+        }
+        CpuInfo.InstructionClass c = InstructionDescription.find(n.code).iclass;
+        if (c == CpuInfo.InstructionClass.BRANCH || c == CpuInfo.InstructionClass.SYSTEM) {
+            return null;
+        }
+        if (c == CpuInfo.InstructionClass.ALU) {
+            for (Operand o : n.ops) {
+                if (o instanceof Ext || (o instanceof Shift && ((Shift) o).value() != 0)) {
+                    return CpuInfo.InstructionClass.ALU_SHIFT;
+                }
+            }
+        }
+        return c;
+    }
+
+    /**
+     * Returns @c true if the memory accessed by @a a and @a b can't overlap,
+     * i.e. both are at different immediate offsets from the same base.
+     */
+    private static boolean disjoint(Node a, Node b) {
+        Operand ma = memoryOf(a);
+        Operand mb = memoryOf(b);
+        if (!(ma instanceof Offset) || !(mb instanceof Offset)) {
+            return false;
+        }
+        if (isScalable(a) || isScalable(b)) {
+            return false;       /*offsets are multiples of the vector length*/
+        }
+        Register ra = ((Offset) ma).getRegister();
+        Register rb = ((Offset) mb).getRegister();
+        boolean same = ra instanceof VirtualRegister
+                ? rb instanceof VirtualRegister && ((VirtualRegister) ra).id == ((VirtualRegister) rb).id
+                : !(rb instanceof VirtualRegister) && ra.code() == rb.code();
+        if (!same) {
+            return false;
+        }
+        long oa = ((Offset) ma).getOffset().value();
+        long ob = ((Offset) mb).getOffset().value();
+        return oa + accessSize(a) <= ob || ob + accessSize(b) <= oa;
+    }
+
+    private static boolean isScalable(Node n) {
+        InstructionGroup group = InstructionDescription.find(n.code).group;
+        return group == InstructionGroup.sve_ldst || group == InstructionGroup.sve_fill;
+    }
+
+    private static Operand memoryOf(Node n) {
+        for (Operand o : n.ops) {
+            if (baseOf(o) != null) {
+                return o;
+            }
+        }
+        return null;
+    }
+
+    //! @brief Return the number of bytes load or store @a n accesses.
+    private static int accessSize(Node n) {
+        int bytes = n.ops[0] != null && n.ops[0].size() > 0 ? n.ops[0].size() / 8 : 16;
+        switch (InstructionDescription.find(n.code).group) {
+            case ldstnapair_offs:
+            case ldst_imm9_2reg:
+            case ldst_pos_2reg:
+            case ldstpair_indexed:
+            case ldstpair_off:
+                return 2 * bytes;
+            case simd_ldst_mult: {
+                int count = 0;
+                while (count < 4 && n.ops[count] instanceof VectorRegister) {
+                    count++;
+                }
+                return count * bytes;
+            }
+            default:
+                return bytes;
+        }
+    }
+
+    /**
+     * Linear scan over the virtual registers in order of their first live
+     * point. A register is free for a virtual register if their live points
+     * don't overlap, so lifetime holes are used. If no register is free, the
+     * virtual registers that live longest are spilled.
+     */
+    private void allocate(BitSet[] points, boolean hasCall) {
+        int vregs = _vregs.size();
+        _assigned = new int[vregs];
+        _slot = new int[vregs];
+        Arrays.fill(_assigned, -1);
+        Arrays.fill(_slot, -1);
+        _spillCount = 0;
+
+        Integer[] order = new Integer[vregs];
+        int live = 0;
+        for (int v = 0; v < vregs; v++) {
+            if (!points[PHYS + v].isEmpty()) {
+                order[live++] = v;
+            }
+        }
+        final BitSet[] p = points;
+        Arrays.sort(order, 0, live, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                return p[PHYS + a].nextSetBit(0) - p[PHYS + b].nextSetBit(0);
+            }
+        });
+
+        BitSet[] used = new BitSet[PHYS];
+        List<List<Integer>> owners = new ArrayList<List<Integer>>();
+        for (int r = 0; r < PHYS; r++) {
+            used[r] = (BitSet) points[r].clone();
+            owners.add(new ArrayList<Integer>());
+        }
+        for (int k = 0; k < live; k++) {
+            int v = order[k];
+            BitSet mine = points[PHYS + v];
+            int reg = -1;
+            for (int r : ALLOCATABLE) {
+                if (!used[r].intersects(mine)) {
+                    reg = r;
+                    break;
+                }
+            }
+            if (reg < 0) {
+                reg = evict(points, used, owners, v);
+            }
+            if (reg < 0) {
+                _slot[v] = _spillCount++;
+                continue;
+            }
+            _assigned[v] = reg;
+            used[reg].or(mine);
+            owners.get(reg).add(v);
+        }
+
+        int saved = 0;
+        int[] callee = new int[10];
+        for (int r = 19; r <= 28; r++) {
+            if (!owners.get(r).isEmpty()) {
+                callee[saved++] = r;
+            }
+        }
+        _saved = Arrays.copyOf(callee, saved);
+        if (saved == 0 && _spillCount == 0 && !hasCall) {
+            _frameSize = 0;
+        } else {
+            _frameSize = 16 + ((saved + 1) & ~1) * 8 + ((_spillCount + 1) & ~1) * 8;
+            if (_frameSize > 32760) {
+                throw new IllegalStateException("stack frame too large");
+            }
+        }
+    }
+
+    /**
+     * Finds a register whose virtual registers overlapping @a v all live longer
+     * than @a v, spills them and returns the register, -1 if there is none.
+     */
+    private int evict(BitSet[] points, BitSet[] used, List<List<Integer>> owners, int v) {
+        BitSet mine = points[PHYS + v];
+        int end = mine.length();
+        int best = -1;
+        int bestEnd = end;
+        for (int r : ALLOCATABLE) {
+            if (points[r].intersects(mine)) {
+                continue;       /*the physical register itself is in use*/
+            }
+            int minEnd = Integer.MAX_VALUE;
+            for (int u : owners.get(r)) {
+                if (points[PHYS + u].intersects(mine)) {
+                    minEnd = Math.min(minEnd, points[PHYS + u].length());
+                }
+            }
+            if (minEnd > bestEnd) {
+                best = r;
+                bestEnd = minEnd;
+            }
+        }
+        if (best < 0) {
+            return -1;
+        }
+
+        List<Integer> list = owners.get(best);
+        used[best] = (BitSet) points[best].clone();
+        for (int k = list.size() - 1; k >= 0; k--) {
+            int u = list.get(k);
+            if (points[PHYS + u].intersects(mine)) {
+                list.remove(k);
+                _assigned[u] = -1;
+                _slot[u] = _spillCount++;
+            } else {
+                used[best].or(points[PHYS + u]);
+            }
+        }
+        return best;
+    }
+
+    private void emit(Assembler_A64 a) {
+        for (Label label : _labels) {
+            label.clear();
+        }
+        if (_frameSize != 0) {
+            prologue(a);
+        }
+        Operand[] ops = new Operand[5];
+        int[] scratchOf = new int[_vregs.size()];
+        Arrays.fill(scratchOf, -1);
+        int[] spilled = new int[SPILL_SCRATCH.length];
+        BitSet use = new BitSet();
+        BitSet def = new BitSet();
+
+        for (Node n : _nodes) {
+            // Spilled registers live in scratch registers for the instruction.
+            int count = 0;
+            if (n.kind == NODE_INST || n.kind == NODE_MACRO) {
+                use.clear();
+                def.clear();
+                operands(n, use, def);
+                BitSet both = (BitSet) use.clone();
+                both.or(def);
+                for (int r = both.nextSetBit(PHYS); r >= 0; r = both.nextSetBit(r + 1)) {
+                    int v = r - PHYS;
+                    if (_slot[v] >= 0) {
+                        if (count == spilled.length) {
+                            throw new IllegalStateException("too many spilled operands");
+                        }
+                        scratchOf[v] = SPILL_SCRATCH[count];
+                        spilled[count++] = v;
+                        if (use.get(r)) {
+                            a.ldrImm(SPILL_SCRATCH[count - 1], SP, slotOffset(v));
+                        }
+                    }
+                }
+            }
+            boolean restored = false;
+            if (isExit(n) && _frameSize != 0) {
+                // The epilogue would overwrite a jump target living in a callee-saved register.
+                restored = restoresTarget(n, scratchOf);
+                if (restored) {
+                    a.movReg(REG_X16, ((Register) physical(n.ops[0], scratchOf)).index());
+                }
+                epilogue(a);
+            }
+
+            switch (n.kind) {
+                case NODE_INST:
+                    for (int k = 0; k < ops.length; k++) {
+                        ops[k] = physical(n.ops[k], scratchOf);
+                    }
+                    if (restored) {
+                        ops[0] = Register.gpb(16);
+                    }
+                    emitInst(a, n.code, ops);
+                    break;
+                case NODE_MACRO:
+                    a._emitMacro(n.word, (Register) physical(n.ops[0], scratchOf), (Register) physical(n.ops[1], scratchOf), n.value);
+                    break;
+                case NODE_WORD:
+                    if (n.code != null) {
+                        a._emitInt32(n.code, n.word);
+                    } else {
+                        a._emitInt32(n.word);
+                    }
+                    break;
+                case NODE_LITERAL:
+                    a._emitLiteralLoad(n.word, n.value, n.size);
+                    break;
+                case NODE_JUMP:
+                    a._emitJmpOrCallReloc(n.word, n.value);
+                    break;
+                default:
+                    a.bind(n.label);
+                    break;
+            }
+
+            for (int k = 0; k < count; k++) {
+                int v = spilled[k];
+                if (def.get(PHYS + v)) {
+                    a.strImm(scratchOf[v], SP, slotOffset(v));
+                }
+                scratchOf[v] = -1;
+            }
+        }
+    }
+
+    private void emitInst(Assembler_A64 a, INST_CODE code, Operand[] ops) {
+        // mov picks its encoding by register, which is only known now.
+        if ((code == INST_MOV_ADDSUB_IMM || code == INST_MOV_LOG_SHIFT) && ops[0] instanceof Register && ops[1] instanceof Register) {
+            Register d = (Register) ops[0];
+            Register s = (Register) ops[1];
+            if (d.code() != s.code() || d.type() != REG_GPR) {
+                a.mov(d, s);
+            }
+        } else if ((code == INST_MOV_MOVEWIDE_X || code == INST_MOV_LOG_IMM) && ops[0] instanceof Register && ops[1] instanceof Immediate) {
+            a.mov((Register) ops[0], (Immediate) ops[1]);
+        } else {
+            a._emita64(code, ops[0], ops[1], ops[2], ops[3], ops[4]);
+        }
+    }
+
+    //! @brief Return @a o with virtual registers replaced by their physical (or scratch) register.
+    private Operand physical(Operand o, int[] scratchOf) {
+        if (o instanceof VirtualRegister) {
+            VirtualRegister v = (VirtualRegister) o;
+            int reg = _assigned[v.id] >= 0 ? _assigned[v.id] : scratchOf[v.id];
+            return v.isW() ? Register.gpw(reg & REGCODE_MASK) : Register.gpb(reg & REGCODE_MASK);
+        } else if (o instanceof Offset && ((Offset) o).getRegister() instanceof VirtualRegister) {
+            Offset m = (Offset) o;
+            return new Offset((Register) physical(m.getRegister(), scratchOf), m.getOffset());
+        } else if (o instanceof Pre_index && ((Pre_index) o).getRegister() instanceof VirtualRegister) {
+            Pre_index m = (Pre_index) o;
+            return new Pre_index((Register) physical(m.getRegister(), scratchOf), m.getPreIndex());
+        } else if (o instanceof Post_index && ((Post_index) o).getRegister() instanceof VirtualRegister) {
+            Post_index m = (Post_index) o;
+            return new Post_index((Register) physical(m.getRegister(), scratchOf), m.getPostIndex());
+        }
+        return o;
+    }
+
+    //! @brief Return @c true if the epilogue restores the register the exit @a n branches through.
+    private boolean restoresTarget(Node n, int[] scratchOf) {
+        if (n.kind != NODE_INST || !(n.ops[0] instanceof VirtualRegister)) {
+            return false;
+        }
+        int reg = ((Register) physical(n.ops[0], scratchOf)).index();
+        for (int r : _saved) {
+            if (r == reg) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int slotOffset(int v) {
+        return 16 + ((_saved.length + 1) & ~1) * 8 + _slot[v] * 8;
+    }
+
+    //! @brief Frame: fp and lr at sp, then the callee-saved registers, then the spill slots.
+    private void prologue(Assembler_A64 a) {
+        if (_frameSize <= 504) {
+            a.stpPre(REG_X29, REG_X30, SP, -_frameSize);
+        } else {
+            a.subImm(SP, SP, (long) _frameSize);
+            a.stpImm(REG_X29, REG_X30, SP, 0);
+        }
+        a.addImm(REG_X29, SP, 0, 0);
+        for (int k = 0; k < _saved.length; k += 2) {
+            if (k + 1 < _saved.length) {
+                a.stpImm(_saved[k], _saved[k + 1], SP, 16 + k * 8);
+            } else {
+                a.strImm(_saved[k], SP, 16 + k * 8);
+            }
+        }
+    }
+
+    private void epilogue(Assembler_A64 a) {
+        for (int k = 0; k < _saved.length; k += 2) {
+            if (k + 1 < _saved.length) {
+                a.ldpImm(_saved[k], _saved[k + 1], SP, 16 + k * 8);
+            } else {
+                a.ldrImm(_saved[k], SP, 16 + k * 8);
+            }
+        }
+        if (_frameSize <= 504) {
+            a.ldpPost(REG_X29, REG_X30, SP, _frameSize);
+        } else {
+            a.ldpImm(REG_X29, REG_X30, SP, 0);
+            a.addImm(SP, SP, (long) _frameSize);
+        }
+    }
+}
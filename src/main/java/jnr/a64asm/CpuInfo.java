@@ -18,6 +18,17 @@
 
 package jnr.a64asm;
 
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Locale;
+
 /*
  * Information about target CPU
  */
@@ -25,6 +36,8 @@ public class CpuInfo {
 
     final Vendor vendor;
     final int family;
+    private final int features;
+    private final Model model;
 
     public enum Vendor {
         INTEL,
@@ -33,10 +46,405 @@ public class CpuInfo {
         GENERIC;
     }
 
+    /**
+     * Classes of instructions with the same timing. The class of an instruction
+     * is given by its InstructionDescription; a compiler may refine @c ALU to
+     * @c ALU_SHIFT when an operand is shifted or extended.
+     */
+    public enum InstructionClass {
+        ALU,
+        ALU_SHIFT,
+        MUL,
+        DIV,
+        LOAD,
+        STORE,
+        BRANCH,
+        FP,
+        FP_DIV,
+        SIMD,
+        CRYPTO,
+        SYSTEM;
+    }
+
+    // Optional architecture features, see hasFeature().
+    public static final int FEATURE_FP = 1 << 0;
+    public static final int FEATURE_ASIMD = 1 << 1;
+    public static final int FEATURE_AES = 1 << 2;
+    public static final int FEATURE_PMULL = 1 << 3;
+    public static final int FEATURE_SHA1 = 1 << 4;
+    public static final int FEATURE_SHA2 = 1 << 5;
+    public static final int FEATURE_CRC32 = 1 << 6;
+    //! @brief Large System Extensions: CAS, SWP, LDADD, ...
+    public static final int FEATURE_LSE = 1 << 7;
+    //! @brief LDAPR.
+    public static final int FEATURE_RCPC = 1 << 8;
+    //! @brief LDAPUR, STLUR.
+    public static final int FEATURE_RCPC2 = 1 << 9;
+    public static final int FEATURE_SHA3 = 1 << 10;
+    public static final int FEATURE_SHA512 = 1 << 11;
+    public static final int FEATURE_SVE = 1 << 12;
+    public static final int FEATURE_SVE2 = 1 << 13;
+    //! @brief CPYP / SETP memory copy and set instructions.
+    public static final int FEATURE_MOPS = 1 << 14;
+
+    // Linux AT_HWCAP (word 0) and AT_HWCAP2 (word 1) bits and /proc/cpuinfo names of the features.
+    private static final int[] HWCAP_FEATURE = {
+        FEATURE_FP, FEATURE_ASIMD, FEATURE_AES, FEATURE_PMULL, FEATURE_SHA1, FEATURE_SHA2, FEATURE_CRC32,
+        FEATURE_LSE, FEATURE_RCPC, FEATURE_RCPC2, FEATURE_SHA3, FEATURE_SHA512, FEATURE_SVE, FEATURE_SVE2,
+        FEATURE_MOPS
+    };
+    private static final int[] HWCAP_WORD = { 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1, 1 };
+    private static final int[] HWCAP_BIT = { 0, 1, 3, 4, 5, 6, 7, 8, 15, 26, 17, 21, 22, 1, 43 };
+    private static final String[] HWCAP_NAME = {
+        "fp", "asimd", "aes", "pmull", "sha1", "sha2", "crc32",
+        "atomics", "lrcpc", "ilrcpc", "sha3", "sha512", "sve", "sve2",
+        "mops"
+    };
+
+    private static final long AT_NULL = 0;
+    private static final long AT_HWCAP = 16;
+    private static final long AT_HWCAP2 = 26;
+
+    //! @brief MIDR_EL1.Implementer of Arm Ltd.
+    private static final int IMPLEMENTER_ARM = 0x41;
+
+    // Primary part numbers (MIDR_EL1.PartNum) of Arm cores, used as family of Vendor.ARM.
+    public static final int PART_CORTEX_A53 = 0xd03;
+    public static final int PART_CORTEX_A72 = 0xd08;
+    public static final int PART_NEOVERSE_N1 = 0xd0c;
+    public static final int PART_NEOVERSE_V1 = 0xd40;
+
+    /**
+     * Timing of a core: instructions issued per cycle and, for every
+     * InstructionClass, the latency, the pipelines (bit mask) that can execute
+     * it and the number of cycles it blocks the pipeline.
+     */
+    private static final class Model {
+        final String name;
+        final int issueWidth;
+        final boolean inOrder;
+        final int features;     /*features every such core has*/
+        final int[] latency = new int[InstructionClass.values().length];
+        final int[] units = new int[InstructionClass.values().length];
+        final int[] busy = new int[InstructionClass.values().length];
+
+        Model(String name, int issueWidth, boolean inOrder, int features, int[][] classes) {
+            this.name = name;
+            this.issueWidth = issueWidth;
+            this.inOrder = inOrder;
+            this.features = features;
+            for (int c = 0; c < classes.length; c++) {
+                latency[c] = classes[c][0];
+                units[c] = classes[c][1];
+                busy[c] = classes[c][2];
+            }
+        }
+    }
+
+    // Rows are { latency, pipelines, blocking cycles } in InstructionClass order.
+    // Integer division and FP division / square root are not pipelined.
+
+    // Two ALUs, multiplier, divider, load/store, branch, two FP/NEON pipes.
+    private static final Model GENERIC_MODEL = new Model("generic", 2, false, FEATURE_FP | FEATURE_ASIMD, new int[][] {
+        { 1, 0x03, 1 },     /*ALU*/
+        { 2, 0x03, 1 },     /*ALU_SHIFT*/
+        { 3, 0x04, 1 },     /*MUL*/
+        { 12, 0x08, 12 },   /*DIV*/
+        { 4, 0x10, 1 },     /*LOAD*/
+        { 1, 0x10, 1 },     /*STORE*/
+        { 1, 0x20, 1 },     /*BRANCH*/
+        { 4, 0xc0, 1 },     /*FP*/
+        { 12, 0x40, 12 },   /*FP_DIV*/
+        { 3, 0xc0, 1 },     /*SIMD*/
+        { 3, 0x40, 1 },     /*CRYPTO*/
+        { 1, 0xff, 1 },     /*SYSTEM*/
+    });
+
+    // In-order, dual issue: ALU0, ALU1, MAC, DIV, LS, BR, F0, F1.
+    private static final Model CORTEX_A53_MODEL = new Model("Cortex-A53", 2, true, FEATURE_FP | FEATURE_ASIMD, new int[][] {
+        { 1, 0x03, 1 },
+        { 2, 0x03, 1 },
+        { 4, 0x04, 1 },
+        { 12, 0x08, 12 },
+        { 3, 0x10, 1 },
+        { 1, 0x10, 1 },
+        { 1, 0x20, 1 },
+        { 4, 0xc0, 1 },
+        { 18, 0x40, 14 },
+        { 4, 0xc0, 1 },
+        { 3, 0x40, 1 },
+        { 1, 0xff, 1 },
+    });
+
+    // Out-of-order, 3 wide: I0, I1, M, L, S, B, F0, F1.
+    private static final Model CORTEX_A72_MODEL = new Model("Cortex-A72", 3, false, FEATURE_FP | FEATURE_ASIMD, new int[][] {
+        { 1, 0x03, 1 },
+        { 2, 0x04, 1 },
+        { 3, 0x04, 1 },
+        { 12, 0x04, 12 },
+        { 4, 0x08, 1 },
+        { 1, 0x10, 1 },
+        { 1, 0x20, 1 },
+        { 4, 0xc0, 1 },
+        { 11, 0x40, 11 },
+        { 3, 0xc0, 1 },
+        { 3, 0x40, 1 },
+        { 1, 0xff, 1 },
+    });
+
+    // Out-of-order, 4 wide: S0, S1, M, L0, L1, B, V0, V1.
+    private static final Model NEOVERSE_N1_MODEL = new Model("Neoverse N1", 4, false,
+            FEATURE_FP | FEATURE_ASIMD | FEATURE_CRC32 | FEATURE_LSE | FEATURE_RCPC, new int[][] {
+        { 1, 0x07, 1 },
+        { 2, 0x04, 1 },
+        { 2, 0x04, 1 },
+        { 12, 0x04, 12 },
+        { 4, 0x18, 1 },
+        { 1, 0x18, 1 },
+        { 1, 0x20, 1 },
+        { 3, 0xc0, 1 },
+        { 10, 0x40, 7 },
+        { 2, 0xc0, 1 },
+        { 2, 0x40, 1 },
+        { 1, 0xff, 1 },
+    });
+
+    // Out-of-order, 8 wide: S0-S3, M0, M1, L0-L2, B0, B1, V0-V3.
+    private static final Model NEOVERSE_V1_MODEL = new Model("Neoverse V1", 8, false,
+            FEATURE_FP | FEATURE_ASIMD | FEATURE_CRC32 | FEATURE_LSE | FEATURE_RCPC | FEATURE_RCPC2 | FEATURE_SVE, new int[][] {
+        { 1, 0x003f, 1 },
+        { 2, 0x0030, 1 },
+        { 2, 0x0010, 1 },
+        { 12, 0x0010, 12 },
+        { 4, 0x01c0, 1 },
+        { 1, 0x00c0, 1 },
+        { 1, 0x0600, 1 },
+        { 3, 0x7800, 1 },
+        { 10, 0x0800, 7 },
+        { 2, 0x7800, 1 },
+        { 2, 0x1800, 1 },
+        { 1, 0x7fff, 1 },
+    });
+
     public static final CpuInfo GENERIC = new CpuInfo(Vendor.GENERIC, 0);
+    public static final CpuInfo CORTEX_A53 = new CpuInfo(Vendor.ARM, PART_CORTEX_A53);
+    public static final CpuInfo CORTEX_A72 = new CpuInfo(Vendor.ARM, PART_CORTEX_A72);
+    public static final CpuInfo NEOVERSE_N1 = new CpuInfo(Vendor.ARM, PART_NEOVERSE_N1);
+    public static final CpuInfo NEOVERSE_V1 = new CpuInfo(Vendor.ARM, PART_NEOVERSE_V1);
 
+    /**
+     * Creates the description of a CPU. For @c Vendor.ARM, @a family is the
+     * part number (@c PART_*); cores without a timing model of their own use
+     * the generic one. The features are those every such core has.
+     */
     public CpuInfo(Vendor vendor, int family) {
         this.vendor = vendor;
         this.family = family;
+        this.model = modelOf(vendor, family);
+        this.features = model.features;
+    }
+
+    //! @brief Create the description of a CPU with the given @a features (@c FEATURE_*).
+    public CpuInfo(Vendor vendor, int family, int features) {
+        this.vendor = vendor;
+        this.family = family;
+        this.model = modelOf(vendor, family);
+        this.features = features;
+    }
+
+    /**
+     * Returns the CPU this process runs on. On Linux on AArch64 the features
+     * are read from the auxiliary vector, or the "Features" line of
+     * /proc/cpuinfo, and the core from its "CPU implementer" and "CPU part"
+     * lines. Elsewhere, or if neither can be read, GENERIC is returned.
+     */
+    public static CpuInfo detect() {
+        String os = System.getProperty("os.name", "").toLowerCase(Locale.ROOT);
+        String arch = System.getProperty("os.arch", "");
+        if (!os.contains("linux") || !(arch.equals("aarch64") || arch.equals("arm64"))) {
+            return GENERIC;
+        }
+
+        return detect(new File("/proc/self/auxv"), new File("/proc/cpuinfo"));
+    }
+
+    /**
+     * Like detect(), reading the auxiliary vector (64 bit entries in native
+     * byte order) from @a auxv and the cpuinfo text from @a cpuinfo. Either
+     * file may be missing.
+     */
+    public static CpuInfo detect(File auxv, File cpuinfo) {
+        long[] hwcap = null;
+        try {
+            hwcap = parseAuxv(readFile(auxv), ByteOrder.nativeOrder());
+        } catch (IOException e) {
+            // Use the cpuinfo features.
+        }
+
+        int implementer = -1;
+        int part = -1;
+        int features = -1;
+        try {
+            BufferedReader r = new BufferedReader(new FileReader(cpuinfo));
+            try {
+                String line;
+                while ((line = r.readLine()) != null) {
+                    int colon = line.indexOf(':');
+                    if (colon < 0) {
+                        continue;
+                    }
+                    String key = line.substring(0, colon).trim();
+                    String value = line.substring(colon + 1).trim();
+                    if (key.equals("Features") && features < 0) {
+                        features = parseFeatures(value);
+                    } else if (key.equals("CPU implementer") && implementer < 0) {
+                        implementer = Integer.decode(value);
+                    } else if (key.equals("CPU part") && part < 0) {
+                        part = Integer.decode(value);
+                    }
+                }
+            } finally {
+                r.close();
+            }
+        } catch (IOException e) {
+            // Only the auxiliary vector is known.
+        } catch (NumberFormatException e) {
+            implementer = -1;
+        }
+
+        if (hwcap != null) {
+            features = hwcapFeatures(hwcap);
+        }
+        if (features < 0) {
+            return GENERIC;
+        }
+        return implementer == IMPLEMENTER_ARM && part >= 0
+                ? new CpuInfo(Vendor.ARM, part, features)
+                : new CpuInfo(Vendor.GENERIC, 0, features);
+    }
+
+    private static byte[] readFile(File file) throws IOException {
+        InputStream in = new FileInputStream(file);
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buf = new byte[512];
+            int n;
+            while ((n = in.read(buf)) > 0) {
+                out.write(buf, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            in.close();
+        }
+    }
+
+    //! @brief Return { AT_HWCAP, AT_HWCAP2 } of the auxiliary vector @a data, @c null if it has no AT_HWCAP.
+    static long[] parseAuxv(byte[] data, ByteOrder order) {
+        ByteBuffer buf = ByteBuffer.wrap(data).order(order);
+        long[] hwcap = new long[2];
+        boolean found = false;
+        while (buf.remaining() >= 16) {
+            long type = buf.getLong();
+            long value = buf.getLong();
+            if (type == AT_NULL) {
+                break;
+            } else if (type == AT_HWCAP) {
+                hwcap[0] = value;
+                found = true;
+            } else if (type == AT_HWCAP2) {
+                hwcap[1] = value;
+            }
+        }
+        return found ? hwcap : null;
+    }
+
+    //! @brief Return the features (@c FEATURE_*) of the HWCAP words @a hwcap.
+    static int hwcapFeatures(long[] hwcap) {
+        int features = 0;
+        for (int k = 0; k < HWCAP_FEATURE.length; k++) {
+            if ((hwcap[HWCAP_WORD[k]] & 1L << HWCAP_BIT[k]) != 0) {
+                features |= HWCAP_FEATURE[k];
+            }
+        }
+        return features;
+    }
+
+    //! @brief Return the features (@c FEATURE_*) named in the cpuinfo "Features" value @a names.
+    static int parseFeatures(String names) {
+        int features = 0;
+        for (String name : names.split("\\s+")) {
+            for (int k = 0; k < HWCAP_NAME.length; k++) {
+                if (HWCAP_NAME[k].equals(name)) {
+                    features |= HWCAP_FEATURE[k];
+                }
+            }
+        }
+        return features;
+    }
+
+    private static Model modelOf(Vendor vendor, int family) {
+        if (vendor == Vendor.ARM) {
+            switch (family) {
+                case PART_CORTEX_A53:
+                    return CORTEX_A53_MODEL;
+                case PART_CORTEX_A72:
+                    return CORTEX_A72_MODEL;
+                case PART_NEOVERSE_N1:
+                    return NEOVERSE_N1_MODEL;
+                case PART_NEOVERSE_V1:
+                    return NEOVERSE_V1_MODEL;
+            }
+        }
+        return GENERIC_MODEL;
+    }
+
+    //! @brief Return the features (@c FEATURE_*) of the CPU.
+    public final int features() {
+        return features;
+    }
+
+    //! @brief Return @c true if the CPU has all of @a features (@c FEATURE_*).
+    public final boolean hasFeature(int features) {
+        return (this.features & features) == features;
+    }
+
+    //! @brief Return the name of the timing model.
+    public final String name() {
+        return model.name;
+    }
+
+    //! @brief Return the number of instructions the core issues per cycle.
+    public final int issueWidth() {
+        return model.issueWidth;
+    }
+
+    //! @brief Return @c true if the core executes instructions in program order.
+    public final boolean isInOrder() {
+        return model.inOrder;
+    }
+
+    //! @brief Return the cycles until the result of an instruction of class @a c can be used.
+    public final int latency(InstructionClass c) {
+        return model.latency[c.ordinal()];
+    }
+
+    //! @brief Return the latency of instruction @a id.
+    final int latency(InstructionDescription id) {
+        return model.latency[id.iclass.ordinal()];
+    }
+
+    //! @brief Return the pipelines (bit mask) that execute class @a c.
+    final int units(InstructionClass c) {
+        return model.units[c.ordinal()];
+    }
+
+    //! @brief Return the cycles an instruction of class @a c occupies its pipeline.
+    final int busy(InstructionClass c) {
+        return model.busy[c.ordinal()];
+    }
+
+    @Override
+    public String toString() {
+        return vendor + " " + model.name;
     }
 }
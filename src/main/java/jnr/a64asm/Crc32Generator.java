@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2018 Ossdev07
+ *
+ * This file is part of the JNR project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package jnr.a64asm;
+
+import static jnr.a64asm.Asm.*;
+import static jnr.a64asm.Immediate.imm;
+
+/**
+ * Generates a CRC-32 (or CRC-32C) checksum function using the CRC32 instructions:
+ *
+ * @code
+ * uint32_t crc(uint32_t crc, const uint8_t *buf, size_t len);
+ * @endcode
+ *
+ * The function follows the java.util.zip.CRC32 / zlib convention, so the
+ * value it returns can be passed back in as @a crc to continue a checksum.
+ * The main loop folds 32 bytes per iteration using two @c ldp, the tail
+ * folds the remaining 16, 8, 4, 2 and 1 bytes. Only x0 to x6 are clobbered.
+ */
+public final class Crc32Generator {
+    private static final Register WZR = Register.gpw(31);
+    private static final Shift LSL0 = new Shift(SHIFT_ENUM.LSL, 0);
+
+    private final boolean castagnoli;
+
+    //! @brief Create a generator for CRC-32C (Castagnoli) if @a castagnoli, else for CRC-32.
+    public Crc32Generator(boolean castagnoli) {
+        this.castagnoli = castagnoli;
+    }
+
+    //! @brief Return @c true if @a cpuInfo has the CRC32 instructions.
+    public static boolean isSupported(CpuInfo cpuInfo) {
+        return cpuInfo.hasFeature(CpuInfo.FEATURE_CRC32);
+    }
+
+    //! @brief Emit the checksum function into @a a.
+    public void generate(Assembler_A64 a) {
+        if (!isSupported(a.getCpuInfo())) {
+            throw new IllegalStateException("CRC32 is not supported by the CPU, see setCpuInfo()");
+        }
+        Label loop = a.newLabel();
+        Label tail = a.newLabel();
+        Label tail8 = a.newLabel();
+        Label tail4 = a.newLabel();
+        Label tail2 = a.newLabel();
+        Label tail1 = a.newLabel();
+        Label done = a.newLabel();
+
+        a.orn(w0, WZR, w0, LSL0);
+        a.subs(x2, x2, 32);
+        a.blo(tail);
+
+        a.bind(loop);
+        a.ldp(x3, x4, new Post_index(x1, imm(16)));
+        a.ldp(x5, x6, new Post_index(x1, imm(16)));
+        crc64(a, x3);
+        crc64(a, x4);
+        crc64(a, x5);
+        crc64(a, x6);
+        a.subs(x2, x2, 32);
+        a.bhs(loop);
+
+        // x2 is len - 32 here, its low five bits are still those of the remaining length
+        a.bind(tail);
+        a.tbz(x2, imm(4), tail8);
+        a.ldp(x3, x4, new Post_index(x1, imm(16)));
+        crc64(a, x3);
+        crc64(a, x4);
+        a.bind(tail8);
+        a.tbz(x2, imm(3), tail4);
+        a.ldr(x3, new Post_index(x1, imm(8)));
+        crc64(a, x3);
+        a.bind(tail4);
+        a.tbz(x2, imm(2), tail2);
+        a.ldr(w3, new Post_index(x1, imm(4)));
+        if (castagnoli) a.crc32cw(w0, w0, w3); else a.crc32w(w0, w0, w3);
+        a.bind(tail2);
+        a.tbz(x2, imm(1), tail1);
+        a.ldrh(w3, new Post_index(x1, imm(2)));
+        if (castagnoli) a.crc32ch(w0, w0, w3); else a.crc32h(w0, w0, w3);
+        a.bind(tail1);
+        a.tbz(x2, imm(0), done);
+        a.ldrb(w3, new Post_index(x1, imm(1)));
+        if (castagnoli) a.crc32cb(w0, w0, w3); else a.crc32b(w0, w0, w3);
+        a.bind(done);
+        a.orn(w0, WZR, w0, LSL0);
+        a.ret(lr);
+    }
+
+    private void crc64(Assembler_A64 a, Register data) {
+        if (castagnoli) {
+            a.crc32cx(w0, w0, data);
+        } else {
+            a.crc32x(w0, w0, data);
+        }
+    }
+}
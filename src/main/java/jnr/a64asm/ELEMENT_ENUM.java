@@ -18,18 +18,26 @@
 
 package jnr.a64asm;
 
-final class LinkData {
-    final int offset;
-    //! @brief Inlined displacement.
-    long displacement;
+/**
+ * Element size of an SVE vector or predicate register, like the @c .s of
+ * @c z0.s. The number of elements depends on the vector length of the CPU.
+ */
+public enum ELEMENT_ENUM {
+
+    B(0),
+    H(1),
+    S(2),
+    D(3);
 
-    //! @brief RelocId if link must be absolute when relocated.
-    int relocId;
+    private final int size;
+
+    ELEMENT_ENUM(int size) {
+        this.size = size;
+    }
 
-    public LinkData(int offset, long displacement, int relocId) {
-        this.offset = offset;
-        this.displacement = displacement;
-        this.relocId = relocId;
+    //! @brief Return log2 of the element size in bytes (the @c size field).
+    public final int size() {
+        return size;
     }
 
 }
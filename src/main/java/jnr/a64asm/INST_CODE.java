@@ -22,27 +22,45 @@ package jnr.a64asm;
 
 public enum INST_CODE {
 
+    INST_ABS_SIMD_2REG_MISC,
     INST_ADC_ADDSUB_CARRY,
     INST_ADCS_ADDSUB_CARRY,
     INST_ADD_ADDSUB_IMM,
     INST_ADD_ADDSUB_IMM_SP,
     INST_ADD_ADDSUB_SHIFT,
     INST_ADD_EXT_ADDSUB_EXT,
+    INST_ADD_SIMD_3SAME,
+    INST_ADD_SVE_ARITH,
+    INST_ADD_SVE_ARITH_PRED,
+    INST_ADDP_SIMD_3SAME,
+    INST_ADDPL_SVE_VL,
     INST_ADDS_ADDSUB_EXT,
     INST_ADDS_ADDSUB_SHIFT,
     INST_ADDS_ADDSUB_IMM,
+    INST_ADDV_SIMD_ACROSS,
+    INST_ADDVL_SVE_VL,
     INST_ADR_PCRELADDR,
     INST_ADRP_PCRELADDR,
+    INST_AESD_CRYPTO_AES,
+    INST_AESE_CRYPTO_AES,
+    INST_AESIMC_CRYPTO_AES,
+    INST_AESMC_CRYPTO_AES,
     INST_AND_LOG_IMM,
     INST_AND_LOG_SHIFT,
+    INST_AND_SIMD_3SAME,
+    INST_AND_SVE_ARITH,
+    INST_AND_SVE_ARITH_PRED,
+    INST_AND_SVE_PRED_LOGIC,
     INST_ANDS_LOG_IMM,
     INST_ANDS_LOG_SHIFT,
+    INST_ANDV_SVE_REDUCE,
     INST_ASR_BITFIELD,
     INST_ASR_DP_2SRC,
     INST_ASRV_DP_2SRC,
     INST_AT_IC_SYSTEM,
     INST_B_C_CONDBRANCH,
     INST_B_BRANCH_IMM,
+    INST_BCAX_SVE_TERNARY,
     INST_BCC_CONDBRANCH,
     INST_BCS_CONDBRANCH,
     INST_BEQ_CONDBRANCH,
@@ -55,7 +73,13 @@ public enum INST_CODE {
     INST_BHS_CONDBRANCH,
     INST_BIC_LOG_IMM,
     INST_BIC_LOG_SHIFT,
+    INST_BIC_SIMD_3SAME,
+    INST_BIC_SVE_ARITH,
+    INST_BIC_SVE_ARITH_PRED,
+    INST_BIC_SVE_PRED_LOGIC,
     INST_BICS_LOG_SHIFT,
+    INST_BIF_SIMD_3SAME,
+    INST_BIT_SIMD_3SAME,
     INST_BL_BRANCH_IMM,
     INST_BLE_CONDBRANCH,
     INST_BLO_CONDBRANCH,
@@ -67,8 +91,27 @@ public enum INST_CODE {
     INST_BPL_CONDBRANCH,
     INST_BR_BRANCH_REG,
     INST_BRK_EXCEPTION,
+    INST_BRKA_SVE_PRED_LOGIC,
+    INST_BRKB_SVE_PRED_LOGIC,
+    INST_BSL_SIMD_3SAME,
     INST_BVC_CONDBRANCH,
     INST_BVS_CONDBRANCH,
+    INST_CAS_LDST_CAS,
+    INST_CASA_LDST_CAS,
+    INST_CASAB_LDST_CAS,
+    INST_CASAH_LDST_CAS,
+    INST_CASAL_LDST_CAS,
+    INST_CASALB_LDST_CAS,
+    INST_CASALH_LDST_CAS,
+    INST_CASB_LDST_CAS,
+    INST_CASH_LDST_CAS,
+    INST_CASL_LDST_CAS,
+    INST_CASLB_LDST_CAS,
+    INST_CASLH_LDST_CAS,
+    INST_CASP_LDST_CAS,
+    INST_CASPA_LDST_CAS,
+    INST_CASPAL_LDST_CAS,
+    INST_CASPL_LDST_CAS,
     INST_CBNZ_COMPBRANCH,
     INST_CBZ_COMPBRANCH,
     INST_CCMN_CONDCMP_IMM,
@@ -79,14 +122,59 @@ public enum INST_CODE {
     INST_CINV_CONDSEL,
     INST_CLREX_IC_SYSTEM,
     INST_CLS_DP_1SRC,
+    INST_CLS_SIMD_2REG_MISC,
     INST_CLZ_DP_1SRC,
+    INST_CLZ_SIMD_2REG_MISC,
+    INST_CMEQ_SIMD_2REG_MISC,
+    INST_CMEQ_SIMD_3SAME,
+    INST_CMGE_SIMD_2REG_MISC,
+    INST_CMGE_SIMD_3SAME,
+    INST_CMGT_SIMD_2REG_MISC,
+    INST_CMGT_SIMD_3SAME,
+    INST_CMHI_SIMD_3SAME,
+    INST_CMHS_SIMD_3SAME,
+    INST_CMLE_SIMD_2REG_MISC,
+    INST_CMLT_SIMD_2REG_MISC,
     INST_CMN_ADDSUB_EXT,
     INST_CMN_ADDSUB_IMM,
     INST_CMN_ADDSUB_SHIFT,
     INST_CMP_ADDSUB_EXT,
     INST_CMP_ADDSUB_IMM,
     INST_CMP_ADDSUB_SHIFT,
+    INST_CMPEQ_SVE_COMPARE,
+    INST_CMPEQ_SVE_COMPARE_IMM,
+    INST_CMPGE_SVE_COMPARE,
+    INST_CMPGE_SVE_COMPARE_IMM,
+    INST_CMPGT_SVE_COMPARE,
+    INST_CMPGT_SVE_COMPARE_IMM,
+    INST_CMPHI_SVE_COMPARE,
+    INST_CMPHS_SVE_COMPARE,
+    INST_CMPLE_SVE_COMPARE_IMM,
+    INST_CMPLT_SVE_COMPARE_IMM,
+    INST_CMPNE_SVE_COMPARE,
+    INST_CMPNE_SVE_COMPARE_IMM,
+    INST_CMTST_SIMD_3SAME,
     INST_CNEG_CONDSEL,
+    INST_CNT_SIMD_2REG_MISC,
+    INST_CNTB_SVE_ELT_COUNT,
+    INST_CNTD_SVE_ELT_COUNT,
+    INST_CNTH_SVE_ELT_COUNT,
+    INST_CNTP_SVE_PRED_LOGIC,
+    INST_CNTW_SVE_ELT_COUNT,
+    INST_CPYE_MOPS,
+    INST_CPYFE_MOPS,
+    INST_CPYFM_MOPS,
+    INST_CPYFP_MOPS,
+    INST_CPYM_MOPS,
+    INST_CPYP_MOPS,
+    INST_CRC32B_DP_2SRC,
+    INST_CRC32CB_DP_2SRC,
+    INST_CRC32CH_DP_2SRC,
+    INST_CRC32CW_DP_2SRC,
+    INST_CRC32CX_DP_2SRC,
+    INST_CRC32H_DP_2SRC,
+    INST_CRC32W_DP_2SRC,
+    INST_CRC32X_DP_2SRC,
     INST_CSEL_CONDSEL,
     INST_CSET_CONDSEL,
     INST_CSETM_CONDSEL,
@@ -94,22 +182,128 @@ public enum INST_CODE {
     INST_CSINV_CONDSEL,
     INST_CSNEG_CONDSEL,
     INST_DC_IC_SYSTEM,
+    INST_DC_IC_SYSTEM_ZVA,
     INST_DCPS1_EXCEPTION,
     INST_DCPS2_EXCEPTION,
     INST_DCPS3_EXCEPTION,
+    INST_DECB_SVE_ELT_COUNT,
+    INST_DECD_SVE_ELT_COUNT,
+    INST_DECH_SVE_ELT_COUNT,
+    INST_DECW_SVE_ELT_COUNT,
     INST_DMB_IC_SYSTEM,
     INST_DRPS_BRANCH_REG,
     INST_DSB_IC_SYSTEM,
+    INST_DUP_SIMD_COPY,
+    INST_DUP_SIMD_COPY_GP,
+    INST_DUP_SVE_DUP,
+    INST_DUP_SVE_DUP_GP,
     INST_EON_LOG_SHIFT,
     INST_EOR_LOG_IMM,
     INST_EOR_LOG_SHIFT,
+    INST_EOR_SIMD_3SAME,
+    INST_EOR_SVE_ARITH,
+    INST_EOR_SVE_ARITH_PRED,
+    INST_EOR_SVE_PRED_LOGIC,
+    INST_EOR3_SVE_TERNARY,
+    INST_EORV_SVE_REDUCE,
     INST_ERET_BRANCH_REG,
     INST_EXTR_EXTRACT,
+    INST_FABS_FP_1SRC,
+    INST_FADD_FP_2SRC,
+    INST_FADD_SVE_ARITH,
+    INST_FADD_SVE_ARITH_PRED,
+    INST_FADDV_SVE_REDUCE,
+    INST_FCMP_FP_COMPARE,
+    INST_FCMPE_FP_COMPARE,
+    INST_FCSEL_FP_CONDSEL,
+    INST_FCVT_FP_1SRC,
+    INST_FCVTAS_FP_INT,
+    INST_FCVTAU_FP_INT,
+    INST_FCVTMS_FP_INT,
+    INST_FCVTMU_FP_INT,
+    INST_FCVTNS_FP_INT,
+    INST_FCVTNU_FP_INT,
+    INST_FCVTPS_FP_INT,
+    INST_FCVTPU_FP_INT,
+    INST_FCVTZS_FP_INT,
+    INST_FCVTZU_FP_INT,
+    INST_FDIV_FP_2SRC,
+    INST_FDIV_SVE_ARITH_PRED,
+    INST_FMADD_FP_3SRC,
+    INST_FMAX_FP_2SRC,
+    INST_FMAX_SVE_ARITH_PRED,
+    INST_FMAXNM_FP_2SRC,
+    INST_FMAXV_SVE_REDUCE,
+    INST_FMIN_FP_2SRC,
+    INST_FMIN_SVE_ARITH_PRED,
+    INST_FMINNM_FP_2SRC,
+    INST_FMINV_SVE_REDUCE,
+    INST_FMLA_SVE_MLA,
+    INST_FMLS_SVE_MLA,
+    INST_FMOV_FP_1SRC,
+    INST_FMOV_FP_IMM,
+    INST_FMOV_FP_INT,
+    INST_FMSUB_FP_3SRC,
+    INST_FMUL_FP_2SRC,
+    INST_FMUL_SVE_ARITH,
+    INST_FMUL_SVE_ARITH_PRED,
+    INST_FNEG_FP_1SRC,
+    INST_FNMADD_FP_3SRC,
+    INST_FNMSUB_FP_3SRC,
+    INST_FNMUL_FP_2SRC,
+    INST_FRINTA_FP_1SRC,
+    INST_FRINTI_FP_1SRC,
+    INST_FRINTM_FP_1SRC,
+    INST_FRINTN_FP_1SRC,
+    INST_FRINTP_FP_1SRC,
+    INST_FRINTX_FP_1SRC,
+    INST_FRINTZ_FP_1SRC,
+    INST_FSQRT_FP_1SRC,
+    INST_FSUB_FP_2SRC,
+    INST_FSUB_SVE_ARITH,
+    INST_FSUB_SVE_ARITH_PRED,
     INST_HINT_IC_SYSTEM,
     INST_HLT_EXCEPTION,
     INST_HVC_EXCEPTION,
     INST_IC_IC_SYSTEM,
+    INST_INCB_SVE_ELT_COUNT,
+    INST_INCD_SVE_ELT_COUNT,
+    INST_INCH_SVE_ELT_COUNT,
+    INST_INCW_SVE_ELT_COUNT,
+    INST_INDEX_SVE_DUP,
+    INST_INS_SIMD_COPY,
+    INST_INS_SIMD_COPY_GP,
     INST_ISB_IC_SYSTEM,
+    INST_LD1_SIMD_LDST_MULT,
+    INST_LD1B_SVE_LDST,
+    INST_LD1B_SVE_LDST_REG,
+    INST_LD1D_SVE_LDST,
+    INST_LD1D_SVE_LDST_REG,
+    INST_LD1H_SVE_LDST,
+    INST_LD1H_SVE_LDST_REG,
+    INST_LD1W_SVE_LDST,
+    INST_LD1W_SVE_LDST_REG,
+    INST_LD2_SIMD_LDST_MULT,
+    INST_LD3_SIMD_LDST_MULT,
+    INST_LD4_SIMD_LDST_MULT,
+    INST_LDADD_LDST_ATOMIC,
+    INST_LDADDA_LDST_ATOMIC,
+    INST_LDADDAB_LDST_ATOMIC,
+    INST_LDADDAH_LDST_ATOMIC,
+    INST_LDADDAL_LDST_ATOMIC,
+    INST_LDADDALB_LDST_ATOMIC,
+    INST_LDADDALH_LDST_ATOMIC,
+    INST_LDADDB_LDST_ATOMIC,
+    INST_LDADDH_LDST_ATOMIC,
+    INST_LDADDL_LDST_ATOMIC,
+    INST_LDADDLB_LDST_ATOMIC,
+    INST_LDADDLH_LDST_ATOMIC,
+    INST_LDAPR_LDSTEXCL,
+    INST_LDAPRB_LDSTEXCL,
+    INST_LDAPRH_LDSTEXCL,
+    INST_LDAPUR_LDAPSTL_UNSCALED,
+    INST_LDAPURB_LDAPSTL_UNSCALED,
+    INST_LDAPURH_LDAPSTL_UNSCALED,
     INST_LDAR_LDSTEXCL,
     INST_LDARB_LDSTEXCL,
     INST_LDARH_LDSTEXCL,
@@ -117,6 +311,30 @@ public enum INST_CODE {
     INST_LDAXR_LDSTEXCL,
     INST_LDAXRB_LDSTEXCL,
     INST_LDAXRH_LDSTEXCL,
+    INST_LDCLR_LDST_ATOMIC,
+    INST_LDCLRA_LDST_ATOMIC,
+    INST_LDCLRAB_LDST_ATOMIC,
+    INST_LDCLRAH_LDST_ATOMIC,
+    INST_LDCLRAL_LDST_ATOMIC,
+    INST_LDCLRALB_LDST_ATOMIC,
+    INST_LDCLRALH_LDST_ATOMIC,
+    INST_LDCLRB_LDST_ATOMIC,
+    INST_LDCLRH_LDST_ATOMIC,
+    INST_LDCLRL_LDST_ATOMIC,
+    INST_LDCLRLB_LDST_ATOMIC,
+    INST_LDCLRLH_LDST_ATOMIC,
+    INST_LDEOR_LDST_ATOMIC,
+    INST_LDEORA_LDST_ATOMIC,
+    INST_LDEORAB_LDST_ATOMIC,
+    INST_LDEORAH_LDST_ATOMIC,
+    INST_LDEORAL_LDST_ATOMIC,
+    INST_LDEORALB_LDST_ATOMIC,
+    INST_LDEORALH_LDST_ATOMIC,
+    INST_LDEORB_LDST_ATOMIC,
+    INST_LDEORH_LDST_ATOMIC,
+    INST_LDEORL_LDST_ATOMIC,
+    INST_LDEORLB_LDST_ATOMIC,
+    INST_LDEORLH_LDST_ATOMIC,
     INST_LDNP_LDSTNAPAIR_OFFS,
     INST_LDNP_LDSTNAPAIR_OFFS_V,
     INST_LDP_POST_INDEXED_IDST_IMM9,
@@ -132,6 +350,8 @@ public enum INST_CODE {
     INST_LDR_REG,
     INST_LDR_IMM_PRE,
     INST_LDR_LOADLIT,
+    INST_LDR_SVE_FILL,
+    INST_LDR_SVE_FILL_PRED,
     INST_LDRB_IMM_POST,
     INST_LDRB_IMM_PRE,
     INST_LDRB_IMM_OFF,
@@ -153,12 +373,72 @@ public enum INST_CODE {
     INST_LDRSW_IMM_OFF,
     INST_LDRSW_REG,
     INST_LDRSW_LOADLIT,
+    INST_LDSET_LDST_ATOMIC,
+    INST_LDSETA_LDST_ATOMIC,
+    INST_LDSETAB_LDST_ATOMIC,
+    INST_LDSETAH_LDST_ATOMIC,
+    INST_LDSETAL_LDST_ATOMIC,
+    INST_LDSETALB_LDST_ATOMIC,
+    INST_LDSETALH_LDST_ATOMIC,
+    INST_LDSETB_LDST_ATOMIC,
+    INST_LDSETH_LDST_ATOMIC,
+    INST_LDSETL_LDST_ATOMIC,
+    INST_LDSETLB_LDST_ATOMIC,
+    INST_LDSETLH_LDST_ATOMIC,
+    INST_LDSMAX_LDST_ATOMIC,
+    INST_LDSMAXA_LDST_ATOMIC,
+    INST_LDSMAXAB_LDST_ATOMIC,
+    INST_LDSMAXAH_LDST_ATOMIC,
+    INST_LDSMAXAL_LDST_ATOMIC,
+    INST_LDSMAXALB_LDST_ATOMIC,
+    INST_LDSMAXALH_LDST_ATOMIC,
+    INST_LDSMAXB_LDST_ATOMIC,
+    INST_LDSMAXH_LDST_ATOMIC,
+    INST_LDSMAXL_LDST_ATOMIC,
+    INST_LDSMAXLB_LDST_ATOMIC,
+    INST_LDSMAXLH_LDST_ATOMIC,
+    INST_LDSMIN_LDST_ATOMIC,
+    INST_LDSMINA_LDST_ATOMIC,
+    INST_LDSMINAB_LDST_ATOMIC,
+    INST_LDSMINAH_LDST_ATOMIC,
+    INST_LDSMINAL_LDST_ATOMIC,
+    INST_LDSMINALB_LDST_ATOMIC,
+    INST_LDSMINALH_LDST_ATOMIC,
+    INST_LDSMINB_LDST_ATOMIC,
+    INST_LDSMINH_LDST_ATOMIC,
+    INST_LDSMINL_LDST_ATOMIC,
+    INST_LDSMINLB_LDST_ATOMIC,
+    INST_LDSMINLH_LDST_ATOMIC,
     INST_LDTR_LDST_UNPRIV,
     INST_LDTRB_LDST_UNPRIV,
     INST_LDTRH_LDST_UNPRIV,
     INST_LDTRSB_LDST_UNPRIV,
     INST_LDTRSH_LDST_UNPRIV,
     INST_LDTRSW_LDST_UNPRIV,
+    INST_LDUMAX_LDST_ATOMIC,
+    INST_LDUMAXA_LDST_ATOMIC,
+    INST_LDUMAXAB_LDST_ATOMIC,
+    INST_LDUMAXAH_LDST_ATOMIC,
+    INST_LDUMAXAL_LDST_ATOMIC,
+    INST_LDUMAXALB_LDST_ATOMIC,
+    INST_LDUMAXALH_LDST_ATOMIC,
+    INST_LDUMAXB_LDST_ATOMIC,
+    INST_LDUMAXH_LDST_ATOMIC,
+    INST_LDUMAXL_LDST_ATOMIC,
+    INST_LDUMAXLB_LDST_ATOMIC,
+    INST_LDUMAXLH_LDST_ATOMIC,
+    INST_LDUMIN_LDST_ATOMIC,
+    INST_LDUMINA_LDST_ATOMIC,
+    INST_LDUMINAB_LDST_ATOMIC,
+    INST_LDUMINAH_LDST_ATOMIC,
+    INST_LDUMINAL_LDST_ATOMIC,
+    INST_LDUMINALB_LDST_ATOMIC,
+    INST_LDUMINALH_LDST_ATOMIC,
+    INST_LDUMINB_LDST_ATOMIC,
+    INST_LDUMINH_LDST_ATOMIC,
+    INST_LDUMINL_LDST_ATOMIC,
+    INST_LDUMINLB_LDST_ATOMIC,
+    INST_LDUMINLH_LDST_ATOMIC,
     INST_LDUR_LDST_UNSCALED,
     INST_LDUR_LDST_UNSCALED_X,
     INST_LDURB_LDST_UNSCALED,
@@ -177,6 +457,9 @@ public enum INST_CODE {
     INST_LSR_DP_2SRC,
     INST_LSRV_DP_2SRC,
     INST_MADD_DP_3SRC,
+    INST_MLA_SIMD_3SAME,
+    INST_MLA_SVE_MLA,
+    INST_MLS_SVE_MLA,
     INST_MNEG_DP_3SRC,
     INST_MOV_ADDSUB_IMM,
     INST_MOV_LOG_IMM,
@@ -191,46 +474,126 @@ public enum INST_CODE {
     INST_MSR_IC_SYSTEM_X,
     INST_MSUB_DP_3SRC,
     INST_MUL_DP_3SRC,
+    INST_MUL_SIMD_3SAME,
+    INST_MUL_SVE_ARITH,
+    INST_MUL_SVE_ARITH_PRED,
     INST_MVN_LOG_SHIFT,
     INST_NEG_ADDSUB_SHIFT,
+    INST_NEG_SIMD_2REG_MISC,
     INST_NEGS_ADDSUB_SHIFT,
     INST_NGC_ADDSUB_CARRY,
     INST_NGCS_ADDSUB_CARRY,
     INST_NOP_IC_SYSTEM,
+    INST_NOT_SIMD_2REG_MISC,
     INST_ORN_LOG_SHIFT,
+    INST_ORN_SIMD_3SAME,
+    INST_ORN_SVE_PRED_LOGIC,
     INST_ORR_LOG_IMM,
     INST_ORR_LOG_SHIFT,
+    INST_ORR_SIMD_3SAME,
+    INST_ORR_SVE_ARITH,
+    INST_ORR_SVE_ARITH_PRED,
+    INST_ORR_SVE_PRED_LOGIC,
+    INST_ORV_SVE_REDUCE,
+    INST_PFALSE_SVE_PRED_GEN,
+    INST_PMULL_SIMD_3DIFF,
+    INST_PMULL2_SIMD_3DIFF,
     INST_PRFM_LDST_POS__IMMEDIATE,
     INST_PRFM_LDST_REGOFF__REGISTER,
     INST_PRFM_LDST_UNSCALED,
     INST_PRFM_LOADLIT__LITERAL,
     INST_PRFUM_LDST_UNSCALED,
+    INST_PTEST_SVE_PRED_LOGIC,
+    INST_PTRUE_SVE_PRED_GEN,
+    INST_PTRUES_SVE_PRED_GEN,
     INST_RBIT_DP_1SRC,
+    INST_RBIT_SIMD_2REG_MISC,
+    INST_RDVL_SVE_VL,
     INST_RET_BRANCH_REG,
     INST_REV_DP_1SRC,
     INST_REV_DP_1SRC_X,
     INST_REV16_DP_1SRC,
+    INST_REV16_SIMD_2REG_MISC,
     INST_REV32_DP_1SRC,
+    INST_REV32_SIMD_2REG_MISC,
+    INST_REV64_SIMD_2REG_MISC,
     INST_ROR_DP_2SRC,
     INST_ROR_EXTRACT,
     INST_RORV_DP_2SRC,
+    INST_SADDLP_SIMD_2REG_MISC,
+    INST_SADDLV_SIMD_ACROSS,
+    INST_SADDV_SVE_REDUCE,
     INST_SBC_ADDSUB_CARRY,
     INST_SBCS_ADDSUB_CARRY,
     INST_SBFIZ_BITFIELD,
     INST_SBFM_BITFIELD,
     INST_SBFX_BITFIELD,
+    INST_SCVTF_FP_INT,
     INST_SDIV_DP_2SRC,
+    INST_SDIV_SVE_ARITH_PRED,
+    INST_SETE_MOPS,
+    INST_SETM_MOPS,
+    INST_SETP_MOPS,
     INST_SEV_IC_SYSTEM,
     INST_SEVL_IC_SYSTEM,
+    INST_SHA1C_CRYPTO_SHA3REG,
+    INST_SHA1H_CRYPTO_SHA2REG,
+    INST_SHA1M_CRYPTO_SHA3REG,
+    INST_SHA1P_CRYPTO_SHA3REG,
+    INST_SHA1SU0_CRYPTO_SHA3REG,
+    INST_SHA1SU1_CRYPTO_SHA2REG,
+    INST_SHA256H_CRYPTO_SHA3REG,
+    INST_SHA256H2_CRYPTO_SHA3REG,
+    INST_SHA256SU0_CRYPTO_SHA2REG,
+    INST_SHA256SU1_CRYPTO_SHA3REG,
+    INST_SHL_SIMD_SHIFT_IMM,
+    INST_SHRN_SIMD_SHIFT_IMM,
+    INST_SLI_SIMD_SHIFT_IMM,
     INST_SMADDL_DP_3SRC,
+    INST_SMAX_SIMD_3SAME,
+    INST_SMAX_SVE_ARITH_PRED,
+    INST_SMAXP_SIMD_3SAME,
+    INST_SMAXV_SIMD_ACROSS,
+    INST_SMAXV_SVE_REDUCE,
     INST_SMC_EXCEPTION,
+    INST_SMIN_SIMD_3SAME,
+    INST_SMIN_SVE_ARITH_PRED,
+    INST_SMINP_SIMD_3SAME,
+    INST_SMINV_SIMD_ACROSS,
+    INST_SMINV_SVE_REDUCE,
     INST_SMNEGL_DP_3SRC,
+    INST_SMOV_SIMD_COPY,
     INST_SMSUBL_DP_3SRC,
     INST_SMULH_DP_3SRC,
     INST_SMULL_DP_3SRC,
+    INST_SQADD_SIMD_3SAME,
+    INST_SQADD_SVE_ARITH,
+    INST_SQSUB_SIMD_3SAME,
+    INST_SQSUB_SVE_ARITH,
+    INST_SRI_SIMD_SHIFT_IMM,
+    INST_SRSHR_SIMD_SHIFT_IMM,
+    INST_SSHL_SIMD_3SAME,
+    INST_SSHLL_SIMD_SHIFT_IMM,
+    INST_SSHR_SIMD_SHIFT_IMM,
+    INST_SSRA_SIMD_SHIFT_IMM,
+    INST_ST1_SIMD_LDST_MULT,
+    INST_ST1B_SVE_LDST,
+    INST_ST1B_SVE_LDST_REG,
+    INST_ST1D_SVE_LDST,
+    INST_ST1D_SVE_LDST_REG,
+    INST_ST1H_SVE_LDST,
+    INST_ST1H_SVE_LDST_REG,
+    INST_ST1W_SVE_LDST,
+    INST_ST1W_SVE_LDST_REG,
+    INST_ST2_SIMD_LDST_MULT,
+    INST_ST3_SIMD_LDST_MULT,
+    INST_ST4_SIMD_LDST_MULT,
     INST_STLR_LDSTEXCL,
     INST_STLRB_LDSTEXCL,
     INST_STLRH_LDSTEXCL,
+    INST_STLUR_LDAPSTL_UNSCALED,
+    INST_STLURB_LDAPSTL_UNSCALED,
+    INST_STLURH_LDAPSTL_UNSCALED,
     INST_STLXP_LDSTEXCL,
     INST_STLXR_LDSTEXCL,
     INST_STLXRB_LDSTEXCL,
@@ -244,6 +607,8 @@ public enum INST_CODE {
     INST_STR_LDST_IMM9_POST,
     INST_STR_LDST_POS,
     INST_STR_LDST_REGOFF,
+    INST_STR_SVE_FILL,
+    INST_STR_SVE_FILL_PRED,
     INST_STRB_LDST_IMM9_POST,
     INST_STRB_LDST_OFFSET,
     INST_STRB_LDST_REGOFF,
@@ -266,35 +631,89 @@ public enum INST_CODE {
     INST_SUB_ADDSUB_EXT,
     INST_SUB_ADDSUB_IMM,
     INST_SUB_ADDSUB_SHIFT,
+    INST_SUB_SIMD_3SAME,
+    INST_SUB_SVE_ARITH,
+    INST_SUB_SVE_ARITH_PRED,
+    INST_SUBR_SVE_ARITH_PRED,
     INST_SUBS_ADDSUB_EXT,
     INST_SUBS_ADDSUB_IMM,
     INST_SUBS_ADDSUB_SHIFT,
     INST_SVC_EXCEPTION,
+    INST_SWP_LDST_ATOMIC,
+    INST_SWPA_LDST_ATOMIC,
+    INST_SWPAB_LDST_ATOMIC,
+    INST_SWPAH_LDST_ATOMIC,
+    INST_SWPAL_LDST_ATOMIC,
+    INST_SWPALB_LDST_ATOMIC,
+    INST_SWPALH_LDST_ATOMIC,
+    INST_SWPB_LDST_ATOMIC,
+    INST_SWPH_LDST_ATOMIC,
+    INST_SWPL_LDST_ATOMIC,
+    INST_SWPLB_LDST_ATOMIC,
+    INST_SWPLH_LDST_ATOMIC,
     INST_SXTB_BITFIELD,
     INST_SXTH_BITFIELD,
     INST_SXTW_BITFIELD,
     INST_SYS_IC_SYSTEM,
     INST_SYSL_IC_SYSTEM,
+    INST_TBL_SIMD_TBL,
     INST_TBNZ_TESTBRANCH,
+    INST_TBX_SIMD_TBL,
     INST_TBZ_TESTBRANCH,
     INST_TLBI_IC_SYSTEM,
+    INST_TRN1_SIMD_PERMUTE,
+    INST_TRN2_SIMD_PERMUTE,
     INST_TST_LOG_IMM,
     INST_TST_LOG_SHIFT,
+    INST_UADDLP_SIMD_2REG_MISC,
+    INST_UADDLV_SIMD_ACROSS,
+    INST_UADDV_SVE_REDUCE,
     INST_UBFIZ_BITFIELD,
     INST_UBFM_BITFIELD,
     INST_UBFX_BITFIELD,
+    INST_UCVTF_FP_INT,
     INST_UDIV_DP_2SRC,
+    INST_UDIV_SVE_ARITH_PRED,
     INST_UMADDL_DP_3SRC,
+    INST_UMAX_SIMD_3SAME,
+    INST_UMAX_SVE_ARITH_PRED,
+    INST_UMAXP_SIMD_3SAME,
+    INST_UMAXV_SIMD_ACROSS,
+    INST_UMAXV_SVE_REDUCE,
+    INST_UMIN_SIMD_3SAME,
+    INST_UMIN_SVE_ARITH_PRED,
+    INST_UMINP_SIMD_3SAME,
+    INST_UMINV_SIMD_ACROSS,
+    INST_UMINV_SVE_REDUCE,
     INST_UMNEGL_DP_3SRC,
+    INST_UMOV_SIMD_COPY,
     INST_UMSUBL_DP_3SRC,
     INST_UMULH_DP_3SRC,
     INST_UMULL_DP_3SRC,
+    INST_UQADD_SIMD_3SAME,
+    INST_UQADD_SVE_ARITH,
+    INST_UQSUB_SIMD_3SAME,
+    INST_UQSUB_SVE_ARITH,
+    INST_URSHR_SIMD_SHIFT_IMM,
+    INST_USHL_SIMD_3SAME,
+    INST_USHLL_SIMD_SHIFT_IMM,
+    INST_USHR_SIMD_SHIFT_IMM,
+    INST_USRA_SIMD_SHIFT_IMM,
     INST_UXTB_BITFIELD,
     INST_UXTH_BITFIELD,
     INST_UXTW_LOG_SHIFT,
+    INST_UZP1_SIMD_PERMUTE,
+    INST_UZP2_SIMD_PERMUTE,
     INST_WFE_IC_SYSTEM,
     INST_WFI_IC_SYSTEM,
-    INST_YIELD_IC_SYSTEM;
+    INST_WHILELE_SVE_WHILE,
+    INST_WHILELO_SVE_WHILE,
+    INST_WHILELS_SVE_WHILE,
+    INST_WHILELT_SVE_WHILE,
+    INST_XTN_SIMD_2REG_MISC,
+    INST_YIELD_IC_SYSTEM,
+    INST_ZIP1_SIMD_PERMUTE,
+    INST_ZIP2_SIMD_PERMUTE;
 
     public static final INST_CODE valueOf(int idx) {
         return values()[idx];
@@ -20,8 +20,6 @@
 
 package jnr.a64asm;
 
-import java.util.EnumMap;
-import java.util.Map;
 import static jnr.a64asm.INST_CODE.*;
 import static jnr.a64asm.InstructionGroup.*;
 
@@ -30,13 +28,18 @@ public final class InstructionDescription {
     final int opcode;
     final int mask;
     final InstructionGroup group;
+    final InstructionEncoder encoder;
+    //! @brief Timing class, see CpuInfo.
+    final CpuInfo.InstructionClass iclass;
+    //! @brief Optional architecture features (CpuInfo.FEATURE_*) the instruction needs, 0 if none.
+    final int feature;
 
-    private static final Map<INST_CODE, InstructionDescription> table
-            = new EnumMap<INST_CODE, InstructionDescription>(INST_CODE.class);
+    /** Descriptions indexed by {@link INST_CODE#ordinal()}. */
+    private static final InstructionDescription[] table = new InstructionDescription[INST_CODE.values().length];
 
     private static final InstructionDescription MAKE_INST(INST_CODE code, int opcode, int mask, InstructionGroup group){
         InstructionDescription id = new InstructionDescription(code, opcode, mask, group);
-        table.put(code, id);
+        table[code.ordinal()] = id;
         return id;
     }
 
@@ -45,11 +48,151 @@ public final class InstructionDescription {
         this.opcode = opCode;
         this.mask = mask;
         this.group = group;
+        this.encoder = InstructionEncoder.forGroup(group);
+        this.iclass = classify(code, group);
+        this.feature = featureOf(code, group);
+    }
+
+    //! @brief Return the features (CpuInfo.FEATURE_*) the assembler checks before emitting @a code.
+    private static int featureOf(INST_CODE code, InstructionGroup group) {
+        switch (group) {
+            case dp_2src:
+                return isCrc32(code) ? CpuInfo.FEATURE_CRC32 : 0;
+            case crypto_aes:
+                return CpuInfo.FEATURE_AES;
+            case mops:
+                return CpuInfo.FEATURE_MOPS;
+            case ldst_atomic:
+            case ldst_cas:
+                return CpuInfo.FEATURE_LSE;
+            case ldstexcl:
+                return code.name().startsWith("INST_LDAPR") ? CpuInfo.FEATURE_RCPC : 0;
+            case ldapstl_unscaled:
+                return CpuInfo.FEATURE_RCPC2;
+            case crypto_sha2reg:
+            case crypto_sha3reg:
+                return code.name().startsWith("INST_SHA1") ? CpuInfo.FEATURE_SHA1 : CpuInfo.FEATURE_SHA2;
+            case sve_ternary:
+                return CpuInfo.FEATURE_SVE2;
+            case sve_arith:
+                return code == INST_MUL_SVE_ARITH ? CpuInfo.FEATURE_SVE2 : CpuInfo.FEATURE_SVE;
+            case sve_arith_pred:
+            case sve_compare:
+            case sve_dup:
+            case sve_elt_count:
+            case sve_fill:
+            case sve_ldst:
+            case sve_mla:
+            case sve_pred_gen:
+            case sve_pred_logic:
+            case sve_reduce:
+            case sve_vl:
+            case sve_while:
+                return CpuInfo.FEATURE_SVE;
+            default:
+                return 0;
+        }
+    }
+
+    private static boolean isCrc32(INST_CODE code) {
+        switch (code) {
+            case INST_CRC32B_DP_2SRC:
+            case INST_CRC32H_DP_2SRC:
+            case INST_CRC32W_DP_2SRC:
+            case INST_CRC32X_DP_2SRC:
+            case INST_CRC32CB_DP_2SRC:
+            case INST_CRC32CH_DP_2SRC:
+            case INST_CRC32CW_DP_2SRC:
+            case INST_CRC32CX_DP_2SRC:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static CpuInfo.InstructionClass classify(INST_CODE code, InstructionGroup group) {
+        switch (group) {
+            case dp_2src:
+                if (isCrc32(code)) {
+                    return CpuInfo.InstructionClass.MUL;        /*multi-cycle integer pipeline*/
+                }
+                return code == INST_SDIV_DP_2SRC || code == INST_UDIV_DP_2SRC ? CpuInfo.InstructionClass.DIV : CpuInfo.InstructionClass.ALU;
+            case dp_3src:
+                return CpuInfo.InstructionClass.MUL;
+            case fp_1src:
+                return code == INST_FSQRT_FP_1SRC ? CpuInfo.InstructionClass.FP_DIV : CpuInfo.InstructionClass.FP;
+            case fp_2src:
+                return code == INST_FDIV_FP_2SRC ? CpuInfo.InstructionClass.FP_DIV : CpuInfo.InstructionClass.FP;
+            case fp_3src:
+            case fp_compare:
+            case fp_condsel:
+            case fp_imm:
+            case fp_int:
+                return CpuInfo.InstructionClass.FP;
+            case crypto_aes:
+            case crypto_sha2reg:
+            case crypto_sha3reg:
+            case simd_3diff:
+                return CpuInfo.InstructionClass.CRYPTO;
+            case simd_3same:
+            case simd_2reg_misc:
+            case simd_across:
+            case simd_copy:
+            case simd_permute:
+            case simd_shift_imm:
+            case simd_tbl:
+            case sve_arith:
+            case sve_compare:
+            case sve_dup:
+            case sve_mla:
+            case sve_pred_gen:
+            case sve_pred_logic:
+            case sve_reduce:
+            case sve_ternary:
+            case sve_while:
+                return CpuInfo.InstructionClass.SIMD;
+            case sve_arith_pred:
+                return code == INST_SDIV_SVE_ARITH_PRED || code == INST_UDIV_SVE_ARITH_PRED || code == INST_FDIV_SVE_ARITH_PRED
+                        ? CpuInfo.InstructionClass.FP_DIV : CpuInfo.InstructionClass.SIMD;
+            case branch_imm:
+            case branch_reg:
+            case compbranch:
+            case condbranch:
+            case testbranch:
+                return CpuInfo.InstructionClass.BRANCH;
+            case ldst_imm9:
+            case ldst_pos:
+            case ldst_imm9_2reg:
+            case ldst_pos_2reg:
+            case ldst_regoff:
+            case ldst_unpriv:
+            case ldst_unscaled:
+            case ldstnapair_offs:
+            case ldstpair_off:
+            case ldstpair_indexed:
+            case loadlit:
+            case simd_ldst_mult:
+            case sve_fill:
+            case sve_ldst:
+                return code.name().startsWith("INST_ST") ? CpuInfo.InstructionClass.STORE : CpuInfo.InstructionClass.LOAD;
+            case ldstexcl:          /*exclusive and ordered accesses are kept in place*/
+            case ldstexcl_op3:
+            case ldstexcl_op4:
+            case ldapstl_unscaled:
+            case ldst_atomic:
+            case ldst_cas:
+            case mops:              /*the prologue, main and epilogue instructions must stay together*/
+            case exception:
+            case ic_system:
+                return CpuInfo.InstructionClass.SYSTEM;
+            default:
+                return CpuInfo.InstructionClass.ALU;
+        }
     }
 
     public static final InstructionDescription find(INST_CODE code) {
 
-        InstructionDescription id = table.get(code);
+        InstructionDescription id = table[code.ordinal()];
         if (id == null) {
             throw new IllegalArgumentException("no description for " + code);
         }
@@ -59,26 +202,44 @@ public final class InstructionDescription {
 
     private static final InstructionDescription[] all = {
         // Instruction code (enum)      | instruction name   | group           | operator 1 flags| operator 2 flags| r| opCode1   | opcode2
+        MAKE_INST(INST_ABS_SIMD_2REG_MISC, 0x0e20b800, 0xbf3ffc00, simd_2reg_misc),
         MAKE_INST(INST_ADC_ADDSUB_CARRY, 0x1a000000, 0x7fe0fc00, addsub_carry),
         MAKE_INST(INST_ADCS_ADDSUB_CARRY, 0x3a000000, 0x7fe0fc00, addsub_carry),
         MAKE_INST(INST_ADD_ADDSUB_IMM, 0x11000000, 0x7f000000, addsub_imm),
         MAKE_INST(INST_ADD_ADDSUB_SHIFT, 0xb000000, 0x7f200000, addsub_shift),
+        MAKE_INST(INST_ADD_SIMD_3SAME, 0x0e208400, 0xbf20fc00, simd_3same),
+        MAKE_INST(INST_ADD_SVE_ARITH, 0x04200000, 0xff20fc00, sve_arith),
+        MAKE_INST(INST_ADD_SVE_ARITH_PRED, 0x04000000, 0xff3fe000, sve_arith_pred),
+        MAKE_INST(INST_ADDP_SIMD_3SAME, 0x0e20bc00, 0xbf20fc00, simd_3same),
+        MAKE_INST(INST_ADDPL_SVE_VL, 0x04605000, 0xffe0f800, sve_vl),
         MAKE_INST(INST_ADDS_ADDSUB_IMM, 0x31000000, 0x7f000000, addsub_imm),
         MAKE_INST(INST_ADD_EXT_ADDSUB_EXT, 0x0b200000, 0x7fe00000, addsub_ext),
         MAKE_INST(INST_ADDS_ADDSUB_EXT, 0x2b200000, 0x7fe00000, addsub_ext),
         MAKE_INST(INST_ADDS_ADDSUB_SHIFT, 0x2b000000, 0x7f200000, addsub_shift),
+        MAKE_INST(INST_ADDV_SIMD_ACROSS, 0x0e31b800, 0xbf3ffc00, simd_across),
+        MAKE_INST(INST_ADDVL_SVE_VL, 0x04205000, 0xffe0f800, sve_vl),
         MAKE_INST(INST_ADR_PCRELADDR, 0x10000000, 0x9f000000, pcreladdr),
         MAKE_INST(INST_ADRP_PCRELADDR, 0x90000000, 0x9f000000, pcreladdr),
+        MAKE_INST(INST_AESD_CRYPTO_AES, 0x4e285800, 0xfffffc00, crypto_aes),
+        MAKE_INST(INST_AESE_CRYPTO_AES, 0x4e284800, 0xfffffc00, crypto_aes),
+        MAKE_INST(INST_AESIMC_CRYPTO_AES, 0x4e287800, 0xfffffc00, crypto_aes),
+        MAKE_INST(INST_AESMC_CRYPTO_AES, 0x4e286800, 0xfffffc00, crypto_aes),
         MAKE_INST(INST_AND_LOG_IMM, 0x12000000, 0x7f800000, log_imm),
         MAKE_INST(INST_AND_LOG_SHIFT, 0xa000000, 0x7f200000, log_shift),
+        MAKE_INST(INST_AND_SIMD_3SAME, 0x0e201c00, 0xbfe0fc00, simd_3same),
+        MAKE_INST(INST_AND_SVE_ARITH, 0x04203000, 0xffe0fc00, sve_arith),
+        MAKE_INST(INST_AND_SVE_ARITH_PRED, 0x041a0000, 0xff3fe000, sve_arith_pred),
+        MAKE_INST(INST_AND_SVE_PRED_LOGIC, 0x25004000, 0xfff0c210, sve_pred_logic),
         MAKE_INST(INST_ANDS_LOG_IMM, 0x72000000, 0x7f800000, log_imm),
         MAKE_INST(INST_ANDS_LOG_SHIFT, 0x6a000000, 0x7f200000, log_shift),
+        MAKE_INST(INST_ANDV_SVE_REDUCE, 0x041a2000, 0xff3fe000, sve_reduce),
         MAKE_INST(INST_ASR_BITFIELD, 0x13000000, 0x7f800000, bitfield),
         MAKE_INST(INST_ASR_DP_2SRC, 0x1ac02800, 0x7fe0fc00, dp_2src),
         MAKE_INST(INST_ASRV_DP_2SRC, 0x1ac02800, 0x7fe0fc00, dp_2src),
         MAKE_INST(INST_AT_IC_SYSTEM, 0xd5080000, 0xfff80000, ic_system),
-        MAKE_INST(INST_B_C_CONDBRANCH, 0x14000000, 0xfc000000, condbranch),
-        MAKE_INST(INST_B_BRANCH_IMM, 0x54000000, 0xff000010, branch_imm),
+        MAKE_INST(INST_B_C_CONDBRANCH, 0x54000000, 0xff000010, condbranch),
+        MAKE_INST(INST_B_BRANCH_IMM, 0x14000000, 0xfc000000, branch_imm),
+        MAKE_INST(INST_BCAX_SVE_TERNARY, 0x04603800, 0xffe0fc00, sve_ternary),
         MAKE_INST(INST_BCC_CONDBRANCH, 0x54000003, 0xff00001f, condbranch),
         MAKE_INST(INST_BCS_CONDBRANCH, 0x54000002, 0xff00001f, condbranch),
         MAKE_INST(INST_BEQ_CONDBRANCH, 0x54000000, 0xff00001f, condbranch),
@@ -91,7 +252,13 @@ public final class InstructionDescription {
         MAKE_INST(INST_BHS_CONDBRANCH, 0x54000002, 0xff00001f, condbranch),
         MAKE_INST(INST_BIC_LOG_IMM, 0x12000000, 0x7f800000, log_imm),
         MAKE_INST(INST_BIC_LOG_SHIFT, 0xa200000, 0x7f200000, log_shift),
+        MAKE_INST(INST_BIC_SIMD_3SAME, 0x0e601c00, 0xbfe0fc00, simd_3same),
+        MAKE_INST(INST_BIC_SVE_ARITH, 0x04e03000, 0xffe0fc00, sve_arith),
+        MAKE_INST(INST_BIC_SVE_ARITH_PRED, 0x041b0000, 0xff3fe000, sve_arith_pred),
+        MAKE_INST(INST_BIC_SVE_PRED_LOGIC, 0x25004010, 0xfff0c210, sve_pred_logic),
         MAKE_INST(INST_BICS_LOG_SHIFT, 0x6a200000, 0x7f200000, log_shift),
+        MAKE_INST(INST_BIF_SIMD_3SAME, 0x2ee01c00, 0xbfe0fc00, simd_3same),
+        MAKE_INST(INST_BIT_SIMD_3SAME, 0x2ea01c00, 0xbfe0fc00, simd_3same),
         MAKE_INST(INST_BL_BRANCH_IMM, 0x94000000, 0xfc000000, branch_imm),
         MAKE_INST(INST_BLE_CONDBRANCH, 0x5400000d, 0xff00001f, condbranch),
         MAKE_INST(INST_BLO_CONDBRANCH, 0x54000003, 0xff00001f, condbranch),
@@ -103,8 +270,27 @@ public final class InstructionDescription {
         MAKE_INST(INST_BPL_CONDBRANCH, 0x54000005, 0xff00001f, condbranch),
         MAKE_INST(INST_BR_BRANCH_REG, 0xd61f0000, 0xfffffc1f, branch_reg),
         MAKE_INST(INST_BRK_EXCEPTION, 0xd4200000, 0xffe0001f, exception),
+        MAKE_INST(INST_BRKA_SVE_PRED_LOGIC, 0x25104000, 0xffffc210, sve_pred_logic),
+        MAKE_INST(INST_BRKB_SVE_PRED_LOGIC, 0x25904000, 0xffffc210, sve_pred_logic),
+        MAKE_INST(INST_BSL_SIMD_3SAME, 0x2e601c00, 0xbfe0fc00, simd_3same),
         MAKE_INST(INST_BVC_CONDBRANCH, 0x54000007, 0xff00001f, condbranch),
         MAKE_INST(INST_BVS_CONDBRANCH, 0x54000006, 0xff00001f, condbranch),
+        MAKE_INST(INST_CAS_LDST_CAS, 0x88a07c00, 0xbfe0fc00, ldst_cas),
+        MAKE_INST(INST_CASA_LDST_CAS, 0x88e07c00, 0xbfe0fc00, ldst_cas),
+        MAKE_INST(INST_CASAB_LDST_CAS, 0x08e07c00, 0xffe0fc00, ldst_cas),
+        MAKE_INST(INST_CASAH_LDST_CAS, 0x48e07c00, 0xffe0fc00, ldst_cas),
+        MAKE_INST(INST_CASAL_LDST_CAS, 0x88e0fc00, 0xbfe0fc00, ldst_cas),
+        MAKE_INST(INST_CASALB_LDST_CAS, 0x08e0fc00, 0xffe0fc00, ldst_cas),
+        MAKE_INST(INST_CASALH_LDST_CAS, 0x48e0fc00, 0xffe0fc00, ldst_cas),
+        MAKE_INST(INST_CASB_LDST_CAS, 0x08a07c00, 0xffe0fc00, ldst_cas),
+        MAKE_INST(INST_CASH_LDST_CAS, 0x48a07c00, 0xffe0fc00, ldst_cas),
+        MAKE_INST(INST_CASL_LDST_CAS, 0x88a0fc00, 0xbfe0fc00, ldst_cas),
+        MAKE_INST(INST_CASLB_LDST_CAS, 0x08a0fc00, 0xffe0fc00, ldst_cas),
+        MAKE_INST(INST_CASLH_LDST_CAS, 0x48a0fc00, 0xffe0fc00, ldst_cas),
+        MAKE_INST(INST_CASP_LDST_CAS, 0x08207c00, 0xbfe0fc00, ldst_cas),
+        MAKE_INST(INST_CASPA_LDST_CAS, 0x08607c00, 0xbfe0fc00, ldst_cas),
+        MAKE_INST(INST_CASPAL_LDST_CAS, 0x0860fc00, 0xbfe0fc00, ldst_cas),
+        MAKE_INST(INST_CASPL_LDST_CAS, 0x0820fc00, 0xbfe0fc00, ldst_cas),
         MAKE_INST(INST_CBNZ_COMPBRANCH, 0x35000000, 0x7f000000, compbranch),
         MAKE_INST(INST_CBZ_COMPBRANCH, 0x34000000, 0x7f000000, compbranch),
         MAKE_INST(INST_CCMN_CONDCMP_IMM, 0x3a400800, 0x7fe00c10, condcmp_imm),
@@ -115,14 +301,59 @@ public final class InstructionDescription {
         MAKE_INST(INST_CINV_CONDSEL, 0x5a800000, 0x7fe00c00, condsel),
         MAKE_INST(INST_CLREX_IC_SYSTEM, 0xd503305f, 0xfffff0ff, ic_system),
         MAKE_INST(INST_CLS_DP_1SRC, 0x5ac01400, 0x7ffffc00, dp_1src),
+        MAKE_INST(INST_CLS_SIMD_2REG_MISC, 0x0e204800, 0xbf3ffc00, simd_2reg_misc),
         MAKE_INST(INST_CLZ_DP_1SRC, 0x5ac01000, 0x7ffffc00, dp_1src),
+        MAKE_INST(INST_CLZ_SIMD_2REG_MISC, 0x2e204800, 0xbf3ffc00, simd_2reg_misc),
+        MAKE_INST(INST_CMEQ_SIMD_2REG_MISC, 0x0e209800, 0xbf3ffc00, simd_2reg_misc),
+        MAKE_INST(INST_CMEQ_SIMD_3SAME, 0x2e208c00, 0xbf20fc00, simd_3same),
+        MAKE_INST(INST_CMGE_SIMD_2REG_MISC, 0x2e208800, 0xbf3ffc00, simd_2reg_misc),
+        MAKE_INST(INST_CMGE_SIMD_3SAME, 0x0e203c00, 0xbf20fc00, simd_3same),
+        MAKE_INST(INST_CMGT_SIMD_2REG_MISC, 0x0e208800, 0xbf3ffc00, simd_2reg_misc),
+        MAKE_INST(INST_CMGT_SIMD_3SAME, 0x0e203400, 0xbf20fc00, simd_3same),
+        MAKE_INST(INST_CMHI_SIMD_3SAME, 0x2e203400, 0xbf20fc00, simd_3same),
+        MAKE_INST(INST_CMHS_SIMD_3SAME, 0x2e203c00, 0xbf20fc00, simd_3same),
+        MAKE_INST(INST_CMLE_SIMD_2REG_MISC, 0x2e209800, 0xbf3ffc00, simd_2reg_misc),
+        MAKE_INST(INST_CMLT_SIMD_2REG_MISC, 0x0e20a800, 0xbf3ffc00, simd_2reg_misc),
         MAKE_INST(INST_CMN_ADDSUB_EXT, 0x2b20001f, 0x7fe0001f, addsub_ext),
         MAKE_INST(INST_CMN_ADDSUB_IMM, 0x3100001f, 0x7f00001f, addsub_imm),
         MAKE_INST(INST_CMN_ADDSUB_SHIFT, 0x2b00001f, 0x7f20001f, addsub_shift),
         MAKE_INST(INST_CMP_ADDSUB_EXT, 0x6b20001f, 0x7fe0001f, addsub_ext),
         MAKE_INST(INST_CMP_ADDSUB_IMM, 0x7100001f, 0x7f00001f, addsub_imm),
         MAKE_INST(INST_CMP_ADDSUB_SHIFT, 0x6b00001f, 0x7f20001f, addsub_shift),
+        MAKE_INST(INST_CMPEQ_SVE_COMPARE, 0x2400a000, 0xff20e010, sve_compare),
+        MAKE_INST(INST_CMPEQ_SVE_COMPARE_IMM, 0x25008000, 0xff20e010, sve_compare),
+        MAKE_INST(INST_CMPGE_SVE_COMPARE, 0x24008000, 0xff20e010, sve_compare),
+        MAKE_INST(INST_CMPGE_SVE_COMPARE_IMM, 0x25000000, 0xff20e010, sve_compare),
+        MAKE_INST(INST_CMPGT_SVE_COMPARE, 0x24008010, 0xff20e010, sve_compare),
+        MAKE_INST(INST_CMPGT_SVE_COMPARE_IMM, 0x25000010, 0xff20e010, sve_compare),
+        MAKE_INST(INST_CMPHI_SVE_COMPARE, 0x24000010, 0xff20e010, sve_compare),
+        MAKE_INST(INST_CMPHS_SVE_COMPARE, 0x24000000, 0xff20e010, sve_compare),
+        MAKE_INST(INST_CMPLE_SVE_COMPARE_IMM, 0x25002010, 0xff20e010, sve_compare),
+        MAKE_INST(INST_CMPLT_SVE_COMPARE_IMM, 0x25002000, 0xff20e010, sve_compare),
+        MAKE_INST(INST_CMPNE_SVE_COMPARE, 0x2400a010, 0xff20e010, sve_compare),
+        MAKE_INST(INST_CMPNE_SVE_COMPARE_IMM, 0x25008010, 0xff20e010, sve_compare),
+        MAKE_INST(INST_CMTST_SIMD_3SAME, 0x0e208c00, 0xbf20fc00, simd_3same),
         MAKE_INST(INST_CNEG_CONDSEL, 0x5a800400, 0x7fe00c00, condsel),
+        MAKE_INST(INST_CNT_SIMD_2REG_MISC, 0x0e205800, 0xbffffc00, simd_2reg_misc),
+        MAKE_INST(INST_CNTB_SVE_ELT_COUNT, 0x0420e000, 0xfff0fc00, sve_elt_count),
+        MAKE_INST(INST_CNTD_SVE_ELT_COUNT, 0x04e0e000, 0xfff0fc00, sve_elt_count),
+        MAKE_INST(INST_CNTH_SVE_ELT_COUNT, 0x0460e000, 0xfff0fc00, sve_elt_count),
+        MAKE_INST(INST_CNTP_SVE_PRED_LOGIC, 0x25208000, 0xff3fc200, sve_pred_logic),
+        MAKE_INST(INST_CNTW_SVE_ELT_COUNT, 0x04a0e000, 0xfff0fc00, sve_elt_count),
+        MAKE_INST(INST_CPYE_MOPS, 0x1d800400, 0xffe0fc00, mops),
+        MAKE_INST(INST_CPYFE_MOPS, 0x19800400, 0xffe0fc00, mops),
+        MAKE_INST(INST_CPYFM_MOPS, 0x19400400, 0xffe0fc00, mops),
+        MAKE_INST(INST_CPYFP_MOPS, 0x19000400, 0xffe0fc00, mops),
+        MAKE_INST(INST_CPYM_MOPS, 0x1d400400, 0xffe0fc00, mops),
+        MAKE_INST(INST_CPYP_MOPS, 0x1d000400, 0xffe0fc00, mops),
+        MAKE_INST(INST_CRC32B_DP_2SRC, 0x1ac04000, 0xffe0fc00, dp_2src),
+        MAKE_INST(INST_CRC32CB_DP_2SRC, 0x1ac05000, 0xffe0fc00, dp_2src),
+        MAKE_INST(INST_CRC32CH_DP_2SRC, 0x1ac05400, 0xffe0fc00, dp_2src),
+        MAKE_INST(INST_CRC32CW_DP_2SRC, 0x1ac05800, 0xffe0fc00, dp_2src),
+        MAKE_INST(INST_CRC32CX_DP_2SRC, 0x9ac05c00, 0xffe0fc00, dp_2src),
+        MAKE_INST(INST_CRC32H_DP_2SRC, 0x1ac04400, 0xffe0fc00, dp_2src),
+        MAKE_INST(INST_CRC32W_DP_2SRC, 0x1ac04800, 0xffe0fc00, dp_2src),
+        MAKE_INST(INST_CRC32X_DP_2SRC, 0x9ac04c00, 0xffe0fc00, dp_2src),
         MAKE_INST(INST_CSEL_CONDSEL, 0x1a800000, 0x7fe00c00, condsel),
         MAKE_INST(INST_CSET_CONDSEL, 0x1a9f07e0, 0x7fff0fe0, condsel),
         MAKE_INST(INST_CSETM_CONDSEL, 0x5a9f03e0, 0x7fff0fe0, condsel),
@@ -130,22 +361,128 @@ public final class InstructionDescription {
         MAKE_INST(INST_CSINV_CONDSEL, 0x5a800000, 0x7fe00c00, condsel),
         MAKE_INST(INST_CSNEG_CONDSEL, 0x5a800400, 0x7fe00c00, condsel),
         MAKE_INST(INST_DC_IC_SYSTEM, 0xd5080000, 0xfff80000, ic_system),
+        MAKE_INST(INST_DC_IC_SYSTEM_ZVA, 0xd50b7420, 0xffffffe0, ic_system),
         MAKE_INST(INST_DCPS1_EXCEPTION, 0xd4a00001, 0xffe0001f, exception),
         MAKE_INST(INST_DCPS2_EXCEPTION, 0xd4a00002, 0xffe0001f, exception),
         MAKE_INST(INST_DCPS3_EXCEPTION, 0xd4a00003, 0xffe0001f, exception),
+        MAKE_INST(INST_DECB_SVE_ELT_COUNT, 0x0430e400, 0xfff0fc00, sve_elt_count),
+        MAKE_INST(INST_DECD_SVE_ELT_COUNT, 0x04f0e400, 0xfff0fc00, sve_elt_count),
+        MAKE_INST(INST_DECH_SVE_ELT_COUNT, 0x0470e400, 0xfff0fc00, sve_elt_count),
+        MAKE_INST(INST_DECW_SVE_ELT_COUNT, 0x04b0e400, 0xfff0fc00, sve_elt_count),
         MAKE_INST(INST_DMB_IC_SYSTEM, 0xd50330bf, 0xfffff0ff, ic_system),
         MAKE_INST(INST_DRPS_BRANCH_REG, 0xd6bf03e0, 0xffffffff, branch_reg),
         MAKE_INST(INST_DSB_IC_SYSTEM, 0xd503309f, 0xfffff0ff, ic_system),
+        MAKE_INST(INST_DUP_SIMD_COPY, 0x0e000400, 0xbfe0fc00, simd_copy),
+        MAKE_INST(INST_DUP_SIMD_COPY_GP, 0x0e000c00, 0xbfe0fc00, simd_copy),
+        MAKE_INST(INST_DUP_SVE_DUP, 0x2538c000, 0xff3fc000, sve_dup),
+        MAKE_INST(INST_DUP_SVE_DUP_GP, 0x05203800, 0xff3ffc00, sve_dup),
         MAKE_INST(INST_EON_LOG_SHIFT, 0x4a200000, 0x7f200000, log_shift),
         MAKE_INST(INST_EOR_LOG_IMM, 0x52000000, 0x7f800000, log_imm),
         MAKE_INST(INST_EOR_LOG_SHIFT, 0x4a000000, 0x7f200000, log_shift),
+        MAKE_INST(INST_EOR_SIMD_3SAME, 0x2e201c00, 0xbfe0fc00, simd_3same),
+        MAKE_INST(INST_EOR_SVE_ARITH, 0x04a03000, 0xffe0fc00, sve_arith),
+        MAKE_INST(INST_EOR_SVE_ARITH_PRED, 0x04190000, 0xff3fe000, sve_arith_pred),
+        MAKE_INST(INST_EOR_SVE_PRED_LOGIC, 0x25004200, 0xfff0c210, sve_pred_logic),
+        MAKE_INST(INST_EOR3_SVE_TERNARY, 0x04203800, 0xffe0fc00, sve_ternary),
+        MAKE_INST(INST_EORV_SVE_REDUCE, 0x04192000, 0xff3fe000, sve_reduce),
         MAKE_INST(INST_ERET_BRANCH_REG, 0xd69f03e0, 0xffffffff, branch_reg),
         MAKE_INST(INST_EXTR_EXTRACT, 0x13800000, 0x7fa00000, extract),
+        MAKE_INST(INST_FABS_FP_1SRC, 0x1e20c000, 0xff3ffc00, fp_1src),
+        MAKE_INST(INST_FADD_FP_2SRC, 0x1e202800, 0xff20fc00, fp_2src),
+        MAKE_INST(INST_FADD_SVE_ARITH, 0x65000000, 0xff20fc00, sve_arith),
+        MAKE_INST(INST_FADD_SVE_ARITH_PRED, 0x65008000, 0xff3fe000, sve_arith_pred),
+        MAKE_INST(INST_FADDV_SVE_REDUCE, 0x65002000, 0xff3fe000, sve_reduce),
+        MAKE_INST(INST_FCMP_FP_COMPARE, 0x1e202000, 0xff20fc17, fp_compare),
+        MAKE_INST(INST_FCMPE_FP_COMPARE, 0x1e202010, 0xff20fc17, fp_compare),
+        MAKE_INST(INST_FCSEL_FP_CONDSEL, 0x1e200c00, 0xff200c00, fp_condsel),
+        MAKE_INST(INST_FCVT_FP_1SRC, 0x1e224000, 0xff3e7c00, fp_1src),
+        MAKE_INST(INST_FCVTAS_FP_INT, 0x1e240000, 0x7f3ffc00, fp_int),
+        MAKE_INST(INST_FCVTAU_FP_INT, 0x1e250000, 0x7f3ffc00, fp_int),
+        MAKE_INST(INST_FCVTMS_FP_INT, 0x1e300000, 0x7f3ffc00, fp_int),
+        MAKE_INST(INST_FCVTMU_FP_INT, 0x1e310000, 0x7f3ffc00, fp_int),
+        MAKE_INST(INST_FCVTNS_FP_INT, 0x1e200000, 0x7f3ffc00, fp_int),
+        MAKE_INST(INST_FCVTNU_FP_INT, 0x1e210000, 0x7f3ffc00, fp_int),
+        MAKE_INST(INST_FCVTPS_FP_INT, 0x1e280000, 0x7f3ffc00, fp_int),
+        MAKE_INST(INST_FCVTPU_FP_INT, 0x1e290000, 0x7f3ffc00, fp_int),
+        MAKE_INST(INST_FCVTZS_FP_INT, 0x1e380000, 0x7f3ffc00, fp_int),
+        MAKE_INST(INST_FCVTZU_FP_INT, 0x1e390000, 0x7f3ffc00, fp_int),
+        MAKE_INST(INST_FDIV_FP_2SRC, 0x1e201800, 0xff20fc00, fp_2src),
+        MAKE_INST(INST_FDIV_SVE_ARITH_PRED, 0x650d8000, 0xff3fe000, sve_arith_pred),
+        MAKE_INST(INST_FMADD_FP_3SRC, 0x1f000000, 0xff208000, fp_3src),
+        MAKE_INST(INST_FMAX_FP_2SRC, 0x1e204800, 0xff20fc00, fp_2src),
+        MAKE_INST(INST_FMAX_SVE_ARITH_PRED, 0x65068000, 0xff3fe000, sve_arith_pred),
+        MAKE_INST(INST_FMAXNM_FP_2SRC, 0x1e206800, 0xff20fc00, fp_2src),
+        MAKE_INST(INST_FMAXV_SVE_REDUCE, 0x65062000, 0xff3fe000, sve_reduce),
+        MAKE_INST(INST_FMIN_FP_2SRC, 0x1e205800, 0xff20fc00, fp_2src),
+        MAKE_INST(INST_FMIN_SVE_ARITH_PRED, 0x65078000, 0xff3fe000, sve_arith_pred),
+        MAKE_INST(INST_FMINNM_FP_2SRC, 0x1e207800, 0xff20fc00, fp_2src),
+        MAKE_INST(INST_FMINV_SVE_REDUCE, 0x65072000, 0xff3fe000, sve_reduce),
+        MAKE_INST(INST_FMLA_SVE_MLA, 0x65200000, 0xff20e000, sve_mla),
+        MAKE_INST(INST_FMLS_SVE_MLA, 0x65202000, 0xff20e000, sve_mla),
+        MAKE_INST(INST_FMOV_FP_1SRC, 0x1e204000, 0xff3ffc00, fp_1src),
+        MAKE_INST(INST_FMOV_FP_IMM, 0x1e201000, 0xff201fe0, fp_imm),
+        MAKE_INST(INST_FMOV_FP_INT, 0x1e260000, 0x7f3efc00, fp_int),
+        MAKE_INST(INST_FMSUB_FP_3SRC, 0x1f008000, 0xff208000, fp_3src),
+        MAKE_INST(INST_FMUL_FP_2SRC, 0x1e200800, 0xff20fc00, fp_2src),
+        MAKE_INST(INST_FMUL_SVE_ARITH, 0x65000800, 0xff20fc00, sve_arith),
+        MAKE_INST(INST_FMUL_SVE_ARITH_PRED, 0x65028000, 0xff3fe000, sve_arith_pred),
+        MAKE_INST(INST_FNEG_FP_1SRC, 0x1e214000, 0xff3ffc00, fp_1src),
+        MAKE_INST(INST_FNMADD_FP_3SRC, 0x1f200000, 0xff208000, fp_3src),
+        MAKE_INST(INST_FNMSUB_FP_3SRC, 0x1f208000, 0xff208000, fp_3src),
+        MAKE_INST(INST_FNMUL_FP_2SRC, 0x1e208800, 0xff20fc00, fp_2src),
+        MAKE_INST(INST_FRINTA_FP_1SRC, 0x1e264000, 0xff3ffc00, fp_1src),
+        MAKE_INST(INST_FRINTI_FP_1SRC, 0x1e27c000, 0xff3ffc00, fp_1src),
+        MAKE_INST(INST_FRINTM_FP_1SRC, 0x1e254000, 0xff3ffc00, fp_1src),
+        MAKE_INST(INST_FRINTN_FP_1SRC, 0x1e244000, 0xff3ffc00, fp_1src),
+        MAKE_INST(INST_FRINTP_FP_1SRC, 0x1e24c000, 0xff3ffc00, fp_1src),
+        MAKE_INST(INST_FRINTX_FP_1SRC, 0x1e274000, 0xff3ffc00, fp_1src),
+        MAKE_INST(INST_FRINTZ_FP_1SRC, 0x1e25c000, 0xff3ffc00, fp_1src),
+        MAKE_INST(INST_FSQRT_FP_1SRC, 0x1e21c000, 0xff3ffc00, fp_1src),
+        MAKE_INST(INST_FSUB_FP_2SRC, 0x1e203800, 0xff20fc00, fp_2src),
+        MAKE_INST(INST_FSUB_SVE_ARITH, 0x65000400, 0xff20fc00, sve_arith),
+        MAKE_INST(INST_FSUB_SVE_ARITH_PRED, 0x65018000, 0xff3fe000, sve_arith_pred),
         MAKE_INST(INST_HINT_IC_SYSTEM, 0xd503201f, 0xfffff01f, ic_system),
         MAKE_INST(INST_HLT_EXCEPTION, 0xd4400000, 0xffe0001f, exception),
         MAKE_INST(INST_HVC_EXCEPTION, 0xd4000002, 0xffe0001f, exception),
         MAKE_INST(INST_IC_IC_SYSTEM, 0xd5080000, 0xfff80000, ic_system),
+        MAKE_INST(INST_INCB_SVE_ELT_COUNT, 0x0430e000, 0xfff0fc00, sve_elt_count),
+        MAKE_INST(INST_INCD_SVE_ELT_COUNT, 0x04f0e000, 0xfff0fc00, sve_elt_count),
+        MAKE_INST(INST_INCH_SVE_ELT_COUNT, 0x0470e000, 0xfff0fc00, sve_elt_count),
+        MAKE_INST(INST_INCW_SVE_ELT_COUNT, 0x04b0e000, 0xfff0fc00, sve_elt_count),
+        MAKE_INST(INST_INDEX_SVE_DUP, 0x04204000, 0xff20fc00, sve_dup),
+        MAKE_INST(INST_INS_SIMD_COPY, 0x6e000400, 0xffe08400, simd_copy),
+        MAKE_INST(INST_INS_SIMD_COPY_GP, 0x4e001c00, 0xffe0fc00, simd_copy),
         MAKE_INST(INST_ISB_IC_SYSTEM, 0xd50330df, 0xfffff0ff, ic_system),
+        MAKE_INST(INST_LD1_SIMD_LDST_MULT, 0x0c407000, 0xbf7f0000, simd_ldst_mult),
+        MAKE_INST(INST_LD1B_SVE_LDST, 0xa400a000, 0xff90e000, sve_ldst),
+        MAKE_INST(INST_LD1B_SVE_LDST_REG, 0xa4004000, 0xff80e000, sve_ldst),
+        MAKE_INST(INST_LD1D_SVE_LDST, 0xa580a000, 0xff90e000, sve_ldst),
+        MAKE_INST(INST_LD1D_SVE_LDST_REG, 0xa5804000, 0xff80e000, sve_ldst),
+        MAKE_INST(INST_LD1H_SVE_LDST, 0xa480a000, 0xff90e000, sve_ldst),
+        MAKE_INST(INST_LD1H_SVE_LDST_REG, 0xa4804000, 0xff80e000, sve_ldst),
+        MAKE_INST(INST_LD1W_SVE_LDST, 0xa500a000, 0xff90e000, sve_ldst),
+        MAKE_INST(INST_LD1W_SVE_LDST_REG, 0xa5004000, 0xff80e000, sve_ldst),
+        MAKE_INST(INST_LD2_SIMD_LDST_MULT, 0x0c408000, 0xbf7ff000, simd_ldst_mult),
+        MAKE_INST(INST_LD3_SIMD_LDST_MULT, 0x0c404000, 0xbf7ff000, simd_ldst_mult),
+        MAKE_INST(INST_LD4_SIMD_LDST_MULT, 0x0c400000, 0xbf7ff000, simd_ldst_mult),
+        MAKE_INST(INST_LDADD_LDST_ATOMIC, 0xb8200000, 0xbfe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDADDA_LDST_ATOMIC, 0xb8a00000, 0xbfe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDADDAB_LDST_ATOMIC, 0x38a00000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDADDAH_LDST_ATOMIC, 0x78a00000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDADDAL_LDST_ATOMIC, 0xb8e00000, 0xbfe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDADDALB_LDST_ATOMIC, 0x38e00000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDADDALH_LDST_ATOMIC, 0x78e00000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDADDB_LDST_ATOMIC, 0x38200000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDADDH_LDST_ATOMIC, 0x78200000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDADDL_LDST_ATOMIC, 0xb8600000, 0xbfe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDADDLB_LDST_ATOMIC, 0x38600000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDADDLH_LDST_ATOMIC, 0x78600000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDAPR_LDSTEXCL, 0xb8bfc000, 0xbffffc00, ldstexcl),
+        MAKE_INST(INST_LDAPRB_LDSTEXCL, 0x38bfc000, 0xfffffc00, ldstexcl),
+        MAKE_INST(INST_LDAPRH_LDSTEXCL, 0x78bfc000, 0xfffffc00, ldstexcl),
+        MAKE_INST(INST_LDAPUR_LDAPSTL_UNSCALED, 0x99400000, 0xbfe00c00, ldapstl_unscaled),
+        MAKE_INST(INST_LDAPURB_LDAPSTL_UNSCALED, 0x19400000, 0xffe00c00, ldapstl_unscaled),
+        MAKE_INST(INST_LDAPURH_LDAPSTL_UNSCALED, 0x59400000, 0xffe00c00, ldapstl_unscaled),
         MAKE_INST(INST_LDAR_LDSTEXCL, 0x88dffc00, 0xbfe08000, ldstexcl),
         MAKE_INST(INST_LDARB_LDSTEXCL, 0x8dffc00, 0xffe08000, ldstexcl),
         MAKE_INST(INST_LDARH_LDSTEXCL, 0x48dffc00, 0xffe08000, ldstexcl),
@@ -153,6 +490,30 @@ public final class InstructionDescription {
         MAKE_INST(INST_LDAXR_LDSTEXCL, 0x885ffc00, 0xbfe08000, ldstexcl),
         MAKE_INST(INST_LDAXRB_LDSTEXCL, 0x85ffc00, 0xffe08000, ldstexcl),
         MAKE_INST(INST_LDAXRH_LDSTEXCL, 0x485ffc00, 0xffe08000, ldstexcl),
+        MAKE_INST(INST_LDCLR_LDST_ATOMIC, 0xb8201000, 0xbfe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDCLRA_LDST_ATOMIC, 0xb8a01000, 0xbfe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDCLRAB_LDST_ATOMIC, 0x38a01000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDCLRAH_LDST_ATOMIC, 0x78a01000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDCLRAL_LDST_ATOMIC, 0xb8e01000, 0xbfe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDCLRALB_LDST_ATOMIC, 0x38e01000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDCLRALH_LDST_ATOMIC, 0x78e01000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDCLRB_LDST_ATOMIC, 0x38201000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDCLRH_LDST_ATOMIC, 0x78201000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDCLRL_LDST_ATOMIC, 0xb8601000, 0xbfe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDCLRLB_LDST_ATOMIC, 0x38601000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDCLRLH_LDST_ATOMIC, 0x78601000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDEOR_LDST_ATOMIC, 0xb8202000, 0xbfe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDEORA_LDST_ATOMIC, 0xb8a02000, 0xbfe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDEORAB_LDST_ATOMIC, 0x38a02000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDEORAH_LDST_ATOMIC, 0x78a02000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDEORAL_LDST_ATOMIC, 0xb8e02000, 0xbfe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDEORALB_LDST_ATOMIC, 0x38e02000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDEORALH_LDST_ATOMIC, 0x78e02000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDEORB_LDST_ATOMIC, 0x38202000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDEORH_LDST_ATOMIC, 0x78202000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDEORL_LDST_ATOMIC, 0xb8602000, 0xbfe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDEORLB_LDST_ATOMIC, 0x38602000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDEORLH_LDST_ATOMIC, 0x78602000, 0xffe0fc00, ldst_atomic),
         MAKE_INST(INST_LDNP_LDSTNAPAIR_OFFS, 0x28400000, 0x7fc00000, ldstnapair_offs),
         MAKE_INST(INST_LDNP_LDSTNAPAIR_OFFS_V, 0x2c400000, 0x3fc00000, ldstnapair_offs),
         MAKE_INST(INST_LDP_POST_INDEXED_IDST_IMM9, 0x28c00000, 0x7ec00000, ldst_imm9_2reg),
@@ -166,6 +527,8 @@ public final class InstructionDescription {
         MAKE_INST(INST_LDR_IMM_OFF,  0xb9400000, 0xbfc00000, ldst_pos),
         MAKE_INST(INST_LDR_REG,      0xb8600800, 0xbfe00c00,ldst_regoff),
         MAKE_INST(INST_LDR_LOADLIT,  0x18000000, 0xbf000000, loadlit),
+        MAKE_INST(INST_LDR_SVE_FILL, 0x85804000, 0xffc0e000, sve_fill),
+        MAKE_INST(INST_LDR_SVE_FILL_PRED, 0x85800000, 0xffc0e010, sve_fill),
         MAKE_INST(INST_LDRB_IMM_POST, 0x38400400, 0xffe00c00, ldst_imm9),
         MAKE_INST(INST_LDRB_IMM_PRE,  0x38400c00, 0xffe00c00, ldst_imm9),
         MAKE_INST(INST_LDRB_IMM_OFF,  0x39400000, 0xffc00000, ldst_pos),
@@ -187,12 +550,72 @@ public final class InstructionDescription {
         MAKE_INST(INST_LDRSW_IMM_OFF,  0xb9800000, 0xffc00000, ldst_pos),
         MAKE_INST(INST_LDRSW_REG,      0xb8a00800, 0xffe00c00, ldst_regoff),
         MAKE_INST(INST_LDRSW_LOADLIT,  0x98000000, 0xff000000, loadlit),
+        MAKE_INST(INST_LDSET_LDST_ATOMIC, 0xb8203000, 0xbfe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDSETA_LDST_ATOMIC, 0xb8a03000, 0xbfe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDSETAB_LDST_ATOMIC, 0x38a03000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDSETAH_LDST_ATOMIC, 0x78a03000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDSETAL_LDST_ATOMIC, 0xb8e03000, 0xbfe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDSETALB_LDST_ATOMIC, 0x38e03000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDSETALH_LDST_ATOMIC, 0x78e03000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDSETB_LDST_ATOMIC, 0x38203000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDSETH_LDST_ATOMIC, 0x78203000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDSETL_LDST_ATOMIC, 0xb8603000, 0xbfe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDSETLB_LDST_ATOMIC, 0x38603000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDSETLH_LDST_ATOMIC, 0x78603000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDSMAX_LDST_ATOMIC, 0xb8204000, 0xbfe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDSMAXA_LDST_ATOMIC, 0xb8a04000, 0xbfe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDSMAXAB_LDST_ATOMIC, 0x38a04000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDSMAXAH_LDST_ATOMIC, 0x78a04000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDSMAXAL_LDST_ATOMIC, 0xb8e04000, 0xbfe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDSMAXALB_LDST_ATOMIC, 0x38e04000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDSMAXALH_LDST_ATOMIC, 0x78e04000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDSMAXB_LDST_ATOMIC, 0x38204000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDSMAXH_LDST_ATOMIC, 0x78204000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDSMAXL_LDST_ATOMIC, 0xb8604000, 0xbfe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDSMAXLB_LDST_ATOMIC, 0x38604000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDSMAXLH_LDST_ATOMIC, 0x78604000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDSMIN_LDST_ATOMIC, 0xb8205000, 0xbfe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDSMINA_LDST_ATOMIC, 0xb8a05000, 0xbfe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDSMINAB_LDST_ATOMIC, 0x38a05000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDSMINAH_LDST_ATOMIC, 0x78a05000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDSMINAL_LDST_ATOMIC, 0xb8e05000, 0xbfe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDSMINALB_LDST_ATOMIC, 0x38e05000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDSMINALH_LDST_ATOMIC, 0x78e05000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDSMINB_LDST_ATOMIC, 0x38205000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDSMINH_LDST_ATOMIC, 0x78205000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDSMINL_LDST_ATOMIC, 0xb8605000, 0xbfe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDSMINLB_LDST_ATOMIC, 0x38605000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDSMINLH_LDST_ATOMIC, 0x78605000, 0xffe0fc00, ldst_atomic),
         MAKE_INST(INST_LDTR_LDST_UNPRIV, 0xb8400800, 0xbfe00c00, ldst_unpriv),
         MAKE_INST(INST_LDTRB_LDST_UNPRIV, 0x38400800, 0xffe00c00, ldst_unpriv),
         MAKE_INST(INST_LDTRH_LDST_UNPRIV, 0x78400800, 0xffe00c00, ldst_unpriv),
         MAKE_INST(INST_LDTRSB_LDST_UNPRIV, 0x38800800, 0xffa00c00, ldst_unpriv),
         MAKE_INST(INST_LDTRSH_LDST_UNPRIV, 0x78800800, 0xffa00c00, ldst_unpriv),
         MAKE_INST(INST_LDTRSW_LDST_UNPRIV, 0xb8800800, 0xffe00c00, ldst_unpriv),
+        MAKE_INST(INST_LDUMAX_LDST_ATOMIC, 0xb8206000, 0xbfe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDUMAXA_LDST_ATOMIC, 0xb8a06000, 0xbfe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDUMAXAB_LDST_ATOMIC, 0x38a06000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDUMAXAH_LDST_ATOMIC, 0x78a06000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDUMAXAL_LDST_ATOMIC, 0xb8e06000, 0xbfe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDUMAXALB_LDST_ATOMIC, 0x38e06000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDUMAXALH_LDST_ATOMIC, 0x78e06000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDUMAXB_LDST_ATOMIC, 0x38206000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDUMAXH_LDST_ATOMIC, 0x78206000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDUMAXL_LDST_ATOMIC, 0xb8606000, 0xbfe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDUMAXLB_LDST_ATOMIC, 0x38606000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDUMAXLH_LDST_ATOMIC, 0x78606000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDUMIN_LDST_ATOMIC, 0xb8207000, 0xbfe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDUMINA_LDST_ATOMIC, 0xb8a07000, 0xbfe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDUMINAB_LDST_ATOMIC, 0x38a07000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDUMINAH_LDST_ATOMIC, 0x78a07000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDUMINAL_LDST_ATOMIC, 0xb8e07000, 0xbfe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDUMINALB_LDST_ATOMIC, 0x38e07000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDUMINALH_LDST_ATOMIC, 0x78e07000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDUMINB_LDST_ATOMIC, 0x38207000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDUMINH_LDST_ATOMIC, 0x78207000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDUMINL_LDST_ATOMIC, 0xb8607000, 0xbfe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDUMINLB_LDST_ATOMIC, 0x38607000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_LDUMINLH_LDST_ATOMIC, 0x78607000, 0xffe0fc00, ldst_atomic),
         MAKE_INST(INST_LDUR_LDST_UNSCALED, 0x3c400000, 0x3f600c00, ldst_unscaled),
         MAKE_INST(INST_LDUR_LDST_UNSCALED_X, 0xb8400000, 0xbfe00c00, ldst_unscaled),
         MAKE_INST(INST_LDURB_LDST_UNSCALED, 0x38400000, 0xffe00c00, ldst_unscaled),
@@ -211,6 +634,9 @@ public final class InstructionDescription {
         MAKE_INST(INST_LSR_DP_2SRC, 0x1ac02400, 0x7fe0fc00, dp_2src),
         MAKE_INST(INST_LSRV_DP_2SRC, 0x1ac02400, 0x7fe0fc00, dp_2src),
         MAKE_INST(INST_MADD_DP_3SRC, 0x1b000000, 0x7fe08000, dp_3src),
+        MAKE_INST(INST_MLA_SIMD_3SAME, 0x0e209400, 0xbf20fc00, simd_3same),
+        MAKE_INST(INST_MLA_SVE_MLA, 0x04004000, 0xff20e000, sve_mla),
+        MAKE_INST(INST_MLS_SVE_MLA, 0x04006000, 0xff20e000, sve_mla),
         MAKE_INST(INST_MNEG_DP_3SRC, 0x1b00fc00, 0x7fe0fc00, dp_3src),
         MAKE_INST(INST_MOV_ADDSUB_IMM, 0x2a0003e0, 0x7ffffc00, addsub_imm),
         MAKE_INST(INST_MOV_LOG_IMM, 0x320003e0, 0x7f8003e0, log_imm),
@@ -225,45 +651,125 @@ public final class InstructionDescription {
         MAKE_INST(INST_MSR_IC_SYSTEM_X, 0xd5100000, 0xfff00000, ic_system),
         MAKE_INST(INST_MSUB_DP_3SRC, 0x1b008000, 0x7fe08000, dp_3src),
         MAKE_INST(INST_MUL_DP_3SRC, 0x1b007c00, 0x7fe0fc00, dp_3src),
+        MAKE_INST(INST_MUL_SIMD_3SAME, 0x0e209c00, 0xbf20fc00, simd_3same),
+        MAKE_INST(INST_MUL_SVE_ARITH, 0x04206000, 0xff20fc00, sve_arith),
+        MAKE_INST(INST_MUL_SVE_ARITH_PRED, 0x04100000, 0xff3fe000, sve_arith_pred),
         MAKE_INST(INST_MVN_LOG_SHIFT, 0x2a2003e0, 0x7f2003e0, log_shift),
         MAKE_INST(INST_NEG_ADDSUB_SHIFT, 0x4b0003e0, 0x7f2003e0, addsub_shift),
+        MAKE_INST(INST_NEG_SIMD_2REG_MISC, 0x2e20b800, 0xbf3ffc00, simd_2reg_misc),
         MAKE_INST(INST_NEGS_ADDSUB_SHIFT, 0x6b0003e0, 0x7f2003e0, addsub_shift),
         MAKE_INST(INST_NGC_ADDSUB_CARRY, 0x5a0003e0, 0x7fe0ffe0, addsub_carry),
         MAKE_INST(INST_NGCS_ADDSUB_CARRY, 0x7a0003e0, 0x7fe0ffe0, addsub_carry),
         MAKE_INST(INST_NOP_IC_SYSTEM, 0xd503201f, 0xffffffff, ic_system),
+        MAKE_INST(INST_NOT_SIMD_2REG_MISC, 0x2e205800, 0xbffffc00, simd_2reg_misc),
         MAKE_INST(INST_ORN_LOG_SHIFT, 0x2a200000, 0x7f200000, log_shift),
+        MAKE_INST(INST_ORN_SIMD_3SAME, 0x0ee01c00, 0xbfe0fc00, simd_3same),
+        MAKE_INST(INST_ORN_SVE_PRED_LOGIC, 0x25804010, 0xfff0c210, sve_pred_logic),
         MAKE_INST(INST_ORR_LOG_IMM, 0x32000000, 0x7f800000, log_imm),
         MAKE_INST(INST_ORR_LOG_SHIFT, 0x2a000000, 0x7f200000, log_shift),
+        MAKE_INST(INST_ORR_SIMD_3SAME, 0x0ea01c00, 0xbfe0fc00, simd_3same),
+        MAKE_INST(INST_ORR_SVE_ARITH, 0x04603000, 0xffe0fc00, sve_arith),
+        MAKE_INST(INST_ORR_SVE_ARITH_PRED, 0x04180000, 0xff3fe000, sve_arith_pred),
+        MAKE_INST(INST_ORR_SVE_PRED_LOGIC, 0x25804000, 0xfff0c210, sve_pred_logic),
+        MAKE_INST(INST_ORV_SVE_REDUCE, 0x04182000, 0xff3fe000, sve_reduce),
+        MAKE_INST(INST_PFALSE_SVE_PRED_GEN, 0x2518e400, 0xfffffff0, sve_pred_gen),
+        MAKE_INST(INST_PMULL_SIMD_3DIFF, 0x0e20e000, 0xff20fc00, simd_3diff),
+        MAKE_INST(INST_PMULL2_SIMD_3DIFF, 0x4e20e000, 0xff20fc00, simd_3diff),
         MAKE_INST(INST_PRFM_LDST_POS__IMMEDIATE, 0xf9800000, 0xffc00000, ldst_pos),
         MAKE_INST(INST_PRFM_LDST_REGOFF__REGISTER, 0xf8a00800, 0xffe00c00, ldst_regoff),
         MAKE_INST(INST_PRFM_LOADLIT__LITERAL, 0xd8000000, 0xff000000, loadlit),
         MAKE_INST(INST_PRFUM_LDST_UNSCALED, 0xf8800000, 0xffe00c00, ldst_unscaled),
+        MAKE_INST(INST_PTEST_SVE_PRED_LOGIC, 0x2550c000, 0xffffc21f, sve_pred_logic),
+        MAKE_INST(INST_PTRUE_SVE_PRED_GEN, 0x2518e000, 0xff3ffc10, sve_pred_gen),
+        MAKE_INST(INST_PTRUES_SVE_PRED_GEN, 0x2519e000, 0xff3ffc10, sve_pred_gen),
         MAKE_INST(INST_RBIT_DP_1SRC, 0x5ac00000, 0x7ffffc00, dp_1src),
+        MAKE_INST(INST_RBIT_SIMD_2REG_MISC, 0x2e605800, 0xbffffc00, simd_2reg_misc),
+        MAKE_INST(INST_RDVL_SVE_VL, 0x04bf5000, 0xfffff800, sve_vl),
         MAKE_INST(INST_RET_BRANCH_REG, 0xd65f0000, 0xfffffc1f, branch_reg),
         MAKE_INST(INST_REV_DP_1SRC, 0x5ac00800, 0xfffffc00, dp_1src),
         MAKE_INST(INST_REV_DP_1SRC_X, 0xdac00c00, 0x7ffffc00, dp_1src),
         MAKE_INST(INST_REV16_DP_1SRC, 0x5ac00400, 0x7ffffc00, dp_1src),
+        MAKE_INST(INST_REV16_SIMD_2REG_MISC, 0x0e201800, 0xbf3ffc00, simd_2reg_misc),
         MAKE_INST(INST_REV32_DP_1SRC, 0xdac00800, 0xfffffc00, dp_1src),
+        MAKE_INST(INST_REV32_SIMD_2REG_MISC, 0x2e200800, 0xbf3ffc00, simd_2reg_misc),
+        MAKE_INST(INST_REV64_SIMD_2REG_MISC, 0x0e200800, 0xbf3ffc00, simd_2reg_misc),
         MAKE_INST(INST_ROR_DP_2SRC, 0x1ac02c00, 0x7fe0fc00, dp_2src),
         MAKE_INST(INST_ROR_EXTRACT, 0x13800000, 0x7fa00000, extract),
         MAKE_INST(INST_RORV_DP_2SRC, 0x1ac02c00, 0x7fe0fc00, dp_2src),
+        MAKE_INST(INST_SADDLP_SIMD_2REG_MISC, 0x0e202800, 0xbf3ffc00, simd_2reg_misc),
+        MAKE_INST(INST_SADDLV_SIMD_ACROSS, 0x0e303800, 0xbf3ffc00, simd_across),
+        MAKE_INST(INST_SADDV_SVE_REDUCE, 0x04002000, 0xff3fe000, sve_reduce),
         MAKE_INST(INST_SBC_ADDSUB_CARRY, 0x5a000000, 0x7fe0fc00, addsub_carry),
         MAKE_INST(INST_SBCS_ADDSUB_CARRY, 0x7a000000, 0x7fe0fc00, addsub_carry),
         MAKE_INST(INST_SBFIZ_BITFIELD, 0x13000000, 0x7f800000, bitfield),
         MAKE_INST(INST_SBFM_BITFIELD, 0x13000000, 0x7f800000, bitfield),
         MAKE_INST(INST_SBFX_BITFIELD, 0x13000000, 0x7f800000, bitfield),
+        MAKE_INST(INST_SCVTF_FP_INT, 0x1e220000, 0x7f3ffc00, fp_int),
         MAKE_INST(INST_SDIV_DP_2SRC, 0x1ac00c00, 0x7fe0fc00, dp_2src),
+        MAKE_INST(INST_SDIV_SVE_ARITH_PRED, 0x04140000, 0xff3fe000, sve_arith_pred),
+        MAKE_INST(INST_SETE_MOPS, 0x19c08400, 0xffe0fc00, mops),
+        MAKE_INST(INST_SETM_MOPS, 0x19c04400, 0xffe0fc00, mops),
+        MAKE_INST(INST_SETP_MOPS, 0x19c00400, 0xffe0fc00, mops),
         MAKE_INST(INST_SEV_IC_SYSTEM, 0xd503209f, 0xffffffff, ic_system),
         MAKE_INST(INST_SEVL_IC_SYSTEM, 0xd50320bf, 0xffffffff, ic_system),
+        MAKE_INST(INST_SHA1C_CRYPTO_SHA3REG, 0x5e000000, 0xffe0fc00, crypto_sha3reg),
+        MAKE_INST(INST_SHA1H_CRYPTO_SHA2REG, 0x5e280800, 0xfffffc00, crypto_sha2reg),
+        MAKE_INST(INST_SHA1M_CRYPTO_SHA3REG, 0x5e002000, 0xffe0fc00, crypto_sha3reg),
+        MAKE_INST(INST_SHA1P_CRYPTO_SHA3REG, 0x5e001000, 0xffe0fc00, crypto_sha3reg),
+        MAKE_INST(INST_SHA1SU0_CRYPTO_SHA3REG, 0x5e003000, 0xffe0fc00, crypto_sha3reg),
+        MAKE_INST(INST_SHA1SU1_CRYPTO_SHA2REG, 0x5e281800, 0xfffffc00, crypto_sha2reg),
+        MAKE_INST(INST_SHA256H_CRYPTO_SHA3REG, 0x5e004000, 0xffe0fc00, crypto_sha3reg),
+        MAKE_INST(INST_SHA256H2_CRYPTO_SHA3REG, 0x5e005000, 0xffe0fc00, crypto_sha3reg),
+        MAKE_INST(INST_SHA256SU0_CRYPTO_SHA2REG, 0x5e282800, 0xfffffc00, crypto_sha2reg),
+        MAKE_INST(INST_SHA256SU1_CRYPTO_SHA3REG, 0x5e006000, 0xffe0fc00, crypto_sha3reg),
+        MAKE_INST(INST_SHL_SIMD_SHIFT_IMM, 0x0f005400, 0xbf80fc00, simd_shift_imm),
+        MAKE_INST(INST_SHRN_SIMD_SHIFT_IMM, 0x0f008400, 0xbf80fc00, simd_shift_imm),
+        MAKE_INST(INST_SLI_SIMD_SHIFT_IMM, 0x2f005400, 0xbf80fc00, simd_shift_imm),
         MAKE_INST(INST_SMADDL_DP_3SRC, 0x9b200000, 0xffe08000, dp_3src),
+        MAKE_INST(INST_SMAX_SIMD_3SAME, 0x0e206400, 0xbf20fc00, simd_3same),
+        MAKE_INST(INST_SMAX_SVE_ARITH_PRED, 0x04080000, 0xff3fe000, sve_arith_pred),
+        MAKE_INST(INST_SMAXP_SIMD_3SAME, 0x0e20a400, 0xbf20fc00, simd_3same),
+        MAKE_INST(INST_SMAXV_SIMD_ACROSS, 0x0e30a800, 0xbf3ffc00, simd_across),
+        MAKE_INST(INST_SMAXV_SVE_REDUCE, 0x04082000, 0xff3fe000, sve_reduce),
         MAKE_INST(INST_SMC_EXCEPTION, 0xd4000003, 0xffe0001f, exception),
+        MAKE_INST(INST_SMIN_SIMD_3SAME, 0x0e206c00, 0xbf20fc00, simd_3same),
+        MAKE_INST(INST_SMIN_SVE_ARITH_PRED, 0x040a0000, 0xff3fe000, sve_arith_pred),
+        MAKE_INST(INST_SMINP_SIMD_3SAME, 0x0e20ac00, 0xbf20fc00, simd_3same),
+        MAKE_INST(INST_SMINV_SIMD_ACROSS, 0x0e31a800, 0xbf3ffc00, simd_across),
+        MAKE_INST(INST_SMINV_SVE_REDUCE, 0x040a2000, 0xff3fe000, sve_reduce),
         MAKE_INST(INST_SMNEGL_DP_3SRC, 0x9b20fc00, 0xffe0fc00, dp_3src),
+        MAKE_INST(INST_SMOV_SIMD_COPY, 0x0e002c00, 0xbfe0fc00, simd_copy),
         MAKE_INST(INST_SMSUBL_DP_3SRC, 0x9b208000, 0xffe08000, dp_3src),
         MAKE_INST(INST_SMULH_DP_3SRC, 0x9b407c00, 0xffe08000, dp_3src),
         MAKE_INST(INST_SMULL_DP_3SRC, 0x9b207c00, 0xffe0fc00, dp_3src),
+        MAKE_INST(INST_SQADD_SIMD_3SAME, 0x0e200c00, 0xbf20fc00, simd_3same),
+        MAKE_INST(INST_SQADD_SVE_ARITH, 0x04201000, 0xff20fc00, sve_arith),
+        MAKE_INST(INST_SQSUB_SIMD_3SAME, 0x0e202c00, 0xbf20fc00, simd_3same),
+        MAKE_INST(INST_SQSUB_SVE_ARITH, 0x04201800, 0xff20fc00, sve_arith),
+        MAKE_INST(INST_SRI_SIMD_SHIFT_IMM, 0x2f004400, 0xbf80fc00, simd_shift_imm),
+        MAKE_INST(INST_SRSHR_SIMD_SHIFT_IMM, 0x0f002400, 0xbf80fc00, simd_shift_imm),
+        MAKE_INST(INST_SSHL_SIMD_3SAME, 0x0e204400, 0xbf20fc00, simd_3same),
+        MAKE_INST(INST_SSHLL_SIMD_SHIFT_IMM, 0x0f00a400, 0xbf80fc00, simd_shift_imm),
+        MAKE_INST(INST_SSHR_SIMD_SHIFT_IMM, 0x0f000400, 0xbf80fc00, simd_shift_imm),
+        MAKE_INST(INST_SSRA_SIMD_SHIFT_IMM, 0x0f001400, 0xbf80fc00, simd_shift_imm),
+        MAKE_INST(INST_ST1_SIMD_LDST_MULT, 0x0c007000, 0xbf7f0000, simd_ldst_mult),
+        MAKE_INST(INST_ST1B_SVE_LDST, 0xe400e000, 0xff90e000, sve_ldst),
+        MAKE_INST(INST_ST1B_SVE_LDST_REG, 0xe4004000, 0xff80e000, sve_ldst),
+        MAKE_INST(INST_ST1D_SVE_LDST, 0xe580e000, 0xff90e000, sve_ldst),
+        MAKE_INST(INST_ST1D_SVE_LDST_REG, 0xe5804000, 0xff80e000, sve_ldst),
+        MAKE_INST(INST_ST1H_SVE_LDST, 0xe480e000, 0xff90e000, sve_ldst),
+        MAKE_INST(INST_ST1H_SVE_LDST_REG, 0xe4804000, 0xff80e000, sve_ldst),
+        MAKE_INST(INST_ST1W_SVE_LDST, 0xe500e000, 0xff90e000, sve_ldst),
+        MAKE_INST(INST_ST1W_SVE_LDST_REG, 0xe5004000, 0xff80e000, sve_ldst),
+        MAKE_INST(INST_ST2_SIMD_LDST_MULT, 0x0c008000, 0xbf7ff000, simd_ldst_mult),
+        MAKE_INST(INST_ST3_SIMD_LDST_MULT, 0x0c004000, 0xbf7ff000, simd_ldst_mult),
+        MAKE_INST(INST_ST4_SIMD_LDST_MULT, 0x0c000000, 0xbf7ff000, simd_ldst_mult),
         MAKE_INST(INST_STLR_LDSTEXCL, 0x889ffc00, 0xbfe08000, ldstexcl),
         MAKE_INST(INST_STLRB_LDSTEXCL, 0x89ffc00, 0xffe08000, ldstexcl),
         MAKE_INST(INST_STLRH_LDSTEXCL, 0x489ffc00, 0xffe08000, ldstexcl),
+        MAKE_INST(INST_STLUR_LDAPSTL_UNSCALED, 0x99000000, 0xbfe00c00, ldapstl_unscaled),
+        MAKE_INST(INST_STLURB_LDAPSTL_UNSCALED, 0x19000000, 0xffe00c00, ldapstl_unscaled),
+        MAKE_INST(INST_STLURH_LDAPSTL_UNSCALED, 0x59000000, 0xffe00c00, ldapstl_unscaled),
         MAKE_INST(INST_STLXP_LDSTEXCL, 0x88208000, 0xbfe08000, ldstexcl_op4),
         MAKE_INST(INST_STLXR_LDSTEXCL, 0x8800fc00, 0xbfe08000, ldstexcl_op3),
         MAKE_INST(INST_STLXRB_LDSTEXCL, 0x800fc00, 0xffe08000, ldstexcl_op3),
@@ -277,6 +783,8 @@ public final class InstructionDescription {
         MAKE_INST(INST_STR_LDST_IMM9_POST, 0xb8000400, 0xbfe00c00, ldst_imm9),
         MAKE_INST(INST_STR_LDST_POS, 0xb9000000, 0xbfc00000, ldst_pos),
         MAKE_INST(INST_STR_LDST_REGOFF,   0xb8200800, 0xbfe00c00, ldst_regoff),
+        MAKE_INST(INST_STR_SVE_FILL, 0xe5804000, 0xffc0e000, sve_fill),
+        MAKE_INST(INST_STR_SVE_FILL_PRED, 0xe5800000, 0xffc0e010, sve_fill),
         MAKE_INST(INST_STRB_LDST_IMM9_POST, 0x38000400, 0xffe00C00, ldst_imm9),
         MAKE_INST(INST_STRB_LDST_OFFSET,  0x39000000, 0xffc00000, ldst_pos),
         MAKE_INST(INST_STRB_LDST_REGOFF,  0x38200800, 0xffe00c00, ldst_regoff),
@@ -299,34 +807,88 @@ public final class InstructionDescription {
         MAKE_INST(INST_SUB_ADDSUB_EXT, 0x4b200000, 0x7fe00000, addsub_ext),
         MAKE_INST(INST_SUB_ADDSUB_IMM, 0x51000000, 0x7f000000, addsub_imm),
         MAKE_INST(INST_SUB_ADDSUB_SHIFT, 0x4b000000, 0x7f200000, addsub_shift),
+        MAKE_INST(INST_SUB_SIMD_3SAME, 0x2e208400, 0xbf20fc00, simd_3same),
+        MAKE_INST(INST_SUB_SVE_ARITH, 0x04200400, 0xff20fc00, sve_arith),
+        MAKE_INST(INST_SUB_SVE_ARITH_PRED, 0x04010000, 0xff3fe000, sve_arith_pred),
+        MAKE_INST(INST_SUBR_SVE_ARITH_PRED, 0x04030000, 0xff3fe000, sve_arith_pred),
         MAKE_INST(INST_SUBS_ADDSUB_EXT, 0x6b200000, 0x7fe00000, addsub_ext),
         MAKE_INST(INST_SUBS_ADDSUB_IMM, 0x71000000, 0x7f000000, addsub_imm),
         MAKE_INST(INST_SUBS_ADDSUB_SHIFT, 0x6b000000, 0x7f200000, addsub_shift),
         MAKE_INST(INST_SVC_EXCEPTION, 0xd4000001, 0xffe0001f, exception),
+        MAKE_INST(INST_SWP_LDST_ATOMIC, 0xb8208000, 0xbfe0fc00, ldst_atomic),
+        MAKE_INST(INST_SWPA_LDST_ATOMIC, 0xb8a08000, 0xbfe0fc00, ldst_atomic),
+        MAKE_INST(INST_SWPAB_LDST_ATOMIC, 0x38a08000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_SWPAH_LDST_ATOMIC, 0x78a08000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_SWPAL_LDST_ATOMIC, 0xb8e08000, 0xbfe0fc00, ldst_atomic),
+        MAKE_INST(INST_SWPALB_LDST_ATOMIC, 0x38e08000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_SWPALH_LDST_ATOMIC, 0x78e08000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_SWPB_LDST_ATOMIC, 0x38208000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_SWPH_LDST_ATOMIC, 0x78208000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_SWPL_LDST_ATOMIC, 0xb8608000, 0xbfe0fc00, ldst_atomic),
+        MAKE_INST(INST_SWPLB_LDST_ATOMIC, 0x38608000, 0xffe0fc00, ldst_atomic),
+        MAKE_INST(INST_SWPLH_LDST_ATOMIC, 0x78608000, 0xffe0fc00, ldst_atomic),
         MAKE_INST(INST_SXTB_BITFIELD, 0x13001c00, 0x7fbffc00, bitfield),
         MAKE_INST(INST_SXTH_BITFIELD, 0x13003c00, 0x7fbffc00, bitfield),
         MAKE_INST(INST_SXTW_BITFIELD, 0x93407c00, 0xfffffc00, bitfield),
         MAKE_INST(INST_SYS_IC_SYSTEM, 0xd5080000, 0xfff80000, ic_system),
         MAKE_INST(INST_SYSL_IC_SYSTEM, 0xd5280000, 0xfff80000, ic_system),
+        MAKE_INST(INST_TBL_SIMD_TBL, 0x0e000000, 0xbfe09c00, simd_tbl),
         MAKE_INST(INST_TBNZ_TESTBRANCH, 0x37000000, 0x7f000000, testbranch),
+        MAKE_INST(INST_TBX_SIMD_TBL, 0x0e001000, 0xbfe09c00, simd_tbl),
         MAKE_INST(INST_TBZ_TESTBRANCH, 0x36000000, 0x7f000000, testbranch),
         MAKE_INST(INST_TLBI_IC_SYSTEM, 0xd5080000, 0xfff80000, ic_system),
+        MAKE_INST(INST_TRN1_SIMD_PERMUTE, 0x0e002800, 0xbf20fc00, simd_permute),
+        MAKE_INST(INST_TRN2_SIMD_PERMUTE, 0x0e006800, 0xbf20fc00, simd_permute),
         MAKE_INST(INST_TST_LOG_IMM, 0x7200001f, 0x7f80001f, log_imm),
         MAKE_INST(INST_TST_LOG_SHIFT, 0x6a00001f, 0x7f20001f, log_shift),
+        MAKE_INST(INST_UADDLP_SIMD_2REG_MISC, 0x2e202800, 0xbf3ffc00, simd_2reg_misc),
+        MAKE_INST(INST_UADDLV_SIMD_ACROSS, 0x2e303800, 0xbf3ffc00, simd_across),
+        MAKE_INST(INST_UADDV_SVE_REDUCE, 0x04012000, 0xff3fe000, sve_reduce),
         MAKE_INST(INST_UBFIZ_BITFIELD, 0x53000000, 0x7f800000, bitfield),
         MAKE_INST(INST_UBFM_BITFIELD, 0x53000000, 0x7f800000, bitfield),
         MAKE_INST(INST_UBFX_BITFIELD, 0x53000000, 0x7f800000, bitfield),
+        MAKE_INST(INST_UCVTF_FP_INT, 0x1e230000, 0x7f3ffc00, fp_int),
         MAKE_INST(INST_UDIV_DP_2SRC, 0x1ac00800, 0x7fe0fc00, dp_2src),
+        MAKE_INST(INST_UDIV_SVE_ARITH_PRED, 0x04150000, 0xff3fe000, sve_arith_pred),
         MAKE_INST(INST_UMADDL_DP_3SRC, 0x9ba00000, 0xffe08000, dp_3src),
+        MAKE_INST(INST_UMAX_SIMD_3SAME, 0x2e206400, 0xbf20fc00, simd_3same),
+        MAKE_INST(INST_UMAX_SVE_ARITH_PRED, 0x04090000, 0xff3fe000, sve_arith_pred),
+        MAKE_INST(INST_UMAXP_SIMD_3SAME, 0x2e20a400, 0xbf20fc00, simd_3same),
+        MAKE_INST(INST_UMAXV_SIMD_ACROSS, 0x2e30a800, 0xbf3ffc00, simd_across),
+        MAKE_INST(INST_UMAXV_SVE_REDUCE, 0x04092000, 0xff3fe000, sve_reduce),
+        MAKE_INST(INST_UMIN_SIMD_3SAME, 0x2e206c00, 0xbf20fc00, simd_3same),
+        MAKE_INST(INST_UMIN_SVE_ARITH_PRED, 0x040b0000, 0xff3fe000, sve_arith_pred),
+        MAKE_INST(INST_UMINP_SIMD_3SAME, 0x2e20ac00, 0xbf20fc00, simd_3same),
+        MAKE_INST(INST_UMINV_SIMD_ACROSS, 0x2e31a800, 0xbf3ffc00, simd_across),
+        MAKE_INST(INST_UMINV_SVE_REDUCE, 0x040b2000, 0xff3fe000, sve_reduce),
         MAKE_INST(INST_UMNEGL_DP_3SRC, 0x9ba0fc00, 0xffe0fc00, dp_3src),
+        MAKE_INST(INST_UMOV_SIMD_COPY, 0x0e003c00, 0xbfe0fc00, simd_copy),
         MAKE_INST(INST_UMSUBL_DP_3SRC, 0x9ba08000, 0xffe08000, dp_3src),
         MAKE_INST(INST_UMULH_DP_3SRC, 0x9bc07c00, 0xffe08000, dp_3src),
         MAKE_INST(INST_UMULL_DP_3SRC, 0x9ba07c00, 0xffe0fc00, dp_3src),
+        MAKE_INST(INST_UQADD_SIMD_3SAME, 0x2e200c00, 0xbf20fc00, simd_3same),
+        MAKE_INST(INST_UQADD_SVE_ARITH, 0x04201400, 0xff20fc00, sve_arith),
+        MAKE_INST(INST_UQSUB_SIMD_3SAME, 0x2e202c00, 0xbf20fc00, simd_3same),
+        MAKE_INST(INST_UQSUB_SVE_ARITH, 0x04201c00, 0xff20fc00, sve_arith),
+        MAKE_INST(INST_URSHR_SIMD_SHIFT_IMM, 0x2f002400, 0xbf80fc00, simd_shift_imm),
+        MAKE_INST(INST_USHL_SIMD_3SAME, 0x2e204400, 0xbf20fc00, simd_3same),
+        MAKE_INST(INST_USHLL_SIMD_SHIFT_IMM, 0x2f00a400, 0xbf80fc00, simd_shift_imm),
+        MAKE_INST(INST_USHR_SIMD_SHIFT_IMM, 0x2f000400, 0xbf80fc00, simd_shift_imm),
+        MAKE_INST(INST_USRA_SIMD_SHIFT_IMM, 0x2f001400, 0xbf80fc00, simd_shift_imm),
         MAKE_INST(INST_UXTB_BITFIELD, 0x53001c00, 0xfffffc00, bitfield),
         MAKE_INST(INST_UXTH_BITFIELD, 0x53003c00, 0xfffffc00, bitfield),
         MAKE_INST(INST_UXTW_LOG_SHIFT, 0xD3407C00, 0x7f2003e0, bitfield),
+        MAKE_INST(INST_UZP1_SIMD_PERMUTE, 0x0e001800, 0xbf20fc00, simd_permute),
+        MAKE_INST(INST_UZP2_SIMD_PERMUTE, 0x0e005800, 0xbf20fc00, simd_permute),
         MAKE_INST(INST_WFE_IC_SYSTEM, 0xd503205f, 0xffffffff, ic_system),
         MAKE_INST(INST_WFI_IC_SYSTEM, 0xd503207f, 0xffffffff, ic_system),
-        MAKE_INST(INST_YIELD_IC_SYSTEM, 0xd503203f, 0xffffffff, ic_system)
+        MAKE_INST(INST_WHILELE_SVE_WHILE, 0x25200410, 0xff20ec10, sve_while),
+        MAKE_INST(INST_WHILELO_SVE_WHILE, 0x25200c00, 0xff20ec10, sve_while),
+        MAKE_INST(INST_WHILELS_SVE_WHILE, 0x25200c10, 0xff20ec10, sve_while),
+        MAKE_INST(INST_WHILELT_SVE_WHILE, 0x25200400, 0xff20ec10, sve_while),
+        MAKE_INST(INST_XTN_SIMD_2REG_MISC, 0x0e212800, 0xbf3ffc00, simd_2reg_misc),
+        MAKE_INST(INST_YIELD_IC_SYSTEM, 0xd503203f, 0xffffffff, ic_system),
+        MAKE_INST(INST_ZIP1_SIMD_PERMUTE, 0x0e003800, 0xbf20fc00, simd_permute),
+        MAKE_INST(INST_ZIP2_SIMD_PERMUTE, 0x0e007800, 0xbf20fc00, simd_permute)
     };
 }
@@ -0,0 +1,2251 @@
+/*
+ * Copyright (C) 2018 Ossdev07
+ *
+ * This file is part of the JNR project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package jnr.a64asm;
+
+import static jnr.a64asm.INST_CODE.*;
+import static jnr.a64asm.InstructionGroup.*;
+import static jnr.a64asm.REG.*;
+import static jnr.a64asm.SIZE.*;
+import static jnr.a64asm.SerializerCore._none;
+
+/**
+ * Encodes the operands of an instruction group into an instruction word.
+ *
+ * Every {@link InstructionDescription} holds the encoder of its group, so emitting an
+ * instruction costs one table lookup and one virtual call instead of a switch over
+ * all groups.
+ */
+abstract class InstructionEncoder {
+
+    private static final InstructionEncoder[] encoders = new InstructionEncoder[InstructionGroup.values().length];
+
+    static {
+        register(new AddSubExtended(), addsub_carry, addsub_ext);
+        register(new AddSubImmShift(), addsub_imm, addsub_shift);
+        register(new Bitfield(), bitfield);
+        register(new BranchImm(), branch_imm);
+        register(new BranchReg(), branch_reg);
+        register(new CompBranch(), compbranch);
+        register(new CondBranch(), condbranch);
+        register(new CondCompare(), condcmp_imm, condcmp_reg);
+        register(new CondSelect(), condsel);
+        register(new DataProcessing(), dp_1src, dp_2src, dp_3src);
+        register(new ExceptionGen(), exception);
+        register(new Extract(), extract);
+        register(new FpDataProcessing(), fp_1src, fp_2src, fp_3src);
+        register(new FpCompare(), fp_compare);
+        register(new FpCondSelect(), fp_condsel);
+        register(new FpImmediate(), fp_imm);
+        register(new FpConvert(), fp_int);
+        register(new LoadStoreImm(), ldst_imm9, ldst_pos);
+        register(new LoadStoreImmPair(), ldst_imm9_2reg, ldst_pos_2reg);
+        register(new LoadStoreRegOffset(), ldst_regoff);
+        register(new LoadStoreUnscaled(), ldst_unpriv, ldst_unscaled);
+        register(new LoadStoreExclusive(), ldstexcl, ldstexcl_op3);
+        register(new LoadStoreExclusivePair(), ldstexcl_op4);
+        register(new LoadStoreOrderedUnscaled(), ldapstl_unscaled);
+        register(new AtomicMemory(), ldst_atomic, ldst_cas);
+        register(new LoadStorePair(), ldstnapair_offs, ldstpair_off, ldstpair_indexed);
+        register(new LoadLiteral(), loadlit);
+        register(new LogicalImm(), log_imm);
+        register(new LogicalShift(), log_shift);
+        register(new MoveWide(), movewide);
+        register(new PcRelAddr(), pcreladdr);
+        register(new SystemInst(), ic_system);
+        register(new SimdThreeSame(), simd_3same, simd_permute);
+        register(new SimdTwoRegMisc(), simd_2reg_misc);
+        register(new SimdAcrossLanes(), simd_across);
+        register(new SimdCopy(), simd_copy);
+        register(new SimdLoadStoreMultiple(), simd_ldst_mult);
+        register(new SimdShiftImm(), simd_shift_imm);
+        register(new SimdTableLookup(), simd_tbl);
+        register(new MemoryOps(), mops);
+        register(new SimdThreeDiff(), simd_3diff);
+        register(new CryptoAes(), crypto_aes);
+        register(new CryptoSha(), crypto_sha2reg, crypto_sha3reg);
+        register(new SveArith(), sve_arith);
+        register(new SveArithPredicated(), sve_arith_pred);
+        register(new SveCompare(), sve_compare);
+        register(new SveDup(), sve_dup);
+        register(new SveElementCount(), sve_elt_count);
+        register(new SveFill(), sve_fill);
+        register(new SveLoadStore(), sve_ldst);
+        register(new SveMultiplyAdd(), sve_mla);
+        register(new SvePredicateGen(), sve_pred_gen);
+        register(new SvePredicateLogic(), sve_pred_logic);
+        register(new SveReduce(), sve_reduce);
+        register(new SveTernary(), sve_ternary);
+        register(new SveVectorLength(), sve_vl);
+        register(new SveWhile(), sve_while);
+        register(new TestBranch(), testbranch);
+    }
+
+    private static void register(InstructionEncoder encoder, InstructionGroup... groups) {
+        for (InstructionGroup group : groups) {
+            encoders[group.ordinal()] = encoder;
+        }
+    }
+
+    /** Returns the encoder shared by all instructions of @a group. */
+    static InstructionEncoder forGroup(InstructionGroup group) {
+        InstructionEncoder encoder = encoders[group.ordinal()];
+        if (encoder == null) {
+            throw new IllegalArgumentException("no encoder for " + group);
+        }
+
+        return encoder;
+    }
+
+    //! @brief Encodes the instruction described by @a id and emits it to @a a.
+    abstract void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5);
+
+    // Field encoders working on register codes (see @c REG) and plain integers.
+    // Unlike the operand based encoders they reject values that do not fit into
+    // the instruction instead of masking them.
+
+    //! @brief Return the 5 bit register number of general purpose register @a reg.
+    static int gpIndex(int reg) {
+        int type = reg & REGTYPE_MASK;
+        if (type != REG_GPR && type != REG_GPT) {
+            throw new IllegalArgumentException("invalid register 0x" + Integer.toHexString(reg));
+        }
+
+        return reg & REGCODE_MASK;
+    }
+
+    //! @brief Return @c true if @a reg is a 64 bit general purpose register.
+    static boolean isX(int reg) {
+        return (reg & REGTYPE_MASK) == REG_GPR;
+    }
+
+    //! @brief Return the 5 bit register number of floating point register @a reg.
+    static int fpIndex(int reg) {
+        if (!isFp(reg)) {
+            throw new IllegalArgumentException("invalid register 0x" + Integer.toHexString(reg));
+        }
+
+        return reg & REGCODE_MASK;
+    }
+
+    //! @brief Return @c true if @a reg is a floating point register.
+    static boolean isFp(int reg) {
+        int type = reg & REGTYPE_MASK;
+        return type == REG_FPS || type == REG_FPD;
+    }
+
+    //! @brief Return the @c ftype field for floating point register @a reg: 0 single, 1 double precision.
+    static int fpType(int reg) {
+        fpIndex(reg);
+        return (reg & REGTYPE_MASK) == REG_FPD ? 1 : 0;
+    }
+
+    //! @brief Return the 8 bit @c FMOV immediate of the IEEE double @a bits (see VFPExpandImm()).
+    static int fpImm8(long bits) {
+        int exp = (int) (bits >>> 52) & 0x7ff;
+        if ((bits & 0xffffffffffffL) != 0 || (exp >>> 2 != 0x100 && exp >>> 2 != 0xff)) {
+            throw new IllegalArgumentException("immediate out of range: " + Double.longBitsToDouble(bits));
+        }
+
+        return (int) (bits >>> 63) << 7 | (exp >>> 2 == 0xff ? 1 << 6 : 0) | (exp & 3) << 4 | (int) (bits >>> 48) & 0xf;
+    }
+
+    //! @brief Return the @c V bit of load/store @a id of register @a rt: set for floating point registers.
+    static int vectorBit(InstructionDescription id, Operand rt) {
+        if (rt instanceof VectorRegister || rt instanceof ScalableRegister || rt instanceof PredicateRegister) {
+            throw new IllegalArgumentException("illegal arguments");
+        }
+        if (!(rt instanceof Register) || !((Register) rt).isFp()) {
+            return 0;
+        }
+        switch (id.code) {
+            case INST_LDR_IMM_POST:
+            case INST_LDR_IMM_PRE:
+            case INST_LDR_IMM_OFF:
+            case INST_LDR_REG:
+            case INST_LDR_LOADLIT:
+            case INST_STR_LDST_IMM9_PRE:
+            case INST_STR_LDST_IMM9_POST:
+            case INST_STR_LDST_POS:
+            case INST_STR_LDST_REGOFF:
+            case INST_LDP_POST_INDEXED_IDST_IMM9:
+            case INST_LDP_PRE_INDEXED_IDST_IMM9:
+            case INST_LDP_LDSTPAIR_OFF_LDST_POS:
+            case INST_STP_LDSTPAIR_INDEXED_POST:
+            case INST_STP_LDSTPAIR_INDEXED_PRE:
+            case INST_STP_LDSTPAIR_OFF:
+                return 1 << 26;
+            default:
+                throw new IllegalArgumentException("illegal arguments");
+        }
+    }
+
+    static int encodeAddSubImm(int opcode, int rd, int rn, int imm12, int shift) {
+        if (imm12 < 0 || imm12 > 0xfff) {
+            throw new IllegalArgumentException("immediate out of range: " + imm12);
+        }
+        if (shift != 0 && shift != 12) {
+            throw new IllegalArgumentException("shift must be 0 or 12: " + shift);
+        }
+
+        return opcode | (isX(rn) ? 1 << 31 : 0) | (shift == 12 ? 1 << 22 : 0) | imm12 << 10
+                | gpIndex(rn) << 5 | gpIndex(rd);
+    }
+
+    //! @brief Encode ADD/SUB (extended register); @a option is the extend (UXTB..SXTX), @a amount 0 to 4.
+    static int encodeAddSubExt(int opcode, int rd, int rn, int rm, int option, int amount) {
+        if (option < 0 || option > 7 || amount < 0 || amount > 4) {
+            throw new IllegalArgumentException("invalid extend");
+        }
+
+        return opcode | (isX(rn) ? 1 << 31 : 0) | gpIndex(rm) << 16 | option << 13 | amount << 10
+                | gpIndex(rn) << 5 | gpIndex(rd);
+    }
+
+    static int encodeAddSubShift(int opcode, int rd, int rn, int rm, int type, int amount) {
+        if (type < SHIFT_ENUM.LSL || type > SHIFT_ENUM.ASR) {
+            throw new IllegalArgumentException("invalid shift type " + type);
+        }
+
+        return opcode | shiftedRegister(rd, rn, rm, type, amount);
+    }
+
+    static int encodeLogicalShift(int opcode, int rd, int rn, int rm, int type, int amount) {
+        if (type < SHIFT_ENUM.LSL || type > SHIFT_ENUM.RESERVED) {
+            throw new IllegalArgumentException("invalid shift type " + type);
+        }
+
+        return opcode | shiftedRegister(rd, rn, rm, type, amount);
+    }
+
+    private static int shiftedRegister(int rd, int rn, int rm, int type, int amount) {
+        if (amount < 0 || amount >= (isX(rn) ? 64 : 32)) {
+            throw new IllegalArgumentException("shift amount out of range: " + amount);
+        }
+
+        return (isX(rn) ? 1 << 31 : 0) | type << 22 | gpIndex(rm) << 16 | amount << 10
+                | gpIndex(rn) << 5 | gpIndex(rd);
+    }
+
+    static int encodeMoveWide(int opcode, int rd, int imm16, int shift) {
+        if (imm16 < 0 || imm16 > 0xffff) {
+            throw new IllegalArgumentException("immediate out of range: " + imm16);
+        }
+        if ((shift & 15) != 0 || shift < 0 || shift >= (isX(rd) ? 64 : 32)) {
+            throw new IllegalArgumentException("invalid shift " + shift);
+        }
+
+        return opcode | (isX(rd) ? 1 << 31 : 0) | (shift >> 4) << 21 | imm16 << 5 | gpIndex(rd);
+    }
+
+    //! @brief Encode AND/ORR/EOR/ANDS (immediate) with the bitmask immediate @a imm.
+    static int encodeLogicalImm(int opcode, int rd, int rn, long imm) {
+        int bitmask = LogicalImmediate.lookup(imm, isX(rn) ? 64 : 32);
+        if (bitmask < 0) {
+            throw new IllegalArgumentException("not a bitmask immediate: 0x" + Long.toHexString(imm));
+        }
+
+        return encodeLogicalBitmask(opcode, rd, rn, bitmask);
+    }
+
+    //! @brief Encode AND/ORR/EOR/ANDS (immediate) with the N:immr:imms field @a bitmask, see LogicalImmediate.encode().
+    static int encodeLogicalBitmask(int opcode, int rd, int rn, int bitmask) {
+        return opcode | (isX(rn) ? 1 << 31 : 0) | bitmask << 10 | gpIndex(rn) << 5 | gpIndex(rd);
+    }
+
+    //! @brief Encode load/store with scaled unsigned offset, @a size is log2 of the access size.
+    static int encodeLoadStoreUnsigned(int opcode, int size, int rt, int rn, int offset) {
+        int scaled = offset >> size;
+        if (offset < 0 || (scaled << size) != offset || scaled > 0xfff) {
+            throw new IllegalArgumentException("offset out of range: " + offset);
+        }
+
+        return opcode | scaled << 10 | gpIndex(rn) << 5 | gpIndex(rt);
+    }
+
+    //! @brief Encode pre/post indexed load/store with signed 9 bit @a offset.
+    static int encodeLoadStoreIndexed(int opcode, int rt, int rn, int offset) {
+        if (offset < -256 || offset > 255) {
+            throw new IllegalArgumentException("offset out of range: " + offset);
+        }
+
+        return opcode | (offset & 0x1ff) << 12 | gpIndex(rn) << 5 | gpIndex(rt);
+    }
+
+    static int encodeLoadStorePair(int opcode, int rt, int rt2, int rn, int offset) {
+        if (isX(rt) != isX(rt2)) {
+            throw new IllegalArgumentException("register pair must have the same size");
+        }
+        int size = isX(rt) ? 3 : 2;
+        int scaled = offset >> size;
+        if ((scaled << size) != offset || scaled < -64 || scaled > 63) {
+            throw new IllegalArgumentException("offset out of range: " + offset);
+        }
+
+        return opcode | (isX(rt) ? 1 << 31 : 0) | (scaled & 0x7f) << 15 | gpIndex(rt2) << 10
+                | gpIndex(rn) << 5 | gpIndex(rt);
+    }
+
+    static int encodeBranchReg(int opcode, int rn) {
+        return opcode | gpIndex(rn) << 5;
+    }
+
+    //! @brief Encode an atomic or exclusive access with status or source @a rs, @a rt and address [@a rn].
+    static int encodeAtomic(int opcode, int rs, int rt, int rn) {
+        return opcode | gpIndex(rs) << 16 | gpIndex(rn) << 5 | gpIndex(rt);
+    }
+
+    // Kinds of pc relative fields that reference a label (see Assembler_A64.bind()).
+
+    //! @brief imm26 of @c B / @c BL, +/-128MB.
+    static final int FIXUP_BRANCH26 = 0;
+    //! @brief imm19 of @c B.cond and @c CBZ / @c CBNZ, +/-1MB.
+    static final int FIXUP_BRANCH19 = 1;
+    //! @brief imm14 of @c TBZ / @c TBNZ, +/-32KB.
+    static final int FIXUP_BRANCH14 = 2;
+    //! @brief immhi:immlo of @c ADR, +/-1MB in bytes.
+    static final int FIXUP_ADR = 3;
+    //! @brief immhi:immlo of @c ADRP, +/-4GB in pages; only known once the code address is.
+    static final int FIXUP_ADRP = 4;
+    //! @brief imm19 of @c LDR / @c LDRSW / @c PRFM (literal), +/-1MB.
+    static final int FIXUP_LITERAL19 = 5;
+
+    //! @brief Return @c true for conditional branches that can be rewritten to reach any target.
+    static boolean isRelaxable(int kind) {
+        return kind == FIXUP_BRANCH19 || kind == FIXUP_BRANCH14;
+    }
+
+    /**
+     * Returns the conditional branch @a inst with inverted condition and a
+     * displacement of @a disp bytes.
+     */
+    static int invertBranch(int inst, int disp) {
+        if ((inst & 0xff000010) == 0x54000000) {
+            if ((inst & 0xe) == 0xe) {
+                return 0xd503201f;          /*AL and NV can't be inverted, NOP*/
+            }
+            inst ^= 1;                      /*B.cond: conditions come in pairs*/
+        } else {
+            inst ^= 1 << 24;                /*CBZ <-> CBNZ, TBZ <-> TBNZ*/
+        }
+
+        return encodeDisplacement(inst, (inst & 0x7e000000) == 0x36000000 ? FIXUP_BRANCH14 : FIXUP_BRANCH19, disp);
+    }
+
+    //! @brief Return @c true if the byte displacement @a disp fits into a field of @a kind.
+    static boolean isDisplacementInRange(int kind, long disp) {
+        switch (kind) {
+            case FIXUP_BRANCH26:
+                return (disp & 3) == 0 && disp >= -(1L << 27) && disp < (1L << 27);
+            case FIXUP_BRANCH19:
+            case FIXUP_LITERAL19:
+                return (disp & 3) == 0 && disp >= -(1L << 20) && disp < (1L << 20);
+            case FIXUP_BRANCH14:
+                return (disp & 3) == 0 && disp >= -(1L << 15) && disp < (1L << 15);
+            case FIXUP_ADR:
+            case FIXUP_ADRP:
+                return disp >= -(1L << 20) && disp < (1L << 20);
+            default:
+                throw new IllegalArgumentException("invalid fixup kind");
+        }
+    }
+
+    /**
+     * Replaces the displacement field of @a kind in @a inst by @a disp (bytes,
+     * or pages for @c FIXUP_ADRP).
+     */
+    static int encodeDisplacement(int inst, int kind, long disp) {
+        if (!isDisplacementInRange(kind, disp)) {
+            throw new IllegalArgumentException("label out of range: " + disp);
+        }
+        int d = (int) disp;
+        switch (kind) {
+            case FIXUP_BRANCH26:
+                return (inst & ~0x3ffffff) | (d >> 2) & 0x3ffffff;
+            case FIXUP_BRANCH19:
+            case FIXUP_LITERAL19:
+                return (inst & ~(0x7ffff << 5)) | ((d >> 2) & 0x7ffff) << 5;
+            case FIXUP_BRANCH14:
+                return (inst & ~(0x3fff << 5)) | ((d >> 2) & 0x3fff) << 5;
+            default:
+                return (inst & ~(0x3 << 29 | 0x7ffff << 5)) | (d & 0x3) << 29 | ((d >> 2) & 0x7ffff) << 5;
+        }
+    }
+
+    /** Encoder for @c addsub_carry, @c addsub_ext. */
+    static final class AddSubExtended extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            int inst_to_emit = 0;
+            if ((o1.isReg() && o2.isReg() && o3.isReg()) || (o4 != null && o4.isExtend())){
+                Register regD = (Register) o1;
+                Register regN = (Register) o2;
+                Register regM = (Register) o3;
+                Ext extV = null;
+                if(o4 != _none && o4.isExtend())
+                    extV = (Ext) o4;
+                if(o1.size() == SIZE_DWORD){
+                        inst_to_emit |= 1 << 31;
+                }
+                inst_to_emit |= regD.code & 0b11111;
+                inst_to_emit |= (regN.code &  0b11111) << 5;
+                inst_to_emit |= (regM.code &  0b11111) << 16;
+                if((id.group == addsub_ext) && (extV != null)){
+                    inst_to_emit |= (extV.value() & 0b111) << 10;
+                    inst_to_emit |= (extV.type() & 0b111) << 13;
+                }
+                inst_to_emit |= id.opcode;
+                a._emitInt32(inst_to_emit);
+            }
+            else
+                throw new IllegalArgumentException("illegal arguments");
+        }
+    }
+
+    /** Encoder for @c addsub_imm, @c addsub_shift. */
+    static final class AddSubImmShift extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            int inst_to_emit = 0;
+            /*CMP/CMN have no destination (Rd is 31 in the opcode), NEG/NEGS and MOV have no first source (Rn is 31)*/
+            boolean compare = (id.opcode & 0x1f) == 0x1f;
+            boolean noSource = (id.opcode & 0x3e0) == 0x3e0;
+            Register regD = null;
+            Register regN = null;
+            Operand src;
+            Operand sftOp;
+            if (compare && o1.isReg()){
+                regN = (Register) o1;
+                src = o2;
+                sftOp = o3;
+            }
+            else if (noSource && o1.isReg()){
+                regD = (Register) o1;
+                src = o2;
+                sftOp = o3;
+            }
+            else if (o1.isReg() && o2.isReg()){
+                regD = (Register) o1;
+                regN = (Register) o2;
+                src = o3;
+                sftOp = o4;
+            }
+            else
+                throw new IllegalArgumentException("illegal arguments");
+            Shift sft = null;
+            if (sftOp != _none && sftOp != null)
+                sft = (Shift) sftOp;
+            if(o1.size() == SIZE_DWORD)
+                inst_to_emit |= 1 << 31;
+            if (regD != null)
+                inst_to_emit |= regD.code & 0b11111;
+            if (regN != null)
+                inst_to_emit |= (regN.code &  0b11111) << 5;
+            if(id.group == addsub_shift || id.code == INST_MOV_ADDSUB_IMM){   /*MOV (register) is ORR Xd, XZR, Xm*/
+                if (!src.isReg())
+                    throw new IllegalArgumentException("illegal arguments");
+                inst_to_emit |= (((Register) src).code &  0b11111) << 16;
+                if (sft != null){
+                    inst_to_emit |= (sft.value() &  0b111111) << 10;
+                    inst_to_emit |= (sft.type() & 0b11) << 22;
+                }
+            }
+            else {
+                if (!src.isImm())
+                    throw new IllegalArgumentException("illegal arguments");
+                long val = ((Immediate) src).value();
+                if (val < 0 || val > 0xfff)
+                    throw new IllegalArgumentException("immediate out of range: " + val);
+                inst_to_emit |= (int) val << 10;
+                if (sft != null && sft.value() == 12)
+                    inst_to_emit |= 1 << 22;    /*sh: LSL #12*/
+                else if (sft != null && sft.value() != 0)
+                    throw new IllegalArgumentException("shift must be 0 or 12");
+            }
+            inst_to_emit |= id.opcode;
+            a._emitInt32(inst_to_emit);
+        }
+    }
+
+    /** Encoder for @c bitfield. */
+    static final class Bitfield extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            int inst_to_emit = 0;
+            if (o1.isReg() && o2.isReg()){
+                Register regD = (Register) o1;
+                Register regN = (Register) o2;
+                Immediate val1 = null ;
+                if(o3.isImm())
+                    val1 = (Immediate) o3;
+                Immediate val2 = null;
+                if(o4.isImm())
+                    val2 = (Immediate) o4;
+                if(o1.size() == SIZE_DWORD){
+                    inst_to_emit |= 1 << 31;
+                    inst_to_emit |= 1 << 22;
+                }
+                inst_to_emit |= regD.code & 0b11111;
+                inst_to_emit |= (regN.code &  0b11111) << 5;
+                if (val1 != null)
+                    inst_to_emit |= (val1.value() &  0b111111) << 10;
+                if (val2 != null)
+                    inst_to_emit |= (val2.value() &  0b111111) << 16;
+                inst_to_emit |= id.opcode;
+                a._emitInt32(inst_to_emit);
+            }
+            else
+                throw new IllegalArgumentException("illegal arguments");
+        }
+    }
+
+    /** Encoder for @c branch_imm. */
+    static final class BranchImm extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            int inst_to_emit = 0;
+            if (o1.isLabel()){
+                a._emitLabelRef(id.opcode, (Label) o1, FIXUP_BRANCH26);
+            }
+            else if (o1 != _none){
+                Immediate mem = (Immediate) o1;
+                /*<label> Is the program label to be unconditionally branched to. Its offset from the address of this instruction,
+                in the range +/-128MB, is encoded as "imm26" times 4.*/
+                a._emitJmpOrCallReloc(id.opcode, mem.value());
+            }
+            else
+                throw new IllegalArgumentException("illegal arguments");
+        }
+    }
+
+    /** Encoder for @c branch_reg. */
+    static final class BranchReg extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            int inst_to_emit = 0;
+            Register regN = null;
+            if(o1 != _none && o1 != null && o1.isReg()) /*because at jnr-ffi level this is called like this a.ret((Register)null);*/
+            regN = (Register) o1;
+            if (regN != null)
+                inst_to_emit |= (regN.code &  0b11111) << 5;
+            if(regN == null && id.code == INST_RET_BRANCH_REG)
+                inst_to_emit |= 0b11110 << 5;   /*in the case of RET default location is X30*/
+            inst_to_emit |= id.opcode;
+            a._emitInt32(inst_to_emit);
+        }
+    }
+
+    /** Encoder for @c compbranch. */
+    static final class CompBranch extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            int inst_to_emit = 0;
+            if (o1.isReg() && o2.isLabel()){
+                Register regD = (Register) o1;
+                Label labl = (Label) o2;
+                if(o1.size() == SIZE_DWORD)
+                    inst_to_emit |= 1 << 31;
+                inst_to_emit |= regD.code & 0b11111;
+                inst_to_emit |= id.opcode;
+                a._emitLabelRef(inst_to_emit, labl, FIXUP_BRANCH19);
+            }
+            else
+                throw new IllegalArgumentException("illegal arguments");
+        }
+    }
+
+    /** Encoder for @c condbranch. */
+    static final class CondBranch extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            int inst_to_emit = 0;
+            if (o1.isLabel()){
+                a._emitLabelRef(id.opcode, (Label) o1, FIXUP_BRANCH19);
+            }
+            else if (o1.isImm()){
+                Immediate imm19 = (Immediate) o1;
+                if (imm19 != null)
+                    inst_to_emit |= (imm19.value() & 0x7ffff) << 5;
+                inst_to_emit |= id.opcode;
+                a._emitInt32(inst_to_emit);
+            }
+            else
+                throw new IllegalArgumentException("illegal arguments");
+        }
+    }
+
+    /** Encoder for @c condcmp_imm, @c condcmp_reg. */
+    static final class CondCompare extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            int inst_to_emit = 0;
+            if (o1.isReg() && o2.isImm()){
+                Register regD = (Register) o1;
+                Register regM = (Register) o2;
+                Immediate val = (Immediate) o2;
+                Immediate nzcv = (Immediate) o3;
+                Conditions cond = (Conditions) o4;
+                if (regD != null)
+                    inst_to_emit |= regD.code & 0b11111;
+                if (id.group == condcmp_reg && regM != null)
+                    inst_to_emit |= (regM.code &  0b11111) << 16;
+                else{
+                    if (val != null)
+                        inst_to_emit |= (val.value() & 0b11111) << 16;
+                }
+                if (nzcv != null)
+                    inst_to_emit |= nzcv.value() & 0b1111;
+                if (cond != null)
+                    inst_to_emit |= (cond.value() & 0b1111) << 12;
+                inst_to_emit |= id.opcode;
+                a._emitInt32(inst_to_emit);
+            }
+            else
+                throw new IllegalArgumentException("illegal arguments");
+        }
+    }
+
+    /** Encoder for @c condsel. */
+    static final class CondSelect extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            int inst_to_emit = 0;
+            if (o1.isReg()){
+                Register regD = (Register) o1;
+                Register regN = (Register) o2;
+                Register regM = (Register) o3;
+                Conditions cond0 = (Conditions) o4;
+                Conditions cond1 = (Conditions) o3;
+                Conditions cond2 = (Conditions) o2;
+                if (regD != null)
+                    inst_to_emit |= regD.code & 0b11111;
+                    if(o4.isCond() && ((cond0.value() & 0b1110) != 0b1110)){
+                        inst_to_emit |= (cond0.value() ^ 0b1) << 12;
+                        inst_to_emit |= (regN.code &  0b11111) << 5;
+                        inst_to_emit |= (regM.code &  0b11111) << 16;
+                    }
+                    else if(o3.isCond() && ((cond1.value() & 0b1110) != 0b1110)){
+                        inst_to_emit |= (cond1.value() ^ 0b1) << 12;
+                        inst_to_emit |= (regN.code &  0b11111) << 5;
+                        inst_to_emit |= (0b11111) << 16;    /*regM is 0b11111 if not explicitly mentioned in ASM inst*/
+                    }
+                    else if(o2.isCond() && ((cond2.value() & 0b1110) != 0b1110)){
+                        inst_to_emit |= (cond1.value() ^ 0b1) << 12;
+                        inst_to_emit |= (0b11111) << 5;
+                        inst_to_emit |= (0b11111) << 16;    /*regM&N is 0b11111 if not explicitly mentioned in ASM inst*/
+                    }
+                    inst_to_emit |= id.opcode;
+                    a._emitInt32(inst_to_emit);
+                }
+                else
+                    throw new IllegalArgumentException("illegal arguments");
+        }
+    }
+
+    /** Encoder for @c dp_1src, @c dp_2src, @c dp_3src. */
+    static final class DataProcessing extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            int inst_to_emit = 0;
+            if (o1.isReg() && o2.isReg()){
+                Register regD = (Register) o1;
+                Register regN = (Register) o2;
+                Register regM = o3.isReg() ? (Register) o3 : null;
+                Register regA = o4.isReg() ? (Register) o4 : null;
+                if (id.group == dp_2src && (id.opcode & 0xe000) == 0x4000
+                        && (isX(regD.code) || isX(regN.code) || regM == null || isX(regM.code) != (id.opcode < 0))) {
+                    throw new IllegalArgumentException("illegal arguments");    /*CRC32 Wd, Wn, Wm or Xm*/
+                }
+                if (regD != null)
+                    inst_to_emit |= regD.code & 0b11111;
+                if ((id.mask & 1 << 31) == 0 && isX(regD.code))
+                    inst_to_emit |= 1 << 31;    /*sf, unless the opcode fixes the size*/
+                if (regN != null)
+                    inst_to_emit |= (regN.code &  0b11111) << 5;
+                if (regM != null && (id.group == dp_2src || id.group == dp_3src))
+                    inst_to_emit |= (regM.code &  0b11111) << 16;
+                if (regA != null && id.group == dp_3src)
+                    inst_to_emit |= (regA.code &  0b11111) << 10;
+                inst_to_emit |= id.opcode;
+                a._emitInt32(inst_to_emit);
+            }
+            else
+                throw new IllegalArgumentException("illegal arguments");
+        }
+    }
+
+    /** Encoder for @c exception. */
+    static final class ExceptionGen extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            int inst_to_emit = 0;
+            if (o1.isImm()){
+                Immediate imm16 = (Immediate) o1;
+                if(imm16 != null)
+                    inst_to_emit |= (imm16.value() & 0xffff) << 5;
+                inst_to_emit |= id.opcode;
+                a._emitInt32(inst_to_emit);
+            }
+            else
+                throw new IllegalArgumentException("illegal arguments");
+        }
+    }
+
+    /** Encoder for @c extract. */
+    static final class Extract extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            int inst_to_emit = 0;
+            if (o1.isReg() && o2.isReg()){
+                Register regD = (Register) o1;
+                Register regN = (Register) o2;
+                Register regM = (Register) o3;
+                Immediate imm6 = (Immediate) o4;
+                Immediate imm6_1 = (Immediate) o3;
+                if (regD != null)
+                    inst_to_emit |= regD.code & 0b11111;
+                if (regN != null)
+                    inst_to_emit |= (regN.code &  0b11111) << 5;
+                if (o3.isReg() && regM != null){
+                    inst_to_emit |= (regM.code &  0b11111) << 16;
+                    inst_to_emit |= (imm6.value() & 0b111111) << 10;
+                }
+                else if (o3.isImm() && imm6_1 != null ){
+                    inst_to_emit |= (imm6_1.value() & 0b111111) << 10;
+                    inst_to_emit |= (regN.code &  0b11111) << 16;   /*in the case of ROR Rn and Rm will hold same value*/
+                }
+                inst_to_emit |= id.opcode;
+                a._emitInt32(inst_to_emit);
+            }
+            else
+                throw new IllegalArgumentException("illegal arguments");
+        }
+    }
+
+    /** Encoder for @c fp_1src, @c fp_2src, @c fp_3src. */
+    static final class FpDataProcessing extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            if (!o1.isReg() || !o2.isReg()) {
+                throw new IllegalArgumentException("illegal arguments");
+            }
+            int rd = ((Register) o1).code;
+            int rn = ((Register) o2).code;
+            int inst = id.opcode | fpType(rn) << 22 | fpIndex(rn) << 5 | fpIndex(rd);
+            if (id.code == INST_FCVT_FP_1SRC) {
+                if (fpType(rd) == fpType(rn)) {
+                    throw new IllegalArgumentException("illegal arguments");
+                }
+                inst |= fpType(rd) << 15;   /*opc is the destination type*/
+            } else if (fpType(rd) != fpType(rn)) {
+                throw new IllegalArgumentException("registers must have the same precision");
+            }
+            if (id.group != fp_1src) {
+                inst |= fpOperand(o3, rn) << 16;
+            }
+            if (id.group == fp_3src) {
+                inst |= fpOperand(o4, rn) << 10;
+            }
+            a._emitInt32(inst);
+        }
+    }
+
+    //! @brief Return the register number of operand @a o, a floating point register of the precision of @a like.
+    private static int fpOperand(Operand o, int like) {
+        if (!o.isReg()) {
+            throw new IllegalArgumentException("illegal arguments");
+        }
+        int reg = ((Register) o).code;
+        if (fpType(reg) != fpType(like)) {
+            throw new IllegalArgumentException("registers must have the same precision");
+        }
+        return fpIndex(reg);
+    }
+
+    /** Encoder for @c fp_compare. */
+    static final class FpCompare extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            if (!o1.isReg()) {
+                throw new IllegalArgumentException("illegal arguments");
+            }
+            int rn = ((Register) o1).code;
+            int inst = id.opcode | fpType(rn) << 22 | fpIndex(rn) << 5;
+            if (o2.isImm()) {
+                if (((Immediate) o2).value() != 0) {
+                    throw new IllegalArgumentException("can only compare with 0.0");
+                }
+                inst |= 1 << 3;     /*FCMP Rn, #0.0*/
+            } else {
+                inst |= fpOperand(o2, rn) << 16;
+            }
+            a._emitInt32(inst);
+        }
+    }
+
+    /** Encoder for @c fp_condsel. */
+    static final class FpCondSelect extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            if (!o1.isReg() || !o2.isReg() || !o4.isCond()) {
+                throw new IllegalArgumentException("illegal arguments");
+            }
+            int rd = ((Register) o1).code;
+            long cond = ((Conditions) o4).value();
+            if (cond < 0 || cond > 0xf) {
+                throw new IllegalArgumentException("invalid condition " + cond);
+            }
+            a._emitInt32(id.opcode | fpType(rd) << 22 | fpOperand(o3, rd) << 16 | (int) cond << 12
+                    | fpOperand(o2, rd) << 5 | fpIndex(rd));
+        }
+    }
+
+    /** Encoder for @c fp_imm, the immediate is the IEEE double bit pattern. */
+    static final class FpImmediate extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            if (!o1.isReg() || !o2.isImm()) {
+                throw new IllegalArgumentException("illegal arguments");
+            }
+            int rd = ((Register) o1).code;
+            a._emitInt32(id.opcode | fpType(rd) << 22 | fpImm8(((Immediate) o2).value()) << 13 | fpIndex(rd));
+        }
+    }
+
+    /** Encoder for @c fp_int, conversions and moves between general purpose and floating point registers. */
+    static final class FpConvert extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            if (!o1.isReg() || !o2.isReg()) {
+                throw new IllegalArgumentException("illegal arguments");
+            }
+            int rd = ((Register) o1).code;
+            int rn = ((Register) o2).code;
+            boolean move = id.code == INST_FMOV_FP_INT;
+            boolean toFp = id.code == INST_SCVTF_FP_INT || id.code == INST_UCVTF_FP_INT || move && isFp(rd);
+            int fp = toFp ? rd : rn;
+            int gp = toFp ? rn : rd;
+            if (move && isX(gp) != (fpType(fp) == 1)) {
+                throw new IllegalArgumentException("registers must have the same size");
+            }
+            int inst = id.opcode | (isX(gp) ? 1 << 31 : 0) | fpType(fp) << 22 | (move && toFp ? 1 << 16 : 0);
+            a._emitInt32(inst | (toFp ? gpIndex(rn) << 5 | fpIndex(rd) : fpIndex(rn) << 5 | gpIndex(rd)));
+        }
+    }
+
+    /** Encoder for @c ldst_imm9, @c ldst_pos. */
+    static final class LoadStoreImm extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            int inst_to_emit = 0;
+            if (o1.isReg() || id.code == INST_PRFM_LDST_POS__IMMEDIATE){
+                Register regD = null;
+                PRFOP_ENUM pfrop = null;
+                if(id.code == INST_PRFM_LDST_POS__IMMEDIATE && o1 != null)
+                    pfrop = (PRFOP_ENUM)o1;
+                else if(o1 != _none)
+                    regD = (Register) o1;
+                Register regN = null;
+                Post_index postindex = null;
+                Pre_index preindex = null;
+                Offset offset = null;
+                Immediate imm9 = null;
+                Immediate imm12 = null;
+                if(o2 != _none && o2.isReg())
+                    regN = (Register) o2;
+                else if((o2 != _none) && (o2.isPreIndex() || o2.isPostIndex() || o2.isOffset())){
+                    if(o2.isPreIndex()) {
+                        preindex = (Pre_index)o2;
+                        regN = preindex.getRegister();
+                        imm9 = preindex.getPreIndex();
+                    }
+                    else if(o2.isPostIndex()){
+                        postindex = (Post_index)o2;
+                        regN = postindex.getRegister();
+                        imm9 = postindex.getPostIndex();
+                    }
+                    else{
+                        offset = (Offset)o2;
+                        regN = offset.getRegister();
+                        imm12 = offset.getOffset();
+                    }
+                }
+                if(o3 != _none && id.group == ldst_imm9 && !(o2.isPreIndex() || o2.isPostIndex()))
+                    imm9 = (Immediate)o3;
+                if(o3 != _none && id.group == ldst_pos && !(o2.isPreIndex() || o2.isPostIndex()))
+                    imm12 = (Immediate) o3;
+                if(o1.size() == SIZE_DWORD && id.code != INST_PRFM_LDST_POS__IMMEDIATE && id.code != INST_LDRSW_IMM_OFF && id.code != INST_LDRH_IMM_OFF && id.code != INST_LDRSH_IMM_OFF && id.code != INST_LDRB_IMM_OFF && id.code != INST_LDRSB_IMM_OFF)
+                    inst_to_emit |= 1 << 30;
+                if(o1.size() == SIZE_WORD && id.code != INST_LDRB_IMM_OFF  && (id.code == INST_LDRSH_IMM_OFF || id.code == INST_LDRSB_IMM_OFF) )
+                    inst_to_emit |= 1 << 22;
+                if (regD != null)
+                    inst_to_emit |= regD.code & 0b11111 | vectorBit(id, regD);
+                else if (pfrop != null)
+                    inst_to_emit |= pfrop.intValue() & 0b11111; /*in case of prfm inst*/
+                if (regN != null)
+                    inst_to_emit |= (regN.code &  0b11111) << 5;
+                if (id.group == ldst_imm9)
+                    inst_to_emit |= (imm9.value() & 0x1ff) << 12;
+                else if(id.group == ldst_pos){
+                    /*<pimm> Is the optional positive immediate byte offset, a multiple of the access size, encoded in the "imm12" field as <pimm>/size.
+                    Any other offset in -256..255 is encoded as the unscaled LDUR / STUR form, which has bits 25:24 clear.*/
+                    int size = (inst_to_emit | id.opcode) >>> 30;
+                    long pimm = imm12.value();
+                    if (pimm >= 0 && (pimm & ((1 << size) - 1)) == 0 && (pimm >> size) <= 0xfff)
+                        inst_to_emit |= (int) (pimm >> size) << 10 | id.opcode;
+                    else if (pimm >= -256 && pimm <= 255)
+                        inst_to_emit |= ((int) pimm & 0x1ff) << 12 | id.opcode & ~(1 << 24);
+                    else
+                        throw new IllegalArgumentException("illegal arguments");
+                }
+                if (id.group != ldst_pos)
+                    inst_to_emit |= id.opcode;
+                a._emitInt32(inst_to_emit);
+            }
+            else
+                throw new IllegalArgumentException("illegal arguments");
+        }
+    }
+
+    /** Encoder for @c ldst_imm9_2reg, @c ldst_pos_2reg. */
+    static final class LoadStoreImmPair extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            int inst_to_emit = 0;
+            if (o1.isReg()){
+                Register regT = (Register) o1;
+                Register regT2 = (Register) o2;
+                Post_index postindex = null;
+                Pre_index preindex = null;
+                Offset offset = null;
+                Immediate imm7 = null;
+                Register regN = null;
+                if(o3 != _none && o3.isPreIndex() || o3.isPostIndex() || o3.isOffset()){
+                    if(o3.isPreIndex()) {
+                        preindex = (Pre_index)o3;
+                        regN = preindex.getRegister();
+                        imm7 = preindex.getPreIndex();
+                    }
+                    else if(o3.isPostIndex()){
+                        postindex = (Post_index)o3;
+                        regN = postindex.getRegister();
+                        imm7 = postindex.getPostIndex();
+                    }
+                    else{
+                        offset = (Offset)o3;
+                        regN = offset.getRegister();
+                        imm7 = offset.getOffset();
+                    }
+                }
+                if(o1.size() == SIZE_DWORD)
+                    inst_to_emit |= regT.isFp() ? 1 << 30 : 1 << 31;     /*opc is 01 for D, 10 for X registers*/
+                if (regT != null)
+                    inst_to_emit |= regT.code & 0b11111 | vectorBit(id, regT);
+                if (regN != null)
+                    inst_to_emit |= (regN.code &  0b11111) << 5;
+                if (regT2 != null)
+                    inst_to_emit |= (regT2.code &  0b11111) << 10;
+                /*<imm> For the 32-bit variant: is the optional signed immediate byte offset, a multiple of 4 in the range -256
+                to 252, defaulting to 0 and encoded in the "imm7" field as <imm>/4.
+                <imm> For the 64-bit variant: is the optional signed immediate byte offset, a multiple of 8 in the range -512
+                to 504, defaulting to 0 and encoded in the "imm7" field as <imm>/8. */
+                if(imm7 != null)
+                    inst_to_emit |= ((imm7.value()>>((o1.size() == SIZE_DWORD)?(3):(2)))  & 0b1111111) << 15;
+                inst_to_emit |= id.opcode;
+                a._emitInt32(inst_to_emit);
+            }
+            else
+                throw new IllegalArgumentException("illegal arguments");
+        }
+    }
+
+    /** Encoder for @c ldst_regoff. */
+    static final class LoadStoreRegOffset extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            int inst_to_emit = 0;
+            if ((o1.isReg() && o2.isReg())  || id.code == INST_PRFM_LDST_REGOFF__REGISTER){
+                Register regD = null;
+                PRFOP_ENUM pfrop = null;
+                if(id.code == INST_PRFM_LDST_REGOFF__REGISTER)
+                    pfrop = (PRFOP_ENUM) o1;
+                else
+                    regD = (Register) o1;
+                Register regN = (Register) o2;
+                Register regM = (Register) o3;
+                Ext extnd = (Ext) o3;
+                if(o1.size() == SIZE_DWORD && id.code != INST_PRFM_LDST_REGOFF__REGISTER)
+                    inst_to_emit |= 1 << 30;
+                if (regD != null)
+                    inst_to_emit |= regD.code & 0b11111 | vectorBit(id, regD);
+                else
+                    inst_to_emit |= pfrop.intValue() & 0b11111;
+                if (regN != null)
+                    inst_to_emit |= (regN.code &  0b11111) << 5;
+                if (regM != null)
+                    inst_to_emit |= (regM.code &  0b11111) << 16;
+                if (o4 != null && o4.isExtend()){
+                    inst_to_emit |= (extnd.value() == 3 || extnd.value() == 2) ? (0b1 << 12) : (0);
+                    inst_to_emit |= (extnd.type() & 0b111) << 13;
+                }
+                inst_to_emit |= id.opcode;
+                a._emitInt32(inst_to_emit);
+            }
+            else
+                throw new IllegalArgumentException("illegal arguments");
+        }
+    }
+
+    /** Encoder for @c ldst_unpriv, @c ldst_unscaled. */
+    static final class LoadStoreUnscaled extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            int inst_to_emit = 0;
+            if (o1.isReg() && o2.isReg() || id.code == INST_PRFUM_LDST_UNSCALED){
+                Register regD = null;
+                PRFOP_ENUM pfrop = null;
+                if(id.code == INST_PRFUM_LDST_UNSCALED)
+                    pfrop = (PRFOP_ENUM) o1;
+                else
+                    regD = (Register) o1;
+                Register regN = (Register) o2;
+                Immediate imm9 = (Immediate) o3;
+                if (regD != null)
+                    inst_to_emit |= regD.code & 0b11111;
+                else
+                    inst_to_emit |= pfrop.intValue() & 0b11111;
+                if (regN != null)
+                    inst_to_emit |= (regN.code &  0b11111) << 5;
+                if (o3 != null && o3.isImm())
+                    inst_to_emit |= (imm9.value() &  0x1ff) << 12;
+                inst_to_emit |= id.opcode;
+                a._emitInt32(inst_to_emit);
+            }
+            else
+                throw new IllegalArgumentException("illegal arguments");
+        }
+    }
+
+    /** Encoder for @c ldstexcl, @c ldstexcl_op3. */
+    static final class LoadStoreExclusive extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            if (id.group == ldstexcl && o1.isReg() && o2.isReg() && o3.isNone()) {
+                /*LDAR, STLR, LDAPR, ... Rt, [Xn]; Rs is 11111 in the opcode*/
+                int rt = ((Register) o1).code;
+                int size = (id.mask & 1 << 30) == 0 && isX(rt) ? 1 << 30 : 0;
+                a._emitInt32(id.opcode | size | gpIndex(((Register) o2).code) << 5 | gpIndex(rt));
+                return;
+            }
+            int inst_to_emit = 0;
+            Register regD = (Register) o1;
+            Register regN = (Register) o2;
+            Register regM = null;
+            Offset offset = null;
+            if(o3 != null && o3.isReg())
+                regM = (Register) o3;
+            else if (o3 != null && o3.isOffset()){
+                offset = (Offset) o3;
+                regM = offset.getRegister();
+            }
+            inst_to_emit |= (regD.code & 0b11111) << 16;
+            inst_to_emit |= regN.code &  0b11111;
+            if(id.group == ldstexcl_op3 && regM != null)
+                inst_to_emit |= (regM.code &  0b11111) << 5;
+            inst_to_emit |= id.opcode;
+            a._emitInt32(inst_to_emit);
+        }
+    }
+
+    /** Encoder for @c ldapstl_unscaled: LDAPUR, STLUR Rt, [Xn, #simm9]. */
+    static final class LoadStoreOrderedUnscaled extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            if (!o1.isReg() || !o2.isOffset()) {
+                throw new IllegalArgumentException("illegal arguments");
+            }
+            int rt = ((Register) o1).code;
+            Offset address = (Offset) o2;
+            long offset = address.getOffset().value();
+            if (offset < -256 || offset > 255) {
+                throw new IllegalArgumentException("offset out of range: " + offset);
+            }
+            int size = (id.mask & 1 << 30) == 0 && isX(rt) ? 1 << 30 : 0;
+            a._emitInt32(id.opcode | size | ((int) offset & 0x1ff) << 12 | gpIndex(address.getRegister().code) << 5 | gpIndex(rt));
+        }
+    }
+
+    /** Encoder for @c ldstexcl_op4. */
+    static final class LoadStoreExclusivePair extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            int inst_to_emit = 0;
+            Register regS = (Register) o1;
+            Register regt = (Register) o2;
+            Register regt2 = (Register) o3;
+            Register regN = (Register) o3;
+            inst_to_emit |= (regS.code & 0b11111) << 16;
+            inst_to_emit |= regt.code &  0b11111;
+            inst_to_emit |= (regt2.code &  0b11111) << 10;
+            inst_to_emit |= (regN.code &  0b11111) << 5;
+            inst_to_emit |= id.opcode;
+            a._emitInt32(inst_to_emit);
+        }
+    }
+
+    /**
+     * Encoder for @c ldst_atomic and @c ldst_cas: Rs, Rt, [Xn]. The size of W/X
+     * forms follows Rs, @c CASP takes the first register of each even/odd pair.
+     */
+    /** Encoder for @c ldst_atomic, @c ldst_cas. */
+    static final class AtomicMemory extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            if (!o1.isReg() || !o2.isReg() || !o3.isReg()) {
+                throw new IllegalArgumentException("illegal arguments");
+            }
+            int rs = ((Register) o1).code;
+            int rt = ((Register) o2).code;
+            int rn = ((Register) o3).code;
+            if (id.group == ldst_cas && (id.opcode & 0x00800000) == 0 && ((rs | rt) & 1) != 0) {
+                throw new IllegalArgumentException("register pair must start at an even register");
+            }
+            int size = (id.mask & 1 << 30) == 0 && isX(rs) ? 1 << 30 : 0;
+            a._emitInt32(encodeAtomic(id.opcode | size, rs, rt, rn));
+        }
+    }
+
+    /** Encoder for @c ldstnapair_offs, @c ldstpair_off, @c ldstpair_indexed. */
+    static final class LoadStorePair extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            int inst_to_emit = 0;
+            if (o1.isReg() && o2.isReg()){
+                Register regD = (Register) o1;
+                Register regN = (Register) o2;
+                Register regM = null;
+                Pre_index preindex = null;
+                Post_index posindex = null;
+                Immediate imm7 = null;
+                if (o3.isReg())
+                    regM = (Register) o3;
+                else if (o3.isPostIndex()){
+                    posindex = (Post_index) o3;
+                    regM = posindex.getRegister();
+                    imm7 = posindex.getPostIndex();
+                }
+                else if(o3.isPreIndex()){
+                    preindex = (Pre_index) o3;
+                    regM = preindex.getRegister();
+                    imm7 = preindex.getPreIndex();
+                }
+                else if(o3.isOffset()){
+                    regM = ((Offset) o3).getRegister();
+                    imm7 = ((Offset) o3).getOffset();
+                }
+                if(o4 != _none && o4.isImm())
+                    imm7 = (Immediate) o4;
+                if (id.group == ldstexcl || id.group == ldstnapair_offs){
+                    if(o1.size() == SIZE_DWORD )
+                        inst_to_emit |= 0b1 << 30;
+                    else if(o1.size() == SIZE_QWORD )
+                        inst_to_emit |= 0b1 << 31;
+                }
+                else{
+                    if(o1.size() == SIZE_DWORD)
+                        inst_to_emit |= regD.isFp() ? 0b1 << 30 : 0b1 << 31;
+                }
+                inst_to_emit |= regD.code & 0b11111 | vectorBit(id, regD);
+                inst_to_emit |= (regN.code &  0b11111) << 10;
+                inst_to_emit |= (regM.code &  0b11111) << 5;
+                /*<imm> For the 32-bit variant: is the optional signed immediate byte offset, a multiple of 4 in the range -256
+                to 252, defaulting to 0 and encoded in the "imm7" field as <imm>/4.
+                <imm> For the 64-bit variant: is the optional signed immediate byte offset, a multiple of 8 in the range -512
+                to 504, defaulting to 0 and encoded in the "imm7" field as <imm>/8. */
+                if(imm7 != null)
+                    inst_to_emit |= ((imm7.value()>>((o1.size() == SIZE_DWORD)?(3):(2)))  & 0b1111111) << 15;
+                inst_to_emit |= id.opcode;
+                a._emitInt32(inst_to_emit);
+            }
+            else
+                throw new IllegalArgumentException("illegal arguments");
+        }
+    }
+
+    /** Encoder for @c loadlit. */
+    static final class LoadLiteral extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            int inst_to_emit = 0;
+            if (o1.isReg() || id.code == INST_PRFM_LOADLIT__LITERAL){
+                Register regD = null;
+                PRFOP_ENUM prfop = null;
+                if(id.code == INST_PRFM_LOADLIT__LITERAL)
+                    prfop = (PRFOP_ENUM)o1;
+                else
+                    regD = (Register) o1;
+                if(o1.size() == SIZE_DWORD && id.code == INST_LDR_LOADLIT)
+                    inst_to_emit |= 0b1 << 30;
+                if(id.code == INST_PRFM_LOADLIT__LITERAL)
+                    inst_to_emit |= prfop.intValue() & 0b11111;
+                else
+                    inst_to_emit |= regD.code & 0b11111 | vectorBit(id, regD);
+                inst_to_emit |= id.opcode;
+                /*<label> Is the program label from which the data is to be loaded. Its offset from the address of this
+                instruction, in the range +/-1MB, is encoded as "imm19" times 4.*/
+                if (o2.isLabel()) {
+                    a._emitLabelRef(inst_to_emit, (Label) o2, FIXUP_LITERAL19);
+                } else {
+                    Immediate lbl = (Immediate) o2;
+                    inst_to_emit |= (lbl.value()>>2 & 0x7ffff) << 5;
+                    a._emitInt32(inst_to_emit);
+                }
+            }
+            else
+                throw new IllegalArgumentException("illegal arguments");
+        }
+    }
+
+    /** Encoder for @c log_imm. */
+    static final class LogicalImm extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            int rd;
+            int rn;
+            Immediate imm;
+            if (o1.isReg() && o2.isReg() && o3.isImm()){
+                rd = ((Register) o1).code;
+                rn = ((Register) o2).code;
+                imm = (Immediate) o3;
+            }
+            else if (o1.isReg() && o2.isImm() && id.code == INST_TST_LOG_IMM){
+                rn = ((Register) o1).code;
+                rd = (rn & REGTYPE_MASK) | 31;
+                imm = (Immediate) o2;
+            }
+            else if (o1.isReg() && o2.isImm() && id.code == INST_MOV_LOG_IMM){
+                rd = ((Register) o1).code;
+                rn = (rd & REGTYPE_MASK) | 31;
+                imm = (Immediate) o2;
+            }
+            else
+                throw new IllegalArgumentException("illegal arguments");
+            /*the immediate is the plain mask, BIC is AND with the inverted mask*/
+            long mask = id.code == INST_BIC_LOG_IMM ? ~imm.value() : imm.value();
+            a._emitInt32(encodeLogicalImm(id.opcode, rd, rn, mask));
+        }
+    }
+
+    /** Encoder for @c log_shift. */
+    static final class LogicalShift extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            int inst_to_emit = 0;
+            if (o1.isReg() && o2.isReg()){
+                Register regD = (Register) o1;
+                Register regN = (Register) o2;
+                Register regM = null;
+                if(o3 != _none) regM = (Register) o3;
+                Shift sft = null;
+                if(o4 != _none)
+                    sft = (Shift) o4;
+                if(o1.size() == SIZE_DWORD)
+                    inst_to_emit |= 0b1 << 31;
+                inst_to_emit |= regD.code & 0b11111;
+                if(id.code == INST_MOV_LOG_SHIFT){
+                    inst_to_emit |= (regN.code & 0b11111) << 5;
+                }
+                else{
+                    inst_to_emit |= (regN.code & 0b11111) << 5;
+                    inst_to_emit |= (regM.code & 0b11111) << 16;
+                }
+                if(sft != null){
+                    inst_to_emit |= (sft.value() & 0b111111) << 10;
+                    inst_to_emit |= (sft.type() & 0b11) << 22;
+                }
+                inst_to_emit |= id.opcode;
+                a._emitInt32(inst_to_emit);
+            }
+            else
+                throw new IllegalArgumentException("illegal arguments");
+        }
+    }
+
+    /** Encoder for @c movewide. */
+    static final class MoveWide extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            int inst_to_emit = 0;
+            if (o1.isReg() && o2.isImm()){
+                Register regD = (Register) o1;
+                Immediate imm16 = (Immediate) o2;
+                Shift sft = null;
+                if(o3 != _none)
+                    sft = (Shift) o3;
+                if(o1.size() == SIZE_DWORD)
+                    inst_to_emit |= 0b1 << 31;
+                inst_to_emit |= regD.code & 0b11111;
+                inst_to_emit |= (imm16.value() & 0xffff) << 5;
+                if(sft != null && sft.value()%16 == 0 && sft.value() < 49 ) /*shift val can be 0, 16, 32, 48 only*/
+                    inst_to_emit |= (sft.value()>>4 & 0b11) << 21;  // type is LSL only,
+                inst_to_emit |= id.opcode;
+                a._emitInt32(inst_to_emit);
+            }
+            else
+                throw new IllegalArgumentException("illegal arguments");
+        }
+    }
+
+    /** Encoder for @c pcreladdr. */
+    static final class PcRelAddr extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            int inst_to_emit = 0;
+            if (o1.isReg() && o2.isLabel()){
+                Register regD = (Register) o1;
+                inst_to_emit |= regD.code & 0b11111;
+                inst_to_emit |= id.opcode;
+                a._emitLabelRef(inst_to_emit, (Label) o2, id.code == INST_ADRP_PCRELADDR ? FIXUP_ADRP : FIXUP_ADR);
+            }
+            else if (o1.isReg() && o2.isImm()){
+                Register regD = (Register) o1;
+                Immediate imm16 = (Immediate) o2;
+                inst_to_emit |= regD.code & 0b11111;
+                /* the program label whose 4KB page address is to be calculated. Its offset from the page address of
+                this instruction, in the range +/-4GB, is encoded as "immhi:immlo" times 4096.*/
+                long imm = id.code == INST_ADRP_PCRELADDR ? imm16.value() >> 12 : imm16.value();
+                inst_to_emit |= (imm>>2 & 0x7ffff) << 5;
+                inst_to_emit |= (imm & 0b11) << 29;
+                inst_to_emit |= id.opcode;
+                a._emitInt32(inst_to_emit);
+            }
+            else
+                throw new IllegalArgumentException("illegal arguments");
+        }
+    }
+
+    /** Encoder for @c ic_system. */
+    static final class SystemInst extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            int inst_to_emit = 0;
+            if(id.code == INST_NOP_IC_SYSTEM || id.code == INST_YIELD_IC_SYSTEM || id.code == INST_WFE_IC_SYSTEM || id.code == INST_WFI_IC_SYSTEM || id.code == INST_SEV_IC_SYSTEM || id.code == INST_SEVL_IC_SYSTEM )
+                inst_to_emit |= id.opcode;
+            else if(id.code == INST_HINT_IC_SYSTEM || id.code == INST_CLREX_IC_SYSTEM || id.code == INST_DSB_IC_SYSTEM || id.code == INST_DMB_IC_SYSTEM || id.code == INST_ISB_IC_SYSTEM){
+                Immediate imm = (Immediate) o1;
+                if(id.code == INST_HINT_IC_SYSTEM)
+                    inst_to_emit |= (imm.value() & 0b1111111) << 5; /*<imm> Is a 7-bit unsigned immediate, in the range 0 to 127, encoded in "CRm:op2".*/
+                else
+                    inst_to_emit |= (imm.value() & 0b1111) << 8;
+            }
+            else if(id.code == INST_MSR_IC_SYSTEM_X){
+                SysRegister sysrt = (SysRegister) o1;
+                Register rt = (Register) o2;
+                SysRegDescription sysregid = SysRegDescription.find(sysrt.getEnum());
+                inst_to_emit |= (sysregid.reg_code & 0xffff) << 5;
+                inst_to_emit |= rt.code & 0b11111;
+            }
+            else if(id.code == INST_MRS_IC_SYSTEM){
+                if (!o1.isReg() || !(o2 instanceof SysRegister))
+                    throw new IllegalArgumentException("illegal arguments");
+                Register rt = (Register) o1;
+                SysRegister sysrt = (SysRegister) o2;
+                SysRegDescription sysregid = SysRegDescription.find(sysrt.getEnum());
+                inst_to_emit |= (sysregid.reg_code & 0xffff) << 5;
+                inst_to_emit |= rt.code & 0b11111;
+            }
+            else if(id.code == INST_DC_IC_SYSTEM_ZVA){
+                if (!o1.isReg() || !isX(((Register) o1).code))
+                    throw new IllegalArgumentException("illegal arguments");
+                inst_to_emit |= ((Register) o1).code & 0b11111;
+            }
+            else if(id.code == INST_SYS_IC_SYSTEM || id.code == INST_SYSL_IC_SYSTEM){
+                Immediate imm3_op1 = (Immediate) o1;
+                Register Rt = (Register) o1;
+                Register cRn = (Register) o2;
+                Immediate imm3_op1_2 = (Immediate) o2;
+                Register cRm = (Register) o3;
+                Register cRn_2 = (Register) o3;
+                Immediate imm3_op2_4 = (Immediate) o4;
+                Register cRm_2 = (Register) o4;
+                Register rt = null;
+                Immediate imm3_op2_5_2 = null;
+                if(o5 != null){
+                    rt = (Register) o5;
+                    imm3_op2_5_2 = (Immediate) o5;
+                }
+                inst_to_emit |= (((id.code == INST_SYS_IC_SYSTEM) ? (imm3_op1.value())   : (imm3_op1_2.value()))   & 0b111)  << 16;
+                inst_to_emit |= (((id.code == INST_SYS_IC_SYSTEM) ? (cRn.code())         : (cRn_2.code()))         & 0b1111) << 12;
+                inst_to_emit |= (((id.code == INST_SYS_IC_SYSTEM) ? (cRm.code())         : (cRm_2.code()))         & 0b1111) << 8;
+                inst_to_emit |= (((id.code == INST_SYS_IC_SYSTEM) ? (imm3_op2_4.value()) : (imm3_op2_5_2.value())) & 0b111)  << 5;
+                if(id.code == INST_SYS_IC_SYSTEM)
+                    if(rt != null)
+                        inst_to_emit |= rt.code() & 0b11111;
+                    else
+                        inst_to_emit |= 0b11111;  /*<Xt> Is the 64-bit name of the optional general-purpose source register, defaulting to '11111', encoded in the "Rt" field.*/
+                else
+                    inst_to_emit |= Rt.code() & 0b11111;
+            }
+            else
+                throw new IllegalArgumentException("illegal arguments");
+            inst_to_emit |= id.opcode;
+            a._emitInt32(inst_to_emit);
+        }
+    }
+
+    //! @brief Return vector register operand @a o.
+    static VectorRegister vector(Operand o) {
+        if (!(o instanceof VectorRegister)) {
+            throw new IllegalArgumentException("illegal arguments");
+        }
+
+        return (VectorRegister) o;
+    }
+
+    //! @brief Return the length of register list @a list, whose registers must be consecutive (modulo 32) with one arrangement.
+    static int listLength(VectorRegister... list) {
+        for (int k = 1; k < list.length; k++) {
+            if (list[k].arrangement() != list[0].arrangement() || list[k].index() != (list[0].index() + k) % 32) {
+                throw new IllegalArgumentException("registers must be consecutive with the same arrangement");
+            }
+        }
+
+        return list.length;
+    }
+
+    //! @brief Return the largest element size (log2 of bytes) vector instruction @a code accepts.
+    private static int maxElementSize(INST_CODE code) {
+        switch (code) {
+            case INST_ADD_SIMD_3SAME:
+            case INST_SUB_SIMD_3SAME:
+            case INST_CMEQ_SIMD_3SAME:
+            case INST_CMTST_SIMD_3SAME:
+            case INST_CMGT_SIMD_3SAME:
+            case INST_CMGE_SIMD_3SAME:
+            case INST_CMHI_SIMD_3SAME:
+            case INST_CMHS_SIMD_3SAME:
+            case INST_SQADD_SIMD_3SAME:
+            case INST_UQADD_SIMD_3SAME:
+            case INST_SQSUB_SIMD_3SAME:
+            case INST_UQSUB_SIMD_3SAME:
+            case INST_ADDP_SIMD_3SAME:
+            case INST_SSHL_SIMD_3SAME:
+            case INST_USHL_SIMD_3SAME:
+            case INST_CMGT_SIMD_2REG_MISC:
+            case INST_CMGE_SIMD_2REG_MISC:
+            case INST_CMEQ_SIMD_2REG_MISC:
+            case INST_CMLE_SIMD_2REG_MISC:
+            case INST_CMLT_SIMD_2REG_MISC:
+            case INST_ABS_SIMD_2REG_MISC:
+            case INST_NEG_SIMD_2REG_MISC:
+            case INST_UZP1_SIMD_PERMUTE:
+            case INST_TRN1_SIMD_PERMUTE:
+            case INST_ZIP1_SIMD_PERMUTE:
+            case INST_UZP2_SIMD_PERMUTE:
+            case INST_TRN2_SIMD_PERMUTE:
+            case INST_ZIP2_SIMD_PERMUTE:
+            case INST_SSHR_SIMD_SHIFT_IMM:
+            case INST_USHR_SIMD_SHIFT_IMM:
+            case INST_SSRA_SIMD_SHIFT_IMM:
+            case INST_USRA_SIMD_SHIFT_IMM:
+            case INST_SRSHR_SIMD_SHIFT_IMM:
+            case INST_URSHR_SIMD_SHIFT_IMM:
+            case INST_SRI_SIMD_SHIFT_IMM:
+            case INST_SHL_SIMD_SHIFT_IMM:
+            case INST_SLI_SIMD_SHIFT_IMM:
+                return 3;
+            case INST_REV32_SIMD_2REG_MISC:
+                return 1;
+            case INST_REV16_SIMD_2REG_MISC:
+            case INST_CNT_SIMD_2REG_MISC:
+            case INST_NOT_SIMD_2REG_MISC:
+            case INST_RBIT_SIMD_2REG_MISC:
+            case INST_AND_SIMD_3SAME:
+            case INST_BIC_SIMD_3SAME:
+            case INST_ORR_SIMD_3SAME:
+            case INST_ORN_SIMD_3SAME:
+            case INST_EOR_SIMD_3SAME:
+            case INST_BSL_SIMD_3SAME:
+            case INST_BIT_SIMD_3SAME:
+            case INST_BIF_SIMD_3SAME:
+            case INST_TBL_SIMD_TBL:
+            case INST_TBX_SIMD_TBL:
+                return 0;
+            default:
+                return 2;
+        }
+    }
+
+    //! @brief Return the @c Q and @c size fields of @a id for element arrangement @a v, which must be valid for @a id.
+    private static int arrangement(InstructionDescription id, VectorRegister v) {
+        ARRANGEMENT_ENUM t = v.arrangement();
+        if (t == ARRANGEMENT_ENUM.T1D || t.size() > maxElementSize(id.code)) {
+            throw new IllegalArgumentException("invalid arrangement " + t + " for " + id.code);
+        }
+        /*the logical operations keep their opcode in the size field*/
+        return t.q() << 30 | ((id.mask & 0x00c00000) == 0 ? t.size() << 22 : 0);
+    }
+
+    //! @brief Return the register number of operand @a o, a vector register with the arrangement of @a like.
+    private static int sameArrangement(VectorRegister like, Operand o) {
+        VectorRegister v = vector(o);
+        if (v.arrangement() != like.arrangement()) {
+            throw new IllegalArgumentException("registers must have the same arrangement");
+        }
+        return v.index();
+    }
+
+    //! @brief Return the register number of @a o, a vector register whose elements are twice the size of those of @a narrow.
+    private static int widened(VectorRegister narrow, Operand o, boolean full) {
+        VectorRegister v = vector(o);
+        if (v.arrangement().size() != narrow.arrangement().size() + 1 || (full ? v.arrangement().q() != 1 : v.arrangement().q() != narrow.arrangement().q())) {
+            throw new IllegalArgumentException("invalid arrangement " + v.arrangement() + " for " + narrow.arrangement());
+        }
+        return v.index();
+    }
+
+    //! @brief Return the element index @a o of vector register @a v.
+    private static int lane(VectorRegister v, Operand o) {
+        if (!o.isImm()) {
+            throw new IllegalArgumentException("illegal arguments");
+        }
+        long index = ((Immediate) o).value();
+        if (v.arrangement() == ARRANGEMENT_ENUM.T1Q) {
+            throw new IllegalArgumentException("invalid arrangement " + v.arrangement());
+        }
+        if (index < 0 || index >= 16 >> v.arrangement().size()) {
+            throw new IllegalArgumentException("element index out of range: " + index);
+        }
+        return (int) index;
+    }
+
+    /** Encoder for @c simd_3same, @c simd_permute. */
+    static final class SimdThreeSame extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            VectorRegister vd = vector(o1);
+            a._emitInt32(id.opcode | arrangement(id, vd) | sameArrangement(vd, o3) << 16 | sameArrangement(vd, o2) << 5
+                    | vd.index());
+        }
+    }
+
+    /** Encoder for @c simd_2reg_misc. */
+    static final class SimdTwoRegMisc extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            VectorRegister vd = vector(o1);
+            int inst;
+            if (id.code == INST_XTN_SIMD_2REG_MISC) {
+                inst = arrangement(id, vd) | widened(vd, o2, true) << 5;
+            } else if (id.code == INST_SADDLP_SIMD_2REG_MISC || id.code == INST_UADDLP_SIMD_2REG_MISC) {
+                VectorRegister vn = vector(o2);
+                widened(vn, vd, false);
+                inst = arrangement(id, vn) | vn.index() << 5;
+            } else {
+                inst = arrangement(id, vd) | sameArrangement(vd, o2) << 5;
+            }
+            if (o3.isImm() && ((Immediate) o3).value() != 0) {
+                throw new IllegalArgumentException("can only compare with 0");    /*CMEQ Vd, Vn, #0*/
+            }
+            a._emitInt32(id.opcode | inst | vd.index());
+        }
+    }
+
+    /** Encoder for @c simd_across, the result is the lowest element of any vector or floating point register. */
+    static final class SimdAcrossLanes extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            if (!(o1 instanceof VectorRegister) && !(o1.isReg() && ((Register) o1).isFp())) {
+                throw new IllegalArgumentException("illegal arguments");
+            }
+            VectorRegister vn = vector(o2);
+            if (vn.arrangement() == ARRANGEMENT_ENUM.T2S) {
+                throw new IllegalArgumentException("invalid arrangement " + vn.arrangement() + " for " + id.code);
+            }
+            a._emitInt32(id.opcode | arrangement(id, vn) | vn.index() << 5 | ((Register) o1).index());
+        }
+    }
+
+    /** Encoder for @c simd_copy: DUP, INS, SMOV and UMOV. */
+    static final class SimdCopy extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            int inst;
+            switch (id.code) {
+                case INST_DUP_SIMD_COPY: {          /*DUP Vd.T, Vn.Ts[index]*/
+                    VectorRegister vd = vector(o1);
+                    VectorRegister vn = vector(o2);
+                    if (vn.arrangement().size() != vd.arrangement().size()) {
+                        throw new IllegalArgumentException("registers must have the same element size");
+                    }
+                    inst = vd.arrangement().q() << 30 | imm5(vd, lane(vn, o3)) << 16 | vn.index() << 5 | checkQ(vd).index();
+                    break;
+                }
+                case INST_DUP_SIMD_COPY_GP: {       /*DUP Vd.T, Rn*/
+                    VectorRegister vd = vector(o1);
+                    inst = vd.arrangement().q() << 30 | imm5(vd, 0) << 16 | elementRegister(vd, o2) << 5 | checkQ(vd).index();
+                    break;
+                }
+                case INST_SMOV_SIMD_COPY:
+                case INST_UMOV_SIMD_COPY: {         /*SMOV / UMOV Rd, Vn.Ts[index]*/
+                    VectorRegister vn = vector(o2);
+                    if (!o1.isReg()) {
+                        throw new IllegalArgumentException("illegal arguments");
+                    }
+                    int rd = ((Register) o1).code;
+                    int size = vn.arrangement().size();
+                    boolean x = isX(rd);
+                    if (id.code == INST_UMOV_SIMD_COPY ? x != (size == 3) : size >= (x ? 3 : 2)) {
+                        throw new IllegalArgumentException("illegal arguments");
+                    }
+                    inst = (x ? 1 << 30 : 0) | imm5(vn, lane(vn, o3)) << 16 | vn.index() << 5 | gpIndex(rd);
+                    break;
+                }
+                case INST_INS_SIMD_COPY_GP: {       /*INS Vd.Ts[index], Rn*/
+                    VectorRegister vd = vector(o1);
+                    inst = imm5(vd, lane(vd, o2)) << 16 | elementRegister(vd, o3) << 5 | vd.index();
+                    break;
+                }
+                default: {                          /*INS Vd.Ts[index], Vn.Ts[index2]*/
+                    VectorRegister vd = vector(o1);
+                    VectorRegister vn = vector(o3);
+                    if (vn.arrangement().size() != vd.arrangement().size()) {
+                        throw new IllegalArgumentException("registers must have the same element size");
+                    }
+                    inst = imm5(vd, lane(vd, o2)) << 16 | lane(vn, o4) << (11 + vd.arrangement().size()) | vn.index() << 5
+                            | vd.index();
+                    break;
+                }
+            }
+            a._emitInt32(id.opcode | inst);
+        }
+
+        //! @brief Return the @c imm5 field selecting element @a index of the element size of @a v.
+        private static int imm5(VectorRegister v, int index) {
+            int size = v.arrangement().size();
+            return (index << 1 | 1) << size;
+        }
+
+        //! @brief Return @a v if it is a valid destination of @c DUP (not 1D or 1Q).
+        private static VectorRegister checkQ(VectorRegister v) {
+            if (v.arrangement() == ARRANGEMENT_ENUM.T1D || v.arrangement() == ARRANGEMENT_ENUM.T1Q) {
+                throw new IllegalArgumentException("invalid arrangement " + v.arrangement());
+            }
+            return v;
+        }
+
+        //! @brief Return the number of general purpose register @a o holding an element of @a v: X for 64 bit, W for smaller elements.
+        private static int elementRegister(VectorRegister v, Operand o) {
+            if (!o.isReg()) {
+                throw new IllegalArgumentException("illegal arguments");
+            }
+            int rn = ((Register) o).code;
+            if (isX(rn) != (v.arrangement().size() == 3)) {
+                throw new IllegalArgumentException("illegal arguments");
+            }
+            return gpIndex(rn);
+        }
+    }
+
+    /** Encoder for @c simd_ldst_mult: LD1-LD4 and ST1-ST4 of 1 to 4 registers, [Xn] or post-indexed [Xn], #size. */
+    static final class SimdLoadStoreMultiple extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            Operand[] ops = { o1, o2, o3, o4, o5 };
+            int count = 0;
+            while (count < 4 && ops[count] instanceof VectorRegister) {
+                count++;
+            }
+            VectorRegister[] list = new VectorRegister[count];
+            System.arraycopy(ops, 0, list, 0, count);
+            VectorRegister vt = vector(o1);
+            listLength(list);
+
+            int opcode = id.opcode;
+            int structures = STRUCTURES[id.opcode >>> 12 & 0xf];
+            if (structures == 1) {
+                opcode = opcode & ~0xf000 | LD1_OPCODES[count - 1] << 12;
+            } else if (count != structures || vt.arrangement() == ARRANGEMENT_ENUM.T1D) {
+                throw new IllegalArgumentException("illegal arguments");
+            }
+            if (vt.arrangement() == ARRANGEMENT_ENUM.T1Q) {
+                throw new IllegalArgumentException("illegal arguments");
+            }
+
+            Operand mem = ops[count];
+            int inst;
+            if (mem.isOffset() && ((Offset) mem).getOffset().value() == 0) {
+                inst = gpIndex(((Offset) mem).getRegister().code) << 5;
+            } else if (mem.isPostIndex() && ((Post_index) mem).getPostIndex().value() == count * (8 << vt.arrangement().q())) {
+                inst = 1 << 23 | 0x1f << 16 | gpIndex(((Post_index) mem).getRegister().code) << 5;
+            } else {
+                throw new IllegalArgumentException("illegal arguments");
+            }
+            a._emitInt32(opcode | inst | vt.arrangement().q() << 30 | vt.arrangement().size() << 10 | vt.index());
+        }
+
+        //! @brief @c opcode field of LD1 / ST1 of 1, 2, 3 and 4 registers.
+        private static final int[] LD1_OPCODES = { 0x7, 0xa, 0x6, 0x2 };
+
+        //! @brief Elements per structure by @c opcode field of the descriptions: LD4, LD3, LD2 and LD1.
+        private static final int[] STRUCTURES = { 4, 0, 0, 0, 3, 0, 0, 1, 2, 0, 0, 0, 0, 0, 0, 0 };
+    }
+
+    /** Encoder for @c simd_shift_imm. */
+    static final class SimdShiftImm extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            VectorRegister vd = vector(o1);
+            VectorRegister vn = vector(o2);
+            if (!o3.isImm()) {
+                throw new IllegalArgumentException("illegal arguments");
+            }
+            long shift = ((Immediate) o3).value();
+            VectorRegister element;     /*the register with the smaller elements*/
+            if (id.code == INST_SHRN_SIMD_SHIFT_IMM) {
+                widened(vd, vn, true);
+                element = vd;
+            } else if (id.code == INST_SSHLL_SIMD_SHIFT_IMM || id.code == INST_USHLL_SIMD_SHIFT_IMM) {
+                widened(vn, vd, true);
+                element = vn;
+            } else {
+                sameArrangement(vd, vn);
+                element = vd;
+            }
+            int fields = arrangement(id, element);
+            int esize = 8 << element.arrangement().size();
+            int opcode = id.opcode >>> 11 & 0x1f;
+            int immhb;
+            if (opcode < 0x0a || opcode == 0x10) {     /*right shifts encode 2 * esize - shift*/
+                if (shift < 1 || shift > esize) {
+                    throw new IllegalArgumentException("shift out of range: " + shift);
+                }
+                immhb = 2 * esize - (int) shift;
+            } else {
+                if (shift < 0 || shift >= esize) {
+                    throw new IllegalArgumentException("shift out of range: " + shift);
+                }
+                immhb = esize + (int) shift;
+            }
+            a._emitInt32(id.opcode | (fields & 1 << 30) | immhb << 16 | vn.index() << 5 | vd.index());
+        }
+    }
+
+    /** Encoder for @c simd_tbl, the operands are Vd, the first table register, Vm and the table length. */
+    static final class SimdTableLookup extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            VectorRegister vd = vector(o1);
+            VectorRegister vn = vector(o2);
+            if (vn.arrangement() != ARRANGEMENT_ENUM.T16B || !o4.isImm()) {
+                throw new IllegalArgumentException("illegal arguments");
+            }
+            long length = ((Immediate) o4).value();
+            if (length < 1 || length > 4) {
+                throw new IllegalArgumentException("table length out of range: " + length);
+            }
+            a._emitInt32(id.opcode | arrangement(id, vd) | sameArrangement(vd, o3) << 16 | (int) (length - 1) << 13
+                    | vn.index() << 5 | vd.index());
+        }
+    }
+
+    /**
+     * Encoder for @c mops: CPY* [Xd]!, [Xs]!, Xn! and SET* [Xd]!, Xn!, Xs,
+     * with the operands given as X registers in this order. The registers
+     * must differ, only the SET* value may be xzr.
+     */
+    static final class MemoryOps extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            if (!o1.isReg() || !o2.isReg() || !o3.isReg()) {
+                throw new IllegalArgumentException("illegal arguments");
+            }
+            boolean set = (id.opcode & 0x00c00000) == 0x00c00000;
+            int rd = ((Register) o1).code;
+            int rn = ((Register) (set ? o2 : o3)).code;     /*size*/
+            int rs = ((Register) (set ? o3 : o2)).code;     /*source or value*/
+            if (!isX(rd) || !isX(rn) || !isX(rs)) {
+                throw new IllegalArgumentException("illegal arguments");
+            }
+            rd = gpIndex(rd);
+            rn = gpIndex(rn);
+            rs = gpIndex(rs);
+            if (rd == 31 || rn == 31 || rs == 31 && !set || rd == rn || rd == rs || rn == rs) {
+                throw new IllegalArgumentException("illegal arguments");
+            }
+            a._emitInt32(id.opcode | rs << 16 | rn << 5 | rd);
+        }
+    }
+
+    /** Encoder for @c simd_3diff: PMULL and PMULL2 of 8B / 16B into 8H or of 1D / 2D into 1Q. */
+    static final class SimdThreeDiff extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            VectorRegister vn = vector(o2);
+            int size = vn.arrangement().size();
+            if (vn.arrangement().q() != (id.opcode >>> 30 & 1) || size != 0 && size != 3) {
+                throw new IllegalArgumentException("invalid arrangement " + vn.arrangement() + " for " + id.code);
+            }
+            if (size == 3 && !a.getCpuInfo().hasFeature(CpuInfo.FEATURE_PMULL)) {
+                throw new IllegalStateException(id.code + " of 64 bit elements is not supported by the CPU, see setCpuInfo()");
+            }
+            a._emitInt32(id.opcode | size << 22 | sameArrangement(vn, o3) << 16 | vn.index() << 5 | widened(vn, o1, true));
+        }
+    }
+
+    //! @brief Return the register number of operand @a o, a vector register with arrangement @a t.
+    static int vector(Operand o, ARRANGEMENT_ENUM t) {
+        VectorRegister v = vector(o);
+        if (v.arrangement() != t) {
+            throw new IllegalArgumentException("invalid arrangement " + v.arrangement() + ", expected " + t);
+        }
+        return v.index();
+    }
+
+    /** Encoder for @c crypto_aes, the operands are Vd.16B and Vn.16B. */
+    static final class CryptoAes extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            a._emitInt32(id.opcode | vector(o2, ARRANGEMENT_ENUM.T16B) << 5 | vector(o1, ARRANGEMENT_ENUM.T16B));
+        }
+    }
+
+    /**
+     * Encoder for @c crypto_sha2reg, @c crypto_sha3reg. The hash state operands
+     * Qd and Qn are 128 bit vector registers of any arrangement, Sn and Sd
+     * single precision registers and the message operands Vd.4S, Vn.4S, Vm.4S.
+     */
+    static final class CryptoSha extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            int inst;
+            switch (id.code) {
+                case INST_SHA1H_CRYPTO_SHA2REG:         /*SHA1H Sd, Sn*/
+                    inst = single(o2) << 5 | single(o1);
+                    break;
+                case INST_SHA1C_CRYPTO_SHA3REG:
+                case INST_SHA1M_CRYPTO_SHA3REG:
+                case INST_SHA1P_CRYPTO_SHA3REG:         /*SHA1C Qd, Sn, Vm.4S*/
+                    inst = vector(o3, ARRANGEMENT_ENUM.T4S) << 16 | single(o2) << 5 | quad(o1);
+                    break;
+                case INST_SHA256H_CRYPTO_SHA3REG:
+                case INST_SHA256H2_CRYPTO_SHA3REG:      /*SHA256H Qd, Qn, Vm.4S*/
+                    inst = vector(o3, ARRANGEMENT_ENUM.T4S) << 16 | quad(o2) << 5 | quad(o1);
+                    break;
+                default:                                /*SHA1SU0 Vd.4S, Vn.4S, Vm.4S or SHA1SU1 Vd.4S, Vn.4S*/
+                    inst = vector(o2, ARRANGEMENT_ENUM.T4S) << 5 | vector(o1, ARRANGEMENT_ENUM.T4S);
+                    if (id.group == crypto_sha3reg) {
+                        inst |= vector(o3, ARRANGEMENT_ENUM.T4S) << 16;
+                    }
+                    break;
+            }
+            a._emitInt32(id.opcode | inst);
+        }
+
+        //! @brief Return the register number of @a o, a single precision register.
+        private static int single(Operand o) {
+            if (!o.isReg() || fpType(((Register) o).code) != 0) {
+                throw new IllegalArgumentException("illegal arguments");
+            }
+            return fpIndex(((Register) o).code);
+        }
+
+        //! @brief Return the register number of @a o, a 128 bit vector register.
+        private static int quad(Operand o) {
+            VectorRegister v = vector(o);
+            if (v.arrangement().q() != 1) {
+                throw new IllegalArgumentException("invalid arrangement " + v.arrangement() + ", expected a 128 bit register");
+            }
+            return v.index();
+        }
+    }
+
+    //! @brief Return SVE scalable vector register operand @a o.
+    static ScalableRegister scalable(Operand o) {
+        if (!(o instanceof ScalableRegister)) {
+            throw new IllegalArgumentException("illegal arguments");
+        }
+
+        return (ScalableRegister) o;
+    }
+
+    //! @brief Return the number of predicate register @a o, one of the first @a count with @a qualifier (PredicateRegister.PLAIN, ZEROING or MERGING).
+    private static int predicate(Operand o, int qualifier, int count) {
+        if (!(o instanceof PredicateRegister)) {
+            throw new IllegalArgumentException("illegal arguments");
+        }
+        PredicateRegister p = (PredicateRegister) o;
+        if (p.qualifier() != qualifier) {
+            throw new IllegalArgumentException("predicate must be " + (qualifier == PredicateRegister.ZEROING ? "zeroing (p<n>/z)"
+                    : qualifier == PredicateRegister.MERGING ? "merging (p<n>/m)" : "unqualified"));
+        }
+        if (p.index() >= count) {
+            throw new IllegalArgumentException("invalid register p" + p.index());
+        }
+        return p.index();
+    }
+
+    //! @brief Return the number of predicate register @a o, without element size or with @a element.
+    private static int predicate(Operand o, ELEMENT_ENUM element) {
+        int index = predicate(o, PredicateRegister.PLAIN, 16);
+        ELEMENT_ENUM e = ((PredicateRegister) o).element();
+        if (e != null && e != element) {
+            throw new IllegalArgumentException("invalid element size " + e);
+        }
+        return index;
+    }
+
+    //! @brief Return the @c size field of SVE instruction @a id for elements of size @a e, which must be valid for @a id.
+    private static int elementSize(InstructionDescription id, ELEMENT_ENUM e) {
+        int size = e.size();
+        boolean valid;
+        if ((id.mask & 0x00c00000) != 0) {
+            valid = size == 3;              /*bitwise operations, .D only*/
+        } else if (id.opcode >>> 24 == 0x65) {
+            valid = size != 0;              /*floating point*/
+        } else if (id.code == INST_SDIV_SVE_ARITH_PRED || id.code == INST_UDIV_SVE_ARITH_PRED) {
+            valid = size >= 2;
+        } else {
+            valid = size != 3 || id.code != INST_SADDV_SVE_REDUCE;
+        }
+        if (!valid) {
+            throw new IllegalArgumentException("invalid element size " + e + " for " + id.code);
+        }
+        return (id.mask & 0x00c00000) == 0 ? size << 22 : 0;
+    }
+
+    //! @brief Return the register number of operand @a o, a scalable vector register with the element size of @a like.
+    private static int sameElement(ScalableRegister like, Operand o) {
+        ScalableRegister z = scalable(o);
+        if (z.element() != like.element()) {
+            throw new IllegalArgumentException("registers must have the same element size");
+        }
+        return z.index();
+    }
+
+    //! @brief Return the signed immediate @a o, which must fit into @a bits bits.
+    private static int signedImmediate(Operand o, int bits) {
+        if (!o.isImm()) {
+            throw new IllegalArgumentException("illegal arguments");
+        }
+        long value = ((Immediate) o).value();
+        if (value < -(1L << bits - 1) || value >= 1L << bits - 1) {
+            throw new IllegalArgumentException("immediate out of range: " + value);
+        }
+        return (int) value & (1 << bits) - 1;
+    }
+
+    //! @brief Return immediate @a o in @a min .. @a max, @a absent if there is no operand.
+    private static int immediate(Operand o, int min, int max, int absent) {
+        if (o.isNone()) {
+            return absent;
+        }
+        if (!o.isImm() || ((Immediate) o).value() < min || ((Immediate) o).value() > max) {
+            throw new IllegalArgumentException("illegal arguments");
+        }
+        return (int) ((Immediate) o).value();
+    }
+
+    //! @brief The @c ALL element count pattern of PTRUE, CNTB, INCB, ...
+    static final int SVE_POW2_ALL = 31;
+
+    /** Encoder for @c sve_arith: Zd, Zn, Zm. */
+    static final class SveArith extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            ScalableRegister zd = scalable(o1);
+            a._emitInt32(id.opcode | elementSize(id, zd.element()) | sameElement(zd, o3) << 16 | sameElement(zd, o2) << 5
+                    | zd.index());
+        }
+    }
+
+    /** Encoder for @c sve_arith_pred: Zdn, Pg/M, Zdn, Zm. */
+    static final class SveArithPredicated extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            ScalableRegister zdn = scalable(o1);
+            if (sameElement(zdn, o3) != zdn.index()) {
+                throw new IllegalArgumentException("the destination must be the first source");
+            }
+            a._emitInt32(id.opcode | elementSize(id, zdn.element()) | predicate(o2, PredicateRegister.MERGING, 8) << 10
+                    | sameElement(zdn, o4) << 5 | zdn.index());
+        }
+    }
+
+    /** Encoder for @c sve_mla: Zda, Pg/M, Zn, Zm. */
+    static final class SveMultiplyAdd extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            ScalableRegister zda = scalable(o1);
+            a._emitInt32(id.opcode | elementSize(id, zda.element()) | sameElement(zda, o4) << 16
+                    | predicate(o2, PredicateRegister.MERGING, 8) << 10 | sameElement(zda, o3) << 5 | zda.index());
+        }
+    }
+
+    /** Encoder for @c sve_ternary: Zdn.D, Zdn.D, Zm.D, Zk.D. */
+    static final class SveTernary extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            ScalableRegister zdn = scalable(o1);
+            elementSize(id, zdn.element());
+            if (sameElement(zdn, o2) != zdn.index()) {
+                throw new IllegalArgumentException("the destination must be the first source");
+            }
+            a._emitInt32(id.opcode | sameElement(zdn, o3) << 16 | sameElement(zdn, o4) << 5 | zdn.index());
+        }
+    }
+
+    /** Encoder for @c sve_reduce: Vd, Pg, Zn, the result is the lowest element of any vector or floating point register. */
+    static final class SveReduce extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            if (!(o1 instanceof VectorRegister) && !(o1.isReg() && ((Register) o1).isFp())) {
+                throw new IllegalArgumentException("illegal arguments");
+            }
+            ScalableRegister zn = scalable(o3);
+            a._emitInt32(id.opcode | elementSize(id, zn.element()) | predicate(o2, PredicateRegister.PLAIN, 8) << 10
+                    | zn.index() << 5 | ((Register) o1).index());
+        }
+    }
+
+    /** Encoder for @c sve_compare: Pd.T, Pg/Z, Zn.T, Zm.T or #imm (-16 to 15). */
+    static final class SveCompare extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            ScalableRegister zn = scalable(o3);
+            int rm = (id.opcode & 1 << 24) != 0 ? signedImmediate(o4, 5) : sameElement(zn, o4);
+            a._emitInt32(id.opcode | elementSize(id, zn.element()) | rm << 16 | predicate(o2, PredicateRegister.ZEROING, 8) << 10
+                    | zn.index() << 5 | predicate(o1, zn.element()));
+        }
+    }
+
+    /** Encoder for @c sve_pred_gen: PTRUE Pd.T{, pattern} and PFALSE Pd. */
+    static final class SvePredicateGen extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            if (id.code == INST_PFALSE_SVE_PRED_GEN) {
+                a._emitInt32(id.opcode | predicate(o1, ELEMENT_ENUM.B));
+                return;
+            }
+            int pd = predicate(o1, PredicateRegister.PLAIN, 16);
+            ELEMENT_ENUM e = ((PredicateRegister) o1).element();
+            if (e == null) {
+                throw new IllegalArgumentException("predicate needs an element size");
+            }
+            a._emitInt32(id.opcode | e.size() << 22 | immediate(o2, 0, 31, SVE_POW2_ALL) << 5 | pd);
+        }
+    }
+
+    /** Encoder for @c sve_while: Pd.T, Rn, Rm, both W or both X registers. */
+    static final class SveWhile extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            int pd = predicate(o1, PredicateRegister.PLAIN, 16);
+            ELEMENT_ENUM e = ((PredicateRegister) o1).element();
+            if (e == null || !o2.isReg() || !o3.isReg()) {
+                throw new IllegalArgumentException("illegal arguments");
+            }
+            int rn = ((Register) o2).code;
+            int rm = ((Register) o3).code;
+            if (isX(rn) != isX(rm)) {
+                throw new IllegalArgumentException("illegal arguments");
+            }
+            a._emitInt32(id.opcode | e.size() << 22 | gpIndex(rm) << 16 | (isX(rn) ? 1 << 12 : 0) | gpIndex(rn) << 5 | pd);
+        }
+    }
+
+    /** Encoder for @c sve_elt_count: Xd{, pattern{, #multiplier}}. */
+    static final class SveElementCount extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            if (!o1.isReg() || !isX(((Register) o1).code)) {
+                throw new IllegalArgumentException("illegal arguments");
+            }
+            a._emitInt32(id.opcode | (immediate(o3, 1, 16, 1) - 1) << 16 | immediate(o2, 0, 31, SVE_POW2_ALL) << 5
+                    | gpIndex(((Register) o1).code));
+        }
+    }
+
+    /** Encoder for @c sve_vl: ADDVL / ADDPL Xd|SP, Xn|SP, #imm and RDVL Xd, #imm. */
+    static final class SveVectorLength extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            if (!o1.isReg() || !isX(((Register) o1).code)) {
+                throw new IllegalArgumentException("illegal arguments");
+            }
+            int inst;
+            if (id.code == INST_RDVL_SVE_VL) {
+                inst = signedImmediate(o2, 6) << 5;
+            } else {
+                if (!o2.isReg() || !isX(((Register) o2).code)) {
+                    throw new IllegalArgumentException("illegal arguments");
+                }
+                inst = gpIndex(((Register) o2).code) << 16 | signedImmediate(o3, 6) << 5;
+            }
+            a._emitInt32(id.opcode | inst | gpIndex(((Register) o1).code));
+        }
+    }
+
+    /**
+     * Encoder for @c sve_ldst: LD1B-LD1D {Zt.T}, Pg/Z and ST1B-ST1D {Zt.T}, Pg
+     * with address [Xn{, #imm, MUL VL}] (an Offset, -8 to 7) or, for the @c _REG
+     * forms, Xn, Xm for [Xn, Xm, LSL #msize].
+     */
+    static final class SveLoadStore extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            ScalableRegister zt = scalable(o1);
+            int msize = id.opcode >>> 23 & 3;
+            if (zt.element().size() < msize) {
+                throw new IllegalArgumentException("invalid element size " + zt.element() + " for " + id.code);
+            }
+            boolean load = (id.opcode & 1 << 30) == 0;
+            int pg = predicate(o2, load ? PredicateRegister.ZEROING : PredicateRegister.PLAIN, 8);
+            int address;
+            if ((id.opcode & 0xe000) == 0x4000) {         /*scalar plus scalar*/
+                if (!o3.isReg() || !o4.isReg() || !isX(((Register) o3).code) || !isX(((Register) o4).code)
+                        || ((Register) o4).index() == 31) {
+                    throw new IllegalArgumentException("illegal arguments");
+                }
+                address = gpIndex(((Register) o4).code) << 16 | gpIndex(((Register) o3).code) << 5;
+            } else {
+                if (!o3.isOffset()) {
+                    throw new IllegalArgumentException("illegal arguments");
+                }
+                Offset mem = (Offset) o3;
+                address = signedImmediate(mem.getOffset(), 4) << 16 | gpIndex(mem.getRegister().code) << 5;
+            }
+            a._emitInt32(id.opcode | zt.element().size() << 21 | pg << 10 | address | zt.index());
+        }
+    }
+
+    /** Encoder for @c sve_fill: LDR / STR of Zt or Pt, [Xn{, #imm, MUL VL}] (an Offset, -256 to 255). */
+    static final class SveFill extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            int rt = (id.opcode & 1 << 14) != 0 ? scalable(o1).index() : predicate(o1, PredicateRegister.PLAIN, 16);
+            if (!o2.isOffset()) {
+                throw new IllegalArgumentException("illegal arguments");
+            }
+            Offset mem = (Offset) o2;
+            int imm9 = signedImmediate(mem.getOffset(), 9);
+            a._emitInt32(id.opcode | (imm9 >>> 3) << 16 | (imm9 & 7) << 10 | gpIndex(mem.getRegister().code) << 5 | rt);
+        }
+    }
+
+    /** Encoder for @c sve_dup: DUP Zd.T, #imm or Rn|SP, and INDEX Zd.T, #start, #step. */
+    static final class SveDup extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            ScalableRegister zd = scalable(o1);
+            int size = zd.element().size();
+            int inst;
+            switch (id.code) {
+                case INST_DUP_SVE_DUP: {            /*signed 8 bit immediate, optionally shifted left by 8*/
+                    if (!o2.isImm()) {
+                        throw new IllegalArgumentException("illegal arguments");
+                    }
+                    long value = ((Immediate) o2).value();
+                    if (value >= -128 && value <= 127) {
+                        inst = ((int) value & 0xff) << 5;
+                    } else if (size > 0 && (value & 0xff) == 0 && value >= -32768 && value <= 32512) {
+                        inst = 1 << 13 | ((int) (value >> 8) & 0xff) << 5;
+                    } else {
+                        throw new IllegalArgumentException("immediate out of range: " + value);
+                    }
+                    break;
+                }
+                case INST_DUP_SVE_DUP_GP: {
+                    if (!o2.isReg() || isX(((Register) o2).code) != (size == 3)) {
+                        throw new IllegalArgumentException("illegal arguments");
+                    }
+                    inst = gpIndex(((Register) o2).code) << 5;
+                    break;
+                }
+                default:
+                    inst = signedImmediate(o3, 5) << 16 | signedImmediate(o2, 5) << 5;
+                    break;
+            }
+            a._emitInt32(id.opcode | size << 22 | inst | zd.index());
+        }
+    }
+
+    /**
+     * Encoder for @c sve_pred_logic: AND, BIC, EOR, ORR, ORN Pd.B, Pg/Z, Pn.B,
+     * Pm.B; BRKA, BRKB Pd.B, Pg/Z, Pn.B; PTEST Pg, Pn.B and CNTP Xd, Pg, Pn.T.
+     */
+    static final class SvePredicateLogic extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            int inst;
+            switch (id.code) {
+                case INST_PTEST_SVE_PRED_LOGIC:
+                    inst = predicate(o1, PredicateRegister.PLAIN, 16) << 10 | predicate(o2, ELEMENT_ENUM.B) << 5;
+                    break;
+                case INST_CNTP_SVE_PRED_LOGIC: {
+                    if (!o1.isReg() || !isX(((Register) o1).code) || !(o3 instanceof PredicateRegister)) {
+                        throw new IllegalArgumentException("illegal arguments");
+                    }
+                    ELEMENT_ENUM e = ((PredicateRegister) o3).element();
+                    if (e == null) {
+                        throw new IllegalArgumentException("predicate needs an element size");
+                    }
+                    inst = e.size() << 22 | predicate(o2, PredicateRegister.PLAIN, 16) << 10 | predicate(o3, e) << 5
+                            | gpIndex(((Register) o1).code);
+                    break;
+                }
+                case INST_BRKA_SVE_PRED_LOGIC:
+                case INST_BRKB_SVE_PRED_LOGIC:
+                    inst = predicate(o2, PredicateRegister.ZEROING, 16) << 10 | predicate(o3, ELEMENT_ENUM.B) << 5
+                            | predicate(o1, ELEMENT_ENUM.B);
+                    break;
+                default:
+                    inst = predicate(o4, ELEMENT_ENUM.B) << 16 | predicate(o2, PredicateRegister.ZEROING, 16) << 10
+                            | predicate(o3, ELEMENT_ENUM.B) << 5 | predicate(o1, ELEMENT_ENUM.B);
+                    break;
+            }
+            a._emitInt32(id.opcode | inst);
+        }
+    }
+
+    /** Encoder for @c testbranch. */
+    static final class TestBranch extends InstructionEncoder {
+        @Override
+        void emit(Assembler_A64 a, InstructionDescription id, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+            int inst_to_emit = 0;
+            if (o1.isReg()){
+                Register regD = (Register) o1;
+                Immediate imm = (Immediate) o2;
+                inst_to_emit |= regD.code & 0b11111;
+                /* <imm> Is the bit number to be tested, in the range 0 to 63, encoded in "b5:b40".*/
+                inst_to_emit |= (imm.value() & 0b11111) << 19;
+                inst_to_emit |= (imm.value()>>5 & 0b1) << 31;
+                inst_to_emit |= id.opcode;
+                if (o3.isLabel()) {
+                    a._emitLabelRef(inst_to_emit, (Label) o3, FIXUP_BRANCH14);
+                } else {
+                    Immediate lbl_imm14  = (Immediate) o3;
+                    inst_to_emit |= (lbl_imm14.value() & 0x3fff) << 5;
+                    a._emitInt32(inst_to_emit);
+                }
+            }
+            else
+                throw new IllegalArgumentException("illegal arguments");
+        }
+    }
+}
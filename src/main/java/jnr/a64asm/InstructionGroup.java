@@ -33,11 +33,21 @@ public enum InstructionGroup {
     condcmp_imm,
     condcmp_reg,
     condsel,
+    crypto_aes,
+    crypto_sha2reg,
+    crypto_sha3reg,
     dp_1src,
     dp_2src,
     dp_3src,
     exception,
     extract,
+    fp_1src,
+    fp_2src,
+    fp_3src,
+    fp_compare,
+    fp_condsel,
+    fp_imm,
+    fp_int,
     ldst_imm9,
     ldst_pos,
     ldst_imm9_2reg,
@@ -48,15 +58,42 @@ public enum InstructionGroup {
     ldstexcl,
     ldstexcl_op3,
     ldstexcl_op4,
+    ldapstl_unscaled,
+    ldst_atomic,
+    ldst_cas,
     ldstnapair_offs,
     ldstpair_off,
     ldstpair_indexed,
     loadlit,
+    mops,
     log_imm,
     log_shift,
     movewide,
     pcreladdr,
     ic_system,
+    simd_3same,
+    simd_3diff,
+    simd_2reg_misc,
+    simd_across,
+    simd_copy,
+    simd_ldst_mult,
+    simd_permute,
+    simd_shift_imm,
+    simd_tbl,
+    sve_arith,
+    sve_arith_pred,
+    sve_compare,
+    sve_dup,
+    sve_elt_count,
+    sve_fill,
+    sve_ldst,
+    sve_mla,
+    sve_pred_gen,
+    sve_pred_logic,
+    sve_reduce,
+    sve_ternary,
+    sve_vl,
+    sve_while,
     testbranch;
 
 }
@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2018 Ossdev07
+ *
+ * This file is part of the JNR project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package jnr.a64asm;
+
+import java.util.Arrays;
+
+/**
+ * The instructions recorded by an assembler with @c PROPERTY_PEEPHOLE set, as
+ * seen by a {@link PeepholeRule}.
+ *
+ * Instruction @a i is the encoded word at offset(i); literal pools and other
+ * data are not part of the stream. Removing an instruction only marks it, the
+ * code is compacted once all rules ran.
+ */
+public final class InstructionStream {
+    private final Assembler_A64 _asm;
+    private int[] _offset;
+    private boolean[] _removed = new boolean[16];
+    private int _count = 0;
+    private int _removedCount = 0;
+
+    InstructionStream(Assembler_A64 asm) {
+        _asm = asm;
+    }
+
+    //! @brief Start over with the @a count instructions at @a offset.
+    void reset(int[] offset, int count) {
+        if (_removed.length < count) {
+            _removed = new boolean[Math.max(count, _removed.length * 2)];
+        } else {
+            Arrays.fill(_removed, 0, count, false);
+        }
+        _offset = offset;
+        _count = count;
+        _removedCount = 0;
+    }
+
+    //! @brief Return the number of instructions marked removed.
+    int removedCount() {
+        return _removedCount;
+    }
+
+    /** Returns the number of instructions, including removed ones. */
+    public int size() {
+        return _count;
+    }
+
+    /** Returns the offset of instruction @a i in the code. */
+    public int offset(int i) {
+        return _offset[i];
+    }
+
+    /** Returns the encoding of instruction @a i. */
+    public int word(int i) {
+        return _asm.getDWordAt(_offset[i]);
+    }
+
+    /** Replaces instruction @a i, which must not refer to a label or have a relocation. */
+    public void set(int i, int word) {
+        if (isReferenced(i)) {
+            throw new IllegalArgumentException("instruction refers to a label or relocation");
+        }
+        _asm.setDWordAt(_offset[i], word);
+    }
+
+    /** Removes instruction @a i, which must not have a relocation. */
+    public void remove(int i) {
+        if (_asm.hasRelocAt(_offset[i])) {
+            throw new IllegalArgumentException("instruction has a relocation");
+        }
+        if (!_removed[i]) {
+            _removed[i] = true;
+            _removedCount++;
+        }
+    }
+
+    /** Returns @c true if instruction @a i was removed. */
+    public boolean isRemoved(int i) {
+        return _removed[i];
+    }
+
+    /**
+     * Returns the index of the instruction executed after @a i when it does not
+     * branch, skipping removed ones. Returns size() if that is not part of the
+     * stream, e.g. because data follows.
+     */
+    public int next(int i) {
+        for (int j = i + 1; j < _count && _offset[j] == _offset[j - 1] + 4; j++) {
+            if (!_removed[j]) {
+                return j;
+            }
+        }
+
+        return _count;
+    }
+
+    /** Returns @c true if a label is bound to instruction @a i, so it may be reached by a branch. */
+    public boolean isBranchTarget(int i) {
+        return _asm.isLabelAt(_offset[i]);
+    }
+
+    /** Returns @c true if instruction @a i refers to a label or has a relocation. */
+    public boolean isReferenced(int i) {
+        return _asm.fixupAt(_offset[i]) >= 0 || _asm.hasRelocAt(_offset[i]);
+    }
+
+    /** Returns the offset of the bound label instruction @a i refers to, -1 if there is none. */
+    public int target(int i) {
+        return _asm.fixupTarget(_offset[i]);
+    }
+}
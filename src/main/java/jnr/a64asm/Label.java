@@ -18,9 +18,6 @@
 
 package jnr.a64asm;
 
-import java.util.LinkedList;
-import java.util.List;
-
 import static jnr.a64asm.LABEL_STATE.*;
 
 public final class Label extends Operand {
@@ -32,7 +29,8 @@ public final class Label extends Operand {
     /** Position (always positive, information depends to @c state). */
     int position;
 
-    final List<LinkData> links = new LinkedList<LinkData>();
+    /** Index of the first unresolved fixup referencing this label, -1 if none. */
+    int fixups = -1;
 
     public Label() {
         this(0);
@@ -60,15 +58,17 @@ public final class Label extends Operand {
         return state == LABEL_STATE_BOUND;
     }
 
+    /** Returns the label to the unused state so it can be bound again. */
+    final void clear() {
+        state = LABEL_STATE_UNUSED;
+        position = -1;
+        fixups = -1;
+    }
+
     /** Returns the position of bound or linked labels, -1 if label
      * is unused.
      */
     final int position() {
         return position;
     }
-
-    final void link(LinkData link) {
-        links.add(link);
-        state = LABEL_STATE_LINKED;
-    }
 }
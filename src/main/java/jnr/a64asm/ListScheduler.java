@@ -0,0 +1,171 @@
+/*
+ * Copyright (C) 2018 Ossdev07
+ *
+ * This file is part of the JNR project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package jnr.a64asm;
+
+import java.util.Arrays;
+
+/**
+ * List scheduler for the instructions of one basic block.
+ *
+ * The caller adds the instructions (by class) and the dependences between
+ * them, schedule() then simulates the issue of the block on a CpuInfo cycle by
+ * cycle: each cycle it issues up to issueWidth() ready instructions whose
+ * pipeline is free, preferring those with the longest latency path to the end
+ * of the block. The result is the issue order, which keeps every dependence.
+ * Pairs the core fuses into one operation (see fuse()) stay adjacent.
+ */
+final class ListScheduler {
+    private final CpuInfo cpu;
+
+    private CpuInfo.InstructionClass[] _class = new CpuInfo.InstructionClass[16];
+    private int[] _fused = new int[16];     /*instruction fused with this one, -1 if none*/
+    private int _count = 0;
+
+    // Dependences as lists of successors, linked through _edgeNext.
+    private int[] _succ = new int[16];
+    private int[] _edgeTo = new int[64];
+    private int[] _edgeLatency = new int[64];
+    private int[] _edgeNext = new int[64];
+    private int _edgeCount = 0;
+
+    ListScheduler(CpuInfo cpu) {
+        this.cpu = cpu;
+    }
+
+    //! @brief Start a new block.
+    void reset() {
+        _count = 0;
+        _edgeCount = 0;
+    }
+
+    //! @brief Add the next instruction of the block, return its index.
+    int add(CpuInfo.InstructionClass c) {
+        if (_count == _class.length) {
+            _class = Arrays.copyOf(_class, _count * 2);
+            _succ = Arrays.copyOf(_succ, _count * 2);
+            _fused = Arrays.copyOf(_fused, _count * 2);
+        }
+        _class[_count] = c;
+        _succ[_count] = -1;
+        _fused[_count] = -1;
+        return _count++;
+    }
+
+    //! @brief Return the latency of instruction @a i.
+    int latency(int i) {
+        return cpu.latency(_class[i]);
+    }
+
+    //! @brief Instruction @a to may only issue @a latency cycles after @a from (@a from < @a to).
+    void depend(int from, int to, int latency) {
+        if (_edgeCount == _edgeTo.length) {
+            _edgeTo = Arrays.copyOf(_edgeTo, _edgeCount * 2);
+            _edgeLatency = Arrays.copyOf(_edgeLatency, _edgeCount * 2);
+            _edgeNext = Arrays.copyOf(_edgeNext, _edgeCount * 2);
+        }
+        _edgeTo[_edgeCount] = to;
+        _edgeLatency[_edgeCount] = latency;
+        _edgeNext[_edgeCount] = _succ[from];
+        _succ[from] = _edgeCount++;
+    }
+
+    /**
+     * Instruction @a second, which depends on @a first (@a first < @a second),
+     * issues right after @a first, like @c AESE / @c AESMC the core fuses.
+     */
+    void fuse(int first, int second) {
+        _fused[first] = second;
+    }
+
+    /** Returns the instructions of the block in the order they should be emitted. */
+    int[] schedule() {
+        int count = _count;
+        int[] height = new int[count];
+        int[] preds = new int[count];
+        for (int i = count - 1; i >= 0; i--) {
+            height[i] = latency(i);
+            for (int e = _succ[i]; e >= 0; e = _edgeNext[e]) {
+                height[i] = Math.max(height[i], _edgeLatency[e] + height[_edgeTo[e]]);
+                preds[_edgeTo[e]]++;
+            }
+        }
+
+        int[] earliest = new int[count];
+        boolean[] done = new boolean[count];
+        int[] free = new int[32];       /*cycle each pipeline is free again*/
+        int[] order = new int[count];
+        int scheduled = 0;
+        int cycle = 0;
+        int issued = 0;
+        while (scheduled < count) {
+            int best = -1;
+            int unit = -1;
+            if (issued < cpu.issueWidth()) {
+                for (int i = 0; i < count; i++) {
+                    if (done[i] || preds[i] != 0 || earliest[i] > cycle || (best >= 0 && height[i] <= height[best])) {
+                        continue;
+                    }
+                    int u = freeUnit(cpu.units(_class[i]), free, cycle);
+                    if (u >= 0) {
+                        best = i;
+                        unit = u;
+                    }
+                }
+            }
+            if (best < 0) {
+                cycle++;
+                issued = 0;
+                continue;
+            }
+
+            done[best] = true;
+            order[scheduled++] = best;
+            issued++;
+            free[unit] = cycle + cpu.busy(_class[best]);
+            for (int e = _succ[best]; e >= 0; e = _edgeNext[e]) {
+                int to = _edgeTo[e];
+                preds[to]--;
+                earliest[to] = Math.max(earliest[to], cycle + _edgeLatency[e]);
+            }
+
+            int second = _fused[best];
+            if (second >= 0 && preds[second] == 0) {    /*executes with best, no issue slot or pipeline of its own*/
+                done[second] = true;
+                order[scheduled++] = second;
+                for (int e = _succ[second]; e >= 0; e = _edgeNext[e]) {
+                    int to = _edgeTo[e];
+                    preds[to]--;
+                    earliest[to] = Math.max(earliest[to], cycle + _edgeLatency[e]);
+                }
+            }
+        }
+
+        return order;
+    }
+
+    //! @brief Return a pipeline of @a units that is free at @a cycle, -1 if all are busy.
+    private static int freeUnit(int units, int[] free, int cycle) {
+        for (int u = 0; u < free.length; u++) {
+            if ((units & 1 << u) != 0 && free[u] <= cycle) {
+                return u;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2018 Ossdev07
+ *
+ * This file is part of the JNR project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package jnr.a64asm;
+
+/**
+ * Bitmask immediates of the logical instructions (AND, ORR, EOR, ANDS).
+ *
+ * A bitmask immediate is a 2, 4, 8, 16, 32 or 64 bit element, replicated to
+ * the register width, that consists of a rotated run of ones. It is encoded in
+ * the 13 bit N:immr:imms field.
+ */
+public final class LogicalImmediate {
+    private LogicalImmediate() {
+    }
+
+    //! @brief A cached encoding; immutable so entries can be shared between threads without locking.
+    private static final class Entry {
+        final long value;
+        final int width;
+        final int encoding;
+
+        Entry(long value, int width, int encoding) {
+            this.value = value;
+            this.width = width;
+            this.encoding = encoding;
+        }
+    }
+
+    // Direct mapped cache of recently encoded masks, most code uses a handful.
+    private static final Entry[] cache = new Entry[256];
+
+    /** Returns @c true if @a value can be used as immediate of a 64 bit logical instruction. */
+    public static boolean isEncodableLogicalImm(long value) {
+        return lookup(value, 64) >= 0;
+    }
+
+    /** Returns @c true if @a value can be used as immediate of a logical instruction on @a width (32 or 64) bit registers. */
+    public static boolean isEncodableLogicalImm(long value, int width) {
+        return lookup(value, width) >= 0;
+    }
+
+    //! @brief Same as encode(), but served from the cache if possible; a miss allocates an entry.
+    static int lookup(long value, int width) {
+        if (width == 32) {
+            value &= 0xffffffffL;
+        }
+        long h = value * 0x9e3779b97f4a7c15L;
+        int slot = (int) (h >>> 56);
+        Entry e = cache[slot];
+        if (e != null && e.value == value && e.width == width) {
+            return e.encoding;
+        }
+        int encoding = encode(value, width);
+        cache[slot] = new Entry(value, width, encoding);
+
+        return encoding;
+    }
+
+    /**
+     * Returns the N:immr:imms encoding of @a value for a register of @a width
+     * (32 or 64) bits, or -1 if @a value can't be encoded. For 32 bit registers
+     * only the low 32 bits of @a value are used.
+     */
+    static int encode(long value, int width) {
+        if (width == 32) {
+            value &= 0xffffffffL;
+            value |= value << 32;
+        }
+        if (value == 0 || value == -1) {
+            return -1;
+        }
+
+        // Find the smallest element size that repeats.
+        int size = 64;
+        while (size > 2) {
+            int half = size >> 1;
+            long mask = (1L << half) - 1;
+            if ((value & mask) != ((value >>> half) & mask)) {
+                break;
+            }
+            size = half;
+        }
+        long mask = size == 64 ? -1L : (1L << size) - 1;
+        long elt = value & mask;
+
+        // Number of rotations to the right and length of the run of ones.
+        int rotate;
+        int ones;
+        if (isShiftedMask(elt)) {
+            rotate = Long.numberOfTrailingZeros(elt);
+            ones = Long.numberOfTrailingZeros(~(elt >>> rotate));
+        } else {
+            elt |= ~mask;
+            if (!isShiftedMask(~elt)) {
+                return -1;
+            }
+            int leading = Long.numberOfLeadingZeros(~elt);
+            rotate = 64 - leading;
+            ones = leading + Long.numberOfTrailingZeros(~elt) - (64 - size);
+        }
+
+        int immr = (size - rotate) & (size - 1);
+        int nimms = (~(size - 1) << 1) | (ones - 1);
+        int n = ((nimms >> 6) & 1) ^ 1;
+
+        return n << 12 | immr << 6 | (nimms & 0x3f);
+    }
+
+    //! @brief Return @c true if @a x is a single, non empty run of ones.
+    private static boolean isShiftedMask(long x) {
+        if (x == 0) {
+            return false;
+        }
+        long filled = (x - 1) | x;
+
+        return ((filled + 1) & filled) == 0;
+    }
+}
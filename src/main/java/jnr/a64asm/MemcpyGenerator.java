@@ -0,0 +1,219 @@
+/*
+ * Copyright (C) 2018 Ossdev07
+ *
+ * This file is part of the JNR project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package jnr.a64asm;
+
+import static jnr.a64asm.Asm.*;
+import static jnr.a64asm.Immediate.imm;
+import static jnr.a64asm.REG.*;
+
+/**
+ * Generates @c memcpy and @c memset functions for the CPU of an assembler:
+ *
+ * @code
+ * void *memcpy(void *dst, const void *src, size_t n);
+ * void *memset(void *dst, int c, size_t n);
+ * @endcode
+ *
+ * With @c CpuInfo.FEATURE_MOPS the functions are the CPYF / SET prologue,
+ * main and epilogue sequence. Otherwise @c memcpy copies 64 bytes per
+ * iteration with @c ldp / @c stp and prefetches the source ahead, and the
+ * remaining 32, 16, 8, 4, 2 and 1 bytes are copied by size without a loop.
+ * @c memset works the same way, except that large zeroing clears whole
+ * blocks with @c DC @c ZVA when @c DCZID_EL0 permits it. Both clobber only
+ * x0 to x11.
+ */
+public final class MemcpyGenerator {
+    //! @brief Bytes @c memcpy prefetches ahead of the loads.
+    private static final int PREFETCH_DISTANCE = 256;
+    //! @brief Smallest @c memset of zero using @c DC @c ZVA.
+    private static final int ZVA_THRESHOLD = 256;
+
+    private static final Register X8 = Register.gpr(REG_X8);
+    private static final Register X9 = Register.gpr(REG_X9);
+    private static final Register X10 = Register.gpr(REG_X10);
+    private static final Register X11 = Register.gpr(REG_X11);
+    private static final Shift LSL0 = new Shift(SHIFT_ENUM.LSL, 0);
+
+    //! @brief Return @c true if @a cpuInfo has the memory copy and set instructions.
+    public static boolean hasMops(CpuInfo cpuInfo) {
+        return cpuInfo.hasFeature(CpuInfo.FEATURE_MOPS);
+    }
+
+    //! @brief Emit @c memcpy into @a a, the buffers must not overlap.
+    public void generateCopy(Assembler_A64 a) {
+        a.mov(x3, x0);
+        if (hasMops(a.getCpuInfo())) {
+            a.cpyfp(x3, x1, x2);
+            a.cpyfm(x3, x1, x2);
+            a.cpyfe(x3, x1, x2);
+            a.ret(lr);
+            return;
+        }
+        Label loop = a.newLabel();
+        Label tail = a.newLabel();
+        a.subs(x2, x2, 64);
+        a.blo(tail);
+
+        a.bind(loop);
+        a.prfm(new PRFOP_ENUM(PRFOP_ENUM.PLDL1STRM), x1, imm(PREFETCH_DISTANCE));
+        a.ldp(x4, x5, post(x1, 16));
+        a.ldp(x6, x7, post(x1, 16));
+        a.ldp(X8, X9, post(x1, 16));
+        a.ldp(X10, X11, post(x1, 16));
+        a.stp(x4, x5, post(x3, 16));
+        a.stp(x6, x7, post(x3, 16));
+        a.stp(X8, X9, post(x3, 16));
+        a.stp(X10, X11, post(x3, 16));
+        a.subs(x2, x2, 64);
+        a.bhs(loop);
+
+        // x2 is n - 64 here, its low six bits are still those of the remaining length
+        a.bind(tail);
+        Label next = a.newLabel();
+        a.tbz(x2, imm(5), next);
+        a.ldp(x4, x5, post(x1, 16));
+        a.ldp(x6, x7, post(x1, 16));
+        a.stp(x4, x5, post(x3, 16));
+        a.stp(x6, x7, post(x3, 16));
+        a.bind(next);
+        next = a.newLabel();
+        a.tbz(x2, imm(4), next);
+        a.ldp(x4, x5, post(x1, 16));
+        a.stp(x4, x5, post(x3, 16));
+        a.bind(next);
+        next = a.newLabel();
+        a.tbz(x2, imm(3), next);
+        a.ldr(x4, post(x1, 8));
+        a.str(x4, post(x3, 8));
+        a.bind(next);
+        next = a.newLabel();
+        a.tbz(x2, imm(2), next);
+        a.ldr(w4, post(x1, 4));
+        a.str(w4, post(x3, 4));
+        a.bind(next);
+        next = a.newLabel();
+        a.tbz(x2, imm(1), next);
+        a.ldrh(w4, post(x1, 2));
+        a.strh(w4, post(x3, 2));
+        a.bind(next);
+        next = a.newLabel();
+        a.tbz(x2, imm(0), next);
+        a.ldrb(w4, post(x1, 1));
+        a.strb(w4, post(x3, 1));
+        a.bind(next);
+        a.ret(lr);
+    }
+
+    //! @brief Emit @c memset into @a a.
+    public void generateSet(Assembler_A64 a) {
+        a.mov(x3, x0);
+        if (hasMops(a.getCpuInfo())) {
+            a.setp(x3, x2, x1);
+            a.setm(x3, x2, x1);
+            a.sete(x3, x2, x1);
+            a.ret(lr);
+            return;
+        }
+        Label fill = a.newLabel();
+        Label head = a.newLabel();
+        Label zva = a.newLabel();
+        a.and(w1, w1, 0xffL);
+        a.mov(x4, 0x0101010101010101L);
+        a.mul(x4, x1, x4);              /*the byte in every byte of x4*/
+
+        // DC ZVA zeroes 4 << DCZID_EL0.BS bytes at a time unless DCZID_EL0.DZP
+        // prohibits it. The head up to the first block is zeroed with stores.
+        a.cbnz(x4, fill);
+        a.cmp(x2, ZVA_THRESHOLD);
+        a.blo(fill);
+        a.mrs(x5, SysRegister.sysReg(SYSREG_CODE.DCZID_EL0));
+        a.tbnz(x5, imm(4), fill);
+        a.and(x5, x5, 0xfL);
+        a.mov(x6, 4L);
+        a.lsl(x6, x6, x5);
+        a.cmp(x2, x6, new Shift(SHIFT_ENUM.LSL, 1));
+        a.blo(fill);
+        a.sub(x7, x6, 1);
+        a.neg(X8, x3, LSL0);
+        a.and(X8, X8, x7, LSL0);        /*bytes up to the first block*/
+        a.sub(x2, x2, X8, LSL0);
+        storeTail(a, X8, 3);
+        a.and(X8, X8, ~0xfL);
+        a.cbz(X8, zva);
+        a.bind(head);
+        a.stp(x4, x4, post(x3, 16));
+        a.subs(X8, X8, 16);
+        a.bne(head);
+        a.bind(zva);
+        a.dczva(x3);
+        a.add(x3, x3, x6, LSL0);
+        a.sub(x2, x2, x6, LSL0);
+        a.cmp(x2, x6, LSL0);
+        a.bhs(zva);
+
+        Label loop = a.newLabel();
+        Label tail = a.newLabel();
+        a.bind(fill);
+        a.subs(x2, x2, 64);
+        a.blo(tail);
+        a.bind(loop);
+        a.prfm(new PRFOP_ENUM(PRFOP_ENUM.PSTL1STRM), x3, imm(PREFETCH_DISTANCE));
+        a.stp(x4, x4, post(x3, 16));
+        a.stp(x4, x4, post(x3, 16));
+        a.stp(x4, x4, post(x3, 16));
+        a.stp(x4, x4, post(x3, 16));
+        a.subs(x2, x2, 64);
+        a.bhs(loop);
+        a.bind(tail);
+        storeTail(a, x2, 5);
+        a.ret(lr);
+    }
+
+    //! @brief Store x4 to [x3] for each bit of @a count up to @a topBit, the lowest bit first.
+    private static void storeTail(Assembler_A64 a, Register count, int topBit) {
+        for (int bit = 0; bit <= topBit; bit++) {
+            Label next = a.newLabel();
+            a.tbz(count, imm(bit), next);
+            switch (bit) {
+                case 0:
+                    a.strb(w4, post(x3, 1));
+                    break;
+                case 1:
+                    a.strh(w4, post(x3, 2));
+                    break;
+                case 2:
+                    a.str(w4, post(x3, 4));
+                    break;
+                case 3:
+                    a.str(x4, post(x3, 8));
+                    break;
+                default:
+                    for (int k = 0; k < 1 << bit - 4; k++) {
+                        a.stp(x4, x4, post(x3, 16));
+                    }
+                    break;
+            }
+            a.bind(next);
+        }
+    }
+
+    private static Post_index post(Register base, long offset) {
+        return new Post_index(base, imm(offset));
+    }
+}
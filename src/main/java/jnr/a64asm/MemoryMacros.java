@@ -0,0 +1,363 @@
+/*
+ * Copyright (C) 2018 Ossdev07
+ *
+ * This file is part of the JNR project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jnr.a64asm;
+
+import static jnr.a64asm.Asm.*;
+import static jnr.a64asm.Immediate.imm;
+import static jnr.a64asm.REG.*;
+import static jnr.a64asm.SIZE.*;
+
+/**
+ * Inline @c memcpy, @c memset and @c memcmp of a length known when the code
+ * is generated, e.g. the size of a struct:
+ *
+ * @code
+ * MemoryMacros m = new MemoryMacros(x4, x5, x6, x7);
+ * m.copy(a, x0, x1, 24);      // ldp, stp of 16 bytes, ldr, str of the last 8
+ * @endcode
+ *
+ * Up to the loop threshold the bytes are moved by straight-line code: 16
+ * bytes per @c ldp / @c stp, then one or two 8, 4, 2 or 1 byte accesses for
+ * the rest. The last access overlaps the previous one rather than being
+ * split by size, so 12 bytes are two 8 byte accesses at 0 and 4 and 7 bytes
+ * two 4 byte accesses at 0 and 3. Longer lengths loop over 64 (16 for
+ * @c compare) byte blocks and finish the same way.
+ *
+ * The pointers are left unchanged, the four temporaries are clobbered and
+ * @c memcmp semantics are kept for @c compare, which sets @a result to -1,
+ * 0 or 1. The temporaries must be 64 bit registers different from the
+ * other operands; they may be virtual registers of a Compiler_A64.
+ */
+public final class MemoryMacros {
+    //! @brief Default loop threshold, longer lengths are handled by a loop.
+    public static final int DEFAULT_LOOP_THRESHOLD = 128;
+    //! @brief Largest loop threshold, which keeps all offsets encodable.
+    public static final int MAX_LOOP_THRESHOLD = 256;
+    //! @brief Bytes per iteration of the copy and set loops.
+    private static final int BLOCK = 64;
+    //! @brief Bytes per iteration of the compare loop.
+    private static final int COMPARE_BLOCK = 16;
+
+    private static final Register XZR = Register.gpr(REG_X31);
+    private static final Shift LSL0 = new Shift(SHIFT_ENUM.LSL, 0);
+
+    private final Register t1;
+    private final Register t2;
+    private final Register t3;
+    private final Register t4;
+    private final int loopThreshold;
+
+    //! @brief Create macros using the temporaries @a t1 to @a t4 and the default loop threshold.
+    public MemoryMacros(Register t1, Register t2, Register t3, Register t4) {
+        this(t1, t2, t3, t4, DEFAULT_LOOP_THRESHOLD);
+    }
+
+    /**
+     * Create macros using the temporaries @a t1 to @a t4, lengths above
+     * @a loopThreshold (64 to @c MAX_LOOP_THRESHOLD) use a loop.
+     */
+    public MemoryMacros(Register t1, Register t2, Register t3, Register t4, int loopThreshold) {
+        if (loopThreshold < BLOCK || loopThreshold > MAX_LOOP_THRESHOLD)
+            throw new IllegalArgumentException("loop threshold out of range: " + loopThreshold);
+        for (Register t : new Register[] { t1, t2, t3, t4 }) {
+            if (t.size() != SIZE_DWORD)
+                throw new IllegalArgumentException("illegal arguments");
+        }
+        this.t1 = t1;
+        this.t2 = t2;
+        this.t3 = t3;
+        this.t4 = t4;
+        this.loopThreshold = loopThreshold;
+    }
+
+    //! @brief Return the longest length emitted without a loop.
+    public int getLoopThreshold() {
+        return loopThreshold;
+    }
+
+    //! @brief Copy @a length bytes from [@a src] to [@a dst], the buffers must not overlap.
+    public void copy(Serializer a, Register dst, Register src, long length) {
+        checkLength(length);
+        if (length <= loopThreshold) {
+            copyRange(a, dst, src, length, false);
+            return;
+        }
+        long blocks = length / BLOCK;
+        Label loop = a.newLabel();
+        a.mov(t4, blocks);
+        a.bind(loop);
+        for (int i = 0; i < BLOCK; i += 16) {
+            a.ldp(t1, t2, post(src, 16));
+            a.stp(t1, t2, post(dst, 16));
+        }
+        a.subs(t4, t4, 1);
+        a.bne(loop);
+        copyRange(a, dst, src, length % BLOCK, true);
+        a.sub(dst, dst, blocks * BLOCK);
+        a.sub(src, src, blocks * BLOCK);
+    }
+
+    //! @brief Fill @a length bytes at [@a dst] with the low byte of @a value.
+    public void set(Serializer a, Register dst, int value, long length) {
+        checkLength(length);
+        if (length == 0)
+            return;
+        Register v = XZR;
+        long pattern = (value & 0xffL) * 0x0101010101010101L;
+        if (pattern != 0) {
+            a.mov(t1, pattern);
+            v = t1;
+        }
+        if (length <= loopThreshold) {
+            setRange(a, v, dst, length, false);
+            return;
+        }
+        long blocks = length / BLOCK;
+        Label loop = a.newLabel();
+        a.mov(t4, blocks);
+        a.bind(loop);
+        for (int i = 0; i < BLOCK; i += 16) {
+            a.stp(v, v, post(dst, 16));
+        }
+        a.subs(t4, t4, 1);
+        a.bne(loop);
+        setRange(a, v, dst, length % BLOCK, true);
+        a.sub(dst, dst, blocks * BLOCK);
+    }
+
+    /**
+     * Compare @a length bytes at [@a p] and [@a q] as unsigned bytes and set
+     * @a result to -1, 0 or 1 if the first differing byte of @a p is less,
+     * none differs or it is greater. @a result must differ from @a p and @a q.
+     */
+    public void compare(Serializer a, Register result, Register p, Register q, long length) {
+        checkLength(length);
+        if (length > loopThreshold) {
+            compareLoop(a, result, p, q, length);
+            return;
+        }
+        Label diff1 = a.newLabel();
+        Label diff2 = a.newLabel();
+        Label done = a.newLabel();
+        boolean second = false;
+        long off = 0;
+        for (; length - off >= 16; off += 16) {
+            a.ldp(t1, t2, at(p, off));
+            a.ldp(t3, t4, at(q, off));
+            a.cmp(t1, t3, LSL0);
+            a.bne(diff1);
+            a.cmp(t2, t4, LSL0);
+            a.bne(diff2);
+            second = true;
+        }
+        long[] tail = tail(length, off, false);
+        if (tail != null) {
+            int size = (int) tail[0];
+            load(a, size, t1, at(p, tail[1]));
+            load(a, size, t3, at(q, tail[1]));
+            if (tail[2] != tail[1]) {
+                load(a, size, t2, at(p, tail[2]));
+                load(a, size, t4, at(q, tail[2]));
+            }
+            a.cmp(t1, t3, LSL0);
+            a.bne(diff1);
+            if (tail[2] != tail[1]) {
+                a.cmp(t2, t4, LSL0);
+                a.bne(diff2);
+                second = true;
+            }
+        }
+        a.mov(result, 0L);
+        if (length == 0)
+            return;
+        a.b(done);
+        if (second) {
+            a.bind(diff2);
+            a.mov(t1, t2);
+            a.mov(t3, t4);
+        }
+        a.bind(diff1);
+        sign(a, result, t1, t3, done);
+        a.bind(done);
+    }
+
+    /**
+     * Compare 16 bytes per iteration, loading 8 bytes of [@a p] into t1 and
+     * of [t3] into t2. Both advance, so @a p is moved back at the end by the
+     * distance t3 moved from @a q.
+     */
+    private void compareLoop(Serializer a, Register result, Register p, Register q, long length) {
+        Label loop = a.newLabel();
+        Label diff = a.newLabel();
+        Label restore = a.newLabel();
+        a.mov(t3, q);
+        a.add(t4, q, length / COMPARE_BLOCK * COMPARE_BLOCK);
+        a.bind(loop);
+        for (int i = 0; i < COMPARE_BLOCK; i += 8) {
+            a.ldr(t1, post(p, 8));
+            a.ldr(t2, post(t3, 8));
+            a.cmp(t1, t2, LSL0);
+            a.bne(diff);
+        }
+        a.cmp(t3, t4, LSL0);
+        a.bne(loop);
+        long rest = length % COMPARE_BLOCK;
+        if (rest > 8) {
+            a.ldr(t1, at(p, 0));
+            a.ldr(t2, at(t3, 0));
+            a.cmp(t1, t2, LSL0);
+            a.bne(diff);
+        }
+        if (rest > 0) {
+            a.ldr(t1, at(p, rest - 8));
+            a.ldr(t2, at(t3, rest - 8));
+            a.cmp(t1, t2, LSL0);
+            a.bne(diff);
+        }
+        a.mov(result, 0L);
+        a.b(restore);
+        a.bind(diff);
+        sign(a, result, t1, t2, restore);
+        a.bind(restore);
+        a.sub(t4, t3, q, LSL0);
+        a.sub(p, p, t4, LSL0);
+    }
+
+    //! @brief Copy @a length bytes at offset 0, @a prior if bytes before offset 0 were already copied.
+    private void copyRange(Serializer a, Register dst, Register src, long length, boolean prior) {
+        long off = 0;
+        for (; length - off >= 32; off += 32) {
+            a.ldp(t1, t2, at(src, off));
+            a.ldp(t3, t4, at(src, off + 16));
+            a.stp(t1, t2, at(dst, off));
+            a.stp(t3, t4, at(dst, off + 16));
+        }
+        if (length - off >= 16) {
+            a.ldp(t1, t2, at(src, off));
+            a.stp(t1, t2, at(dst, off));
+            off += 16;
+        }
+        long[] tail = tail(length, off, prior);
+        if (tail == null)
+            return;
+        int size = (int) tail[0];
+        load(a, size, t1, at(src, tail[1]));
+        if (tail[2] != tail[1])
+            load(a, size, t2, at(src, tail[2]));
+        store(a, size, t1, at(dst, tail[1]));
+        if (tail[2] != tail[1])
+            store(a, size, t2, at(dst, tail[2]));
+    }
+
+    //! @brief Store @a v to @a length bytes at offset 0, @a prior if bytes before offset 0 were already set.
+    private void setRange(Serializer a, Register v, Register dst, long length, boolean prior) {
+        long off = 0;
+        for (; length - off >= 16; off += 16) {
+            a.stp(v, v, at(dst, off));
+        }
+        long[] tail = tail(length, off, prior);
+        if (tail == null)
+            return;
+        store(a, (int) tail[0], v, at(dst, tail[1]));
+        if (tail[2] != tail[1])
+            store(a, (int) tail[0], v, at(dst, tail[2]));
+    }
+
+    /**
+     * Return the access size and the two offsets (equal for one access)
+     * covering the bytes from @a off to @a length, @c null if there are none.
+     * If any bytes precede the rest, the last 8 byte access overlaps them.
+     */
+    private static long[] tail(long length, long off, boolean prior) {
+        long rest = length - off;
+        if (rest == 0)
+            return null;
+        if (rest > 8)
+            return new long[] { 8, off, length - 8 };
+        if (rest == 8 || off > 0 || prior)
+            return new long[] { 8, length - 8, length - 8 };
+        int size = rest >= 4 ? 4 : rest >= 2 ? 2 : 1;
+        return new long[] { size, 0, length - size };
+    }
+
+    //! @brief Set @a result to the sign of @a x - @a y, both in memory order, and branch to @a done if positive.
+    private static void sign(Serializer a, Register result, Register x, Register y, Label done) {
+        a.rev(x, x);
+        a.rev(y, y);
+        a.cmp(x, y, LSL0);
+        a.mov(result, 1L);
+        a.bhi(done);
+        a.mov(result, -1L);
+    }
+
+    //! @brief Load @a size bytes zero extended into @a t.
+    private static void load(Serializer a, int size, Register t, Offset address) {
+        switch (size) {
+            case 8:
+                a.ldr(t, address);
+                break;
+            case 4:
+                a.ldr(w(t), address);
+                break;
+            case 2:
+                a.ldrh(w(t), address);
+                break;
+            default:
+                a.ldrb(w(t), address);
+                break;
+        }
+    }
+
+    //! @brief Store the low @a size bytes of @a t.
+    private static void store(Serializer a, int size, Register t, Offset address) {
+        switch (size) {
+            case 8:
+                a.str(t, address);
+                break;
+            case 4:
+                a.str(w(t), address);
+                break;
+            case 2:
+                a.strh(w(t), address);
+                break;
+            default:
+                a.strb(w(t), address);
+                break;
+        }
+    }
+
+    //! @brief Return the 32 bit view of @a x.
+    private static Register w(Register x) {
+        if (x instanceof VirtualRegister)
+            return ((VirtualRegister) x).w();
+        return Register.gpw(x.index());
+    }
+
+    private static void checkLength(long length) {
+        if (length < 0)
+            throw new IllegalArgumentException("negative length: " + length);
+    }
+
+    private static Offset at(Register base, long offset) {
+        return new Offset(base, imm(offset));
+    }
+
+    private static Post_index post(Register base, long offset) {
+        return new Post_index(base, imm(offset));
+    }
+}
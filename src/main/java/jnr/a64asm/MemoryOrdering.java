@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2018 Ossdev07
+ *
+ * This file is part of the JNR project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jnr.a64asm;
+
+import static jnr.a64asm.Immediate.imm;
+
+/**
+ * Emits memory ordering with the cheapest instructions the CPU has, instead
+ * of a full @c DMB @c ISH around plain accesses:
+ *
+ * - loadAcquire() is @c LDAPR with @c CpuInfo.FEATURE_RCPC, otherwise
+ *   @c LDAR. At a non zero offset it is @c LDAPUR with
+ *   @c CpuInfo.FEATURE_RCPC2, otherwise @c LDR followed by @c DMB @c ISHLD.
+ * - storeRelease() is @c STLR, at a non zero offset @c STLUR with
+ *   @c CpuInfo.FEATURE_RCPC2, otherwise @c DMB @c ISH followed by @c STR.
+ * - the fences are @c DMB @c ISHLD (acquire), @c DMB @c ISHST (store-store)
+ *   and @c DMB @c ISH (release and full).
+ *
+ * An @c LDAPR acquire load may be reordered with an earlier release store to
+ * another address, use loadSeqCst() where that matters. Barriers emitted back
+ * to back are coalesced by PeepholeRule.RedundantBarrier.
+ */
+public final class MemoryOrdering {
+    //! @brief @c DMB / @c DSB options.
+    public static final int ISHLD = 9;
+    public static final int ISHST = 10;
+    public static final int ISH = 11;
+
+    private final CpuInfo cpuInfo;
+
+    //! @brief Create a helper for the CPU the code runs on.
+    public MemoryOrdering(CpuInfo cpuInfo) {
+        this.cpuInfo = cpuInfo;
+    }
+
+    //! @brief Load @a rt from [@a base] with acquire semantics.
+    public void loadAcquire(Serializer a, Register rt, Register base) {
+        loadAcquire(a, rt, base, 0);
+    }
+
+    //! @brief Load @a rt from [@a base, #@a offset] with acquire semantics.
+    public void loadAcquire(Serializer a, Register rt, Register base, long offset) {
+        if (offset == 0) {
+            if (cpuInfo.hasFeature(CpuInfo.FEATURE_RCPC))
+                a.ldapr(rt, base);
+            else
+                a.ldar(rt, base);
+        } else if (cpuInfo.hasFeature(CpuInfo.FEATURE_RCPC2) && isUnscaled(offset)) {
+            a.ldapur(rt, new Offset(base, imm(offset)));
+        } else {
+            a.ldr(rt, new Offset(base, imm(offset)));
+            acquireFence(a);
+        }
+    }
+
+    //! @brief Load @a rt from [@a base] ordered after all earlier release stores (@c LDAR).
+    public void loadSeqCst(Serializer a, Register rt, Register base) {
+        a.ldar(rt, base);
+    }
+
+    //! @brief Store @a rt to [@a base] with release semantics.
+    public void storeRelease(Serializer a, Register rt, Register base) {
+        storeRelease(a, rt, base, 0);
+    }
+
+    //! @brief Store @a rt to [@a base, #@a offset] with release semantics.
+    public void storeRelease(Serializer a, Register rt, Register base, long offset) {
+        if (offset == 0) {
+            a.stlr(rt, base);
+        } else if (cpuInfo.hasFeature(CpuInfo.FEATURE_RCPC2) && isUnscaled(offset)) {
+            a.stlur(rt, new Offset(base, imm(offset)));
+        } else {
+            releaseFence(a);
+            a.str(rt, new Offset(base, imm(offset)));
+        }
+    }
+
+    //! @brief Order earlier loads before later loads and stores.
+    public void acquireFence(Serializer a) {
+        a.dmb(imm(ISHLD));
+    }
+
+    //! @brief Order earlier loads and stores before later stores.
+    public void releaseFence(Serializer a) {
+        a.dmb(imm(ISH));
+    }
+
+    //! @brief Order earlier stores before later stores.
+    public void storeFence(Serializer a) {
+        a.dmb(imm(ISHST));
+    }
+
+    //! @brief Order all earlier accesses before all later ones.
+    public void fullFence(Serializer a) {
+        a.dmb(imm(ISH));
+    }
+
+    private static boolean isUnscaled(long offset) {
+        return offset >= -256 && offset <= 255;
+    }
+}
@@ -0,0 +1,299 @@
+/*
+ * Copyright (C) 2018 Ossdev07
+ *
+ * This file is part of the JNR project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package jnr.a64asm;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A rewrite rule of the peephole pass, see @c Assembler_A64.PROPERTY_PEEPHOLE.
+ *
+ * The pass calls apply() for every instruction that was not removed yet, one
+ * rule after the other. A rule looks at the instruction and the ones following
+ * it and may replace or remove them. Instructions a label is bound to can be
+ * reached by a branch, a rule must not assume anything about the instructions
+ * before them.
+ */
+public abstract class PeepholeRule {
+    private final String name;
+
+    //! @brief Number of instructions removed by this rule, updated by the assembler.
+    int removed = 0;
+
+    protected PeepholeRule(String name) {
+        this.name = name;
+    }
+
+    public final String name() {
+        return name;
+    }
+
+    /** Returns the number of instructions this rule removed so far. */
+    public final int removed() {
+        return removed;
+    }
+
+    /** Tries to rewrite the code starting at instruction @a i of @a code. */
+    public abstract void apply(InstructionStream code, int i);
+
+    @Override
+    public String toString() {
+        return name + ": " + removed;
+    }
+
+    /** Returns new instances of the rules used by default. */
+    public static List<PeepholeRule> defaultRules() {
+        List<PeepholeRule> rules = new ArrayList<PeepholeRule>();
+        rules.add(new SelfMove());
+        rules.add(new BranchToNext());
+        rules.add(new AddLoad());
+        rules.add(new PairLoadStore());
+        rules.add(new RepeatedCompare());
+        rules.add(new RedundantBarrier());
+
+        return rules;
+    }
+
+    /**
+     * Removes @c MOV Xd, Xd, i.e. @c ORR Xd, XZR, Xd and @c ADD Xd, Xd, #0.
+     * A 32 bit move clears the upper half of the register and is kept.
+     */
+    public static final class SelfMove extends PeepholeRule {
+        public SelfMove() {
+            super("self move");
+        }
+
+        @Override
+        public void apply(InstructionStream code, int i) {
+            int w = code.word(i);
+            int rd = w & 0x1f;
+            if (((w & 0xffe0ffe0) == 0xaa0003e0 && (w >>> 16 & 0x1f) == rd)
+                    || ((w & 0xfffffc00) == 0x91000000 && (w >>> 5 & 0x1f) == rd)) {
+                code.remove(i);
+            }
+        }
+    }
+
+    /** Removes branches (@c B, @c B.cond, @c CBZ, @c TBZ, ...) to the next instruction. */
+    public static final class BranchToNext extends PeepholeRule {
+        public BranchToNext() {
+            super("branch to next");
+        }
+
+        @Override
+        public void apply(InstructionStream code, int i) {
+            int w = code.word(i);
+            if ((w & 0xfc000000) == 0x14000000 || (w & 0xff000010) == 0x54000000 || (w & 0x7c000000) == 0x34000000) {
+                if (code.target(i) == code.offset(i) + 4) {
+                    code.remove(i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Folds @c ADD Xt, Xn, Xm{, LSL #s} followed by @c LDR Rt, [Xt] into
+     * @c LDR Rt, [Xn, Xm{, LSL #s}] (also @c LDRB, @c LDRH). The load overwrites
+     * @c Xt, so the sum is not needed afterwards.
+     */
+    public static final class AddLoad extends PeepholeRule {
+        public AddLoad() {
+            super("add + load");
+        }
+
+        @Override
+        public void apply(InstructionStream code, int i) {
+            int add = code.word(i);
+            int t = add & 0x1f;
+            int n = add >>> 5 & 0x1f;
+            if ((add & 0xffe00000) != 0x8b000000 || t == 31 || n == 31) {
+                return;     /*ADD (shifted register), LSL; register 31 is XZR here but SP in the load*/
+            }
+            int j = code.next(i);
+            if (j == code.size() || code.isBranchTarget(j) || code.isReferenced(i)) {
+                return;
+            }
+            int ldr = code.word(j);
+            if ((ldr & 0x3ffffc00) != 0x39400000 || (ldr & 0x1f) != t || (ldr >>> 5 & 0x1f) != t) {
+                return;     /*LDR Rt, [Xt, #0]*/
+            }
+            int size = ldr >>> 30;
+            int amount = add >>> 10 & 0x3f;
+            if (amount != 0 && amount != size) {
+                return;
+            }
+            int s = amount != 0 ? 1 : 0;
+            code.set(j, size << 30 | 0x38606800 | (add & 0x1f0000) | s << 12 | n << 5 | t);
+            code.remove(i);
+        }
+    }
+
+    /**
+     * Merges @c LDR / @c STR of two W or X registers at adjacent unsigned
+     * offsets from the same base into @c LDP / @c STP, as found in register
+     * save and restore sequences.
+     */
+    public static final class PairLoadStore extends PeepholeRule {
+        public PairLoadStore() {
+            super("load/store pair");
+        }
+
+        @Override
+        public void apply(InstructionStream code, int i) {
+            int first = code.word(i);
+            if ((first & 0xbf800000) != 0xb9000000 || code.isReferenced(i)) {
+                return;     /*LDR / STR (unsigned offset) of W or X*/
+            }
+            int j = code.next(i);
+            if (j == code.size() || code.isBranchTarget(j)) {
+                return;
+            }
+            int second = code.word(j);
+            if ((second & 0xffc003e0) != (first & 0xffc003e0)) {
+                return;     /*same size, direction and base*/
+            }
+            boolean load = (first & 0x00400000) != 0;
+            int rn = first >>> 5 & 0x1f;
+            int rt1 = first & 0x1f;
+            int rt2 = second & 0x1f;
+            if (load && (rt1 == rt2 || rt1 == rn)) {
+                return;     /*the second load must see the same base*/
+            }
+            int off1 = first >>> 10 & 0xfff;
+            int off2 = second >>> 10 & 0xfff;
+            int pair;
+            if (off2 == off1 + 1 && off1 <= 63) {
+                pair = off1 << 15 | rt2 << 10 | rt1;
+            } else if (off1 == off2 + 1 && off2 <= 63) {
+                pair = off2 << 15 | rt1 << 10 | rt2;
+            } else {
+                return;
+            }
+            code.set(j, (first & 0x40000000) << 1 | 0x29000000 | (first & 0x00400000) | pair | rn << 5);
+            code.remove(i);
+        }
+    }
+
+    /**
+     * Removes a compare (@c CMP, @c CMN, @c TST) that repeats the previous one,
+     * when only conditional branches are executed in between.
+     */
+    public static final class RepeatedCompare extends PeepholeRule {
+        public RepeatedCompare() {
+            super("repeated compare");
+        }
+
+        @Override
+        public void apply(InstructionStream code, int i) {
+            int w = code.word(i);
+            if (!isCompare(w) || code.isReferenced(i)) {
+                return;
+            }
+            int j = code.next(i);
+            while (j < code.size() && !code.isBranchTarget(j) && (code.word(j) & 0xff000010) == 0x54000000) {
+                j = code.next(j);
+            }
+            if (j < code.size() && !code.isBranchTarget(j) && code.word(j) == w) {
+                code.remove(j);
+            }
+        }
+
+        //! @brief Return @c true if @a w only sets the flags (ADDS, SUBS or ANDS to XZR / WZR).
+        static boolean isCompare(int w) {
+            if ((w & 0x1f) != 0x1f) {
+                return false;
+            }
+            switch (w & 0x1f000000) {
+                case 0x11000000:    /*immediate*/
+                case 0x0b000000:    /*shifted or extended register*/
+                    return (w & 0x20000000) != 0;
+                case 0x12000000:
+                    return (w & 0x60800000) == 0x60000000;
+                case 0x0a000000:
+                    return (w & 0x60000000) == 0x60000000;
+                default:
+                    return false;
+            }
+        }
+    }
+
+    /**
+     * Coalesces back-to-back @c DMB / @c DSB barriers: a barrier that orders
+     * no more than the one next to it, in a domain no wider, is removed, e.g.
+     * @c DMB @c ISHLD next to @c DMB @c ISH. A @c DSB is at least as strong
+     * as a @c DMB. @c ISHLD and @c ISHST together are not a full barrier and
+     * are both kept.
+     */
+    public static final class RedundantBarrier extends PeepholeRule {
+        public RedundantBarrier() {
+            super("redundant barrier");
+        }
+
+        @Override
+        public void apply(InstructionStream code, int i) {
+            int w = code.word(i);
+            if (!isBarrier(w)) {
+                return;
+            }
+            for (int j = code.next(i); j < code.size() && !code.isBranchTarget(j); j = code.next(j)) {
+                int v = code.word(j);
+                if (!isBarrier(v)) {
+                    return;
+                }
+                if (covers(w, v)) {
+                    code.remove(j);
+                } else {
+                    if (covers(v, w)) {
+                        code.remove(i);
+                    }
+                    return;
+                }
+            }
+        }
+
+        //! @brief Return @c true if @a w is a @c DMB or @c DSB with a load, store or full option.
+        static boolean isBarrier(int w) {
+            return ((w & 0xfffff0ff) == 0xd50330bf || (w & 0xfffff0ff) == 0xd503309f) && (w & 0x300) != 0;
+        }
+
+        //! @brief Return @c true if barrier @a w orders everything barrier @a v does.
+        static boolean covers(int w, int v) {
+            boolean dmb = (w & 0x20) != 0;
+            int types = w >>> 8 & 3;
+            if (dmb && (v & 0x20) == 0 || (types & (v >>> 8 & 3)) != (v >>> 8 & 3)) {
+                return false;
+            }
+            return domain(w) >= domain(v);
+        }
+
+        //! @brief Rank the shareability domain of barrier @a w, NSH < ISH < OSH < SY.
+        private static int domain(int w) {
+            switch (w >>> 10 & 3) {
+                case 1:
+                    return 0;
+                case 2:
+                    return 1;
+                case 0:
+                    return 2;
+                default:
+                    return 3;
+            }
+        }
+    }
+}
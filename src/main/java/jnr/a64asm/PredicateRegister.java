@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2018 Ossdev07
+ *
+ * This file is part of the JNR project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package jnr.a64asm;
+
+import static jnr.a64asm.REG.*;
+
+/**
+ * SVE predicate register @c p0-p15, optionally with an element size (@c p0.s)
+ * or, as the governing predicate of an instruction, zeroing (@c p0/z) or
+ * merging (@c p0/m) the inactive elements. Predicate registers are created by
+ * p(), as(), zeroing() and merging(), which return cached instances.
+ */
+public final class PredicateRegister extends Register {
+    //! @brief Qualifiers of a governing predicate.
+    static final int PLAIN = 0, ZEROING = 1, MERGING = 2;
+
+    // Indexed by element size (ELEMENT_ENUM ordinal + 1, 0 for none), qualifier and register.
+    private static final PredicateRegister[][][] cache = new PredicateRegister[ELEMENT_ENUM.values().length + 1][3][16];
+
+    static {
+        for (int t = 0; t <= ELEMENT_ENUM.values().length; t++) {
+            for (int q = PLAIN; q <= MERGING; q++) {
+                for (int i = 0; i < 16; ++i) {
+                    cache[t][q][i] = new PredicateRegister(i, t == 0 ? null : ELEMENT_ENUM.values()[t - 1], q);
+                }
+            }
+        }
+    }
+
+    private final ELEMENT_ENUM element;
+    private final int qualifier;
+
+    private PredicateRegister(int idx, ELEMENT_ENUM element, int qualifier) {
+        super(REG_PRED | idx, 0);
+        this.element = element;
+        this.qualifier = qualifier;
+    }
+
+    //! @brief Return predicate register @c p<idx> without element size.
+    public static PredicateRegister p(int idx) {
+        return p(idx, null);
+    }
+
+    //! @brief Return predicate register @c p<idx> with @a element size.
+    public static PredicateRegister p(int idx, ELEMENT_ENUM element) {
+        if (idx < 0 || idx >= 16) {
+            throw new IllegalArgumentException("invalid register index " + idx);
+        }
+
+        return cache[element == null ? 0 : element.ordinal() + 1][PLAIN][idx];
+    }
+
+    //! @brief Return this register with @a element size.
+    public PredicateRegister as(ELEMENT_ENUM element) {
+        return p(index(), element);
+    }
+
+    //! @brief Return this register as zeroing governing predicate, @c p<n>/z.
+    public PredicateRegister zeroing() {
+        return cache[0][ZEROING][index()];
+    }
+
+    //! @brief Return this register as merging governing predicate, @c p<n>/m.
+    public PredicateRegister merging() {
+        return cache[0][MERGING][index()];
+    }
+
+    //! @brief Return the element size, @c null if none.
+    public ELEMENT_ENUM element() {
+        return element;
+    }
+
+    //! @brief Return the qualifier: PLAIN, ZEROING or MERGING.
+    final int qualifier() {
+        return qualifier;
+    }
+
+}
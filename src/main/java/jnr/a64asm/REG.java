@@ -21,13 +21,23 @@ package jnr.a64asm;
 public class REG {
     private REG() {}
     //! @brief Mask for register type.
-    public static final int REGTYPE_MASK = 0xF0,
+    public static final int REGTYPE_MASK = 0xE0,
     //! @brief Mask for register code (index).
-    REGCODE_MASK = 0x0F,
+    REGCODE_MASK = 0x1F,
     //! @brief 64 bit general purpose register type.
     REG_GPR = 0x00,
     //! @brief 32 bit general purpose register type.
     REG_GPT = 0x20,
+    //! @brief 32 bit floating point (single precision) register type.
+    REG_FPS = 0x40,
+    //! @brief 64 bit floating point (double precision) register type.
+    REG_FPD = 0x60,
+    //! @brief 128 bit AdvSIMD vector register type, see VectorRegister.
+    REG_VEC = 0x80,
+    //! @brief SVE scalable vector register type, see ScalableRegister.
+    REG_ZVEC = 0xA0,
+    //! @brief SVE predicate register type, see PredicateRegister.
+    REG_PRED = 0xC0,
 
     REG_X0 = REG_GPR + 0, //argument and result registed from ro to r7
     REG_X1 = REG_GPR + 1,
@@ -93,5 +103,69 @@ public class REG {
     REG_W28 = REG_GPT + 28,
     REG_W29 = REG_GPT + 29, //frame pointer
     REG_W30 = REG_GPT + 30,  // link register
+    REG_S0 = REG_FPS + 0, //argument and result registers from s0 to s7
+    REG_S1 = REG_FPS + 1,
+    REG_S2 = REG_FPS + 2,
+    REG_S3 = REG_FPS + 3,
+    REG_S4 = REG_FPS + 4,
+    REG_S5 = REG_FPS + 5,
+    REG_S6 = REG_FPS + 6,
+    REG_S7 = REG_FPS + 7,
+    REG_S8 = REG_FPS + 8,
+    REG_S9 = REG_FPS + 9,
+    REG_S10 = REG_FPS + 10,
+    REG_S11 = REG_FPS + 11,
+    REG_S12 = REG_FPS + 12,
+    REG_S13 = REG_FPS + 13,
+    REG_S14 = REG_FPS + 14,
+    REG_S15 = REG_FPS + 15,
+    REG_S16 = REG_FPS + 16,
+    REG_S17 = REG_FPS + 17,
+    REG_S18 = REG_FPS + 18,
+    REG_S19 = REG_FPS + 19,
+    REG_S20 = REG_FPS + 20,
+    REG_S21 = REG_FPS + 21,
+    REG_S22 = REG_FPS + 22,
+    REG_S23 = REG_FPS + 23,
+    REG_S24 = REG_FPS + 24,
+    REG_S25 = REG_FPS + 25,
+    REG_S26 = REG_FPS + 26,
+    REG_S27 = REG_FPS + 27,
+    REG_S28 = REG_FPS + 28,
+    REG_S29 = REG_FPS + 29,
+    REG_S30 = REG_FPS + 30,
+    REG_S31 = REG_FPS + 31,
+    REG_D0 = REG_FPD + 0, //argument and result registers from d0 to d7
+    REG_D1 = REG_FPD + 1,
+    REG_D2 = REG_FPD + 2,
+    REG_D3 = REG_FPD + 3,
+    REG_D4 = REG_FPD + 4,
+    REG_D5 = REG_FPD + 5,
+    REG_D6 = REG_FPD + 6,
+    REG_D7 = REG_FPD + 7,
+    REG_D8 = REG_FPD + 8, //d8 to d15 callee saved register
+    REG_D9 = REG_FPD + 9,
+    REG_D10 = REG_FPD + 10,
+    REG_D11 = REG_FPD + 11,
+    REG_D12 = REG_FPD + 12,
+    REG_D13 = REG_FPD + 13,
+    REG_D14 = REG_FPD + 14,
+    REG_D15 = REG_FPD + 15,
+    REG_D16 = REG_FPD + 16,
+    REG_D17 = REG_FPD + 17,
+    REG_D18 = REG_FPD + 18,
+    REG_D19 = REG_FPD + 19,
+    REG_D20 = REG_FPD + 20,
+    REG_D21 = REG_FPD + 21,
+    REG_D22 = REG_FPD + 22,
+    REG_D23 = REG_FPD + 23,
+    REG_D24 = REG_FPD + 24,
+    REG_D25 = REG_FPD + 25,
+    REG_D26 = REG_FPD + 26,
+    REG_D27 = REG_FPD + 27,
+    REG_D28 = REG_FPD + 28,
+    REG_D29 = REG_FPD + 29,
+    REG_D30 = REG_FPD + 30,
+    REG_D31 = REG_FPD + 31,
     NO_REG = 0xFF;
 }
@@ -25,11 +25,15 @@ import static jnr.a64asm.SYSREG_CODE.*;
 public  class Register extends BaseReg {
     private static final Register[] gpb = new Register[32];
     private static final Register[] gpw = new Register[32];
+    private static final Register[] fps = new Register[32];
+    private static final Register[] fpd = new Register[32];
 
     static {
         for (int i = 0; i < 32; ++i) {
             gpb[i] = new Register(REG_GPR | i, SIZE_DWORD);
             gpw[i] = new Register(REG_GPT | i, SIZE_WORD);
+            fps[i] = new Register(REG_FPS | i, SIZE_WORD);
+            fpd[i] = new Register(REG_FPD | i, SIZE_DWORD);
         }
     }
 
@@ -47,6 +51,16 @@ public  class Register extends BaseReg {
         throw new IllegalArgumentException("invalid register 0x" + Integer.toHexString(reg));
     }
 
+    public static final Register fpr(int reg) {
+        switch (reg & REGTYPE_MASK) {
+            case REG_FPS:
+                return fps[reg & REGCODE_MASK];
+            case REG_FPD:
+                return fpd[reg & REGCODE_MASK];
+        }
+        throw new IllegalArgumentException("invalid register 0x" + Integer.toHexString(reg));
+    }
+
     private static final Register gpr(Register[] cache, int idx) {
         if (idx >= 0 && idx < 32) {
             return cache[idx];
@@ -63,4 +77,19 @@ public  class Register extends BaseReg {
         return gpr(gpw, idx);
     }
 
+    //! @brief Return single precision floating point register @c s<idx>.
+    public static final Register fps(int idx) {
+        return gpr(fps, idx);
+    }
+
+    //! @brief Return double precision floating point register @c d<idx>.
+    public static final Register fpd(int idx) {
+        return gpr(fpd, idx);
+    }
+
+    //! @brief Return @c true if this is a floating point register (@c s or @c d).
+    public final boolean isFp() {
+        return type() == REG_FPS || type() == REG_FPD;
+    }
+
 }
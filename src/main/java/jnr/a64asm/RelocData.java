@@ -31,18 +31,23 @@ class RelocData {
     };
 
     /** Type of relocation. */
-    final Type type;
+    Type type;
 
     /** Size of relocation (4 or 8 bytes). */
-    final int size;
+    int size;
 
     /** Offset from code begin address (in the emitted code data stream). */
-    final int offset;
+    int offset;
 
     /** Relative displacement or absolute address. */
-    final long destination;
+    long destination;
 
     public RelocData(Type type, int size, int offset, long destination) {
+        set(type, size, offset, destination);
+    }
+
+    //! @brief Reinitialize this entry, used when the assembler reuses its relocation storage.
+    final void set(Type type, int size, int offset, long destination) {
         this.type = type;
         this.size = size;
         this.offset = offset;
@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2018 Ossdev07
+ *
+ * This file is part of the JNR project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package jnr.a64asm;
+
+import static jnr.a64asm.REG.*;
+import static jnr.a64asm.SIZE.*;
+
+/**
+ * SVE scalable vector register @c z0-z31 with an element size, like @c z0.s.
+ *
+ * The vector length is given by the CPU, a multiple of 128 bits; the AdvSIMD
+ * register @c v<n> is the low 128 bits of @c z<n>. Scalable registers are
+ * created by z() and as(), which return cached instances.
+ */
+public final class ScalableRegister extends Register {
+    private static final ScalableRegister[][] cache = new ScalableRegister[ELEMENT_ENUM.values().length][32];
+
+    static {
+        for (ELEMENT_ENUM t : ELEMENT_ENUM.values()) {
+            for (int i = 0; i < 32; ++i) {
+                cache[t.ordinal()][i] = new ScalableRegister(i, t);
+            }
+        }
+    }
+
+    private final ELEMENT_ENUM element;
+
+    private ScalableRegister(int idx, ELEMENT_ENUM element) {
+        super(REG_ZVEC | idx, SIZE_QWORD);      /*the minimum vector length*/
+        this.element = element;
+    }
+
+    //! @brief Return scalable vector register @c z<idx> with @a element size.
+    public static ScalableRegister z(int idx, ELEMENT_ENUM element) {
+        if (idx < 0 || idx >= 32) {
+            throw new IllegalArgumentException("invalid register index " + idx);
+        }
+
+        return cache[element.ordinal()][idx];
+    }
+
+    //! @brief Return this register with @a element size.
+    public ScalableRegister as(ELEMENT_ENUM element) {
+        return cache[element.ordinal()][index()];
+    }
+
+    public ELEMENT_ENUM element() {
+        return element;
+    }
+
+}
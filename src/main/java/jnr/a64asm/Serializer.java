@@ -29,4 +29,9 @@ package jnr.a64asm;
  */
 public abstract class Serializer extends SerializerIntrinsics_a64 {
 
+    //! @brief Create a new, unbound label.
+    public abstract Label newLabel();
+
+    //! @brief Bind @a label to the next instruction.
+    public abstract void bind(Label label);
 }
@@ -46,6 +46,18 @@ public abstract class SerializerCore {
     //! Hint: Use @c emitA64() helpers to emit instructions.
     abstract void _emita64(INST_CODE code, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5);
 
+    //! @brief Emits an already encoded instruction word.
+    abstract void _emitInt32(int x);
+
+    //! @brief Emits the already encoded word @a x of instruction @a code, which the CPU must support.
+    abstract void _emitInt32(INST_CODE code, int x);
+
+    //! @brief Emits branch @a opcode (@c B or @c BL) to the absolute address @a target, resolved by relocCode().
+    abstract void _emitJmpOrCallReloc(int opcode, long target);
+
+    //! @brief Emits literal load @a inst of the @a size byte constant @a value, placed in the literal pool.
+    abstract void _emitLiteralLoad(int inst, long value, int size);
+
     // Helpers to decrease binary code size. These four emit methods are just
     // helpers thats used by serializer. They call _emita64() adding NULLs
     // to first, second and third operand if needed.
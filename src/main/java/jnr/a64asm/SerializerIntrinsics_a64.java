@@ -19,13 +19,18 @@
 package jnr.a64asm;
 
 import static jnr.a64asm.INST_CODE.*;
+import static jnr.a64asm.InstructionEncoder.*;
 import static jnr.a64asm.REG.*;
+import static jnr.a64asm.SIZE.*;
 
 /**
  * Assembler instruction serializer.
  */
 public abstract class SerializerIntrinsics_a64 extends SerializerCore {
 
+    public final void   abs(VectorRegister Vd, VectorRegister Vn){
+        emitA64(INST_ABS_SIMD_2REG_MISC, Vd, Vn);
+    }
     public final void   adc(Register dst, Register Xn, Register Xm){
         emitA64(INST_ADC_ADDSUB_CARRY, dst, Xn, Xm);
     }
@@ -35,39 +40,99 @@ public abstract class SerializerIntrinsics_a64 extends SerializerCore {
     public final void   add(Register Xd, Register Xn, Immediate val, Shift sft){
         emitA64(INST_ADD_ADDSUB_IMM, Xd, Xn, val, sft);
     }
+    public final void   add(Register Xd, Register Xn, long imm){
+        _emitMacro(MACRO_ADD, Xd, Xn, imm);
+    }
     public final void   add(Register Xd, Register Xn, Register Xm, Shift sft){
         emitA64(INST_ADD_ADDSUB_SHIFT, Xd, Xn, Xm, sft);
     }
     public final void   add(Register Xd, Register Xn, Register Xm, Ext extnd){
         emitA64(INST_ADD_EXT_ADDSUB_EXT, Xd, Xn, Xm, extnd);
     }
+    public final void   add(VectorRegister Vd, VectorRegister Vn, VectorRegister Vm){
+        emitA64(INST_ADD_SIMD_3SAME, Vd, Vn, Vm);
+    }
+    public final void   add(ScalableRegister Zd, ScalableRegister Zn, ScalableRegister Zm){
+        emitA64(INST_ADD_SVE_ARITH, Zd, Zn, Zm);
+    }
+    public final void   add(ScalableRegister Zdn, PredicateRegister Pg, ScalableRegister Zn, ScalableRegister Zm){
+        emitA64(INST_ADD_SVE_ARITH_PRED, Zdn, Pg, Zn, Zm);
+    }
+    public final void   addp(VectorRegister Vd, VectorRegister Vn, VectorRegister Vm){
+        emitA64(INST_ADDP_SIMD_3SAME, Vd, Vn, Vm);
+    }
+    public final void   addpl(Register Xd, Register Xn, Immediate imm){
+        emitA64(INST_ADDPL_SVE_VL, Xd, Xn, imm);
+    }
     public final void   adds(Register Xd, Register Xn, Register Xm, Ext extnd){
         emitA64(INST_ADDS_ADDSUB_EXT, Xd, Xn, Xm, extnd);
     }
     public final void   adds(Register Xd, Register Xn, Immediate val, Shift sft){
         emitA64(INST_ADDS_ADDSUB_IMM, Xd, Xn, val, sft);
     }
+    public final void   adds(Register Xd, Register Xn, long imm){
+        _emitMacro(MACRO_ADDS, Xd, Xn, imm);
+    }
     public final void   adds(Register Xd, Register Xn, Register Xm, Shift sft){
         emitA64(INST_ADDS_ADDSUB_SHIFT, Xd, Xn, Xm, sft);
     }
+    public final void   addv(Register Vd, VectorRegister Vn){
+        emitA64(INST_ADDV_SIMD_ACROSS, Vd, Vn);
+    }
+    public final void   addvl(Register Xd, Register Xn, Immediate imm){
+        emitA64(INST_ADDVL_SVE_VL, Xd, Xn, imm);
+    }
     public final void   adr(Register Xd, Label label){
         emitA64(INST_ADR_PCRELADDR, Xd, label);
     }
     public final void   adrp(Register Xd, Label label){
         emitA64(INST_ADRP_PCRELADDR, Xd, label);
     }
+    public final void   aesd(VectorRegister Vd, VectorRegister Vn){
+        emitA64(INST_AESD_CRYPTO_AES, Vd, Vn);
+    }
+    public final void   aese(VectorRegister Vd, VectorRegister Vn){
+        emitA64(INST_AESE_CRYPTO_AES, Vd, Vn);
+    }
+    public final void   aesimc(VectorRegister Vd, VectorRegister Vn){
+        emitA64(INST_AESIMC_CRYPTO_AES, Vd, Vn);
+    }
+    public final void   aesmc(VectorRegister Vd, VectorRegister Vn){
+        emitA64(INST_AESMC_CRYPTO_AES, Vd, Vn);
+    }
     public final void   and(Register Xd, Register Xn, Immediate val){
         emitA64(INST_AND_LOG_IMM, Xd, Xn, val);
     }
+    public final void   and(Register Xd, Register Xn, long mask){
+        _emitMacro(MACRO_AND, Xd, Xn, mask);
+    }
     public final void   and(Register Xd, Register Xn, Register Xm, Shift sft){
         emitA64(INST_AND_LOG_SHIFT, Xd, Xn, Xm, sft);
     }
+    public final void   and(VectorRegister Vd, VectorRegister Vn, VectorRegister Vm){
+        emitA64(INST_AND_SIMD_3SAME, Vd, Vn, Vm);
+    }
+    public final void   and(PredicateRegister Pd, PredicateRegister Pg, PredicateRegister Pn, PredicateRegister Pm){
+        emitA64(INST_AND_SVE_PRED_LOGIC, Pd, Pg, Pn, Pm);
+    }
+    public final void   and(ScalableRegister Zd, ScalableRegister Zn, ScalableRegister Zm){
+        emitA64(INST_AND_SVE_ARITH, Zd, Zn, Zm);
+    }
+    public final void   and(ScalableRegister Zdn, PredicateRegister Pg, ScalableRegister Zn, ScalableRegister Zm){
+        emitA64(INST_AND_SVE_ARITH_PRED, Zdn, Pg, Zn, Zm);
+    }
     public final void   ands(Register Xd, Register Xn, Immediate val){
         emitA64(INST_ANDS_LOG_IMM, Xd, Xn, val);
     }
+    public final void   ands(Register Xd, Register Xn, long mask){
+        _emitMacro(MACRO_ANDS, Xd, Xn, mask);
+    }
     public final void   ands(Register Xd, Register Xn, Register Xm, Shift sft){
         emitA64(INST_ANDS_LOG_SHIFT, Xd, Xn, Xm, sft);
     }
+    public final void   andv(Register Vd, PredicateRegister Pg, ScalableRegister Zn){
+        emitA64(INST_ANDV_SVE_REDUCE, Vd, Pg, Zn);
+    }
     public final void   asr(Register Xd, Register Xn, Immediate val){
         emitA64(INST_ASR_BITFIELD, Xd, Xn, val);
     }
@@ -80,15 +145,30 @@ public abstract class SerializerIntrinsics_a64 extends SerializerCore {
     public final void   b(Immediate Xd){
         emitA64(INST_B_BRANCH_IMM, Xd);
     }
+    public final void   b(Label label){
+        emitA64(INST_B_BRANCH_IMM, label);
+    }
+    public final void   bcax(ScalableRegister Zdn, ScalableRegister Zn, ScalableRegister Zm, ScalableRegister Zk){
+        emitA64(INST_BCAX_SVE_TERNARY, Zdn, Zn, Zm, Zk);
+    }
     public final void   bcc(Immediate Xd){
         emitA64(INST_BCC_CONDBRANCH, Xd);
     }
+    public final void   bcc(Label label){
+        emitA64(INST_BCC_CONDBRANCH, label);
+    }
     public final void   bcs(Immediate Xd){
         emitA64(INST_BCS_CONDBRANCH, Xd);
     }
+    public final void   bcs(Label label){
+        emitA64(INST_BCS_CONDBRANCH, label);
+    }
     public final void   beq(Immediate imm19){
         emitA64(INST_BEQ_CONDBRANCH, imm19);
     }
+    public final void   beq(Label label){
+        emitA64(INST_BEQ_CONDBRANCH, label);
+    }
     public final void   bfi(Register Xd, Register Xn, Immediate val, Immediate width){
         emitA64(INST_BFI_BITFIELD, Xd, Xn, val, width);
     }
@@ -101,60 +181,177 @@ public abstract class SerializerIntrinsics_a64 extends SerializerCore {
     public final void   bge(Immediate label){
         emitA64(INST_BGE_CONDBRANCH, label);
     }
+    public final void   bge(Label label){
+        emitA64(INST_BGE_CONDBRANCH, label);
+    }
     public final void   bgt(Immediate label){
         emitA64(INST_BGT_CONDBRANCH, label);
     }
+    public final void   bgt(Label label){
+        emitA64(INST_BGT_CONDBRANCH, label);
+    }
     public final void   bhi(Immediate label){
         emitA64(INST_BHI_CONDBRANCH , label);
     }
+    public final void   bhi(Label label){
+        emitA64(INST_BHI_CONDBRANCH, label);
+    }
     public final void   bhs(Immediate label){
         emitA64(INST_BHS_CONDBRANCH, label);
     }
+    public final void   bhs(Label label){
+        emitA64(INST_BHS_CONDBRANCH, label);
+    }
     public final void   bic(Register Xd, Register Xn, Register Xm, Shift sft){
         emitA64(INST_BIC_LOG_SHIFT, Xd, Xn, Xm, sft);
     }
+    public final void   bic(VectorRegister Vd, VectorRegister Vn, VectorRegister Vm){
+        emitA64(INST_BIC_SIMD_3SAME, Vd, Vn, Vm);
+    }
+    public final void   bic(PredicateRegister Pd, PredicateRegister Pg, PredicateRegister Pn, PredicateRegister Pm){
+        emitA64(INST_BIC_SVE_PRED_LOGIC, Pd, Pg, Pn, Pm);
+    }
+    public final void   bic(ScalableRegister Zd, ScalableRegister Zn, ScalableRegister Zm){
+        emitA64(INST_BIC_SVE_ARITH, Zd, Zn, Zm);
+    }
+    public final void   bic(ScalableRegister Zdn, PredicateRegister Pg, ScalableRegister Zn, ScalableRegister Zm){
+        emitA64(INST_BIC_SVE_ARITH_PRED, Zdn, Pg, Zn, Zm);
+    }
     public final void   bics(Register Xd, Register Xn, Register Xm, Shift sft){
         emitA64(INST_BICS_LOG_SHIFT, Xd, Xn, Xm, sft);
     }
+    public final void   bif(VectorRegister Vd, VectorRegister Vn, VectorRegister Vm){
+        emitA64(INST_BIF_SIMD_3SAME, Vd, Vn, Vm);
+    }
+    public final void   bit(VectorRegister Vd, VectorRegister Vn, VectorRegister Vm){
+        emitA64(INST_BIT_SIMD_3SAME, Vd, Vn, Vm);
+    }
     public final void   bl(Immediate label){
         emitA64(INST_BL_BRANCH_IMM, label);
     }
+    public final void   bl(Label label){
+        emitA64(INST_BL_BRANCH_IMM, label);
+    }
     public final void   ble(Immediate label){
         emitA64(INST_BLE_CONDBRANCH, label);
     }
+    public final void   ble(Label label){
+        emitA64(INST_BLE_CONDBRANCH, label);
+    }
     public final void   blo(Immediate label){
         emitA64(INST_BLO_CONDBRANCH, label);
     }
+    public final void   blo(Label label){
+        emitA64(INST_BLO_CONDBRANCH, label);
+    }
     public final void   blr(Register Xn){
         emitA64(INST_BLR_BRANCH_REG, Xn);
     }
     public final void   bls(Immediate label){
         emitA64(INST_BLS_CONDBRANCH, label);
     }
+    public final void   bls(Label label){
+        emitA64(INST_BLS_CONDBRANCH, label);
+    }
     public final void   blt(Immediate label){
         emitA64(INST_BLT_CONDBRANCH, label);
     }
+    public final void   blt(Label label){
+        emitA64(INST_BLT_CONDBRANCH, label);
+    }
     public final void   bmi(Immediate label){
         emitA64(INST_BMI_CONDBRANCH, label);
     }
+    public final void   bmi(Label label){
+        emitA64(INST_BMI_CONDBRANCH, label);
+    }
     public final void   bne(Immediate label){
         emitA64(INST_BNE_CONDBRANCH, label);
     }
+    public final void   bne(Label label){
+        emitA64(INST_BNE_CONDBRANCH, label);
+    }
     public final void   bpl(Immediate label){
         emitA64(INST_BPL_CONDBRANCH, label);
     }
+    public final void   bpl(Label label){
+        emitA64(INST_BPL_CONDBRANCH, label);
+    }
     public final void   br(Register Xn){
         emitA64(INST_BR_BRANCH_REG, Xn);
     }
     public final void   brk(Immediate val){
         emitA64(INST_BRK_EXCEPTION, val);
     }
+    public final void   brka(PredicateRegister Pd, PredicateRegister Pg, PredicateRegister Pn){
+        emitA64(INST_BRKA_SVE_PRED_LOGIC, Pd, Pg, Pn);
+    }
+    public final void   brkb(PredicateRegister Pd, PredicateRegister Pg, PredicateRegister Pn){
+        emitA64(INST_BRKB_SVE_PRED_LOGIC, Pd, Pg, Pn);
+    }
+    public final void   bsl(VectorRegister Vd, VectorRegister Vn, VectorRegister Vm){
+        emitA64(INST_BSL_SIMD_3SAME, Vd, Vn, Vm);
+    }
     public final void   bvc(Immediate label){
         emitA64(INST_BVC_CONDBRANCH, label);
     }
+    public final void   bvc(Label label){
+        emitA64(INST_BVC_CONDBRANCH, label);
+    }
     public final void   bvs(Immediate label){
         emitA64(INST_BVS_CONDBRANCH, label);
     }
+    public final void   bvs(Label label){
+        emitA64(INST_BVS_CONDBRANCH, label);
+    }
+    public final void   cas(Register Xs, Register Xt, Register Xn){
+        emitA64(INST_CAS_LDST_CAS, Xs, Xt, Xn);
+    }
+    public final void   casa(Register Xs, Register Xt, Register Xn){
+        emitA64(INST_CASA_LDST_CAS, Xs, Xt, Xn);
+    }
+    public final void   casab(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_CASAB_LDST_CAS, Ws, Wt, Xn);
+    }
+    public final void   casah(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_CASAH_LDST_CAS, Ws, Wt, Xn);
+    }
+    public final void   casal(Register Xs, Register Xt, Register Xn){
+        emitA64(INST_CASAL_LDST_CAS, Xs, Xt, Xn);
+    }
+    public final void   casalb(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_CASALB_LDST_CAS, Ws, Wt, Xn);
+    }
+    public final void   casalh(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_CASALH_LDST_CAS, Ws, Wt, Xn);
+    }
+    public final void   casb(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_CASB_LDST_CAS, Ws, Wt, Xn);
+    }
+    public final void   cash(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_CASH_LDST_CAS, Ws, Wt, Xn);
+    }
+    public final void   casl(Register Xs, Register Xt, Register Xn){
+        emitA64(INST_CASL_LDST_CAS, Xs, Xt, Xn);
+    }
+    public final void   caslb(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_CASLB_LDST_CAS, Ws, Wt, Xn);
+    }
+    public final void   caslh(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_CASLH_LDST_CAS, Ws, Wt, Xn);
+    }
+    public final void   casp(Register Xs, Register Xt, Register Xn){
+        emitA64(INST_CASP_LDST_CAS, Xs, Xt, Xn);
+    }
+    public final void   caspa(Register Xs, Register Xt, Register Xn){
+        emitA64(INST_CASPA_LDST_CAS, Xs, Xt, Xn);
+    }
+    public final void   caspal(Register Xs, Register Xt, Register Xn){
+        emitA64(INST_CASPAL_LDST_CAS, Xs, Xt, Xn);
+    }
+    public final void   caspl(Register Xs, Register Xt, Register Xn){
+        emitA64(INST_CASPL_LDST_CAS, Xs, Xt, Xn);
+    }
     public final void   cbnz(Register Xn, Label label){
         emitA64(INST_CBNZ_COMPBRANCH, Xn, label);
     }
@@ -185,15 +382,54 @@ public abstract class SerializerIntrinsics_a64 extends SerializerCore {
     public final void   cls(Register Xd, Register Xn){
         emitA64(INST_CLS_DP_1SRC, Xd, Xn);
     }
+    public final void   cls(VectorRegister Vd, VectorRegister Vn){
+        emitA64(INST_CLS_SIMD_2REG_MISC, Vd, Vn);
+    }
     public final void   clz(Register Xd, Register Xn){
         emitA64(INST_CLZ_DP_1SRC, Xd, Xn);
     }
+    public final void   clz(VectorRegister Vd, VectorRegister Vn){
+        emitA64(INST_CLZ_SIMD_2REG_MISC, Vd, Vn);
+    }
+    public final void   cmeq(VectorRegister Vd, VectorRegister Vn, Immediate zero){
+        emitA64(INST_CMEQ_SIMD_2REG_MISC, Vd, Vn, zero);
+    }
+    public final void   cmeq(VectorRegister Vd, VectorRegister Vn, VectorRegister Vm){
+        emitA64(INST_CMEQ_SIMD_3SAME, Vd, Vn, Vm);
+    }
+    public final void   cmge(VectorRegister Vd, VectorRegister Vn, Immediate zero){
+        emitA64(INST_CMGE_SIMD_2REG_MISC, Vd, Vn, zero);
+    }
+    public final void   cmge(VectorRegister Vd, VectorRegister Vn, VectorRegister Vm){
+        emitA64(INST_CMGE_SIMD_3SAME, Vd, Vn, Vm);
+    }
+    public final void   cmgt(VectorRegister Vd, VectorRegister Vn, Immediate zero){
+        emitA64(INST_CMGT_SIMD_2REG_MISC, Vd, Vn, zero);
+    }
+    public final void   cmgt(VectorRegister Vd, VectorRegister Vn, VectorRegister Vm){
+        emitA64(INST_CMGT_SIMD_3SAME, Vd, Vn, Vm);
+    }
+    public final void   cmhi(VectorRegister Vd, VectorRegister Vn, VectorRegister Vm){
+        emitA64(INST_CMHI_SIMD_3SAME, Vd, Vn, Vm);
+    }
+    public final void   cmhs(VectorRegister Vd, VectorRegister Vn, VectorRegister Vm){
+        emitA64(INST_CMHS_SIMD_3SAME, Vd, Vn, Vm);
+    }
+    public final void   cmle(VectorRegister Vd, VectorRegister Vn, Immediate zero){
+        emitA64(INST_CMLE_SIMD_2REG_MISC, Vd, Vn, zero);
+    }
+    public final void   cmlt(VectorRegister Vd, VectorRegister Vn, Immediate zero){
+        emitA64(INST_CMLT_SIMD_2REG_MISC, Vd, Vn, zero);
+    }
     public final void   cmn(Register Xd, Register Xn, Ext extend){
         emitA64(INST_CMN_ADDSUB_EXT, Xd, Xn, extend);
     }
     public final void   cmn(Register Xd, Immediate val, Shift sft){
         emitA64(INST_CMN_ADDSUB_IMM, Xd, val, sft);
     }
+    public final void   cmn(Register Xn, long imm){
+        _emitMacro(MACRO_CMN, null, Xn, imm);
+    }
     public final void   cmn(Register Xd, Register Xn, Shift sft){
         emitA64(INST_CMN_ADDSUB_SHIFT, Xd, Xn, sft);
     }
@@ -203,12 +439,138 @@ public abstract class SerializerIntrinsics_a64 extends SerializerCore {
     public final void   cmp(Register Xd, Immediate val, Shift sft){
         emitA64(INST_CMP_ADDSUB_IMM, Xd, val, sft);
     }
+    public final void   cmp(Register Xn, long imm){
+        _emitMacro(MACRO_CMP, null, Xn, imm);
+    }
     public final void   cmp(Register Xd, Register Xn, Shift sft){
         emitA64(INST_CMP_ADDSUB_SHIFT, Xd, Xn, sft);
     }
+    public final void   cmpeq(PredicateRegister Pd, PredicateRegister Pg, ScalableRegister Zn, Immediate imm){
+        emitA64(INST_CMPEQ_SVE_COMPARE_IMM, Pd, Pg, Zn, imm);
+    }
+    public final void   cmpeq(PredicateRegister Pd, PredicateRegister Pg, ScalableRegister Zn, ScalableRegister Zm){
+        emitA64(INST_CMPEQ_SVE_COMPARE, Pd, Pg, Zn, Zm);
+    }
+    public final void   cmpge(PredicateRegister Pd, PredicateRegister Pg, ScalableRegister Zn, Immediate imm){
+        emitA64(INST_CMPGE_SVE_COMPARE_IMM, Pd, Pg, Zn, imm);
+    }
+    public final void   cmpge(PredicateRegister Pd, PredicateRegister Pg, ScalableRegister Zn, ScalableRegister Zm){
+        emitA64(INST_CMPGE_SVE_COMPARE, Pd, Pg, Zn, Zm);
+    }
+    public final void   cmpgt(PredicateRegister Pd, PredicateRegister Pg, ScalableRegister Zn, Immediate imm){
+        emitA64(INST_CMPGT_SVE_COMPARE_IMM, Pd, Pg, Zn, imm);
+    }
+    public final void   cmpgt(PredicateRegister Pd, PredicateRegister Pg, ScalableRegister Zn, ScalableRegister Zm){
+        emitA64(INST_CMPGT_SVE_COMPARE, Pd, Pg, Zn, Zm);
+    }
+    public final void   cmphi(PredicateRegister Pd, PredicateRegister Pg, ScalableRegister Zn, ScalableRegister Zm){
+        emitA64(INST_CMPHI_SVE_COMPARE, Pd, Pg, Zn, Zm);
+    }
+    public final void   cmphs(PredicateRegister Pd, PredicateRegister Pg, ScalableRegister Zn, ScalableRegister Zm){
+        emitA64(INST_CMPHS_SVE_COMPARE, Pd, Pg, Zn, Zm);
+    }
+    public final void   cmple(PredicateRegister Pd, PredicateRegister Pg, ScalableRegister Zn, Immediate imm){
+        emitA64(INST_CMPLE_SVE_COMPARE_IMM, Pd, Pg, Zn, imm);
+    }
+    public final void   cmplt(PredicateRegister Pd, PredicateRegister Pg, ScalableRegister Zn, Immediate imm){
+        emitA64(INST_CMPLT_SVE_COMPARE_IMM, Pd, Pg, Zn, imm);
+    }
+    public final void   cmpne(PredicateRegister Pd, PredicateRegister Pg, ScalableRegister Zn, Immediate imm){
+        emitA64(INST_CMPNE_SVE_COMPARE_IMM, Pd, Pg, Zn, imm);
+    }
+    public final void   cmpne(PredicateRegister Pd, PredicateRegister Pg, ScalableRegister Zn, ScalableRegister Zm){
+        emitA64(INST_CMPNE_SVE_COMPARE, Pd, Pg, Zn, Zm);
+    }
+    public final void   cmtst(VectorRegister Vd, VectorRegister Vn, VectorRegister Vm){
+        emitA64(INST_CMTST_SIMD_3SAME, Vd, Vn, Vm);
+    }
     public final void   cneg(Register Xd, Register Xn, Conditions cc){
         emitA64(INST_CNEG_CONDSEL, Xd, Xn, cc);
     }
+    public final void   cnt(VectorRegister Vd, VectorRegister Vn){
+        emitA64(INST_CNT_SIMD_2REG_MISC, Vd, Vn);
+    }
+    public final void   cntb(Register Xd){
+        emitA64(INST_CNTB_SVE_ELT_COUNT, Xd);
+    }
+    public final void   cntb(Register Xd, Immediate pattern){
+        emitA64(INST_CNTB_SVE_ELT_COUNT, Xd, pattern);
+    }
+    public final void   cntb(Register Xd, Immediate pattern, Immediate multiplier){
+        emitA64(INST_CNTB_SVE_ELT_COUNT, Xd, pattern, multiplier);
+    }
+    public final void   cntd(Register Xd){
+        emitA64(INST_CNTD_SVE_ELT_COUNT, Xd);
+    }
+    public final void   cntd(Register Xd, Immediate pattern){
+        emitA64(INST_CNTD_SVE_ELT_COUNT, Xd, pattern);
+    }
+    public final void   cntd(Register Xd, Immediate pattern, Immediate multiplier){
+        emitA64(INST_CNTD_SVE_ELT_COUNT, Xd, pattern, multiplier);
+    }
+    public final void   cnth(Register Xd){
+        emitA64(INST_CNTH_SVE_ELT_COUNT, Xd);
+    }
+    public final void   cnth(Register Xd, Immediate pattern){
+        emitA64(INST_CNTH_SVE_ELT_COUNT, Xd, pattern);
+    }
+    public final void   cnth(Register Xd, Immediate pattern, Immediate multiplier){
+        emitA64(INST_CNTH_SVE_ELT_COUNT, Xd, pattern, multiplier);
+    }
+    public final void   cntp(Register Xd, PredicateRegister Pg, PredicateRegister Pn){
+        emitA64(INST_CNTP_SVE_PRED_LOGIC, Xd, Pg, Pn);
+    }
+    public final void   cntw(Register Xd){
+        emitA64(INST_CNTW_SVE_ELT_COUNT, Xd);
+    }
+    public final void   cntw(Register Xd, Immediate pattern){
+        emitA64(INST_CNTW_SVE_ELT_COUNT, Xd, pattern);
+    }
+    public final void   cntw(Register Xd, Immediate pattern, Immediate multiplier){
+        emitA64(INST_CNTW_SVE_ELT_COUNT, Xd, pattern, multiplier);
+    }
+    public final void   cpye(Register Xd, Register Xs, Register Xn){
+        emitA64(INST_CPYE_MOPS, Xd, Xs, Xn);
+    }
+    public final void   cpyfe(Register Xd, Register Xs, Register Xn){
+        emitA64(INST_CPYFE_MOPS, Xd, Xs, Xn);
+    }
+    public final void   cpyfm(Register Xd, Register Xs, Register Xn){
+        emitA64(INST_CPYFM_MOPS, Xd, Xs, Xn);
+    }
+    public final void   cpyfp(Register Xd, Register Xs, Register Xn){
+        emitA64(INST_CPYFP_MOPS, Xd, Xs, Xn);
+    }
+    public final void   cpym(Register Xd, Register Xs, Register Xn){
+        emitA64(INST_CPYM_MOPS, Xd, Xs, Xn);
+    }
+    public final void   cpyp(Register Xd, Register Xs, Register Xn){
+        emitA64(INST_CPYP_MOPS, Xd, Xs, Xn);
+    }
+    public final void   crc32b(Register Wd, Register Wn, Register Wm){
+        emitA64(INST_CRC32B_DP_2SRC, Wd, Wn, Wm);
+    }
+    public final void   crc32cb(Register Wd, Register Wn, Register Wm){
+        emitA64(INST_CRC32CB_DP_2SRC, Wd, Wn, Wm);
+    }
+    public final void   crc32ch(Register Wd, Register Wn, Register Wm){
+        emitA64(INST_CRC32CH_DP_2SRC, Wd, Wn, Wm);
+    }
+    public final void   crc32cw(Register Wd, Register Wn, Register Wm){
+        emitA64(INST_CRC32CW_DP_2SRC, Wd, Wn, Wm);
+    }
+    public final void   crc32cx(Register Wd, Register Wn, Register Xm){
+        emitA64(INST_CRC32CX_DP_2SRC, Wd, Wn, Xm);
+    }
+    public final void   crc32h(Register Wd, Register Wn, Register Wm){
+        emitA64(INST_CRC32H_DP_2SRC, Wd, Wn, Wm);
+    }
+    public final void   crc32w(Register Wd, Register Wn, Register Wm){
+        emitA64(INST_CRC32W_DP_2SRC, Wd, Wn, Wm);
+    }
+    public final void   crc32x(Register Wd, Register Wn, Register Xm){
+        emitA64(INST_CRC32X_DP_2SRC, Wd, Wn, Xm);
+    }
     public final void   csel(Register Xd, Register Xn, Register Xm, Conditions cc){
         emitA64(INST_CSEL_CONDSEL, Xd, Xn, Xm, cc);
     }
@@ -239,6 +601,45 @@ public abstract class SerializerIntrinsics_a64 extends SerializerCore {
     public final void   dcps3(Immediate val){
         emitA64(INST_DCPS3_EXCEPTION, val);
     }
+    public final void   dczva(Register Xt){
+        emitA64(INST_DC_IC_SYSTEM_ZVA, Xt);
+    }
+    public final void   decb(Register Xd){
+        emitA64(INST_DECB_SVE_ELT_COUNT, Xd);
+    }
+    public final void   decb(Register Xd, Immediate pattern){
+        emitA64(INST_DECB_SVE_ELT_COUNT, Xd, pattern);
+    }
+    public final void   decb(Register Xd, Immediate pattern, Immediate multiplier){
+        emitA64(INST_DECB_SVE_ELT_COUNT, Xd, pattern, multiplier);
+    }
+    public final void   decd(Register Xd){
+        emitA64(INST_DECD_SVE_ELT_COUNT, Xd);
+    }
+    public final void   decd(Register Xd, Immediate pattern){
+        emitA64(INST_DECD_SVE_ELT_COUNT, Xd, pattern);
+    }
+    public final void   decd(Register Xd, Immediate pattern, Immediate multiplier){
+        emitA64(INST_DECD_SVE_ELT_COUNT, Xd, pattern, multiplier);
+    }
+    public final void   dech(Register Xd){
+        emitA64(INST_DECH_SVE_ELT_COUNT, Xd);
+    }
+    public final void   dech(Register Xd, Immediate pattern){
+        emitA64(INST_DECH_SVE_ELT_COUNT, Xd, pattern);
+    }
+    public final void   dech(Register Xd, Immediate pattern, Immediate multiplier){
+        emitA64(INST_DECH_SVE_ELT_COUNT, Xd, pattern, multiplier);
+    }
+    public final void   decw(Register Xd){
+        emitA64(INST_DECW_SVE_ELT_COUNT, Xd);
+    }
+    public final void   decw(Register Xd, Immediate pattern){
+        emitA64(INST_DECW_SVE_ELT_COUNT, Xd, pattern);
+    }
+    public final void   decw(Register Xd, Immediate pattern, Immediate multiplier){
+        emitA64(INST_DECW_SVE_ELT_COUNT, Xd, pattern, multiplier);
+    }
     public final void   dmb(Immediate val){
         emitA64(INST_DMB_IC_SYSTEM, val);
     }
@@ -248,174 +649,813 @@ public abstract class SerializerIntrinsics_a64 extends SerializerCore {
     public final void   dsb(Immediate val){
         emitA64(INST_DSB_IC_SYSTEM, val);
     }
+    public final void   dup(VectorRegister Vd, Register Rn){
+        emitA64(INST_DUP_SIMD_COPY_GP, Vd, Rn);
+    }
+    public final void   dup(VectorRegister Vd, VectorRegister Vn, Immediate index){
+        emitA64(INST_DUP_SIMD_COPY, Vd, Vn, index);
+    }
+    public final void   dup(ScalableRegister Zd, Immediate imm){
+        emitA64(INST_DUP_SVE_DUP, Zd, imm);
+    }
+    public final void   dup(ScalableRegister Zd, Register Rn){
+        emitA64(INST_DUP_SVE_DUP_GP, Zd, Rn);
+    }
     public final void   eon(Register Xd, Register Xn, Register Xm, Shift sft){
         emitA64(INST_EON_LOG_SHIFT, Xd, Xn, Xm, sft);
     }
     public final void   eor(Register Xd, Register Xn, Immediate val){
         emitA64(INST_EOR_LOG_IMM, Xd, Xn, val);
     }
+    public final void   eor(Register Xd, Register Xn, long mask){
+        _emitMacro(MACRO_EOR, Xd, Xn, mask);
+    }
     public final void   eor(Register Xd, Register Xn, Register Xm, Shift sft){
         emitA64(INST_EOR_LOG_SHIFT, Xd, Xn, Xm, sft);
     }
+    public final void   eor(VectorRegister Vd, VectorRegister Vn, VectorRegister Vm){
+        emitA64(INST_EOR_SIMD_3SAME, Vd, Vn, Vm);
+    }
+    public final void   eor(PredicateRegister Pd, PredicateRegister Pg, PredicateRegister Pn, PredicateRegister Pm){
+        emitA64(INST_EOR_SVE_PRED_LOGIC, Pd, Pg, Pn, Pm);
+    }
+    public final void   eor(ScalableRegister Zd, ScalableRegister Zn, ScalableRegister Zm){
+        emitA64(INST_EOR_SVE_ARITH, Zd, Zn, Zm);
+    }
+    public final void   eor(ScalableRegister Zdn, PredicateRegister Pg, ScalableRegister Zn, ScalableRegister Zm){
+        emitA64(INST_EOR_SVE_ARITH_PRED, Zdn, Pg, Zn, Zm);
+    }
+    public final void   eor3(ScalableRegister Zdn, ScalableRegister Zn, ScalableRegister Zm, ScalableRegister Zk){
+        emitA64(INST_EOR3_SVE_TERNARY, Zdn, Zn, Zm, Zk);
+    }
+    public final void   eorv(Register Vd, PredicateRegister Pg, ScalableRegister Zn){
+        emitA64(INST_EORV_SVE_REDUCE, Vd, Pg, Zn);
+    }
     public final void   eret(){
         emitA64(INST_ERET_BRANCH_REG);
     }
     public final void   extr(Register Xd, Register Xn, Register Xm, Immediate val){
         emitA64(INST_EXTR_EXTRACT, Xd, Xn, Xm, val);
     }
-    public final void   hint(Immediate val){
-        emitA64(INST_HINT_IC_SYSTEM, val);
+    public final void   fabs(Register Dd, Register Dn){
+        emitA64(INST_FABS_FP_1SRC, Dd, Dn);
     }
-    public final void   hlt(Immediate val){
-        emitA64(INST_HLT_EXCEPTION, val);
+    public final void   fadd(Register Dd, Register Dn, Register Dm){
+        emitA64(INST_FADD_FP_2SRC, Dd, Dn, Dm);
     }
-    public final void   hvc(Immediate val){
-        emitA64(INST_HVC_EXCEPTION, val);
+    public final void   fadd(ScalableRegister Zd, ScalableRegister Zn, ScalableRegister Zm){
+        emitA64(INST_FADD_SVE_ARITH, Zd, Zn, Zm);
     }
-    public final void   ic(Register Xd, Register Xn){
-        emitA64(INST_IC_IC_SYSTEM, Xd, Xn);
+    public final void   fadd(ScalableRegister Zdn, PredicateRegister Pg, ScalableRegister Zn, ScalableRegister Zm){
+        emitA64(INST_FADD_SVE_ARITH_PRED, Zdn, Pg, Zn, Zm);
     }
-    public final void   isb(Immediate val){
-        emitA64(INST_ISB_IC_SYSTEM, val);
+    public final void   faddv(Register Vd, PredicateRegister Pg, ScalableRegister Zn){
+        emitA64(INST_FADDV_SVE_REDUCE, Vd, Pg, Zn);
     }
-    public final void   ldar(Register Xd, Mem location){
-        emitA64(INST_LDAR_LDSTEXCL, Xd, location);
+    public final void   fcmp(Register Dn, Register Dm){
+        emitA64(INST_FCMP_FP_COMPARE, Dn, Dm);
     }
-    public final void   ldarb(Register Xd, Mem location){
-        emitA64(INST_LDARB_LDSTEXCL, Xd, location);
+    public final void   fcmp(Register Dn, double zero){
+        emitA64(INST_FCMP_FP_COMPARE, Dn, Immediate.imm(Double.doubleToRawLongBits(zero)));
     }
-    public final void   ldarh(Register Xd, Mem location){
-        emitA64(INST_LDARH_LDSTEXCL, Xd, location);
+    public final void   fcmpe(Register Dn, Register Dm){
+        emitA64(INST_FCMPE_FP_COMPARE, Dn, Dm);
     }
-    public final void   ldaxp(Register Xd, Mem location){
-        emitA64(INST_LDAXP_LDSTEXCL, Xd, location);
+    public final void   fcmpe(Register Dn, double zero){
+        emitA64(INST_FCMPE_FP_COMPARE, Dn, Immediate.imm(Double.doubleToRawLongBits(zero)));
     }
-    public final void   ldaxr(Register Xd, Mem location){
-        emitA64(INST_LDAXR_LDSTEXCL, Xd, location);
+    public final void   fcsel(Register Dd, Register Dn, Register Dm, Conditions cc){
+        emitA64(INST_FCSEL_FP_CONDSEL, Dd, Dn, Dm, cc);
     }
-    public final void   ldaxrb(Register Xd, Mem location){
-        emitA64(INST_LDAXRB_LDSTEXCL, Xd, location);
+    public final void   fcvt(Register Dd, Register Sn){
+        emitA64(INST_FCVT_FP_1SRC, Dd, Sn);
     }
-    public final void   ldaxrh(Register Xd, Mem location){
-        emitA64(INST_LDAXRH_LDSTEXCL, Xd, location);
+    public final void   fcvtas(Register Xd, Register Dn){
+        emitA64(INST_FCVTAS_FP_INT, Xd, Dn);
     }
-    public final void   ldnp(Register Xd, Register Xn, Register location, Immediate imm7){
-        emitA64(INST_LDNP_LDSTNAPAIR_OFFS, Xd, Xn, location, imm7);
+    public final void   fcvtau(Register Xd, Register Dn){
+        emitA64(INST_FCVTAU_FP_INT, Xd, Dn);
     }
-    public final void   ldp(Register Xd, Register Xn, Post_index location){
-        emitA64(INST_LDP_POST_INDEXED_IDST_IMM9, Xd, Xn, location);
+    public final void   fcvtms(Register Xd, Register Dn){
+        emitA64(INST_FCVTMS_FP_INT, Xd, Dn);
     }
-    public final void   ldp(Register Xd, Register Xn, Pre_index pindex){
-        emitA64(INST_LDP_PRE_INDEXED_IDST_IMM9, Xd, Xn, pindex);
+    public final void   fcvtmu(Register Xd, Register Dn){
+        emitA64(INST_FCVTMU_FP_INT, Xd, Dn);
     }
-    public final void   ldp(Register Xd, Register Xn, Offset offset){
-        emitA64(INST_LDP_LDSTPAIR_OFF_LDST_POS, Xd, Xn, offset);
+    public final void   fcvtns(Register Xd, Register Dn){
+        emitA64(INST_FCVTNS_FP_INT, Xd, Dn);
     }
-    public final void   ldpsw(Register Xd, Register Xn, Mem location, Immediate val){
-        emitA64(INST_LDPSW_POST_INDEXED, Xd, Xn, location, val);
+    public final void   fcvtnu(Register Xd, Register Dn){
+        emitA64(INST_FCVTNU_FP_INT, Xd, Dn);
     }
-    public final void   ldpsw(Register Xd, Register Xn, Pre_index pindex){
-        emitA64(INST_LDPSW_PRE_INDEXED, Xd, Xn, pindex);
+    public final void   fcvtps(Register Xd, Register Dn){
+        emitA64(INST_FCVTPS_FP_INT, Xd, Dn);
     }
-    public final void   ldpsw(Register Xd, Register Xn, Offset offset){
-        emitA64(INST_LDPSW_OFF, Xd, Xn, offset);
+    public final void   fcvtpu(Register Xd, Register Dn){
+        emitA64(INST_FCVTPU_FP_INT, Xd, Dn);
     }
-    public final void   ldr(Register Xd, Post_index postindex){
-        emitA64(INST_LDR_IMM_POST, Xd, postindex);
+    public final void   fcvtzs(Register Xd, Register Dn){
+        emitA64(INST_FCVTZS_FP_INT, Xd, Dn);
     }
-    public final void   ldr(Register Xd, Pre_index pindex){
-        emitA64(INST_LDR_IMM_PRE, Xd, pindex);
+    public final void   fcvtzu(Register Xd, Register Dn){
+        emitA64(INST_FCVTZU_FP_INT, Xd, Dn);
     }
-    public final void   ldr(Register Xd, Offset offset){
-        emitA64(INST_LDR_IMM_OFF, Xd, offset);
+    public final void   fdiv(Register Dd, Register Dn, Register Dm){
+        emitA64(INST_FDIV_FP_2SRC, Dd, Dn, Dm);
     }
-    public final void   ldr(Register Xd, Mem location){
-        emitA64(INST_LDR_REG, Xd, location);
+    public final void   fdiv(ScalableRegister Zdn, PredicateRegister Pg, ScalableRegister Zn, ScalableRegister Zm){
+        emitA64(INST_FDIV_SVE_ARITH_PRED, Zdn, Pg, Zn, Zm);
     }
-    public final void   ldr(Register Xd, Immediate label){
-        emitA64(INST_LDR_LOADLIT, label);
+    public final void   fmadd(Register Dd, Register Dn, Register Dm, Register Da){
+        emitA64(INST_FMADD_FP_3SRC, Dd, Dn, Dm, Da);
     }
-    public final void   ldrb(Register Xd, Mem location, Immediate val){
-        emitA64(INST_LDRB_IMM_POST, Xd, location, val);
+    public final void   fmax(Register Dd, Register Dn, Register Dm){
+        emitA64(INST_FMAX_FP_2SRC, Dd, Dn, Dm);
     }
-    public final void   ldrb(Register Xd, Pre_index pindex){
-        emitA64(INST_LDRB_IMM_PRE, Xd, pindex);
+    public final void   fmax(ScalableRegister Zdn, PredicateRegister Pg, ScalableRegister Zn, ScalableRegister Zm){
+        emitA64(INST_FMAX_SVE_ARITH_PRED, Zdn, Pg, Zn, Zm);
     }
-    public final void   ldrb(Register Xd, Offset offset){
-        emitA64(INST_LDRB_IMM_OFF, Xd, offset);
+    public final void   fmaxnm(Register Dd, Register Dn, Register Dm){
+        emitA64(INST_FMAXNM_FP_2SRC, Dd, Dn, Dm);
     }
-    public final void   ldrb(Register Xd, Mem location){
-        emitA64(INST_LDRB_REG, Xd, location);
+    public final void   fmaxv(Register Vd, PredicateRegister Pg, ScalableRegister Zn){
+        emitA64(INST_FMAXV_SVE_REDUCE, Vd, Pg, Zn);
     }
-    public final void   ldrh(Register Xd, Mem location, Immediate val){
-        emitA64(INST_LDRH_IMM_POST, Xd, location, val);
+    public final void   fmin(Register Dd, Register Dn, Register Dm){
+        emitA64(INST_FMIN_FP_2SRC, Dd, Dn, Dm);
     }
-    public final void   ldrh(Register Xd, Pre_index pindex){
-        emitA64(INST_LDRH_IMM_PRE, Xd, pindex);
+    public final void   fmin(ScalableRegister Zdn, PredicateRegister Pg, ScalableRegister Zn, ScalableRegister Zm){
+        emitA64(INST_FMIN_SVE_ARITH_PRED, Zdn, Pg, Zn, Zm);
     }
-    public final void   ldrh(Register Xd, Offset offset){
-        emitA64(INST_LDRH_IMM_OFF, Xd, offset);
+    public final void   fminnm(Register Dd, Register Dn, Register Dm){
+        emitA64(INST_FMINNM_FP_2SRC, Dd, Dn, Dm);
     }
-    public final void   ldrh(Register Xd, Mem location){
-        emitA64(INST_LDRH_REG, Xd, location);
+    public final void   fminv(Register Vd, PredicateRegister Pg, ScalableRegister Zn){
+        emitA64(INST_FMINV_SVE_REDUCE, Vd, Pg, Zn);
     }
-    public final void   ldrsb(Register Xd, Mem location, Immediate val){
-        emitA64(INST_LDRSB_IMM_POST, Xd, location, val);
+    public final void   fmla(ScalableRegister Zda, PredicateRegister Pg, ScalableRegister Zn, ScalableRegister Zm){
+        emitA64(INST_FMLA_SVE_MLA, Zda, Pg, Zn, Zm);
     }
-    public final void   ldrsb(Register Xd, Pre_index pindex){
-        emitA64(INST_LDRSB_IMM_PRE, Xd, pindex);
+    public final void   fmls(ScalableRegister Zda, PredicateRegister Pg, ScalableRegister Zn, ScalableRegister Zm){
+        emitA64(INST_FMLS_SVE_MLA, Zda, Pg, Zn, Zm);
     }
-    public final void   ldrsb(Register Xd, Offset offset){
-        emitA64(INST_LDRSB_IMM_OFF, Xd, offset);
+    public final void   fmov(Register Dd, double value){
+        emitA64(INST_FMOV_FP_IMM, Dd, Immediate.imm(Double.doubleToRawLongBits(value)));
     }
-    public final void   ldrsb(Register Xd, Mem location){
-        emitA64(INST_LDRSB_REG, Xd, location);
+    public final void   fmov(Register Rd, Register Rn){
+        emitA64(Rd.isFp() && Rn.isFp() ? INST_FMOV_FP_1SRC : INST_FMOV_FP_INT, Rd, Rn);
     }
-    public final void   ldrsh(Register Xd, Mem location, Immediate val){
-        emitA64(INST_LDRSH_IMM_POST, Xd, location, val);
+    public final void   fmsub(Register Dd, Register Dn, Register Dm, Register Da){
+        emitA64(INST_FMSUB_FP_3SRC, Dd, Dn, Dm, Da);
     }
-    public final void   ldrsh(Register Xd, Pre_index pindex){
-        emitA64(INST_LDRSH_IMM_PRE, Xd, pindex);
+    public final void   fmul(Register Dd, Register Dn, Register Dm){
+        emitA64(INST_FMUL_FP_2SRC, Dd, Dn, Dm);
     }
-    public final void   ldrsh(Register Xd, Offset offset){
-        emitA64(INST_LDRSH_IMM_OFF, Xd, offset);
+    public final void   fmul(ScalableRegister Zd, ScalableRegister Zn, ScalableRegister Zm){
+        emitA64(INST_FMUL_SVE_ARITH, Zd, Zn, Zm);
     }
-    public final void   ldrsh(Register Xd, Mem location){
-        emitA64(INST_LDRSH_REG, Xd, location);
+    public final void   fmul(ScalableRegister Zdn, PredicateRegister Pg, ScalableRegister Zn, ScalableRegister Zm){
+        emitA64(INST_FMUL_SVE_ARITH_PRED, Zdn, Pg, Zn, Zm);
     }
-    public final void   ldrsw(Register Xd, Mem location, Immediate val){
-        emitA64(INST_LDRSW_IMM_POST, Xd, location, val);
+    public final void   fneg(Register Dd, Register Dn){
+        emitA64(INST_FNEG_FP_1SRC, Dd, Dn);
     }
-    public final void   ldrsw(Register Xd, Pre_index pindex){
-        emitA64(INST_LDRSW_IMM_PRE, Xd, pindex);
+    public final void   fnmadd(Register Dd, Register Dn, Register Dm, Register Da){
+        emitA64(INST_FNMADD_FP_3SRC, Dd, Dn, Dm, Da);
     }
-    public final void   ldrsw(Register Xd, Offset offset){
-        emitA64(INST_LDRSW_IMM_OFF, Xd, offset);
+    public final void   fnmsub(Register Dd, Register Dn, Register Dm, Register Da){
+        emitA64(INST_FNMSUB_FP_3SRC, Dd, Dn, Dm, Da);
     }
-    public final void   ldrsw(Register Xd, Mem location){
-        emitA64(INST_LDRSW_REG, Xd, location);
+    public final void   fnmul(Register Dd, Register Dn, Register Dm){
+        emitA64(INST_FNMUL_FP_2SRC, Dd, Dn, Dm);
     }
-    public final void   ldrsw(Register Xd, Label label){
-        emitA64(INST_LDRSW_LOADLIT, label);
+    public final void   frinta(Register Dd, Register Dn){
+        emitA64(INST_FRINTA_FP_1SRC, Dd, Dn);
     }
-    public final void   ldtr(Register Xd, Mem location){
-        emitA64(INST_LDTR_LDST_UNPRIV, Xd, location);
+    public final void   frinti(Register Dd, Register Dn){
+        emitA64(INST_FRINTI_FP_1SRC, Dd, Dn);
     }
-    public final void   ldtrb(Register Xd, Mem location){
-        emitA64(INST_LDTRB_LDST_UNPRIV, Xd, location);
+    public final void   frintm(Register Dd, Register Dn){
+        emitA64(INST_FRINTM_FP_1SRC, Dd, Dn);
     }
-    public final void   ldtrh(Register Xd, Mem location){
-        emitA64(INST_LDTRH_LDST_UNPRIV, Xd, location);
+    public final void   frintn(Register Dd, Register Dn){
+        emitA64(INST_FRINTN_FP_1SRC, Dd, Dn);
     }
-    public final void   ldtrsb(Register Xd, Mem location){
-        emitA64(INST_LDTRSB_LDST_UNPRIV, Xd, location);
+    public final void   frintp(Register Dd, Register Dn){
+        emitA64(INST_FRINTP_FP_1SRC, Dd, Dn);
     }
-    public final void   ldtrsh(Register Xd, Mem location){
-        emitA64(INST_LDTRSH_LDST_UNPRIV, Xd, location);
+    public final void   frintx(Register Dd, Register Dn){
+        emitA64(INST_FRINTX_FP_1SRC, Dd, Dn);
     }
-    public final void   ldtrsw(Register Xd, Mem location){
+    public final void   frintz(Register Dd, Register Dn){
+        emitA64(INST_FRINTZ_FP_1SRC, Dd, Dn);
+    }
+    public final void   fsqrt(Register Dd, Register Dn){
+        emitA64(INST_FSQRT_FP_1SRC, Dd, Dn);
+    }
+    public final void   fsub(Register Dd, Register Dn, Register Dm){
+        emitA64(INST_FSUB_FP_2SRC, Dd, Dn, Dm);
+    }
+    public final void   fsub(ScalableRegister Zd, ScalableRegister Zn, ScalableRegister Zm){
+        emitA64(INST_FSUB_SVE_ARITH, Zd, Zn, Zm);
+    }
+    public final void   fsub(ScalableRegister Zdn, PredicateRegister Pg, ScalableRegister Zn, ScalableRegister Zm){
+        emitA64(INST_FSUB_SVE_ARITH_PRED, Zdn, Pg, Zn, Zm);
+    }
+    public final void   hint(Immediate val){
+        emitA64(INST_HINT_IC_SYSTEM, val);
+    }
+    public final void   hlt(Immediate val){
+        emitA64(INST_HLT_EXCEPTION, val);
+    }
+    public final void   hvc(Immediate val){
+        emitA64(INST_HVC_EXCEPTION, val);
+    }
+    public final void   ic(Register Xd, Register Xn){
+        emitA64(INST_IC_IC_SYSTEM, Xd, Xn);
+    }
+    public final void   incb(Register Xd){
+        emitA64(INST_INCB_SVE_ELT_COUNT, Xd);
+    }
+    public final void   incb(Register Xd, Immediate pattern){
+        emitA64(INST_INCB_SVE_ELT_COUNT, Xd, pattern);
+    }
+    public final void   incb(Register Xd, Immediate pattern, Immediate multiplier){
+        emitA64(INST_INCB_SVE_ELT_COUNT, Xd, pattern, multiplier);
+    }
+    public final void   incd(Register Xd){
+        emitA64(INST_INCD_SVE_ELT_COUNT, Xd);
+    }
+    public final void   incd(Register Xd, Immediate pattern){
+        emitA64(INST_INCD_SVE_ELT_COUNT, Xd, pattern);
+    }
+    public final void   incd(Register Xd, Immediate pattern, Immediate multiplier){
+        emitA64(INST_INCD_SVE_ELT_COUNT, Xd, pattern, multiplier);
+    }
+    public final void   inch(Register Xd){
+        emitA64(INST_INCH_SVE_ELT_COUNT, Xd);
+    }
+    public final void   inch(Register Xd, Immediate pattern){
+        emitA64(INST_INCH_SVE_ELT_COUNT, Xd, pattern);
+    }
+    public final void   inch(Register Xd, Immediate pattern, Immediate multiplier){
+        emitA64(INST_INCH_SVE_ELT_COUNT, Xd, pattern, multiplier);
+    }
+    public final void   incw(Register Xd){
+        emitA64(INST_INCW_SVE_ELT_COUNT, Xd);
+    }
+    public final void   incw(Register Xd, Immediate pattern){
+        emitA64(INST_INCW_SVE_ELT_COUNT, Xd, pattern);
+    }
+    public final void   incw(Register Xd, Immediate pattern, Immediate multiplier){
+        emitA64(INST_INCW_SVE_ELT_COUNT, Xd, pattern, multiplier);
+    }
+    public final void   index(ScalableRegister Zd, Immediate start, Immediate step){
+        emitA64(INST_INDEX_SVE_DUP, Zd, start, step);
+    }
+    public final void   ins(VectorRegister Vd, Immediate index, Register Rn){
+        emitA64(INST_INS_SIMD_COPY_GP, Vd, index, Rn);
+    }
+    public final void   ins(VectorRegister Vd, Immediate index, VectorRegister Vn, Immediate index2){
+        emitA64(INST_INS_SIMD_COPY, Vd, index, Vn, index2);
+    }
+    public final void   isb(Immediate val){
+        emitA64(INST_ISB_IC_SYSTEM, val);
+    }
+    public final void   ld1(VectorRegister Vt, Offset address){
+        emitA64(INST_LD1_SIMD_LDST_MULT, Vt, address);
+    }
+    public final void   ld1(VectorRegister Vt, Post_index address){
+        emitA64(INST_LD1_SIMD_LDST_MULT, Vt, address);
+    }
+    public final void   ld1(VectorRegister Vt, VectorRegister Vt2, Offset address){
+        emitA64(INST_LD1_SIMD_LDST_MULT, Vt, Vt2, address);
+    }
+    public final void   ld1(VectorRegister Vt, VectorRegister Vt2, Post_index address){
+        emitA64(INST_LD1_SIMD_LDST_MULT, Vt, Vt2, address);
+    }
+    public final void   ld1(VectorRegister Vt, VectorRegister Vt2, VectorRegister Vt3, Offset address){
+        emitA64(INST_LD1_SIMD_LDST_MULT, Vt, Vt2, Vt3, address);
+    }
+    public final void   ld1(VectorRegister Vt, VectorRegister Vt2, VectorRegister Vt3, Post_index address){
+        emitA64(INST_LD1_SIMD_LDST_MULT, Vt, Vt2, Vt3, address);
+    }
+    public final void   ld1(VectorRegister Vt, VectorRegister Vt2, VectorRegister Vt3, VectorRegister Vt4, Offset address){
+        emitA64(INST_LD1_SIMD_LDST_MULT, Vt, Vt2, Vt3, Vt4, address);
+    }
+    public final void   ld1(VectorRegister Vt, VectorRegister Vt2, VectorRegister Vt3, VectorRegister Vt4, Post_index address){
+        emitA64(INST_LD1_SIMD_LDST_MULT, Vt, Vt2, Vt3, Vt4, address);
+    }
+    public final void   ld1b(ScalableRegister Zt, PredicateRegister Pg, Offset address){
+        emitA64(INST_LD1B_SVE_LDST, Zt, Pg, address);
+    }
+    public final void   ld1b(ScalableRegister Zt, PredicateRegister Pg, Register Xn, Register Xm){
+        emitA64(INST_LD1B_SVE_LDST_REG, Zt, Pg, Xn, Xm);
+    }
+    public final void   ld1d(ScalableRegister Zt, PredicateRegister Pg, Offset address){
+        emitA64(INST_LD1D_SVE_LDST, Zt, Pg, address);
+    }
+    public final void   ld1d(ScalableRegister Zt, PredicateRegister Pg, Register Xn, Register Xm){
+        emitA64(INST_LD1D_SVE_LDST_REG, Zt, Pg, Xn, Xm);
+    }
+    public final void   ld1h(ScalableRegister Zt, PredicateRegister Pg, Offset address){
+        emitA64(INST_LD1H_SVE_LDST, Zt, Pg, address);
+    }
+    public final void   ld1h(ScalableRegister Zt, PredicateRegister Pg, Register Xn, Register Xm){
+        emitA64(INST_LD1H_SVE_LDST_REG, Zt, Pg, Xn, Xm);
+    }
+    public final void   ld1w(ScalableRegister Zt, PredicateRegister Pg, Offset address){
+        emitA64(INST_LD1W_SVE_LDST, Zt, Pg, address);
+    }
+    public final void   ld1w(ScalableRegister Zt, PredicateRegister Pg, Register Xn, Register Xm){
+        emitA64(INST_LD1W_SVE_LDST_REG, Zt, Pg, Xn, Xm);
+    }
+    public final void   ld2(VectorRegister Vt, VectorRegister Vt2, Offset address){
+        emitA64(INST_LD2_SIMD_LDST_MULT, Vt, Vt2, address);
+    }
+    public final void   ld2(VectorRegister Vt, VectorRegister Vt2, Post_index address){
+        emitA64(INST_LD2_SIMD_LDST_MULT, Vt, Vt2, address);
+    }
+    public final void   ld3(VectorRegister Vt, VectorRegister Vt2, VectorRegister Vt3, Offset address){
+        emitA64(INST_LD3_SIMD_LDST_MULT, Vt, Vt2, Vt3, address);
+    }
+    public final void   ld3(VectorRegister Vt, VectorRegister Vt2, VectorRegister Vt3, Post_index address){
+        emitA64(INST_LD3_SIMD_LDST_MULT, Vt, Vt2, Vt3, address);
+    }
+    public final void   ld4(VectorRegister Vt, VectorRegister Vt2, VectorRegister Vt3, VectorRegister Vt4, Offset address){
+        emitA64(INST_LD4_SIMD_LDST_MULT, Vt, Vt2, Vt3, Vt4, address);
+    }
+    public final void   ld4(VectorRegister Vt, VectorRegister Vt2, VectorRegister Vt3, VectorRegister Vt4, Post_index address){
+        emitA64(INST_LD4_SIMD_LDST_MULT, Vt, Vt2, Vt3, Vt4, address);
+    }
+    public final void   ldadd(Register Xs, Register Xt, Register Xn){
+        emitA64(INST_LDADD_LDST_ATOMIC, Xs, Xt, Xn);
+    }
+    public final void   ldadda(Register Xs, Register Xt, Register Xn){
+        emitA64(INST_LDADDA_LDST_ATOMIC, Xs, Xt, Xn);
+    }
+    public final void   ldaddab(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDADDAB_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldaddah(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDADDAH_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldaddal(Register Xs, Register Xt, Register Xn){
+        emitA64(INST_LDADDAL_LDST_ATOMIC, Xs, Xt, Xn);
+    }
+    public final void   ldaddalb(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDADDALB_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldaddalh(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDADDALH_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldaddb(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDADDB_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldaddh(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDADDH_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldaddl(Register Xs, Register Xt, Register Xn){
+        emitA64(INST_LDADDL_LDST_ATOMIC, Xs, Xt, Xn);
+    }
+    public final void   ldaddlb(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDADDLB_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldaddlh(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDADDLH_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldapr(Register Xt, Register Xn){
+        emitA64(INST_LDAPR_LDSTEXCL, Xt, Xn);
+    }
+    public final void   ldaprb(Register Xt, Register Xn){
+        emitA64(INST_LDAPRB_LDSTEXCL, Xt, Xn);
+    }
+    public final void   ldaprh(Register Xt, Register Xn){
+        emitA64(INST_LDAPRH_LDSTEXCL, Xt, Xn);
+    }
+    public final void   ldapur(Register Xt, Offset address){
+        emitA64(INST_LDAPUR_LDAPSTL_UNSCALED, Xt, address);
+    }
+    public final void   ldapurb(Register Xt, Offset address){
+        emitA64(INST_LDAPURB_LDAPSTL_UNSCALED, Xt, address);
+    }
+    public final void   ldapurh(Register Xt, Offset address){
+        emitA64(INST_LDAPURH_LDAPSTL_UNSCALED, Xt, address);
+    }
+    public final void   ldar(Register Xd, Mem location){
+        emitA64(INST_LDAR_LDSTEXCL, Xd, location);
+    }
+    public final void   ldar(Register Xt, Register Xn){
+        emitA64(INST_LDAR_LDSTEXCL, Xt, Xn);
+    }
+    public final void   ldarb(Register Xd, Mem location){
+        emitA64(INST_LDARB_LDSTEXCL, Xd, location);
+    }
+    public final void   ldarb(Register Xt, Register Xn){
+        emitA64(INST_LDARB_LDSTEXCL, Xt, Xn);
+    }
+    public final void   ldarh(Register Xd, Mem location){
+        emitA64(INST_LDARH_LDSTEXCL, Xd, location);
+    }
+    public final void   ldarh(Register Xt, Register Xn){
+        emitA64(INST_LDARH_LDSTEXCL, Xt, Xn);
+    }
+    public final void   ldaxp(Register Xd, Mem location){
+        emitA64(INST_LDAXP_LDSTEXCL, Xd, location);
+    }
+    public final void   ldaxr(Register Xd, Mem location){
+        emitA64(INST_LDAXR_LDSTEXCL, Xd, location);
+    }
+    public final void   ldaxrb(Register Xd, Mem location){
+        emitA64(INST_LDAXRB_LDSTEXCL, Xd, location);
+    }
+    public final void   ldaxrh(Register Xd, Mem location){
+        emitA64(INST_LDAXRH_LDSTEXCL, Xd, location);
+    }
+    public final void   ldclr(Register Xs, Register Xt, Register Xn){
+        emitA64(INST_LDCLR_LDST_ATOMIC, Xs, Xt, Xn);
+    }
+    public final void   ldclra(Register Xs, Register Xt, Register Xn){
+        emitA64(INST_LDCLRA_LDST_ATOMIC, Xs, Xt, Xn);
+    }
+    public final void   ldclrab(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDCLRAB_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldclrah(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDCLRAH_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldclral(Register Xs, Register Xt, Register Xn){
+        emitA64(INST_LDCLRAL_LDST_ATOMIC, Xs, Xt, Xn);
+    }
+    public final void   ldclralb(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDCLRALB_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldclralh(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDCLRALH_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldclrb(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDCLRB_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldclrh(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDCLRH_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldclrl(Register Xs, Register Xt, Register Xn){
+        emitA64(INST_LDCLRL_LDST_ATOMIC, Xs, Xt, Xn);
+    }
+    public final void   ldclrlb(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDCLRLB_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldclrlh(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDCLRLH_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldeor(Register Xs, Register Xt, Register Xn){
+        emitA64(INST_LDEOR_LDST_ATOMIC, Xs, Xt, Xn);
+    }
+    public final void   ldeora(Register Xs, Register Xt, Register Xn){
+        emitA64(INST_LDEORA_LDST_ATOMIC, Xs, Xt, Xn);
+    }
+    public final void   ldeorab(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDEORAB_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldeorah(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDEORAH_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldeoral(Register Xs, Register Xt, Register Xn){
+        emitA64(INST_LDEORAL_LDST_ATOMIC, Xs, Xt, Xn);
+    }
+    public final void   ldeoralb(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDEORALB_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldeoralh(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDEORALH_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldeorb(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDEORB_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldeorh(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDEORH_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldeorl(Register Xs, Register Xt, Register Xn){
+        emitA64(INST_LDEORL_LDST_ATOMIC, Xs, Xt, Xn);
+    }
+    public final void   ldeorlb(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDEORLB_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldeorlh(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDEORLH_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldnp(Register Xd, Register Xn, Register location, Immediate imm7){
+        emitA64(INST_LDNP_LDSTNAPAIR_OFFS, Xd, Xn, location, imm7);
+    }
+    public final void   ldp(Register Xd, Register Xn, Post_index location){
+        emitA64(INST_LDP_POST_INDEXED_IDST_IMM9, Xd, Xn, location);
+    }
+    public final void   ldp(Register Xd, Register Xn, Pre_index pindex){
+        emitA64(INST_LDP_PRE_INDEXED_IDST_IMM9, Xd, Xn, pindex);
+    }
+    public final void   ldp(Register Xd, Register Xn, Offset offset){
+        emitA64(INST_LDP_LDSTPAIR_OFF_LDST_POS, Xd, Xn, offset);
+    }
+    public final void   ldpsw(Register Xd, Register Xn, Mem location, Immediate val){
+        emitA64(INST_LDPSW_POST_INDEXED, Xd, Xn, location, val);
+    }
+    public final void   ldpsw(Register Xd, Register Xn, Pre_index pindex){
+        emitA64(INST_LDPSW_PRE_INDEXED, Xd, Xn, pindex);
+    }
+    public final void   ldpsw(Register Xd, Register Xn, Offset offset){
+        emitA64(INST_LDPSW_OFF, Xd, Xn, offset);
+    }
+    public final void   ldr(Register Xd, Post_index postindex){
+        emitA64(INST_LDR_IMM_POST, Xd, postindex);
+    }
+    public final void   ldr(Register Xd, Pre_index pindex){
+        emitA64(INST_LDR_IMM_PRE, Xd, pindex);
+    }
+    public final void   ldr(Register Xd, Offset offset){
+        emitA64(INST_LDR_IMM_OFF, Xd, offset);
+    }
+    public final void   ldr(Register Xd, Mem location){
+        emitA64(INST_LDR_REG, Xd, location);
+    }
+    public final void   ldr(Register Xd, Immediate label){
+        emitA64(INST_LDR_LOADLIT, Xd, label);
+    }
+    public final void   ldr(Register Xd, Label label){
+        emitA64(INST_LDR_LOADLIT, Xd, label);
+    }
+    public final void   ldr(PredicateRegister Pt, Offset address){
+        emitA64(INST_LDR_SVE_FILL_PRED, Pt, address);
+    }
+    public final void   ldr(ScalableRegister Zt, Offset address){
+        emitA64(INST_LDR_SVE_FILL, Zt, address);
+    }
+    public final void   ldrb(Register Xd, Mem location, Immediate val){
+        emitA64(INST_LDRB_IMM_POST, Xd, location, val);
+    }
+    public final void   ldrb(Register Xd, Pre_index pindex){
+        emitA64(INST_LDRB_IMM_PRE, Xd, pindex);
+    }
+    public final void   ldrb(Register Xd, Offset offset){
+        emitA64(INST_LDRB_IMM_OFF, Xd, offset);
+    }
+    public final void   ldrb(Register Xd, Mem location){
+        emitA64(INST_LDRB_REG, Xd, location);
+    }
+    public final void   ldrb(Register Wt, Post_index postindex){
+        emitA64(INST_LDRB_IMM_POST, Wt, postindex);
+    }
+    public final void   ldrh(Register Xd, Mem location, Immediate val){
+        emitA64(INST_LDRH_IMM_POST, Xd, location, val);
+    }
+    public final void   ldrh(Register Xd, Pre_index pindex){
+        emitA64(INST_LDRH_IMM_PRE, Xd, pindex);
+    }
+    public final void   ldrh(Register Xd, Offset offset){
+        emitA64(INST_LDRH_IMM_OFF, Xd, offset);
+    }
+    public final void   ldrh(Register Xd, Mem location){
+        emitA64(INST_LDRH_REG, Xd, location);
+    }
+    public final void   ldrh(Register Wt, Post_index postindex){
+        emitA64(INST_LDRH_IMM_POST, Wt, postindex);
+    }
+    public final void   ldrsb(Register Xd, Mem location, Immediate val){
+        emitA64(INST_LDRSB_IMM_POST, Xd, location, val);
+    }
+    public final void   ldrsb(Register Xd, Pre_index pindex){
+        emitA64(INST_LDRSB_IMM_PRE, Xd, pindex);
+    }
+    public final void   ldrsb(Register Xd, Offset offset){
+        emitA64(INST_LDRSB_IMM_OFF, Xd, offset);
+    }
+    public final void   ldrsb(Register Xd, Mem location){
+        emitA64(INST_LDRSB_REG, Xd, location);
+    }
+    public final void   ldrsh(Register Xd, Mem location, Immediate val){
+        emitA64(INST_LDRSH_IMM_POST, Xd, location, val);
+    }
+    public final void   ldrsh(Register Xd, Pre_index pindex){
+        emitA64(INST_LDRSH_IMM_PRE, Xd, pindex);
+    }
+    public final void   ldrsh(Register Xd, Offset offset){
+        emitA64(INST_LDRSH_IMM_OFF, Xd, offset);
+    }
+    public final void   ldrsh(Register Xd, Mem location){
+        emitA64(INST_LDRSH_REG, Xd, location);
+    }
+    public final void   ldrsw(Register Xd, Mem location, Immediate val){
+        emitA64(INST_LDRSW_IMM_POST, Xd, location, val);
+    }
+    public final void   ldrsw(Register Xd, Pre_index pindex){
+        emitA64(INST_LDRSW_IMM_PRE, Xd, pindex);
+    }
+    public final void   ldrsw(Register Xd, Offset offset){
+        emitA64(INST_LDRSW_IMM_OFF, Xd, offset);
+    }
+    public final void   ldrsw(Register Xd, Mem location){
+        emitA64(INST_LDRSW_REG, Xd, location);
+    }
+    public final void   ldrsw(Register Xd, Label label){
+        emitA64(INST_LDRSW_LOADLIT, Xd, label);
+    }
+    public final void   ldset(Register Xs, Register Xt, Register Xn){
+        emitA64(INST_LDSET_LDST_ATOMIC, Xs, Xt, Xn);
+    }
+    public final void   ldseta(Register Xs, Register Xt, Register Xn){
+        emitA64(INST_LDSETA_LDST_ATOMIC, Xs, Xt, Xn);
+    }
+    public final void   ldsetab(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDSETAB_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldsetah(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDSETAH_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldsetal(Register Xs, Register Xt, Register Xn){
+        emitA64(INST_LDSETAL_LDST_ATOMIC, Xs, Xt, Xn);
+    }
+    public final void   ldsetalb(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDSETALB_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldsetalh(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDSETALH_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldsetb(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDSETB_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldseth(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDSETH_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldsetl(Register Xs, Register Xt, Register Xn){
+        emitA64(INST_LDSETL_LDST_ATOMIC, Xs, Xt, Xn);
+    }
+    public final void   ldsetlb(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDSETLB_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldsetlh(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDSETLH_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldsmax(Register Xs, Register Xt, Register Xn){
+        emitA64(INST_LDSMAX_LDST_ATOMIC, Xs, Xt, Xn);
+    }
+    public final void   ldsmaxa(Register Xs, Register Xt, Register Xn){
+        emitA64(INST_LDSMAXA_LDST_ATOMIC, Xs, Xt, Xn);
+    }
+    public final void   ldsmaxab(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDSMAXAB_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldsmaxah(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDSMAXAH_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldsmaxal(Register Xs, Register Xt, Register Xn){
+        emitA64(INST_LDSMAXAL_LDST_ATOMIC, Xs, Xt, Xn);
+    }
+    public final void   ldsmaxalb(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDSMAXALB_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldsmaxalh(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDSMAXALH_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldsmaxb(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDSMAXB_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldsmaxh(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDSMAXH_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldsmaxl(Register Xs, Register Xt, Register Xn){
+        emitA64(INST_LDSMAXL_LDST_ATOMIC, Xs, Xt, Xn);
+    }
+    public final void   ldsmaxlb(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDSMAXLB_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldsmaxlh(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDSMAXLH_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldsmin(Register Xs, Register Xt, Register Xn){
+        emitA64(INST_LDSMIN_LDST_ATOMIC, Xs, Xt, Xn);
+    }
+    public final void   ldsmina(Register Xs, Register Xt, Register Xn){
+        emitA64(INST_LDSMINA_LDST_ATOMIC, Xs, Xt, Xn);
+    }
+    public final void   ldsminab(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDSMINAB_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldsminah(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDSMINAH_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldsminal(Register Xs, Register Xt, Register Xn){
+        emitA64(INST_LDSMINAL_LDST_ATOMIC, Xs, Xt, Xn);
+    }
+    public final void   ldsminalb(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDSMINALB_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldsminalh(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDSMINALH_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldsminb(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDSMINB_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldsminh(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDSMINH_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldsminl(Register Xs, Register Xt, Register Xn){
+        emitA64(INST_LDSMINL_LDST_ATOMIC, Xs, Xt, Xn);
+    }
+    public final void   ldsminlb(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDSMINLB_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldsminlh(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDSMINLH_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldtr(Register Xd, Mem location){
+        emitA64(INST_LDTR_LDST_UNPRIV, Xd, location);
+    }
+    public final void   ldtrb(Register Xd, Mem location){
+        emitA64(INST_LDTRB_LDST_UNPRIV, Xd, location);
+    }
+    public final void   ldtrh(Register Xd, Mem location){
+        emitA64(INST_LDTRH_LDST_UNPRIV, Xd, location);
+    }
+    public final void   ldtrsb(Register Xd, Mem location){
+        emitA64(INST_LDTRSB_LDST_UNPRIV, Xd, location);
+    }
+    public final void   ldtrsh(Register Xd, Mem location){
+        emitA64(INST_LDTRSH_LDST_UNPRIV, Xd, location);
+    }
+    public final void   ldtrsw(Register Xd, Mem location){
         emitA64(INST_LDTRSW_LDST_UNPRIV, Xd, location);
     }
+    public final void   ldumax(Register Xs, Register Xt, Register Xn){
+        emitA64(INST_LDUMAX_LDST_ATOMIC, Xs, Xt, Xn);
+    }
+    public final void   ldumaxa(Register Xs, Register Xt, Register Xn){
+        emitA64(INST_LDUMAXA_LDST_ATOMIC, Xs, Xt, Xn);
+    }
+    public final void   ldumaxab(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDUMAXAB_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldumaxah(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDUMAXAH_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldumaxal(Register Xs, Register Xt, Register Xn){
+        emitA64(INST_LDUMAXAL_LDST_ATOMIC, Xs, Xt, Xn);
+    }
+    public final void   ldumaxalb(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDUMAXALB_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldumaxalh(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDUMAXALH_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldumaxb(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDUMAXB_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldumaxh(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDUMAXH_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldumaxl(Register Xs, Register Xt, Register Xn){
+        emitA64(INST_LDUMAXL_LDST_ATOMIC, Xs, Xt, Xn);
+    }
+    public final void   ldumaxlb(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDUMAXLB_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldumaxlh(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDUMAXLH_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   ldumin(Register Xs, Register Xt, Register Xn){
+        emitA64(INST_LDUMIN_LDST_ATOMIC, Xs, Xt, Xn);
+    }
+    public final void   ldumina(Register Xs, Register Xt, Register Xn){
+        emitA64(INST_LDUMINA_LDST_ATOMIC, Xs, Xt, Xn);
+    }
+    public final void   lduminab(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDUMINAB_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   lduminah(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDUMINAH_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   lduminal(Register Xs, Register Xt, Register Xn){
+        emitA64(INST_LDUMINAL_LDST_ATOMIC, Xs, Xt, Xn);
+    }
+    public final void   lduminalb(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDUMINALB_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   lduminalh(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDUMINALH_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   lduminb(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDUMINB_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   lduminh(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDUMINH_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   lduminl(Register Xs, Register Xt, Register Xn){
+        emitA64(INST_LDUMINL_LDST_ATOMIC, Xs, Xt, Xn);
+    }
+    public final void   lduminlb(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDUMINLB_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   lduminlh(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_LDUMINLH_LDST_ATOMIC, Ws, Wt, Xn);
+    }
     public final void   ldur(Register Xd, Mem location){
         emitA64(INST_LDUR_LDST_UNSCALED_X, Xd, location);
     }
@@ -467,6 +1507,15 @@ public abstract class SerializerIntrinsics_a64 extends SerializerCore {
     public final void   madd(Register Xd, Register Xn, Register Xm, Register Xa){
         emitA64(INST_MADD_DP_3SRC, Xd, Xn, Xm, Xa);
     }
+    public final void   mla(VectorRegister Vd, VectorRegister Vn, VectorRegister Vm){
+        emitA64(INST_MLA_SIMD_3SAME, Vd, Vn, Vm);
+    }
+    public final void   mla(ScalableRegister Zda, PredicateRegister Pg, ScalableRegister Zn, ScalableRegister Zm){
+        emitA64(INST_MLA_SVE_MLA, Zda, Pg, Zn, Zm);
+    }
+    public final void   mls(ScalableRegister Zda, PredicateRegister Pg, ScalableRegister Zn, ScalableRegister Zm){
+        emitA64(INST_MLS_SVE_MLA, Zda, Pg, Zn, Zm);
+    }
     public final void   mneg(Register Xd, Register Xn, Register Xm){
         emitA64(INST_MNEG_DP_3SRC, Xd, Xn, Xm);
     }
@@ -485,6 +1534,21 @@ public abstract class SerializerIntrinsics_a64 extends SerializerCore {
         else
             emitA64(INST_MOV_LOG_IMM, Xd, val);
     }
+    public final void   mov(Register Xd, long value){
+        _emitMacro(MACRO_MOV, Xd, null, value);
+    }
+    public final void   mov(VectorRegister Vd, VectorRegister Vn){
+        emitA64(INST_ORR_SIMD_3SAME, Vd, Vn, Vn);
+    }
+    public final void   mov(ScalableRegister Zd, Immediate imm){
+        emitA64(INST_DUP_SVE_DUP, Zd, imm);
+    }
+    public final void   mov(ScalableRegister Zd, Register Rn){
+        emitA64(INST_DUP_SVE_DUP_GP, Zd, Rn);
+    }
+    public final void   mov(ScalableRegister Zd, ScalableRegister Zn){
+        emitA64(INST_ORR_SVE_ARITH, Zd.as(ELEMENT_ENUM.D), Zn.as(ELEMENT_ENUM.D), Zn.as(ELEMENT_ENUM.D));
+    }
     public final void   movk(Register Xd, Immediate val, Shift sft){
         emitA64(INST_MOVK_MOVEWIDE, Xd, val, sft);
     }
@@ -497,6 +1561,9 @@ public abstract class SerializerIntrinsics_a64 extends SerializerCore {
     public final void   mrs(Register Xd, Register SysReg){
         emitA64(INST_MRS_IC_SYSTEM, Xd, SysReg);
     }
+    public final void   mrs(Register Xd, SysRegister srt){
+        emitA64(INST_MRS_IC_SYSTEM, Xd, srt);
+    }
     public final void   msr(Register Xd, Immediate val){
         emitA64(INST_MSR_IC_SYSTEM, Xd, val);
     }
@@ -509,12 +1576,27 @@ public abstract class SerializerIntrinsics_a64 extends SerializerCore {
     public final void   mul(Register Xd, Register Xn, Register Xm){
         emitA64(INST_MUL_DP_3SRC, Xd, Xn, Xm);
     }
+    public final void   mul(VectorRegister Vd, VectorRegister Vn, VectorRegister Vm){
+        emitA64(INST_MUL_SIMD_3SAME, Vd, Vn, Vm);
+    }
+    public final void   mul(ScalableRegister Zd, ScalableRegister Zn, ScalableRegister Zm){
+        emitA64(INST_MUL_SVE_ARITH, Zd, Zn, Zm);
+    }
+    public final void   mul(ScalableRegister Zdn, PredicateRegister Pg, ScalableRegister Zn, ScalableRegister Zm){
+        emitA64(INST_MUL_SVE_ARITH_PRED, Zdn, Pg, Zn, Zm);
+    }
     public final void   mvn(Register Xd, Register Xn, Shift sft){
         emitA64(INST_MVN_LOG_SHIFT, Xd, Xn, sft);
     }
+    public final void   mvn(VectorRegister Vd, VectorRegister Vn){
+        emitA64(INST_NOT_SIMD_2REG_MISC, Vd, Vn);
+    }
     public final void   neg(Register Xd, Register Xn, Shift sft){
         emitA64(INST_NEG_ADDSUB_SHIFT, Xd, Xn, sft);
     }
+    public final void   neg(VectorRegister Vd, VectorRegister Vn){
+        emitA64(INST_NEG_SIMD_2REG_MISC, Vd, Vn);
+    }
     public final void   negs(Register Xd, Register Xn, Shift sft){
         emitA64(INST_NEGS_ADDSUB_SHIFT, Xd, Xn, sft);
     }
@@ -527,30 +1609,90 @@ public abstract class SerializerIntrinsics_a64 extends SerializerCore {
     public final void   nop(){
         emitA64(INST_NOP_IC_SYSTEM);
     }
+    public final void   not(VectorRegister Vd, VectorRegister Vn){
+        emitA64(INST_NOT_SIMD_2REG_MISC, Vd, Vn);
+    }
     public final void   orn(Register Xd, Register Xn, Register Xm, Shift sft){
         emitA64(INST_ORN_LOG_SHIFT, Xd, Xn, Xm, sft);
     }
+    public final void   orn(VectorRegister Vd, VectorRegister Vn, VectorRegister Vm){
+        emitA64(INST_ORN_SIMD_3SAME, Vd, Vn, Vm);
+    }
+    public final void   orn(PredicateRegister Pd, PredicateRegister Pg, PredicateRegister Pn, PredicateRegister Pm){
+        emitA64(INST_ORN_SVE_PRED_LOGIC, Pd, Pg, Pn, Pm);
+    }
     public final void   orr(Register Xd, Register Xm, Immediate val){
         emitA64(INST_ORR_LOG_IMM, Xd, Xm, val);
     }
+    public final void   orr(Register Xd, Register Xn, long mask){
+        _emitMacro(MACRO_ORR, Xd, Xn, mask);
+    }
     public final void   orr(Register Xd, Register Xn, Register Xm, Shift sft){
         emitA64(INST_ORR_LOG_SHIFT, Xd, Xn, Xm, sft);
     }
+    public final void   orr(VectorRegister Vd, VectorRegister Vn, VectorRegister Vm){
+        emitA64(INST_ORR_SIMD_3SAME, Vd, Vn, Vm);
+    }
+    public final void   orr(PredicateRegister Pd, PredicateRegister Pg, PredicateRegister Pn, PredicateRegister Pm){
+        emitA64(INST_ORR_SVE_PRED_LOGIC, Pd, Pg, Pn, Pm);
+    }
+    public final void   orr(ScalableRegister Zd, ScalableRegister Zn, ScalableRegister Zm){
+        emitA64(INST_ORR_SVE_ARITH, Zd, Zn, Zm);
+    }
+    public final void   orr(ScalableRegister Zdn, PredicateRegister Pg, ScalableRegister Zn, ScalableRegister Zm){
+        emitA64(INST_ORR_SVE_ARITH_PRED, Zdn, Pg, Zn, Zm);
+    }
+    public final void   orv(Register Vd, PredicateRegister Pg, ScalableRegister Zn){
+        emitA64(INST_ORV_SVE_REDUCE, Vd, Pg, Zn);
+    }
+    public final void   pfalse(PredicateRegister Pd){
+        emitA64(INST_PFALSE_SVE_PRED_GEN, Pd);
+    }
+    public final void   pmull(VectorRegister Vd, VectorRegister Vn, VectorRegister Vm){
+        emitA64(INST_PMULL_SIMD_3DIFF, Vd, Vn, Vm);
+    }
+    public final void   pmull2(VectorRegister Vd, VectorRegister Vn, VectorRegister Vm){
+        emitA64(INST_PMULL2_SIMD_3DIFF, Vd, Vn, Vm);
+    }
     public final void   prfm(PRFOP_ENUM Xd, Register Xn, Immediate imm12 ){
         emitA64(INST_PRFM_LDST_POS__IMMEDIATE, Xd, Xn, imm12 );
     }
     public final void   prfm(PRFOP_ENUM Xd, Immediate imm19){
         emitA64(INST_PRFM_LOADLIT__LITERAL, Xd, imm19);
     }
+    public final void   prfm(PRFOP_ENUM Xd, Label label){
+        emitA64(INST_PRFM_LOADLIT__LITERAL, Xd, label);
+    }
     public final void   prfm(PRFOP_ENUM label, Register Xn, Register Rm, Ext ext){
         emitA64(INST_PRFM_LDST_REGOFF__REGISTER, label, Xn, Rm, ext);
     }
     public final void   prfum(PRFOP_ENUM Xd, Register Xn, Immediate imm9 ){
         emitA64(INST_PRFUM_LDST_UNSCALED, Xd, Xn, imm9);
     }
+    public final void   ptest(PredicateRegister Pg, PredicateRegister Pn){
+        emitA64(INST_PTEST_SVE_PRED_LOGIC, Pg, Pn);
+    }
+    public final void   ptrue(PredicateRegister Pd){
+        emitA64(INST_PTRUE_SVE_PRED_GEN, Pd);
+    }
+    public final void   ptrue(PredicateRegister Pd, Immediate pattern){
+        emitA64(INST_PTRUE_SVE_PRED_GEN, Pd, pattern);
+    }
+    public final void   ptrues(PredicateRegister Pd){
+        emitA64(INST_PTRUES_SVE_PRED_GEN, Pd);
+    }
+    public final void   ptrues(PredicateRegister Pd, Immediate pattern){
+        emitA64(INST_PTRUES_SVE_PRED_GEN, Pd, pattern);
+    }
     public final void   rbit(Register Xd, Register Xn){
         emitA64(INST_RBIT_DP_1SRC, Xd, Xn);
     }
+    public final void   rbit(VectorRegister Vd, VectorRegister Vn){
+        emitA64(INST_RBIT_SIMD_2REG_MISC, Vd, Vn);
+    }
+    public final void   rdvl(Register Xd, Immediate imm){
+        emitA64(INST_RDVL_SVE_VL, Xd, imm);
+    }
     public final void   ret(Register Xd){
         emitA64(INST_RET_BRANCH_REG, Xd);
     }
@@ -560,9 +1702,18 @@ public abstract class SerializerIntrinsics_a64 extends SerializerCore {
     public final void   rev16(Register Xd, Register Xn){
         emitA64(INST_REV16_DP_1SRC, Xd, Xn);
     }
+    public final void   rev16(VectorRegister Vd, VectorRegister Vn){
+        emitA64(INST_REV16_SIMD_2REG_MISC, Vd, Vn);
+    }
     public final void   rev32(Register Xd, Register Xn){
         emitA64(INST_REV32_DP_1SRC, Xd, Xn);
     }
+    public final void   rev32(VectorRegister Vd, VectorRegister Vn){
+        emitA64(INST_REV32_SIMD_2REG_MISC, Vd, Vn);
+    }
+    public final void   rev64(VectorRegister Vd, VectorRegister Vn){
+        emitA64(INST_REV64_SIMD_2REG_MISC, Vd, Vn);
+    }
     public final void   ror(Register Xd, Register Xn, Register Xm){
         emitA64(INST_ROR_DP_2SRC, Xd, Xn, Xm);
     }
@@ -572,6 +1723,15 @@ public abstract class SerializerIntrinsics_a64 extends SerializerCore {
     public final void   rorv(Register Xd, Register Xn, Register Xm){
         emitA64(INST_RORV_DP_2SRC, Xd, Xn, Xm);
     }
+    public final void   saddlp(VectorRegister Vd, VectorRegister Vn){
+        emitA64(INST_SADDLP_SIMD_2REG_MISC, Vd, Vn);
+    }
+    public final void   saddlv(Register Vd, VectorRegister Vn){
+        emitA64(INST_SADDLV_SIMD_ACROSS, Vd, Vn);
+    }
+    public final void   saddv(Register Vd, PredicateRegister Pg, ScalableRegister Zn){
+        emitA64(INST_SADDV_SVE_REDUCE, Vd, Pg, Zn);
+    }
     public final void   sbc(Register Xd, Register Xn, Register Xm){
         emitA64(INST_SBC_ADDSUB_CARRY, Xd, Xn, Xm);
     }
@@ -587,24 +1747,111 @@ public abstract class SerializerIntrinsics_a64 extends SerializerCore {
     public final void   sbfx(Register Xd, Register Xn, Immediate val, Immediate val1){
         emitA64(INST_SBFX_BITFIELD, Xd, Xn, val, val1);
     }
+    public final void   scvtf(Register Dd, Register Xn){
+        emitA64(INST_SCVTF_FP_INT, Dd, Xn);
+    }
     public final void   sdiv(Register Xd, Register Xn, Register Xm){
         emitA64(INST_SDIV_DP_2SRC, Xd, Xn, Xm);
     }
+    public final void   sdiv(ScalableRegister Zdn, PredicateRegister Pg, ScalableRegister Zn, ScalableRegister Zm){
+        emitA64(INST_SDIV_SVE_ARITH_PRED, Zdn, Pg, Zn, Zm);
+    }
+    public final void   sete(Register Xd, Register Xn, Register Xm){
+        emitA64(INST_SETE_MOPS, Xd, Xn, Xm);
+    }
+    public final void   setm(Register Xd, Register Xn, Register Xm){
+        emitA64(INST_SETM_MOPS, Xd, Xn, Xm);
+    }
+    public final void   setp(Register Xd, Register Xn, Register Xm){
+        emitA64(INST_SETP_MOPS, Xd, Xn, Xm);
+    }
     public final void   sev(){
         emitA64(INST_SEV_IC_SYSTEM);
     }
     public final void   sevl(){
         emitA64(INST_SEVL_IC_SYSTEM);
     }
+    public final void   sha1c(VectorRegister Qd, Register Sn, VectorRegister Vm){
+        emitA64(INST_SHA1C_CRYPTO_SHA3REG, Qd, Sn, Vm);
+    }
+    public final void   sha1h(Register Sd, Register Sn){
+        emitA64(INST_SHA1H_CRYPTO_SHA2REG, Sd, Sn);
+    }
+    public final void   sha1m(VectorRegister Qd, Register Sn, VectorRegister Vm){
+        emitA64(INST_SHA1M_CRYPTO_SHA3REG, Qd, Sn, Vm);
+    }
+    public final void   sha1p(VectorRegister Qd, Register Sn, VectorRegister Vm){
+        emitA64(INST_SHA1P_CRYPTO_SHA3REG, Qd, Sn, Vm);
+    }
+    public final void   sha1su0(VectorRegister Vd, VectorRegister Vn, VectorRegister Vm){
+        emitA64(INST_SHA1SU0_CRYPTO_SHA3REG, Vd, Vn, Vm);
+    }
+    public final void   sha1su1(VectorRegister Vd, VectorRegister Vn){
+        emitA64(INST_SHA1SU1_CRYPTO_SHA2REG, Vd, Vn);
+    }
+    public final void   sha256h(VectorRegister Qd, VectorRegister Qn, VectorRegister Vm){
+        emitA64(INST_SHA256H_CRYPTO_SHA3REG, Qd, Qn, Vm);
+    }
+    public final void   sha256h2(VectorRegister Qd, VectorRegister Qn, VectorRegister Vm){
+        emitA64(INST_SHA256H2_CRYPTO_SHA3REG, Qd, Qn, Vm);
+    }
+    public final void   sha256su0(VectorRegister Vd, VectorRegister Vn){
+        emitA64(INST_SHA256SU0_CRYPTO_SHA2REG, Vd, Vn);
+    }
+    public final void   sha256su1(VectorRegister Vd, VectorRegister Vn, VectorRegister Vm){
+        emitA64(INST_SHA256SU1_CRYPTO_SHA3REG, Vd, Vn, Vm);
+    }
+    public final void   shl(VectorRegister Vd, VectorRegister Vn, Immediate shift){
+        emitA64(INST_SHL_SIMD_SHIFT_IMM, Vd, Vn, shift);
+    }
+    public final void   shrn(VectorRegister Vd, VectorRegister Vn, Immediate shift){
+        emitA64(INST_SHRN_SIMD_SHIFT_IMM, Vd, Vn, shift);
+    }
+    public final void   sli(VectorRegister Vd, VectorRegister Vn, Immediate shift){
+        emitA64(INST_SLI_SIMD_SHIFT_IMM, Vd, Vn, shift);
+    }
     public final void   smaddl(Register Xd, Register Wn, Register Wm, Register Xn){
         emitA64(INST_SMADDL_DP_3SRC, Xd, Wn, Wm, Xn);
     }
+    public final void   smax(VectorRegister Vd, VectorRegister Vn, VectorRegister Vm){
+        emitA64(INST_SMAX_SIMD_3SAME, Vd, Vn, Vm);
+    }
+    public final void   smax(ScalableRegister Zdn, PredicateRegister Pg, ScalableRegister Zn, ScalableRegister Zm){
+        emitA64(INST_SMAX_SVE_ARITH_PRED, Zdn, Pg, Zn, Zm);
+    }
+    public final void   smaxp(VectorRegister Vd, VectorRegister Vn, VectorRegister Vm){
+        emitA64(INST_SMAXP_SIMD_3SAME, Vd, Vn, Vm);
+    }
+    public final void   smaxv(Register Vd, VectorRegister Vn){
+        emitA64(INST_SMAXV_SIMD_ACROSS, Vd, Vn);
+    }
+    public final void   smaxv(Register Vd, PredicateRegister Pg, ScalableRegister Zn){
+        emitA64(INST_SMAXV_SVE_REDUCE, Vd, Pg, Zn);
+    }
     public final void   smc(Immediate val){
         emitA64(INST_SMC_EXCEPTION, val);
     }
+    public final void   smin(VectorRegister Vd, VectorRegister Vn, VectorRegister Vm){
+        emitA64(INST_SMIN_SIMD_3SAME, Vd, Vn, Vm);
+    }
+    public final void   smin(ScalableRegister Zdn, PredicateRegister Pg, ScalableRegister Zn, ScalableRegister Zm){
+        emitA64(INST_SMIN_SVE_ARITH_PRED, Zdn, Pg, Zn, Zm);
+    }
+    public final void   sminp(VectorRegister Vd, VectorRegister Vn, VectorRegister Vm){
+        emitA64(INST_SMINP_SIMD_3SAME, Vd, Vn, Vm);
+    }
+    public final void   sminv(Register Vd, VectorRegister Vn){
+        emitA64(INST_SMINV_SIMD_ACROSS, Vd, Vn);
+    }
+    public final void   sminv(Register Vd, PredicateRegister Pg, ScalableRegister Zn){
+        emitA64(INST_SMINV_SVE_REDUCE, Vd, Pg, Zn);
+    }
     public final void   smnegl(Register Xd, Register Wn, Register Wm){
         emitA64(INST_SMNEGL_DP_3SRC, Xd, Wn, Wm);
     }
+    public final void   smov(Register Rd, VectorRegister Vn, Immediate index){
+        emitA64(INST_SMOV_SIMD_COPY, Rd, Vn, index);
+    }
     public final void   smsubl(Register Xd, Register Wn, Register Wm, Register Xn){
         emitA64(INST_SMSUBL_DP_3SRC, Xd, Wn, Wm, Xn);
     }
@@ -614,15 +1861,183 @@ public abstract class SerializerIntrinsics_a64 extends SerializerCore {
     public final void   smull(Register Xd, Register Wn, Register Wm){
         emitA64(INST_SMULL_DP_3SRC, Xd, Wn, Wm);
     }
+    public final void   sqadd(VectorRegister Vd, VectorRegister Vn, VectorRegister Vm){
+        emitA64(INST_SQADD_SIMD_3SAME, Vd, Vn, Vm);
+    }
+    public final void   sqadd(ScalableRegister Zd, ScalableRegister Zn, ScalableRegister Zm){
+        emitA64(INST_SQADD_SVE_ARITH, Zd, Zn, Zm);
+    }
+    public final void   sqsub(VectorRegister Vd, VectorRegister Vn, VectorRegister Vm){
+        emitA64(INST_SQSUB_SIMD_3SAME, Vd, Vn, Vm);
+    }
+    public final void   sqsub(ScalableRegister Zd, ScalableRegister Zn, ScalableRegister Zm){
+        emitA64(INST_SQSUB_SVE_ARITH, Zd, Zn, Zm);
+    }
+    public final void   sri(VectorRegister Vd, VectorRegister Vn, Immediate shift){
+        emitA64(INST_SRI_SIMD_SHIFT_IMM, Vd, Vn, shift);
+    }
+    public final void   srshr(VectorRegister Vd, VectorRegister Vn, Immediate shift){
+        emitA64(INST_SRSHR_SIMD_SHIFT_IMM, Vd, Vn, shift);
+    }
+    public final void   sshl(VectorRegister Vd, VectorRegister Vn, VectorRegister Vm){
+        emitA64(INST_SSHL_SIMD_3SAME, Vd, Vn, Vm);
+    }
+    public final void   sshll(VectorRegister Vd, VectorRegister Vn, Immediate shift){
+        emitA64(INST_SSHLL_SIMD_SHIFT_IMM, Vd, Vn, shift);
+    }
+    public final void   sshr(VectorRegister Vd, VectorRegister Vn, Immediate shift){
+        emitA64(INST_SSHR_SIMD_SHIFT_IMM, Vd, Vn, shift);
+    }
+    public final void   ssra(VectorRegister Vd, VectorRegister Vn, Immediate shift){
+        emitA64(INST_SSRA_SIMD_SHIFT_IMM, Vd, Vn, shift);
+    }
+    public final void   st1(VectorRegister Vt, Offset address){
+        emitA64(INST_ST1_SIMD_LDST_MULT, Vt, address);
+    }
+    public final void   st1(VectorRegister Vt, Post_index address){
+        emitA64(INST_ST1_SIMD_LDST_MULT, Vt, address);
+    }
+    public final void   st1(VectorRegister Vt, VectorRegister Vt2, Offset address){
+        emitA64(INST_ST1_SIMD_LDST_MULT, Vt, Vt2, address);
+    }
+    public final void   st1(VectorRegister Vt, VectorRegister Vt2, Post_index address){
+        emitA64(INST_ST1_SIMD_LDST_MULT, Vt, Vt2, address);
+    }
+    public final void   st1(VectorRegister Vt, VectorRegister Vt2, VectorRegister Vt3, Offset address){
+        emitA64(INST_ST1_SIMD_LDST_MULT, Vt, Vt2, Vt3, address);
+    }
+    public final void   st1(VectorRegister Vt, VectorRegister Vt2, VectorRegister Vt3, Post_index address){
+        emitA64(INST_ST1_SIMD_LDST_MULT, Vt, Vt2, Vt3, address);
+    }
+    public final void   st1(VectorRegister Vt, VectorRegister Vt2, VectorRegister Vt3, VectorRegister Vt4, Offset address){
+        emitA64(INST_ST1_SIMD_LDST_MULT, Vt, Vt2, Vt3, Vt4, address);
+    }
+    public final void   st1(VectorRegister Vt, VectorRegister Vt2, VectorRegister Vt3, VectorRegister Vt4, Post_index address){
+        emitA64(INST_ST1_SIMD_LDST_MULT, Vt, Vt2, Vt3, Vt4, address);
+    }
+    public final void   st1b(ScalableRegister Zt, PredicateRegister Pg, Offset address){
+        emitA64(INST_ST1B_SVE_LDST, Zt, Pg, address);
+    }
+    public final void   st1b(ScalableRegister Zt, PredicateRegister Pg, Register Xn, Register Xm){
+        emitA64(INST_ST1B_SVE_LDST_REG, Zt, Pg, Xn, Xm);
+    }
+    public final void   st1d(ScalableRegister Zt, PredicateRegister Pg, Offset address){
+        emitA64(INST_ST1D_SVE_LDST, Zt, Pg, address);
+    }
+    public final void   st1d(ScalableRegister Zt, PredicateRegister Pg, Register Xn, Register Xm){
+        emitA64(INST_ST1D_SVE_LDST_REG, Zt, Pg, Xn, Xm);
+    }
+    public final void   st1h(ScalableRegister Zt, PredicateRegister Pg, Offset address){
+        emitA64(INST_ST1H_SVE_LDST, Zt, Pg, address);
+    }
+    public final void   st1h(ScalableRegister Zt, PredicateRegister Pg, Register Xn, Register Xm){
+        emitA64(INST_ST1H_SVE_LDST_REG, Zt, Pg, Xn, Xm);
+    }
+    public final void   st1w(ScalableRegister Zt, PredicateRegister Pg, Offset address){
+        emitA64(INST_ST1W_SVE_LDST, Zt, Pg, address);
+    }
+    public final void   st1w(ScalableRegister Zt, PredicateRegister Pg, Register Xn, Register Xm){
+        emitA64(INST_ST1W_SVE_LDST_REG, Zt, Pg, Xn, Xm);
+    }
+    public final void   st2(VectorRegister Vt, VectorRegister Vt2, Offset address){
+        emitA64(INST_ST2_SIMD_LDST_MULT, Vt, Vt2, address);
+    }
+    public final void   st2(VectorRegister Vt, VectorRegister Vt2, Post_index address){
+        emitA64(INST_ST2_SIMD_LDST_MULT, Vt, Vt2, address);
+    }
+    public final void   st3(VectorRegister Vt, VectorRegister Vt2, VectorRegister Vt3, Offset address){
+        emitA64(INST_ST3_SIMD_LDST_MULT, Vt, Vt2, Vt3, address);
+    }
+    public final void   st3(VectorRegister Vt, VectorRegister Vt2, VectorRegister Vt3, Post_index address){
+        emitA64(INST_ST3_SIMD_LDST_MULT, Vt, Vt2, Vt3, address);
+    }
+    public final void   st4(VectorRegister Vt, VectorRegister Vt2, VectorRegister Vt3, VectorRegister Vt4, Offset address){
+        emitA64(INST_ST4_SIMD_LDST_MULT, Vt, Vt2, Vt3, Vt4, address);
+    }
+    public final void   st4(VectorRegister Vt, VectorRegister Vt2, VectorRegister Vt3, VectorRegister Vt4, Post_index address){
+        emitA64(INST_ST4_SIMD_LDST_MULT, Vt, Vt2, Vt3, Vt4, address);
+    }
+    public final void   stadd(Register Xs, Register Xn){
+        emitA64(INST_LDADD_LDST_ATOMIC, Xs, zr(Xs), Xn);
+    }
+    public final void   staddb(Register Ws, Register Xn){
+        emitA64(INST_LDADDB_LDST_ATOMIC, Ws, zr(Ws), Xn);
+    }
+    public final void   staddh(Register Ws, Register Xn){
+        emitA64(INST_LDADDH_LDST_ATOMIC, Ws, zr(Ws), Xn);
+    }
+    public final void   staddl(Register Xs, Register Xn){
+        emitA64(INST_LDADDL_LDST_ATOMIC, Xs, zr(Xs), Xn);
+    }
+    public final void   staddlb(Register Ws, Register Xn){
+        emitA64(INST_LDADDLB_LDST_ATOMIC, Ws, zr(Ws), Xn);
+    }
+    public final void   staddlh(Register Ws, Register Xn){
+        emitA64(INST_LDADDLH_LDST_ATOMIC, Ws, zr(Ws), Xn);
+    }
+    public final void   stclr(Register Xs, Register Xn){
+        emitA64(INST_LDCLR_LDST_ATOMIC, Xs, zr(Xs), Xn);
+    }
+    public final void   stclrb(Register Ws, Register Xn){
+        emitA64(INST_LDCLRB_LDST_ATOMIC, Ws, zr(Ws), Xn);
+    }
+    public final void   stclrh(Register Ws, Register Xn){
+        emitA64(INST_LDCLRH_LDST_ATOMIC, Ws, zr(Ws), Xn);
+    }
+    public final void   stclrl(Register Xs, Register Xn){
+        emitA64(INST_LDCLRL_LDST_ATOMIC, Xs, zr(Xs), Xn);
+    }
+    public final void   stclrlb(Register Ws, Register Xn){
+        emitA64(INST_LDCLRLB_LDST_ATOMIC, Ws, zr(Ws), Xn);
+    }
+    public final void   stclrlh(Register Ws, Register Xn){
+        emitA64(INST_LDCLRLH_LDST_ATOMIC, Ws, zr(Ws), Xn);
+    }
+    public final void   steor(Register Xs, Register Xn){
+        emitA64(INST_LDEOR_LDST_ATOMIC, Xs, zr(Xs), Xn);
+    }
+    public final void   steorb(Register Ws, Register Xn){
+        emitA64(INST_LDEORB_LDST_ATOMIC, Ws, zr(Ws), Xn);
+    }
+    public final void   steorh(Register Ws, Register Xn){
+        emitA64(INST_LDEORH_LDST_ATOMIC, Ws, zr(Ws), Xn);
+    }
+    public final void   steorl(Register Xs, Register Xn){
+        emitA64(INST_LDEORL_LDST_ATOMIC, Xs, zr(Xs), Xn);
+    }
+    public final void   steorlb(Register Ws, Register Xn){
+        emitA64(INST_LDEORLB_LDST_ATOMIC, Ws, zr(Ws), Xn);
+    }
+    public final void   steorlh(Register Ws, Register Xn){
+        emitA64(INST_LDEORLH_LDST_ATOMIC, Ws, zr(Ws), Xn);
+    }
     public final void   stlr(Register Xd, Mem location){
         emitA64(INST_STLR_LDSTEXCL, Xd, location);
     }
+    public final void   stlr(Register Xt, Register Xn){
+        emitA64(INST_STLR_LDSTEXCL, Xt, Xn);
+    }
     public final void   stlrb(Register Xd, Register Xn, Immediate val){
         emitA64(INST_STLRB_LDSTEXCL, Xd, Xn, val);
     }
+    public final void   stlrb(Register Xt, Register Xn){
+        emitA64(INST_STLRB_LDSTEXCL, Xt, Xn);
+    }
     public final void   stlrh(Register Xd, Mem location){
         emitA64(INST_STLRH_LDSTEXCL, Xd, location);
     }
+    public final void   stlrh(Register Xt, Register Xn){
+        emitA64(INST_STLRH_LDSTEXCL, Xt, Xn);
+    }
+    public final void   stlur(Register Xt, Offset address){
+        emitA64(INST_STLUR_LDAPSTL_UNSCALED, Xt, address);
+    }
+    public final void   stlurb(Register Xt, Offset address){
+        emitA64(INST_STLURB_LDAPSTL_UNSCALED, Xt, address);
+    }
+    public final void   stlurh(Register Xt, Offset address){
+        emitA64(INST_STLURH_LDAPSTL_UNSCALED, Xt, address);
+    }
     public final void   stlxp(Register Wd, Register Xn, Register Xm, Mem location){
         emitA64(INST_STLXP_LDSTEXCL, Wd, Xn, Xm, location);
     }
@@ -659,6 +2074,12 @@ public abstract class SerializerIntrinsics_a64 extends SerializerCore {
     public final void   str(Register Xt, Register Xn, Register Xm, Ext ext){
         emitA64(INST_STR_LDST_REGOFF, Xt, Xn, Xm, ext);
     }
+    public final void   str(PredicateRegister Pt, Offset address){
+        emitA64(INST_STR_SVE_FILL_PRED, Pt, address);
+    }
+    public final void   str(ScalableRegister Zt, Offset address){
+        emitA64(INST_STR_SVE_FILL, Zt, address);
+    }
     public final void   strb(Register Xd, Post_index pindex){
         emitA64(INST_STRB_LDST_IMM9_POST, Xd, pindex);
     }
@@ -683,6 +2104,60 @@ public abstract class SerializerIntrinsics_a64 extends SerializerCore {
     public final void   strh(Register Xd, Register Xn, Register Xm, Ext ext){
         emitA64(INST_STRH_LDST_REGOFF, Xd, Xn, Xm, ext);
     }
+    public final void   stset(Register Xs, Register Xn){
+        emitA64(INST_LDSET_LDST_ATOMIC, Xs, zr(Xs), Xn);
+    }
+    public final void   stsetb(Register Ws, Register Xn){
+        emitA64(INST_LDSETB_LDST_ATOMIC, Ws, zr(Ws), Xn);
+    }
+    public final void   stseth(Register Ws, Register Xn){
+        emitA64(INST_LDSETH_LDST_ATOMIC, Ws, zr(Ws), Xn);
+    }
+    public final void   stsetl(Register Xs, Register Xn){
+        emitA64(INST_LDSETL_LDST_ATOMIC, Xs, zr(Xs), Xn);
+    }
+    public final void   stsetlb(Register Ws, Register Xn){
+        emitA64(INST_LDSETLB_LDST_ATOMIC, Ws, zr(Ws), Xn);
+    }
+    public final void   stsetlh(Register Ws, Register Xn){
+        emitA64(INST_LDSETLH_LDST_ATOMIC, Ws, zr(Ws), Xn);
+    }
+    public final void   stsmax(Register Xs, Register Xn){
+        emitA64(INST_LDSMAX_LDST_ATOMIC, Xs, zr(Xs), Xn);
+    }
+    public final void   stsmaxb(Register Ws, Register Xn){
+        emitA64(INST_LDSMAXB_LDST_ATOMIC, Ws, zr(Ws), Xn);
+    }
+    public final void   stsmaxh(Register Ws, Register Xn){
+        emitA64(INST_LDSMAXH_LDST_ATOMIC, Ws, zr(Ws), Xn);
+    }
+    public final void   stsmaxl(Register Xs, Register Xn){
+        emitA64(INST_LDSMAXL_LDST_ATOMIC, Xs, zr(Xs), Xn);
+    }
+    public final void   stsmaxlb(Register Ws, Register Xn){
+        emitA64(INST_LDSMAXLB_LDST_ATOMIC, Ws, zr(Ws), Xn);
+    }
+    public final void   stsmaxlh(Register Ws, Register Xn){
+        emitA64(INST_LDSMAXLH_LDST_ATOMIC, Ws, zr(Ws), Xn);
+    }
+    public final void   stsmin(Register Xs, Register Xn){
+        emitA64(INST_LDSMIN_LDST_ATOMIC, Xs, zr(Xs), Xn);
+    }
+    public final void   stsminb(Register Ws, Register Xn){
+        emitA64(INST_LDSMINB_LDST_ATOMIC, Ws, zr(Ws), Xn);
+    }
+    public final void   stsminh(Register Ws, Register Xn){
+        emitA64(INST_LDSMINH_LDST_ATOMIC, Ws, zr(Ws), Xn);
+    }
+    public final void   stsminl(Register Xs, Register Xn){
+        emitA64(INST_LDSMINL_LDST_ATOMIC, Xs, zr(Xs), Xn);
+    }
+    public final void   stsminlb(Register Ws, Register Xn){
+        emitA64(INST_LDSMINLB_LDST_ATOMIC, Ws, zr(Ws), Xn);
+    }
+    public final void   stsminlh(Register Ws, Register Xn){
+        emitA64(INST_LDSMINLH_LDST_ATOMIC, Ws, zr(Ws), Xn);
+    }
     public final void   sttr(Register Xd, Offset offset){
         emitA64(INST_STTR_LDST_UNPRIV, Xd, offset);
     }
@@ -692,6 +2167,42 @@ public abstract class SerializerIntrinsics_a64 extends SerializerCore {
     public final void   sttrh(Register Xd, Offset offset){
         emitA64(INST_STTRH_LDST_UNPRIV, Xd, offset);
     }
+    public final void   stumax(Register Xs, Register Xn){
+        emitA64(INST_LDUMAX_LDST_ATOMIC, Xs, zr(Xs), Xn);
+    }
+    public final void   stumaxb(Register Ws, Register Xn){
+        emitA64(INST_LDUMAXB_LDST_ATOMIC, Ws, zr(Ws), Xn);
+    }
+    public final void   stumaxh(Register Ws, Register Xn){
+        emitA64(INST_LDUMAXH_LDST_ATOMIC, Ws, zr(Ws), Xn);
+    }
+    public final void   stumaxl(Register Xs, Register Xn){
+        emitA64(INST_LDUMAXL_LDST_ATOMIC, Xs, zr(Xs), Xn);
+    }
+    public final void   stumaxlb(Register Ws, Register Xn){
+        emitA64(INST_LDUMAXLB_LDST_ATOMIC, Ws, zr(Ws), Xn);
+    }
+    public final void   stumaxlh(Register Ws, Register Xn){
+        emitA64(INST_LDUMAXLH_LDST_ATOMIC, Ws, zr(Ws), Xn);
+    }
+    public final void   stumin(Register Xs, Register Xn){
+        emitA64(INST_LDUMIN_LDST_ATOMIC, Xs, zr(Xs), Xn);
+    }
+    public final void   stuminb(Register Ws, Register Xn){
+        emitA64(INST_LDUMINB_LDST_ATOMIC, Ws, zr(Ws), Xn);
+    }
+    public final void   stuminh(Register Ws, Register Xn){
+        emitA64(INST_LDUMINH_LDST_ATOMIC, Ws, zr(Ws), Xn);
+    }
+    public final void   stuminl(Register Xs, Register Xn){
+        emitA64(INST_LDUMINL_LDST_ATOMIC, Xs, zr(Xs), Xn);
+    }
+    public final void   stuminlb(Register Ws, Register Xn){
+        emitA64(INST_LDUMINLB_LDST_ATOMIC, Ws, zr(Ws), Xn);
+    }
+    public final void   stuminlh(Register Ws, Register Xn){
+        emitA64(INST_LDUMINLH_LDST_ATOMIC, Ws, zr(Ws), Xn);
+    }
     public final void   stur(Register Xd, Offset offset){
         emitA64(INST_STUR_LDST_UNSCALED_X, Xd, offset);
     }
@@ -719,42 +2230,141 @@ public abstract class SerializerIntrinsics_a64 extends SerializerCore {
     public final void   sub(Register Xd, Register Xn, Immediate val, Shift sft){
         emitA64(INST_SUB_ADDSUB_IMM, Xd, Xn, val, sft);
     }
+    public final void   sub(Register Xd, Register Xn, long imm){
+        _emitMacro(MACRO_SUB, Xd, Xn, imm);
+    }
     public final void   sub(Register Xd, Register Xn, Register Xm, Shift sft){
         emitA64(INST_SUB_ADDSUB_SHIFT, Xd, Xn, Xm, sft);
     }
+    public final void   sub(VectorRegister Vd, VectorRegister Vn, VectorRegister Vm){
+        emitA64(INST_SUB_SIMD_3SAME, Vd, Vn, Vm);
+    }
+    public final void   sub(ScalableRegister Zd, ScalableRegister Zn, ScalableRegister Zm){
+        emitA64(INST_SUB_SVE_ARITH, Zd, Zn, Zm);
+    }
+    public final void   sub(ScalableRegister Zdn, PredicateRegister Pg, ScalableRegister Zn, ScalableRegister Zm){
+        emitA64(INST_SUB_SVE_ARITH_PRED, Zdn, Pg, Zn, Zm);
+    }
+    public final void   subr(ScalableRegister Zdn, PredicateRegister Pg, ScalableRegister Zn, ScalableRegister Zm){
+        emitA64(INST_SUBR_SVE_ARITH_PRED, Zdn, Pg, Zn, Zm);
+    }
     public final void   subs(Register Xd, Register Xn, Register Xm, Ext extend){
         emitA64(INST_SUBS_ADDSUB_EXT, Xd, Xn, Xm, extend);
     }
     public final void   subs(Register Xd, Register Xn, Immediate val, Shift sft){
         emitA64(INST_SUBS_ADDSUB_IMM, Xd, Xn, val, sft);
     }
+    public final void   subs(Register Xd, Register Xn, long imm){
+        _emitMacro(MACRO_SUBS, Xd, Xn, imm);
+    }
     public final void   subs(Register Xd, Register Xn, Register Xm, Shift sft){
         emitA64(INST_SUBS_ADDSUB_SHIFT, Xd, Xn, Xm, sft);
     }
     public final void   svc(Immediate val){
         emitA64(INST_SVC_EXCEPTION, val);
     }
+    public final void   swp(Register Xs, Register Xt, Register Xn){
+        emitA64(INST_SWP_LDST_ATOMIC, Xs, Xt, Xn);
+    }
+    public final void   swpa(Register Xs, Register Xt, Register Xn){
+        emitA64(INST_SWPA_LDST_ATOMIC, Xs, Xt, Xn);
+    }
+    public final void   swpab(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_SWPAB_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   swpah(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_SWPAH_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   swpal(Register Xs, Register Xt, Register Xn){
+        emitA64(INST_SWPAL_LDST_ATOMIC, Xs, Xt, Xn);
+    }
+    public final void   swpalb(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_SWPALB_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   swpalh(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_SWPALH_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   swpb(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_SWPB_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   swph(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_SWPH_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   swpl(Register Xs, Register Xt, Register Xn){
+        emitA64(INST_SWPL_LDST_ATOMIC, Xs, Xt, Xn);
+    }
+    public final void   swplb(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_SWPLB_LDST_ATOMIC, Ws, Wt, Xn);
+    }
+    public final void   swplh(Register Ws, Register Wt, Register Xn){
+        emitA64(INST_SWPLH_LDST_ATOMIC, Ws, Wt, Xn);
+    }
     public final void   sxtb(Register Xd, Register Xn){
         emitA64(INST_SXTB_BITFIELD, Xd, Xn);
     }
     public final void   sxth(Register Xd, Register Xn){
         emitA64(INST_SXTH_BITFIELD, Xd, Xn);
     }
+    public final void   sxtl(VectorRegister Vd, VectorRegister Vn){
+        emitA64(INST_SSHLL_SIMD_SHIFT_IMM, Vd, Vn, Immediate.imm(0));
+    }
     public final void   sxtw(Register Xd, Register Xn){
         emitA64(INST_SXTW_BITFIELD, Xd, Xn);
     }
+    public final void   tbl(VectorRegister Vd, VectorRegister Vn, VectorRegister Vm){
+        emitA64(INST_TBL_SIMD_TBL, Vd, Vn, Vm, Immediate.imm(listLength(Vn)));
+    }
+    public final void   tbl(VectorRegister Vd, VectorRegister Vn, VectorRegister Vn2, VectorRegister Vm){
+        emitA64(INST_TBL_SIMD_TBL, Vd, Vn, Vm, Immediate.imm(listLength(Vn, Vn2)));
+    }
+    public final void   tbl(VectorRegister Vd, VectorRegister Vn, VectorRegister Vn2, VectorRegister Vn3, VectorRegister Vm){
+        emitA64(INST_TBL_SIMD_TBL, Vd, Vn, Vm, Immediate.imm(listLength(Vn, Vn2, Vn3)));
+    }
+    public final void   tbl(VectorRegister Vd, VectorRegister Vn, VectorRegister Vn2, VectorRegister Vn3, VectorRegister Vn4, VectorRegister Vm){
+        emitA64(INST_TBL_SIMD_TBL, Vd, Vn, Vm, Immediate.imm(listLength(Vn, Vn2, Vn3, Vn4)));
+    }
     public final void   tbnz(Register Xd, Immediate val, Label label){
         emitA64(INST_TBNZ_TESTBRANCH, Xd, val, label);
     }
+    public final void   tbx(VectorRegister Vd, VectorRegister Vn, VectorRegister Vm){
+        emitA64(INST_TBX_SIMD_TBL, Vd, Vn, Vm, Immediate.imm(listLength(Vn)));
+    }
+    public final void   tbx(VectorRegister Vd, VectorRegister Vn, VectorRegister Vn2, VectorRegister Vm){
+        emitA64(INST_TBX_SIMD_TBL, Vd, Vn, Vm, Immediate.imm(listLength(Vn, Vn2)));
+    }
+    public final void   tbx(VectorRegister Vd, VectorRegister Vn, VectorRegister Vn2, VectorRegister Vn3, VectorRegister Vm){
+        emitA64(INST_TBX_SIMD_TBL, Vd, Vn, Vm, Immediate.imm(listLength(Vn, Vn2, Vn3)));
+    }
+    public final void   tbx(VectorRegister Vd, VectorRegister Vn, VectorRegister Vn2, VectorRegister Vn3, VectorRegister Vn4, VectorRegister Vm){
+        emitA64(INST_TBX_SIMD_TBL, Vd, Vn, Vm, Immediate.imm(listLength(Vn, Vn2, Vn3, Vn4)));
+    }
     public final void   tbz(Register Xd, Immediate val, Label label){
         emitA64(INST_TBZ_TESTBRANCH, Xd, val, label);
     }
+    public final void   trn1(VectorRegister Vd, VectorRegister Vn, VectorRegister Vm){
+        emitA64(INST_TRN1_SIMD_PERMUTE, Vd, Vn, Vm);
+    }
+    public final void   trn2(VectorRegister Vd, VectorRegister Vn, VectorRegister Vm){
+        emitA64(INST_TRN2_SIMD_PERMUTE, Vd, Vn, Vm);
+    }
     public final void   tst(Register Xd, Immediate val){
         emitA64(INST_TST_LOG_IMM, Xd, val);
     }
+    public final void   tst(Register Xn, long mask){
+        _emitMacro(MACRO_TST, null, Xn, mask);
+    }
     public final void   tst(Register Xd, Register Xn, Shift sft){
         emitA64(INST_TST_LOG_SHIFT, Xd, Xn, sft);
     }
+    public final void   uaddlp(VectorRegister Vd, VectorRegister Vn){
+        emitA64(INST_UADDLP_SIMD_2REG_MISC, Vd, Vn);
+    }
+    public final void   uaddlv(Register Vd, VectorRegister Vn){
+        emitA64(INST_UADDLV_SIMD_ACROSS, Vd, Vn);
+    }
+    public final void   uaddv(Register Vd, PredicateRegister Pg, ScalableRegister Zn){
+        emitA64(INST_UADDV_SVE_REDUCE, Vd, Pg, Zn);
+    }
     public final void   ubfiz(Register Xd, Register Xn, Immediate val, Immediate val1){
         emitA64(INST_UBFIZ_BITFIELD, Xd, Xn, val, val1);
     }
@@ -764,15 +2374,54 @@ public abstract class SerializerIntrinsics_a64 extends SerializerCore {
     public final void   ubfx(Register Xd, Register Xn, Immediate val, Immediate val1){
         emitA64(INST_UBFX_BITFIELD, Xd, Xn, val, val1);
     }
+    public final void   ucvtf(Register Dd, Register Xn){
+        emitA64(INST_UCVTF_FP_INT, Dd, Xn);
+    }
     public final void   udiv(Register Xd, Register Xn, Register Xm){
         emitA64(INST_UDIV_DP_2SRC, Xd, Xn, Xm);
     }
+    public final void   udiv(ScalableRegister Zdn, PredicateRegister Pg, ScalableRegister Zn, ScalableRegister Zm){
+        emitA64(INST_UDIV_SVE_ARITH_PRED, Zdn, Pg, Zn, Zm);
+    }
     public final void   umaddl(Register Xd, Register Xn, Register Xm, Register Xa){
         emitA64(INST_UMADDL_DP_3SRC, Xd, Xn, Xm, Xa);
     }
+    public final void   umax(VectorRegister Vd, VectorRegister Vn, VectorRegister Vm){
+        emitA64(INST_UMAX_SIMD_3SAME, Vd, Vn, Vm);
+    }
+    public final void   umax(ScalableRegister Zdn, PredicateRegister Pg, ScalableRegister Zn, ScalableRegister Zm){
+        emitA64(INST_UMAX_SVE_ARITH_PRED, Zdn, Pg, Zn, Zm);
+    }
+    public final void   umaxp(VectorRegister Vd, VectorRegister Vn, VectorRegister Vm){
+        emitA64(INST_UMAXP_SIMD_3SAME, Vd, Vn, Vm);
+    }
+    public final void   umaxv(Register Vd, VectorRegister Vn){
+        emitA64(INST_UMAXV_SIMD_ACROSS, Vd, Vn);
+    }
+    public final void   umaxv(Register Vd, PredicateRegister Pg, ScalableRegister Zn){
+        emitA64(INST_UMAXV_SVE_REDUCE, Vd, Pg, Zn);
+    }
+    public final void   umin(VectorRegister Vd, VectorRegister Vn, VectorRegister Vm){
+        emitA64(INST_UMIN_SIMD_3SAME, Vd, Vn, Vm);
+    }
+    public final void   umin(ScalableRegister Zdn, PredicateRegister Pg, ScalableRegister Zn, ScalableRegister Zm){
+        emitA64(INST_UMIN_SVE_ARITH_PRED, Zdn, Pg, Zn, Zm);
+    }
+    public final void   uminp(VectorRegister Vd, VectorRegister Vn, VectorRegister Vm){
+        emitA64(INST_UMINP_SIMD_3SAME, Vd, Vn, Vm);
+    }
+    public final void   uminv(Register Vd, VectorRegister Vn){
+        emitA64(INST_UMINV_SIMD_ACROSS, Vd, Vn);
+    }
+    public final void   uminv(Register Vd, PredicateRegister Pg, ScalableRegister Zn){
+        emitA64(INST_UMINV_SVE_REDUCE, Vd, Pg, Zn);
+    }
     public final void   umnegl(Register Xd, Register Xn, Register Xm){
         emitA64(INST_UMNEGL_DP_3SRC, Xd, Xn, Xm);
     }
+    public final void   umov(Register Rd, VectorRegister Vn, Immediate index){
+        emitA64(INST_UMOV_SIMD_COPY, Rd, Vn, index);
+    }
     public final void   umsubl(Register Xd, Register Xn, Register Xm, Register Xa){
         emitA64(INST_UMSUBL_DP_3SRC, Xd, Xn, Xm, Xa);
     }
@@ -782,22 +2431,477 @@ public abstract class SerializerIntrinsics_a64 extends SerializerCore {
     public final void   umull(Register Xd, Register Xn, Register Xm){
         emitA64(INST_UMULL_DP_3SRC, Xd, Xn, Xm);
     }
+    public final void   uqadd(VectorRegister Vd, VectorRegister Vn, VectorRegister Vm){
+        emitA64(INST_UQADD_SIMD_3SAME, Vd, Vn, Vm);
+    }
+    public final void   uqadd(ScalableRegister Zd, ScalableRegister Zn, ScalableRegister Zm){
+        emitA64(INST_UQADD_SVE_ARITH, Zd, Zn, Zm);
+    }
+    public final void   uqsub(VectorRegister Vd, VectorRegister Vn, VectorRegister Vm){
+        emitA64(INST_UQSUB_SIMD_3SAME, Vd, Vn, Vm);
+    }
+    public final void   uqsub(ScalableRegister Zd, ScalableRegister Zn, ScalableRegister Zm){
+        emitA64(INST_UQSUB_SVE_ARITH, Zd, Zn, Zm);
+    }
+    public final void   urshr(VectorRegister Vd, VectorRegister Vn, Immediate shift){
+        emitA64(INST_URSHR_SIMD_SHIFT_IMM, Vd, Vn, shift);
+    }
+    public final void   ushl(VectorRegister Vd, VectorRegister Vn, VectorRegister Vm){
+        emitA64(INST_USHL_SIMD_3SAME, Vd, Vn, Vm);
+    }
+    public final void   ushll(VectorRegister Vd, VectorRegister Vn, Immediate shift){
+        emitA64(INST_USHLL_SIMD_SHIFT_IMM, Vd, Vn, shift);
+    }
+    public final void   ushr(VectorRegister Vd, VectorRegister Vn, Immediate shift){
+        emitA64(INST_USHR_SIMD_SHIFT_IMM, Vd, Vn, shift);
+    }
+    public final void   usra(VectorRegister Vd, VectorRegister Vn, Immediate shift){
+        emitA64(INST_USRA_SIMD_SHIFT_IMM, Vd, Vn, shift);
+    }
     public final void   uxtb(Register Xd, Register Xn){
         emitA64(INST_UXTB_BITFIELD, Xd, Xn);
     }
     public final void   uxth(Register Xd, Register Xn){
         emitA64(INST_UXTH_BITFIELD, Xd, Xn);
     }
+    public final void   uxtl(VectorRegister Vd, VectorRegister Vn){
+        emitA64(INST_USHLL_SIMD_SHIFT_IMM, Vd, Vn, Immediate.imm(0));
+    }
     public final void   uxtw(Register Xd, Register Xn){
          emitA64(INST_UXTW_LOG_SHIFT, Xd, Xn);
      }
+    public final void   uzp1(VectorRegister Vd, VectorRegister Vn, VectorRegister Vm){
+        emitA64(INST_UZP1_SIMD_PERMUTE, Vd, Vn, Vm);
+    }
+    public final void   uzp2(VectorRegister Vd, VectorRegister Vn, VectorRegister Vm){
+        emitA64(INST_UZP2_SIMD_PERMUTE, Vd, Vn, Vm);
+    }
     public final void   wfe(){
         emitA64(INST_WFE_IC_SYSTEM);
     }
     public final void   wfi(){
         emitA64(INST_WFI_IC_SYSTEM);
     }
+    public final void   whilele(PredicateRegister Pd, Register Rn, Register Rm){
+        emitA64(INST_WHILELE_SVE_WHILE, Pd, Rn, Rm);
+    }
+    public final void   whilelo(PredicateRegister Pd, Register Rn, Register Rm){
+        emitA64(INST_WHILELO_SVE_WHILE, Pd, Rn, Rm);
+    }
+    public final void   whilels(PredicateRegister Pd, Register Rn, Register Rm){
+        emitA64(INST_WHILELS_SVE_WHILE, Pd, Rn, Rm);
+    }
+    public final void   whilelt(PredicateRegister Pd, Register Rn, Register Rm){
+        emitA64(INST_WHILELT_SVE_WHILE, Pd, Rn, Rm);
+    }
+    public final void   xtn(VectorRegister Vd, VectorRegister Vn){
+        emitA64(INST_XTN_SIMD_2REG_MISC, Vd, Vn);
+    }
     public final void   yield(){
         emitA64(INST_YIELD_IC_SYSTEM);
     }
+    public final void   zip1(VectorRegister Vd, VectorRegister Vn, VectorRegister Vm){
+        emitA64(INST_ZIP1_SIMD_PERMUTE, Vd, Vn, Vm);
+    }
+    public final void   zip2(VectorRegister Vd, VectorRegister Vn, VectorRegister Vm){
+        emitA64(INST_ZIP2_SIMD_PERMUTE, Vd, Vn, Vm);
+    }
+
+    // Register level macros, whose expansion depends on the registers and the
+    // value. They go through _emitMacro() so that Compiler_A64 can record them
+    // with virtual registers and expand them once registers are allocated.
+    static final int MACRO_MOV = 0;
+    static final int MACRO_ADD = 1;
+    static final int MACRO_ADDS = 2;
+    static final int MACRO_SUB = 3;
+    static final int MACRO_SUBS = 4;
+    static final int MACRO_CMP = 5;
+    static final int MACRO_CMN = 6;
+    static final int MACRO_AND = 7;
+    static final int MACRO_ANDS = 8;
+    static final int MACRO_ORR = 9;
+    static final int MACRO_EOR = 10;
+    static final int MACRO_TST = 11;
+    static final int MACRO_LDR_LITERAL = 12;
+
+    //! @brief Expand @a macro (@c MACRO_*) of @a rd and @a rn; @a rd is @c null for compares, @a rn for loads.
+    void _emitMacro(int macro, Register rd, Register rn, long value) {
+        switch (macro) {
+            case MACRO_MOV:
+                mov(rd.code(), value);
+                break;
+            case MACRO_ADD:
+                addImm(rd.code(), rn.code(), value);
+                break;
+            case MACRO_ADDS:
+                addsImm(rd.code(), rn.code(), value);
+                break;
+            case MACRO_SUB:
+                subImm(rd.code(), rn.code(), value);
+                break;
+            case MACRO_SUBS:
+                subsImm(rd.code(), rn.code(), value);
+                break;
+            case MACRO_CMP:
+                cmpImm(rn.code(), value);
+                break;
+            case MACRO_CMN:
+                cmnImm(rn.code(), value);
+                break;
+            case MACRO_AND:
+                andImm(rd.code(), rn.code(), value);
+                break;
+            case MACRO_ANDS:
+                andsImm(rd.code(), rn.code(), value);
+                break;
+            case MACRO_ORR:
+                orrImm(rd.code(), rn.code(), value);
+                break;
+            case MACRO_EOR:
+                eorImm(rd.code(), rn.code(), value);
+                break;
+            case MACRO_TST:
+                tstImm(rn.code(), value);
+                break;
+            case MACRO_LDR_LITERAL:
+                ldrLiteral(rd.code(), value);
+                break;
+            default:
+                throw new IllegalArgumentException("invalid macro");
+        }
+    }
+
+    // Primitive emitters. Registers are passed as codes (see @c REG), immediates,
+    // offsets and shifts as plain integers. The encoded word is written straight
+    // to the code buffer, so these do not allocate per instruction. Bitmask
+    // immediates are encoded uncached, see LogicalImmediate.encode().
+
+    private static int opcode(INST_CODE code) {
+        return InstructionDescription.find(code).opcode;
+    }
+
+    //! @brief Return the zero register with the same size as @a reg.
+    private static int zr(int reg) {
+        return (reg & REGTYPE_MASK) | 31;
+    }
+
+    //! @brief Return the zero register with the same size as @a reg, the destination of the @c ST<op> atomics.
+    private static Register zr(Register reg) {
+        return reg.size() == SIZE_DWORD ? Register.gpb(31) : Register.gpw(31);
+    }
+
+    //! @brief Return the size bit (bit 30) of a load/store of @a rt.
+    private static int sizeBit(int rt) {
+        return isX(rt) ? 1 << 30 : 0;
+    }
+
+    public final void   addImm(int rd, int rn, int imm12, int shift){
+        _emitInt32(encodeAddSubImm(opcode(INST_ADD_ADDSUB_IMM), rd, rn, imm12, shift));
+    }
+    public final void   addsImm(int rd, int rn, int imm12, int shift){
+        _emitInt32(encodeAddSubImm(opcode(INST_ADDS_ADDSUB_IMM), rd, rn, imm12, shift));
+    }
+    public final void   subImm(int rd, int rn, int imm12, int shift){
+        _emitInt32(encodeAddSubImm(opcode(INST_SUB_ADDSUB_IMM), rd, rn, imm12, shift));
+    }
+    public final void   subsImm(int rd, int rn, int imm12, int shift){
+        _emitInt32(encodeAddSubImm(opcode(INST_SUBS_ADDSUB_IMM), rd, rn, imm12, shift));
+    }
+    public final void   cmpImm(int rn, int imm12, int shift){
+        _emitInt32(encodeAddSubImm(opcode(INST_CMP_ADDSUB_IMM), zr(rn), rn, imm12, shift));
+    }
+    public final void   cmnImm(int rn, int imm12, int shift){
+        _emitInt32(encodeAddSubImm(opcode(INST_CMN_ADDSUB_IMM), zr(rn), rn, imm12, shift));
+    }
+    public final void   addImm(int rd, int rn, long imm){
+        addSubImm(false, false, rd, rn, imm);
+    }
+    public final void   addsImm(int rd, int rn, long imm){
+        addSubImm(false, true, rd, rn, imm);
+    }
+    public final void   subImm(int rd, int rn, long imm){
+        addSubImm(true, false, rd, rn, imm);
+    }
+    public final void   subsImm(int rd, int rn, long imm){
+        addSubImm(true, true, rd, rn, imm);
+    }
+    public final void   cmpImm(int rn, long imm){
+        addSubImm(true, true, zr(rn), rn, imm);
+    }
+    public final void   cmnImm(int rn, long imm){
+        addSubImm(false, true, zr(rn), rn, imm);
+    }
+
+    /**
+     * Emits @a rd = @a rn +/- @a imm with the cheapest legal encoding: imm12,
+     * imm12 LSL 12, the opposite operation for negative values, two
+     * instructions for 24 bit values (not for flag setting forms), or the
+     * extended register form with the constant loaded into x16 (x17 if @a rn
+     * is x16; @a rd may be the scratch as it is written last). Register 31 is
+     * SP as source and, unless flags are set, as destination.
+     */
+    private void addSubImm(boolean sub, boolean setFlags, int rd, int rn, long imm) {
+        if (!isX(rn))
+            imm = (int) imm;
+        if (imm < 0 && imm != Long.MIN_VALUE) {
+            imm = -imm;
+            sub = !sub;
+        }
+        int op = opcode(sub ? (setFlags ? INST_SUBS_ADDSUB_IMM : INST_SUB_ADDSUB_IMM)
+                            : (setFlags ? INST_ADDS_ADDSUB_IMM : INST_ADD_ADDSUB_IMM));
+        if (imm >= 0 && imm <= 0xfff) {
+            _emitInt32(encodeAddSubImm(op, rd, rn, (int) imm, 0));
+        } else if (imm >= 0 && imm <= 0xfff000 && (imm & 0xfff) == 0) {
+            _emitInt32(encodeAddSubImm(op, rd, rn, (int) (imm >> 12), 12));
+        } else if (imm >= 0 && imm <= 0xffffff && !setFlags) {
+            _emitInt32(encodeAddSubImm(op, rd, rn, (int) (imm >> 12), 12));
+            _emitInt32(encodeAddSubImm(op, rd, rd, (int) (imm & 0xfff), 0));
+        } else {
+            int scratch = (rn & REGTYPE_MASK) | ((rn & REGCODE_MASK) == 16 ? 17 : 16);
+            mov(scratch, imm);
+            int ext = opcode(sub ? (setFlags ? INST_SUBS_ADDSUB_EXT : INST_SUB_ADDSUB_EXT)
+                                 : (setFlags ? INST_ADDS_ADDSUB_EXT : INST_ADD_EXT_ADDSUB_EXT));
+            _emitInt32(encodeAddSubExt(ext, rd, rn, scratch, isX(rn) ? 3 : 2, 0));   /*UXTX / UXTW*/
+        }
+    }
+    public final void   addReg(int rd, int rn, int rm, int shiftType, int amount){
+        _emitInt32(encodeAddSubShift(opcode(INST_ADD_ADDSUB_SHIFT), rd, rn, rm, shiftType, amount));
+    }
+    public final void   addsReg(int rd, int rn, int rm, int shiftType, int amount){
+        _emitInt32(encodeAddSubShift(opcode(INST_ADDS_ADDSUB_SHIFT), rd, rn, rm, shiftType, amount));
+    }
+    public final void   subReg(int rd, int rn, int rm, int shiftType, int amount){
+        _emitInt32(encodeAddSubShift(opcode(INST_SUB_ADDSUB_SHIFT), rd, rn, rm, shiftType, amount));
+    }
+    public final void   subsReg(int rd, int rn, int rm, int shiftType, int amount){
+        _emitInt32(encodeAddSubShift(opcode(INST_SUBS_ADDSUB_SHIFT), rd, rn, rm, shiftType, amount));
+    }
+    public final void   cmpReg(int rn, int rm, int shiftType, int amount){
+        _emitInt32(encodeAddSubShift(opcode(INST_CMP_ADDSUB_SHIFT), zr(rn), rn, rm, shiftType, amount));
+    }
+    public final void   andReg(int rd, int rn, int rm, int shiftType, int amount){
+        _emitInt32(encodeLogicalShift(opcode(INST_AND_LOG_SHIFT), rd, rn, rm, shiftType, amount));
+    }
+    public final void   orrReg(int rd, int rn, int rm, int shiftType, int amount){
+        _emitInt32(encodeLogicalShift(opcode(INST_ORR_LOG_SHIFT), rd, rn, rm, shiftType, amount));
+    }
+    public final void   eorReg(int rd, int rn, int rm, int shiftType, int amount){
+        _emitInt32(encodeLogicalShift(opcode(INST_EOR_LOG_SHIFT), rd, rn, rm, shiftType, amount));
+    }
+    public final void   tstReg(int rn, int rm, int shiftType, int amount){
+        _emitInt32(encodeLogicalShift(opcode(INST_TST_LOG_SHIFT), zr(rn), rn, rm, shiftType, amount));
+    }
+    public final void   andImm(int rd, int rn, long mask){
+        logicalImm(INST_AND_LOG_IMM, INST_AND_LOG_SHIFT, rd, rn, mask);
+    }
+    public final void   andsImm(int rd, int rn, long mask){
+        logicalImm(INST_ANDS_LOG_IMM, INST_ANDS_LOG_SHIFT, rd, rn, mask);
+    }
+    public final void   orrImm(int rd, int rn, long mask){
+        logicalImm(INST_ORR_LOG_IMM, INST_ORR_LOG_SHIFT, rd, rn, mask);
+    }
+    public final void   eorImm(int rd, int rn, long mask){
+        logicalImm(INST_EOR_LOG_IMM, INST_EOR_LOG_SHIFT, rd, rn, mask);
+    }
+    public final void   tstImm(int rn, long mask){
+        logicalImm(INST_ANDS_LOG_IMM, INST_ANDS_LOG_SHIFT, zr(rn), rn, mask);
+    }
+
+    /**
+     * Emits logical instruction @a imm with bitmask immediate @a mask or, if the
+     * mask can't be encoded, loads it into x16 (x17 if @a rn is x16) and emits
+     * the register form @a reg.
+     */
+    private void logicalImm(INST_CODE imm, INST_CODE reg, int rd, int rn, long mask) {
+        int bitmask = LogicalImmediate.encode(mask, isX(rn) ? 64 : 32);
+        if (bitmask >= 0) {
+            _emitInt32(encodeLogicalBitmask(opcode(imm), rd, rn, bitmask));
+            return;
+        }
+        if ((rd & REGCODE_MASK) == 31 && imm != INST_ANDS_LOG_IMM)
+            throw new IllegalArgumentException("not a bitmask immediate: 0x" + Long.toHexString(mask));
+        int scratch = (rn & REGTYPE_MASK) | ((rn & REGCODE_MASK) == 16 ? 17 : 16);
+        mov(scratch, mask);
+        _emitInt32(encodeLogicalShift(opcode(reg), rd, rn, scratch, SHIFT_ENUM.LSL, 0));
+    }
+    public final void   movReg(int rd, int rm){
+        if ((rd & REGCODE_MASK) == 31 || (rm & REGCODE_MASK) == 31)
+            addImm(rd, rm, 0, 0);   /*register 31 is SP in ADD (immediate)*/
+        else
+            orrReg(rd, zr(rd), rm, SHIFT_ENUM.LSL, 0);
+    }
+    public final void   movz(int rd, int imm16, int shift){
+        _emitInt32(encodeMoveWide(opcode(INST_MOVZ_MOVEWIDE), rd, imm16, shift));
+    }
+    public final void   movn(int rd, int imm16, int shift){
+        _emitInt32(encodeMoveWide(opcode(INST_MOVN_MOVEWIDE), rd, imm16, shift));
+    }
+    public final void   movk(int rd, int imm16, int shift){
+        _emitInt32(encodeMoveWide(opcode(INST_MOVK_MOVEWIDE), rd, imm16, shift));
+    }
+
+    /**
+     * Loads the constant @a value into @a rd using the shortest sequence: a
+     * single MOVZ or MOVN, ORR of a bitmask immediate, ORR and one MOVK, or
+     * MOVZ/MOVN followed by a MOVK per remaining halfword. A constant that
+     * would take four instructions is loaded from the literal pool instead.
+     * Register 31 is SP here.
+     */
+    public final void   mov(int rd, long value){
+        boolean x = isX(rd);
+        int width = x ? 64 : 32;
+        if (!x)
+            value &= 0xffffffffL;
+        if ((rd & REGCODE_MASK) == 31) {
+            int bitmask = LogicalImmediate.encode(value, width);
+            if (bitmask >= 0) {
+                _emitInt32(encodeLogicalBitmask(opcode(INST_ORR_LOG_IMM), rd, zr(rd), bitmask));
+            } else {
+                int scratch = x ? REG_X16 : REG_W16;
+                mov(scratch, value);
+                addImm(rd, scratch, 0, 0);
+            }
+            return;
+        }
+
+        int halfwords = width / 16;
+        int zeros = 0;
+        int ones = 0;
+        for (int i = 0; i < halfwords; i++) {
+            int hw = (int) (value >>> (16 * i)) & 0xffff;
+            if (hw == 0)
+                zeros++;
+            else if (hw == 0xffff)
+                ones++;
+        }
+        boolean inverted = ones > zeros;
+        int count = Math.max(1, halfwords - (inverted ? ones : zeros));
+
+        int bitmask = count > 1 ? LogicalImmediate.encode(value, width) : -1;
+        if (bitmask >= 0) {
+            _emitInt32(encodeLogicalBitmask(opcode(INST_ORR_LOG_IMM), rd, zr(rd), bitmask));
+        } else if (count > 2 && movOrrMovk(rd, value, width)) {
+            return;
+        } else if (count > 3) {
+            ldrLiteral(rd, value);
+        } else {
+            int skip = inverted ? 0xffff : 0;
+            boolean first = true;
+            for (int i = 0; i < halfwords; i++) {
+                int hw = (int) (value >>> (16 * i)) & 0xffff;
+                if (hw == skip && !(first && i == halfwords - 1))
+                    continue;
+                if (first && inverted)
+                    movn(rd, ~hw & 0xffff, 16 * i);
+                else if (first)
+                    movz(rd, hw, 16 * i);
+                else
+                    movk(rd, hw, 16 * i);
+                first = false;
+            }
+        }
+    }
+
+    //! @brief Try to load @a value as a bitmask immediate with one halfword patched by MOVK.
+    private boolean movOrrMovk(int rd, long value, int width) {
+        for (int i = 0; i < width / 16; i++) {
+            long hole = 0xffffL << (16 * i);
+            for (int j = -2; j < width / 16; j++) {
+                // Fill the halfword with another halfword of value, zeros or ones.
+                long fill = j == -2 ? 0 : j == -1 ? 0xffff : (value >>> (16 * j)) & 0xffff;
+                if (j == i)
+                    continue;
+                long candidate = (value & ~hole) | fill << (16 * i);
+                int bitmask = LogicalImmediate.encode(candidate, width);
+                if (bitmask >= 0) {
+                    _emitInt32(encodeLogicalBitmask(opcode(INST_ORR_LOG_IMM), rd, zr(rd), bitmask));
+                    movk(rd, (int) (value >>> (16 * i)) & 0xffff, 16 * i);
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+    public final void   ldrImm(int rt, int rn, int offset){
+        _emitInt32(encodeLoadStoreUnsigned(opcode(INST_LDR_IMM_OFF) | sizeBit(rt), isX(rt) ? 3 : 2, rt, rn, offset));
+    }
+    public final void   strImm(int rt, int rn, int offset){
+        _emitInt32(encodeLoadStoreUnsigned(opcode(INST_STR_LDST_POS) | sizeBit(rt), isX(rt) ? 3 : 2, rt, rn, offset));
+    }
+    public final void   ldrbImm(int rt, int rn, int offset){
+        _emitInt32(encodeLoadStoreUnsigned(opcode(INST_LDRB_IMM_OFF), 0, rt, rn, offset));
+    }
+    public final void   strbImm(int rt, int rn, int offset){
+        _emitInt32(encodeLoadStoreUnsigned(opcode(INST_STRB_LDST_OFFSET), 0, rt, rn, offset));
+    }
+    public final void   ldrhImm(int rt, int rn, int offset){
+        _emitInt32(encodeLoadStoreUnsigned(opcode(INST_LDRH_IMM_OFF), 1, rt, rn, offset));
+    }
+    public final void   strhImm(int rt, int rn, int offset){
+        _emitInt32(encodeLoadStoreUnsigned(opcode(INST_STRH_LDST_IMM_OFF), 1, rt, rn, offset));
+    }
+    public final void   ldrPre(int rt, int rn, int offset){
+        _emitInt32(encodeLoadStoreIndexed(opcode(INST_LDR_IMM_PRE) | sizeBit(rt), rt, rn, offset));
+    }
+    public final void   ldrPost(int rt, int rn, int offset){
+        _emitInt32(encodeLoadStoreIndexed(opcode(INST_LDR_IMM_POST) | sizeBit(rt), rt, rn, offset));
+    }
+    public final void   strPre(int rt, int rn, int offset){
+        _emitInt32(encodeLoadStoreIndexed(opcode(INST_STR_LDST_IMM9_PRE) | sizeBit(rt), rt, rn, offset));
+    }
+    public final void   strPost(int rt, int rn, int offset){
+        _emitInt32(encodeLoadStoreIndexed(opcode(INST_STR_LDST_IMM9_POST) | sizeBit(rt), rt, rn, offset));
+    }
+    public final void   ldpImm(int rt, int rt2, int rn, int offset){
+        _emitInt32(encodeLoadStorePair(opcode(INST_LDP_LDSTPAIR_OFF_LDST_POS), rt, rt2, rn, offset));
+    }
+    public final void   ldpPre(int rt, int rt2, int rn, int offset){
+        _emitInt32(encodeLoadStorePair(opcode(INST_LDP_PRE_INDEXED_IDST_IMM9), rt, rt2, rn, offset));
+    }
+    public final void   ldpPost(int rt, int rt2, int rn, int offset){
+        _emitInt32(encodeLoadStorePair(opcode(INST_LDP_POST_INDEXED_IDST_IMM9), rt, rt2, rn, offset));
+    }
+    public final void   stpImm(int rt, int rt2, int rn, int offset){
+        _emitInt32(encodeLoadStorePair(opcode(INST_STP_LDSTPAIR_OFF), rt, rt2, rn, offset));
+    }
+    public final void   stpPre(int rt, int rt2, int rn, int offset){
+        _emitInt32(encodeLoadStorePair(opcode(INST_STP_LDSTPAIR_INDEXED_PRE), rt, rt2, rn, offset));
+    }
+    public final void   stpPost(int rt, int rt2, int rn, int offset){
+        _emitInt32(encodeLoadStorePair(opcode(INST_STP_LDSTPAIR_INDEXED_POST), rt, rt2, rn, offset));
+    }
+    public final void   ldaxr(int rt, int rn){
+        _emitInt32(encodeAtomic(opcode(INST_LDAXR_LDSTEXCL) | sizeBit(rt), zr(rt), rt, rn));
+    }
+    public final void   stlxr(int rs, int rt, int rn){
+        _emitInt32(encodeAtomic(opcode(INST_STLXR_LDSTEXCL) | sizeBit(rt), rs, rt, rn));
+    }
+    public final void   ldaddal(int rs, int rt, int rn){
+        _emitInt32(INST_LDADDAL_LDST_ATOMIC, encodeAtomic(opcode(INST_LDADDAL_LDST_ATOMIC) | sizeBit(rs), rs, rt, rn));
+    }
+    public final void   swpal(int rs, int rt, int rn){
+        _emitInt32(INST_SWPAL_LDST_ATOMIC, encodeAtomic(opcode(INST_SWPAL_LDST_ATOMIC) | sizeBit(rs), rs, rt, rn));
+    }
+    public final void   casal(int rs, int rt, int rn){
+        _emitInt32(INST_CASAL_LDST_CAS, encodeAtomic(opcode(INST_CASAL_LDST_CAS) | sizeBit(rs), rs, rt, rn));
+    }
+    public final void   br(int rn){
+        _emitInt32(encodeBranchReg(opcode(INST_BR_BRANCH_REG), rn));
+    }
+    public final void   blr(int rn){
+        _emitInt32(encodeBranchReg(opcode(INST_BLR_BRANCH_REG), rn));
+    }
+    public final void   ret(int rn){
+        _emitInt32(encodeBranchReg(opcode(INST_RET_BRANCH_REG), rn));
+    }
+    public final void   ldrLiteral(int rt, long value){
+        _emitLiteralLoad(opcode(INST_LDR_LOADLIT) | sizeBit(rt) | gpIndex(rt), value, isX(rt) ? 8 : 4);
+    }
+    public final void   ldrLiteral(Register Xt, long value){
+        _emitMacro(MACRO_LDR_LITERAL, Xt, null, value);
+    }
+    public final void   bl(long target){
+        _emitJmpOrCallReloc(opcode(INST_BL_BRANCH_IMM), target);
+    }
 }
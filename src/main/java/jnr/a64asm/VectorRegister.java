@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2018 Ossdev07
+ *
+ * This file is part of the JNR project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package jnr.a64asm;
+
+import static jnr.a64asm.REG.*;
+import static jnr.a64asm.SIZE.*;
+
+/**
+ * AdvSIMD register @c v0-v31 with an arrangement, like @c v0.16b.
+ *
+ * The scalar floating point registers @c s<n> and @c d<n> are the low bits of
+ * @c v<n>. Vector registers are created by v() and as(), which return cached
+ * instances.
+ */
+public final class VectorRegister extends Register {
+    private static final VectorRegister[][] cache = new VectorRegister[ARRANGEMENT_ENUM.values().length][32];
+
+    static {
+        for (ARRANGEMENT_ENUM t : ARRANGEMENT_ENUM.values()) {
+            for (int i = 0; i < 32; ++i) {
+                cache[t.ordinal()][i] = new VectorRegister(i, t);
+            }
+        }
+    }
+
+    private final ARRANGEMENT_ENUM arrangement;
+
+    private VectorRegister(int idx, ARRANGEMENT_ENUM arrangement) {
+        super(REG_VEC | idx, arrangement.q() != 0 ? SIZE_QWORD : SIZE_DWORD);
+        this.arrangement = arrangement;
+    }
+
+    //! @brief Return vector register @c v<idx> with @a arrangement.
+    public static VectorRegister v(int idx, ARRANGEMENT_ENUM arrangement) {
+        if (idx < 0 || idx >= 32) {
+            throw new IllegalArgumentException("invalid register index " + idx);
+        }
+
+        return cache[arrangement.ordinal()][idx];
+    }
+
+    //! @brief Return this register with @a arrangement.
+    public VectorRegister as(ARRANGEMENT_ENUM arrangement) {
+        return cache[arrangement.ordinal()][index()];
+    }
+
+    public ARRANGEMENT_ENUM arrangement() {
+        return arrangement;
+    }
+
+}
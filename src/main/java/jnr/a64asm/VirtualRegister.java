@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2018 Ossdev07
+ *
+ * This file is part of the JNR project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package jnr.a64asm;
+
+import static jnr.a64asm.REG.*;
+import static jnr.a64asm.SIZE.*;
+
+/**
+ * A general purpose register of a {@link Compiler_A64} function. It is
+ * assigned a physical register, or a stack slot, when the function is
+ * compiled.
+ *
+ * Virtual registers are 64 bit, w() is the 32 bit view of the same register
+ * (like @c w0 of @c x0). Their code is @c NO_REG, so they can't be passed to
+ * an Assembler_A64.
+ */
+public final class VirtualRegister extends Register {
+    //! @brief Index of the register in its compiler.
+    final int id;
+    private final VirtualRegister x;
+    private final VirtualRegister w;
+
+    VirtualRegister(int id) {
+        super(NO_REG, SIZE_DWORD);
+        this.id = id;
+        this.x = this;
+        this.w = new VirtualRegister(this);
+    }
+
+    private VirtualRegister(VirtualRegister x) {
+        super(NO_REG, SIZE_WORD);
+        this.id = x.id;
+        this.x = x;
+        this.w = this;
+    }
+
+    /** Returns the 64 bit view of this register. */
+    public VirtualRegister x() {
+        return x;
+    }
+
+    /** Returns the 32 bit view of this register. */
+    public VirtualRegister w() {
+        return w;
+    }
+
+    //! @brief Return @c true for the 32 bit view.
+    final boolean isW() {
+        return this == w;
+    }
+
+    @Override
+    public String toString() {
+        return (isW() ? "w" : "x") + "%" + id;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2018 Ossdev07
+ *
+ * This file is part of the JNR project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jnr.a64asm;
+
+import org.junit.Test;
+
+import static jnr.a64asm.Asm.*;
+import static jnr.a64asm.REG.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests the scratch register add / sub load a wide immediate into.
+ */
+public class AddSubImmediateTest {
+    private static final Shift LSL0 = new Shift(SHIFT_ENUM.LSL, 0);
+
+    private static int[] words(Assembler_A64 a) {
+        int[] words = new int[a.offset() / 4];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = a.getDWordAt(4 * i);
+        }
+        return words;
+    }
+
+    @Test
+    public void destinationIsScratch() {
+        Assembler_A64 a = new Assembler_A64(Aarch_64);
+        a.addImm(REG_X16, REG_X17, 0x123456789L);
+        // movz x16, #0x6789; movk x16, #0x2345, lsl #16; movk x16, #1, lsl #32; add x16, x17, x16, uxtx
+        assertEquals(0xd28cf130, a.getDWordAt(0));
+        assertEquals(0xf2a468b0, a.getDWordAt(4));
+        assertEquals(0xf2c00030, a.getDWordAt(8));
+        assertEquals(0x8b306230, a.getDWordAt(12));
+        assertEquals(16, a.offset());
+    }
+
+    @Test
+    public void sourceIsX16() {
+        Assembler_A64 a = new Assembler_A64(Aarch_64);
+        a.add(Register.gpr(REG_X17), Register.gpr(REG_X16), 0x123456789L);
+        // the constant goes to x17, add x17, x16, x17, uxtx
+        assertEquals(0xd28cf131, a.getDWordAt(0));
+        assertEquals(0x8b316211, a.getDWordAt(12));
+    }
+
+    @Test
+    public void subtractFromX17IntoX16() {
+        Assembler_A64 a = new Assembler_A64(Aarch_64);
+        a.sub(Register.gpr(REG_X16), Register.gpr(REG_X17), 0x123456789L);
+        // sub x16, x17, x16, uxtx
+        assertEquals(0xcb306230, a.getDWordAt(12));
+    }
+
+    /**
+     * With every allocatable register taken both operands are spilled, the
+     * destination to x16 and the source to x17. The constant must not be loaded
+     * into the source.
+     */
+    @Test
+    public void spilledOperands() {
+        Compiler_A64 c = new Compiler_A64(Aarch_64);
+        VirtualRegister[] v = new VirtualRegister[32];
+        for (int i = 0; i < v.length; i++) {
+            v[i] = c.newGp();
+            c.add(v[i], x0, i + 1);
+        }
+        c.add(v[30], v[31], 0x123456789L);
+        for (int i = 0; i < v.length; i++) {
+            c.add(x1, x1, v[i], LSL0);
+        }
+        c.add(x0, x1, x0, LSL0);   /*keeps x0 busy as well*/
+        c.ret(lr);
+        Assembler_A64 a = new Assembler_A64(Aarch_64);
+        c.compile(a);
+
+        int[] words = words(a);
+        for (int i = 0; i < words.length; i++) {
+            if ((words[i] & 0xffe0fc00) != 0x8b206000)   /*ADD (extended register) UXTX #0*/
+                continue;
+            int rn = (words[i] >> 5) & 31;
+            int rm = (words[i] >> 16) & 31;
+            assertEquals("source spilled to x17", 17, rn);
+            assertTrue("rn and rm differ", rn != rm);
+            // Walk back over the constant load, none of it may write rn.
+            int j = i - 1;
+            for (; j >= 0 && (words[j] & 0x1f800000) == 0x12800000; j--) {   /*MOVN / MOVZ / MOVK*/
+                assertEquals("constant loaded into rm", rm, words[j] & 31);
+            }
+            assertTrue("constant load precedes the add", j < i - 1);
+            return;
+        }
+        fail("no ADD (extended register) emitted");
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2018 Ossdev07
+ *
+ * This file is part of the JNR project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jnr.a64asm;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+import static jnr.a64asm.REG.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests that pooled assemblers are handed out empty and with default settings.
+ */
+public class AssemblerPoolTest {
+
+    @Test
+    public void reusesReleasedAssembler() {
+        AssemblerPool pool = new AssemblerPool(Assembler_A64.Aarch_64, 2);
+        Assembler_A64 a = pool.acquire();
+        a.ret(REG_X30);
+        pool.release(a);
+        Assembler_A64 b = pool.acquire();
+        assertSame(a, b);
+        assertEquals(0, b.offset());
+    }
+
+    //! A released assembler comes back with the settings of a new one.
+    @Test
+    public void restoresSettings() {
+        AssemblerPool pool = new AssemblerPool(Assembler_A64.Aarch_64, 1);
+        Assembler_A64 a = pool.acquire();
+        a.setCpuInfo(CpuInfo.NEOVERSE_N1);
+        a.setProperty(Assembler_A64.PROPERTY_PEEPHOLE, true);
+        a.setProperty(Assembler_A64.PROPERTY_RELAX_BRANCHES, true);
+        a.setProperty(Assembler_A64.PROPERTY_SCHEDULE, true);
+        a.peepholeRules().clear();
+        a.atomicAdd(REG_X0, REG_X1, REG_X2);
+        assertEquals(4, a.offset());    /*ldaddal*/
+        pool.release(a);
+
+        Assembler_A64 b = pool.acquire();
+        assertSame(a, b);
+        assertSame(CpuInfo.GENERIC, b.getCpuInfo());
+        assertFalse(b.getProperty(Assembler_A64.PROPERTY_PEEPHOLE));
+        assertFalse(b.getProperty(Assembler_A64.PROPERTY_RELAX_BRANCHES));
+        assertFalse(b.getProperty(Assembler_A64.PROPERTY_SCHEDULE));
+        assertEquals(PeepholeRule.defaultRules().size(), b.peepholeRules().size());
+        b.atomicAdd(REG_X0, REG_X1, REG_X2);
+        assertEquals(20, b.offset());                   /*LDAXR / STLXR loop*/
+        assertEquals(0xc85ffc50, b.getDWordAt(0));      /*ldaxr x16, [x2]*/
+    }
+
+    @Test
+    public void peepholeCountsStartAtZero() {
+        AssemblerPool pool = new AssemblerPool(Assembler_A64.Aarch_64, 1);
+        Assembler_A64 a = pool.acquire();
+        PeepholeRule first = a.peepholeRules().get(0);
+        pool.release(a);
+        assertNotSame(first, pool.acquire().peepholeRules().get(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsOtherArchitecture() {
+        new AssemblerPool(Assembler_A64.Aarch_64, 1).release(new Assembler_A64(CPU_A64.Aarch32));
+    }
+
+    @Test
+    public void dropsExternalBuffer() {
+        AssemblerPool pool = new AssemblerPool(Assembler_A64.Aarch_64, 1);
+        Assembler_A64 a = new Assembler_A64(Assembler_A64.Aarch_64, ByteBuffer.allocate(64));
+        pool.release(a);
+        assertNotSame(a, pool.acquire());
+    }
+}
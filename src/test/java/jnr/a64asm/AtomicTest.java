@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2018 Ossdev07
+ *
+ * This file is part of the JNR project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jnr.a64asm;
+
+import org.junit.Test;
+
+import static jnr.a64asm.Asm.*;
+import static jnr.a64asm.REG.*;
+import static org.junit.Assert.assertArrayEquals;
+
+/**
+ * Tests that the LSE atomics are only emitted for a CPU with FEATURE_LSE and
+ * that the atomic operations fall back to exclusive loads and stores.
+ */
+public class AtomicTest {
+
+    private static int[] words(Assembler_A64 a) {
+        int[] words = new int[a.offset() / 4];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = a.getDWordAt(4 * i);
+        }
+        return words;
+    }
+
+    private static Assembler_A64 lse() {
+        Assembler_A64 a = new Assembler_A64(Aarch_64);
+        a.setCpuInfo(CpuInfo.NEOVERSE_N1);
+        return a;
+    }
+
+    @Test
+    public void lseEncodings() {
+        Assembler_A64 a = lse();
+        a.ldaddal(x1, x0, x2);
+        a.casal(x0, x1, x2);
+        a.swpal(w0, w1, x2);
+        a.ldaddal(REG_X1, REG_X0, REG_X2);
+        a.casal(REG_X0, REG_X1, REG_X2);
+        a.swpal(REG_W0, REG_W1, REG_X2);
+        assertArrayEquals(new int[] {
+            0xf8e10040, 0xc8e0fc41, 0xb8e08041,
+            0xf8e10040, 0xc8e0fc41, 0xb8e08041,
+        }, words(a));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void casNeedsLse() {
+        new Assembler_A64(Aarch_64).casal(x0, x1, x2);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void caspNeedsLse() {
+        new Assembler_A64(Aarch_64).casp(x4, x6, Register.gpb(8));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void ldsetNeedsLse() {
+        new Assembler_A64(Aarch_64).ldset(x0, x1, x2);
+    }
+
+    //! The primitive emitters bypass _emita64(), but check the feature as well.
+    @Test(expected = IllegalStateException.class)
+    public void primitiveNeedsLse() {
+        new Assembler_A64(Aarch_64).swpal(REG_X0, REG_X1, REG_X2);
+    }
+
+    //! The compiler records the word and checks it against the assembler it compiles into.
+    @Test(expected = IllegalStateException.class)
+    public void compiledPrimitiveNeedsLse() {
+        Compiler_A64 c = new Compiler_A64(Aarch_64);
+        c.ldaddal(REG_X1, REG_X0, REG_X2);
+        c.compile(new Assembler_A64(Aarch_64));
+    }
+
+    @Test
+    public void atomicAddWithLse() {
+        Assembler_A64 a = lse();
+        a.atomicAdd(REG_X0, REG_X1, REG_X2);
+        assertArrayEquals(new int[] { 0xf8e10040 }, words(a));
+    }
+
+    @Test
+    public void atomicAddWithoutLse() {
+        Assembler_A64 a = new Assembler_A64(Aarch_64);
+        a.atomicAdd(REG_X0, REG_X1, REG_X2);
+        assertArrayEquals(new int[] {
+            0xc85ffc50,     // ldaxr x16, [x2]
+            0x8b010210,     // add x16, x16, x1
+            0xc811fc50,     // stlxr w17, x16, [x2]
+            0x35ffffb1,     // cbnz w17, <retry>
+            0xcb010200,     // sub x0, x16, x1
+        }, words(a));
+    }
+
+    @Test
+    public void atomicSwapWithoutLse() {
+        Assembler_A64 a = new Assembler_A64(Aarch_64);
+        a.atomicSwap(REG_X0, REG_X1, REG_X2);
+        assertArrayEquals(new int[] {
+            0xc85ffc50,     // ldaxr x16, [x2]
+            0xc811fc41,     // stlxr w17, x1, [x2]
+            0x35ffffd1,     // cbnz w17, <retry>
+            0xaa1003e0,     // mov x0, x16
+        }, words(a));
+    }
+
+    @Test
+    public void atomicCompareAndSwapWithoutLse() {
+        Assembler_A64 a = new Assembler_A64(Aarch_64);
+        a.atomicCompareAndSwap(REG_X3, REG_X4, REG_X2);
+        assertArrayEquals(new int[] {
+            0xc85ffc50,     // ldaxr x16, [x2]
+            0xca030211,     // eor x17, x16, x3
+            0xb5000071,     // cbnz x17, <done>
+            0xc811fc44,     // stlxr w17, x4, [x2]
+            0x35ffff91,     // cbnz w17, <retry>
+            0xaa1003e3,     // mov x3, x16
+        }, words(a));
+    }
+
+    @Test
+    public void compiledPrimitiveWithLse() {
+        Compiler_A64 c = new Compiler_A64(Aarch_64);
+        c.ldaddal(REG_X1, REG_X0, REG_X2);
+        Assembler_A64 a = lse();
+        c.compile(a);
+        assertArrayEquals(new int[] { 0xf8e10040 }, words(a));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2018 Ossdev07
+ *
+ * This file is part of the JNR project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jnr.a64asm;
+
+import org.junit.Test;
+
+import static jnr.a64asm.Asm.*;
+import static org.junit.Assert.assertArrayEquals;
+
+/**
+ * Tests the code Compiler_A64 emits around the exits of a function.
+ */
+public class CompilerTest {
+
+    private static int[] compile(Compiler_A64 c) {
+        Assembler_A64 a = new Assembler_A64(Aarch_64);
+        c.compile(a);
+        int[] words = new int[a.offset() / 4];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = a.getDWordAt(4 * i);
+        }
+        return words;
+    }
+
+    //! A tail jump target live across a call is moved out of its callee-saved register before the epilogue.
+    @Test
+    public void tailJumpThroughCalleeSaved() {
+        Compiler_A64 c = new Compiler_A64(Aarch_64);
+        VirtualRegister t = c.newGp();
+        c.mov(t, x1);
+        c.call(0x1000L, 0);
+        c.br(t);
+        assertArrayEquals(new int[] {
+            0xa9be7bfd,     // stp x29, x30, [sp, #-32]!
+            0x910003fd,     // mov x29, sp
+            0xf9000bf3,     // str x19, [sp, #16]
+            0xaa0103f3,     // mov x19, x1
+            0x94000000,     // bl 0x1000
+            0xaa1303f0,     // mov x16, x19
+            0xf9400bf3,     // ldr x19, [sp, #16]
+            0xa8c27bfd,     // ldp x29, x30, [sp], #32
+            0xd61f0200,     // br x16
+        }, compile(c));
+    }
+
+    @Test
+    public void tailJumpWithoutFrame() {
+        Compiler_A64 c = new Compiler_A64(Aarch_64);
+        VirtualRegister t = c.newGp();
+        c.mov(t, x1);
+        c.br(t);
+        assertArrayEquals(new int[] {
+            0xaa0103e9,     // mov x9, x1
+            0xd61f0120,     // br x9
+        }, compile(c));
+    }
+
+    //! ret(lr) keeps returning through the restored link register.
+    @Test
+    public void returnAfterCall() {
+        Compiler_A64 c = new Compiler_A64(Aarch_64);
+        VirtualRegister t = c.newGp();
+        c.mov(t, x1);
+        c.call(0x1000L, 0);
+        c.mov(x0, t);
+        c.ret(lr);
+        assertArrayEquals(new int[] {
+            0xa9be7bfd,     // stp x29, x30, [sp, #-32]!
+            0x910003fd,     // mov x29, sp
+            0xf9000bf3,     // str x19, [sp, #16]
+            0xaa0103f3,     // mov x19, x1
+            0x94000000,     // bl 0x1000
+            0xaa1303e0,     // mov x0, x19
+            0xf9400bf3,     // ldr x19, [sp, #16]
+            0xa8c27bfd,     // ldp x29, x30, [sp], #32
+            0xd65f03c0,     // ret
+        }, compile(c));
+    }
+}
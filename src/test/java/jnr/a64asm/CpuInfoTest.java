@@ -0,0 +1,209 @@
+/*
+ * Copyright (C) 2018 Ossdev07
+ *
+ * This file is part of the JNR project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jnr.a64asm;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static jnr.a64asm.CpuInfo.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests CpuInfo.detect(File, File) on auxiliary vectors and /proc/cpuinfo
+ * files captured from Linux. The auxv fixtures are little endian.
+ */
+public class CpuInfoTest {
+    private static final int CORTEX_A53_FEATURES = FEATURE_FP | FEATURE_ASIMD | FEATURE_AES | FEATURE_PMULL
+            | FEATURE_SHA1 | FEATURE_SHA2 | FEATURE_CRC32;
+    private static final int NEOVERSE_V1_FEATURES = CORTEX_A53_FEATURES | FEATURE_LSE | FEATURE_RCPC | FEATURE_RCPC2
+            | FEATURE_SHA3 | FEATURE_SHA512 | FEATURE_SVE;
+
+    // { HWCAP word, bit, feature } as defined by the Linux arm64 uapi hwcap.h.
+    private static final int[][] HWCAPS = {
+        { 0, 0, FEATURE_FP },
+        { 0, 1, FEATURE_ASIMD },
+        { 0, 3, FEATURE_AES },
+        { 0, 4, FEATURE_PMULL },
+        { 0, 5, FEATURE_SHA1 },
+        { 0, 6, FEATURE_SHA2 },
+        { 0, 7, FEATURE_CRC32 },
+        { 0, 8, FEATURE_LSE },
+        { 0, 15, FEATURE_RCPC },
+        { 0, 17, FEATURE_SHA3 },
+        { 0, 21, FEATURE_SHA512 },
+        { 0, 22, FEATURE_SVE },
+        { 0, 26, FEATURE_RCPC2 },
+        { 1, 1, FEATURE_SVE2 },
+        { 1, 43, FEATURE_MOPS },
+    };
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static File fixture(String name) {
+        try {
+            return new File(CpuInfoTest.class.getResource("cpuinfo/" + name).toURI());
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static File auxv(String name) {
+        Assume.assumeTrue(ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN);
+        return fixture(name);
+    }
+
+    private File missing() {
+        return new File(folder.getRoot(), "missing");
+    }
+
+    @Test
+    public void hwcapBits() {
+        for (int[] hwcap : HWCAPS) {
+            long[] words = new long[2];
+            words[hwcap[0]] = 1L << hwcap[1];
+            assertEquals("HWCAP" + (hwcap[0] == 0 ? "" : "2") + " bit " + hwcap[1], hwcap[2], hwcapFeatures(words));
+        }
+        assertEquals(0, hwcapFeatures(new long[] { 1L << 43, 0 }));
+        assertEquals(0, hwcapFeatures(new long[] { 0, 1L << 42 | 1L << 44 }));
+    }
+
+    @Test
+    public void neoverseV1() {
+        CpuInfo cpu = detect(auxv("auxv-neoverse-v1"), fixture("cpuinfo-neoverse-v1"));
+        assertEquals(NEOVERSE_V1_FEATURES, cpu.features());
+        assertEquals(Vendor.ARM, cpu.vendor);
+        assertEquals(PART_NEOVERSE_V1, cpu.family);
+        assertEquals("Neoverse V1", cpu.name());
+        assertEquals(8, cpu.issueWidth());
+    }
+
+    @Test
+    public void mopsInHwcap2() {
+        CpuInfo cpu = detect(auxv("auxv-neoverse-v2-mops"), fixture("cpuinfo-neoverse-v2"));
+        assertTrue(cpu.hasFeature(FEATURE_MOPS | FEATURE_SVE2 | NEOVERSE_V1_FEATURES));
+        // A part without a timing model of its own
+        assertEquals(Vendor.ARM, cpu.vendor);
+        assertEquals(0xd4f, cpu.family);
+        assertEquals("generic", cpu.name());
+    }
+
+    @Test
+    public void cpuinfoFeaturesMatchAuxv() {
+        assertEquals(detect(auxv("auxv-neoverse-v2-mops"), missing()).features(),
+                detect(missing(), fixture("cpuinfo-neoverse-v2")).features());
+        assertEquals(NEOVERSE_V1_FEATURES, detect(missing(), fixture("cpuinfo-neoverse-v1")).features());
+    }
+
+    @Test
+    public void featuresFallback() {
+        CpuInfo cpu = detect(missing(), fixture("cpuinfo-cortex-a53"));
+        assertEquals(CORTEX_A53_FEATURES, cpu.features());
+        assertEquals("Cortex-A53", cpu.name());
+        assertTrue(cpu.isInOrder());
+        assertFalse(cpu.hasFeature(FEATURE_LSE));
+    }
+
+    @Test
+    public void auxvWithoutHwcap() {
+        CpuInfo cpu = detect(auxv("auxv-no-hwcap"), fixture("cpuinfo-qualcomm"));
+        assertEquals(CORTEX_A53_FEATURES | FEATURE_LSE | FEATURE_RCPC, cpu.features());
+        // Only Arm's part numbers select a model
+        assertEquals(Vendor.GENERIC, cpu.vendor);
+        assertEquals("generic", cpu.name());
+    }
+
+    @Test
+    public void modelSelection() throws IOException {
+        String a53 = new String(java.nio.file.Files.readAllBytes(fixture("cpuinfo-cortex-a53").toPath()), "US-ASCII");
+        Object[][] parts = {
+            { "0xd03", "Cortex-A53" },
+            { "0xd08", "Cortex-A72" },
+            { "0xd0c", "Neoverse N1" },
+            { "0xd40", "Neoverse V1" },
+            { "0xd4f", "generic" },
+        };
+        for (Object[] part : parts) {
+            File cpuinfo = folder.newFile("cpuinfo-" + part[0]);
+            FileOutputStream out = new FileOutputStream(cpuinfo);
+            try {
+                out.write(a53.replace("0xd03", (String) part[0]).getBytes("US-ASCII"));
+            } finally {
+                out.close();
+            }
+            CpuInfo cpu = detect(missing(), cpuinfo);
+            assertEquals((String) part[0], part[1], cpu.name());
+            assertEquals(Integer.decode((String) part[0]).intValue(), cpu.family);
+            assertEquals(CORTEX_A53_FEATURES, cpu.features());
+        }
+    }
+
+    @Test
+    public void truncatedAuxv() {
+        // Cut inside the AT_HWCAP entry, the cpuinfo features are used.
+        CpuInfo cpu = detect(auxv("auxv-truncated"), fixture("cpuinfo-cortex-a53"));
+        assertEquals(CORTEX_A53_FEATURES, cpu.features());
+        assertEquals("Cortex-A53", cpu.name());
+    }
+
+    @Test
+    public void truncatedCpuinfo() {
+        // Cut inside the "CPU implementer" value, the core is unknown.
+        CpuInfo cpu = detect(auxv("auxv-neoverse-v1"), fixture("cpuinfo-truncated"));
+        assertEquals(NEOVERSE_V1_FEATURES, cpu.features());
+        assertEquals(Vendor.GENERIC, cpu.vendor);
+
+        cpu = detect(missing(), fixture("cpuinfo-truncated"));
+        assertEquals(CORTEX_A53_FEATURES, cpu.features());
+        assertEquals(Vendor.GENERIC, cpu.vendor);
+    }
+
+    @Test
+    public void unreadable() {
+        assertSame(GENERIC, detect(missing(), missing()));
+        assertSame(GENERIC, detect(folder.getRoot(), folder.getRoot()));
+        assertEquals(NEOVERSE_V1_FEATURES, detect(auxv("auxv-neoverse-v1"), folder.getRoot()).features());
+    }
+
+    @Test
+    public void parseAuxvByteOrder() {
+        ByteBuffer buf = ByteBuffer.allocate(64).order(ByteOrder.BIG_ENDIAN);
+        buf.putLong(6).putLong(4096);
+        buf.putLong(16).putLong(0x1ff);
+        buf.putLong(26).putLong(1L << 43);
+        buf.putLong(0).putLong(0);
+        long[] hwcap = parseAuxv(buf.array(), ByteOrder.BIG_ENDIAN);
+        assertEquals(0x1ff, hwcap[0]);
+        assertEquals(1L << 43, hwcap[1]);
+        assertNull(parseAuxv(buf.array(), ByteOrder.LITTLE_ENDIAN));
+        assertNull(parseAuxv(new byte[15], ByteOrder.BIG_ENDIAN));
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2018 Ossdev07
+ *
+ * This file is part of the JNR project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jnr.a64asm;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static jnr.a64asm.ARRANGEMENT_ENUM.*;
+import static jnr.a64asm.Asm.*;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks the AES, SHA1, SHA256 and PMULL instructions against the encodings
+ * of the LLVM MC assembler (llvm-mc -triple=aarch64 -mattr=+aes,+sha2 -show-encoding).
+ */
+public class CryptoEncodingTest {
+    private static final CpuInfo CRYPTO = new CpuInfo(CpuInfo.Vendor.ARM, CpuInfo.PART_NEOVERSE_N1,
+            CpuInfo.NEOVERSE_N1.features() | CpuInfo.FEATURE_AES | CpuInfo.FEATURE_PMULL
+            | CpuInfo.FEATURE_SHA1 | CpuInfo.FEATURE_SHA2);
+
+    private Assembler_A64 a;
+
+    @Before
+    public void setUp() {
+        a = new Assembler_A64(Aarch_64);
+        a.setCpuInfo(CRYPTO);
+    }
+
+    //! @brief Assert the single instruction emitted since the last check is @a expected.
+    private void check(int expected) {
+        assertEquals(4, a.offset());
+        assertEquals(Integer.toHexString(expected), Integer.toHexString(a.getDWordAt(0)));
+        a.reset();
+    }
+
+    private static VectorRegister v(int index, ARRANGEMENT_ENUM arrangement) {
+        return VectorRegister.v(index, arrangement);
+    }
+
+    private static Register s(int index) {
+        return Register.fps(index);
+    }
+
+    @Test
+    public void aes() {
+        a.aese(v0, v1);                                             check(0x4e284820);
+        a.aesd(v0, v1);                                             check(0x4e285820);
+        a.aesmc(v0, v1);                                            check(0x4e286820);
+        a.aesimc(v0, v1);                                           check(0x4e287820);
+        a.aese(v(31, T16B), v(17, T16B));                           check(0x4e284a3f);
+    }
+
+    @Test
+    public void sha1() {
+        a.sha1c(v(0, T4S), s(1), v(2, T4S));                        check(0x5e020020);
+        a.sha1p(v(0, T4S), s(1), v(2, T4S));                        check(0x5e021020);
+        a.sha1m(v(0, T4S), s(1), v(2, T4S));                        check(0x5e022020);
+        a.sha1su0(v(0, T4S), v(1, T4S), v(2, T4S));                 check(0x5e023020);
+        a.sha1h(s(0), s(1));                                        check(0x5e280820);
+        a.sha1su1(v(0, T4S), v(1, T4S));                            check(0x5e281820);
+    }
+
+    @Test
+    public void sha256() {
+        a.sha256h(v(0, T4S), v(1, T4S), v(2, T4S));                 check(0x5e024020);
+        a.sha256h2(v(0, T4S), v(1, T4S), v(2, T4S));                check(0x5e025020);
+        a.sha256su0(v(0, T4S), v(1, T4S));                          check(0x5e282820);
+        a.sha256su1(v(0, T4S), v(1, T4S), v(2, T4S));               check(0x5e026020);
+    }
+
+    @Test
+    public void pmull() {
+        a.pmull(v(0, T1Q), v(1, T1D), v(2, T1D));                   check(0x0ee2e020);
+        a.pmull2(v(0, T1Q), v(1, T2D), v(2, T2D));                  check(0x4ee2e020);
+        a.pmull(v(0, T8H), v(1, T8B), v(2, T8B));                   check(0x0e22e020);
+        a.pmull2(v(0, T8H), v(1, T16B), v(2, T16B));                check(0x4e22e020);
+    }
+
+    //! The 8 bit polynomial multiply is part of AdvSIMD, not of FEAT_PMULL.
+    @Test
+    public void pmull8WithoutCrypto() {
+        a = new Assembler_A64(Aarch_64);
+        a.pmull(v(0, T8H), v(1, T8B), v(2, T8B));                   check(0x0e22e020);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void aesNeedsFeature() {
+        new Assembler_A64(Aarch_64).aese(v0, v1);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void pmull64NeedsFeature() {
+        new Assembler_A64(Aarch_64).pmull(v(0, T1Q), v(1, T1D), v(2, T1D));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void sha256NeedsSha2() {
+        a.setCpuInfo(new CpuInfo(CpuInfo.Vendor.GENERIC, 0, CpuInfo.FEATURE_SHA1));
+        a.sha1h(s(0), s(1));
+        a.sha256h(v(0, T4S), v(1, T4S), v(2, T4S));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void aesArrangement() {
+        a.aese(v(0, T4S), v1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void sha1HashIsSingle() {
+        a.sha1c(v(0, T4S), Register.fpd(1), v(2, T4S));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void pmullLowHalfIs1D() {
+        a.pmull(v(0, T1Q), v(1, T2D), v(2, T2D));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void pmullDestination() {
+        a.pmull(v(0, T2D), v(1, T1D), v(2, T1D));
+    }
+}
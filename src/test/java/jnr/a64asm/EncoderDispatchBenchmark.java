@@ -0,0 +1,189 @@
+/*
+ * Copyright (C) 2018 Ossdev07
+ *
+ * This file is part of the JNR project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jnr.a64asm;
+
+import java.util.EnumMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static jnr.a64asm.Asm.*;
+import static jnr.a64asm.INST_CODE.*;
+import static jnr.a64asm.Immediate.imm;
+
+/**
+ * Compares the ordinal indexed encoder table used by Assembler_A64._emita64()
+ * with the dispatch it replaced: an @c EnumMap lookup of the description
+ * followed by a @c switch over its group with the encoder inlined in each
+ * case. Both emit the same call stub with the same operands, so only the
+ * dispatch differs. Run with:
+ *
+ * @code
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=cp.txt
+ * java -cp target/test-classes:target/classes:$(cat cp.txt) org.openjdk.jmh.Main EncoderDispatchBenchmark
+ * @endcode
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EncoderDispatchBenchmark {
+    private static final Shift LSL0 = new Shift(SHIFT_ENUM.LSL, 0);
+
+    //! @brief The stub: frame setup, argument shuffling, loads and stores, return.
+    private static final INST_CODE[] CODES = {
+        INST_STP_LDSTPAIR_INDEXED_PRE, INST_ADD_ADDSUB_IMM, INST_LDR_IMM_OFF, INST_STR_LDST_POS,
+        INST_MOVZ_MOVEWIDE, INST_ADD_ADDSUB_SHIFT, INST_ORR_LOG_SHIFT, INST_SUB_ADDSUB_IMM,
+        INST_LDR_IMM_OFF, INST_MADD_DP_3SRC, INST_STR_LDST_POS, INST_ORR_LOG_SHIFT,
+        INST_ADD_ADDSUB_IMM, INST_SUB_ADDSUB_IMM, INST_LDP_POST_INDEXED_IDST_IMM9, INST_RET_BRANCH_REG,
+    };
+    private static final Operand[][] OPERANDS = {
+        { fp, lr, new Pre_index(sp, imm(-32)) },
+        { x4, x0, imm(16), LSL0 },
+        { x5, new Offset(x1, imm(8)) },
+        { x5, new Offset(x4, imm(0)) },
+        { x2, imm(0x1234), LSL0 },
+        { x0, x0, x1, LSL0 },
+        { x3, Register.gpr(REG.REG_X31), x2, LSL0 },
+        { x6, x0, imm(1), LSL0 },
+        { w7, new Offset(x1, imm(12)) },
+        { x0, x2, x3, x0 },
+        { w7, new Offset(x4, imm(8)) },
+        { x1, Register.gpr(REG.REG_X31), x6, LSL0 },
+        { x2, x2, imm(0xff), LSL0 },
+        { x3, x3, imm(4), LSL0 },
+        { fp, lr, new Post_index(sp, imm(32)) },
+        { lr },
+    };
+
+    private final EnumMap<INST_CODE, InstructionDescription> descriptions
+            = new EnumMap<INST_CODE, InstructionDescription>(INST_CODE.class);
+    private Assembler_A64 a;
+
+    @Setup
+    public void setup() {
+        for (INST_CODE code : CODES) {
+            descriptions.put(code, InstructionDescription.find(code));
+        }
+        a = new Assembler_A64(Aarch_64);
+        table();
+        int[] expected = words(a);
+        a.reset();
+        enumMapSwitch();
+        if (!java.util.Arrays.equals(expected, words(a))) {
+            throw new IllegalStateException("the dispatches encode the stub differently");
+        }
+        a.reset();
+    }
+
+    @Benchmark
+    public int table() {
+        a.reset();
+        for (int i = 0; i < CODES.length; i++) {
+            Operand[] o = OPERANDS[i];
+            a._emita64(CODES[i], op(o, 0), op(o, 1), op(o, 2), op(o, 3), op(o, 4));
+        }
+        return a.offset();
+    }
+
+    @Benchmark
+    public int enumMapSwitch() {
+        a.reset();
+        for (int i = 0; i < CODES.length; i++) {
+            Operand[] o = OPERANDS[i];
+            emitSwitch(CODES[i], op(o, 0), op(o, 1), op(o, 2), op(o, 3), op(o, 4));
+        }
+        return a.offset();
+    }
+
+    // The encoders are final classes, so each case binds (and inlines) its
+    // encoder statically like the bodies of the old switch.
+    private static final InstructionEncoder.AddSubImmShift ADD_SUB = new InstructionEncoder.AddSubImmShift();
+    private static final InstructionEncoder.LoadStoreImm LOAD_STORE = new InstructionEncoder.LoadStoreImm();
+    private static final InstructionEncoder.LoadStoreImmPair LOAD_STORE_PAIR_IMM9 = new InstructionEncoder.LoadStoreImmPair();
+    private static final InstructionEncoder.LoadStorePair LOAD_STORE_PAIR = new InstructionEncoder.LoadStorePair();
+    private static final InstructionEncoder.MoveWide MOVE_WIDE = new InstructionEncoder.MoveWide();
+    private static final InstructionEncoder.LogicalShift LOGICAL = new InstructionEncoder.LogicalShift();
+    private static final InstructionEncoder.DataProcessing DATA_PROCESSING = new InstructionEncoder.DataProcessing();
+    private static final InstructionEncoder.BranchReg BRANCH_REG = new InstructionEncoder.BranchReg();
+
+    private void emitSwitch(INST_CODE code, Operand o1, Operand o2, Operand o3, Operand o4, Operand o5) {
+        InstructionDescription id = descriptions.get(code);
+        if (id.feature != 0 && !a.getCpuInfo().hasFeature(id.feature)) {
+            throw new IllegalStateException(code + " is not supported by the CPU, see setCpuInfo()");
+        }
+        switch (id.group) {
+            case addsub_imm:
+            case addsub_shift:
+                ADD_SUB.emit(a, id, o1, o2, o3, o4, o5);
+                break;
+            case ldst_imm9:
+            case ldst_pos:
+                LOAD_STORE.emit(a, id, o1, o2, o3, o4, o5);
+                break;
+            case ldst_imm9_2reg:
+            case ldst_pos_2reg:
+                LOAD_STORE_PAIR_IMM9.emit(a, id, o1, o2, o3, o4, o5);
+                break;
+            case ldstnapair_offs:
+            case ldstpair_off:
+            case ldstpair_indexed:
+                LOAD_STORE_PAIR.emit(a, id, o1, o2, o3, o4, o5);
+                break;
+            case movewide:
+                MOVE_WIDE.emit(a, id, o1, o2, o3, o4, o5);
+                break;
+            case log_shift:
+                LOGICAL.emit(a, id, o1, o2, o3, o4, o5);
+                break;
+            case dp_1src:
+            case dp_2src:
+            case dp_3src:
+                DATA_PROCESSING.emit(a, id, o1, o2, o3, o4, o5);
+                break;
+            case branch_reg:
+                BRANCH_REG.emit(a, id, o1, o2, o3, o4, o5);
+                break;
+            default:
+                throw new IllegalArgumentException("no encoder for " + id.group);
+        }
+    }
+
+    private static Operand op(Operand[] operands, int i) {
+        return i < operands.length ? operands[i] : SerializerCore._none;
+    }
+
+    private static int[] words(Assembler_A64 a) {
+        int[] words = new int[a.offset() / 4];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = a.getDWordAt(4 * i);
+        }
+        return words;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2018 Ossdev07
+ *
+ * This file is part of the JNR project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jnr.a64asm;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.junit.Test;
+
+import static jnr.a64asm.Asm.*;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that 8 byte literals stay aligned when branch relaxation or the
+ * peephole pass move the code in front of their pool.
+ */
+public class LiteralPoolTest {
+    private static final long VALUE = 0x123456789abcdef0L;
+
+    private static ByteBuffer code(Assembler_A64 a) {
+        ByteBuffer code = ByteBuffer.allocate(a.codeSize()).order(ByteOrder.LITTLE_ENDIAN);
+        a.relocCode(code, 0x100000);
+        return code;
+    }
+
+    //! @brief Return the offset the LDR (literal) at @a at loads from.
+    private static int literalOf(ByteBuffer code, int at) {
+        int word = code.getInt(at);
+        assertEquals("ldr (literal)", 0x58000000, word & 0xff000000);
+        return at + ((word << 8) >> 13) * 4;
+    }
+
+    @Test
+    public void relaxedBranchBeforePool() {
+        Assembler_A64 a = new Assembler_A64(Aarch_64);
+        a.setProperty(Assembler_A64.PROPERTY_RELAX_BRANCHES, true);
+        Label done = a.newLabel();
+        a.cbz(x0, done);
+        a.mov(x1, VALUE);
+        for (int i = 0; i < 300000; i++) {  /*out of literal range, the pool is placed in between*/
+            a.nop();
+        }
+        a.bind(done);
+        a.ret(lr);
+
+        ByteBuffer code = code(a);
+        int literal = literalOf(code, 8);   /*behind cbnz, b*/
+        assertEquals(0, literal & 7);
+        assertEquals(VALUE, code.getLong(literal));
+    }
+
+    @Test
+    public void removedInstructionBeforePool() {
+        Assembler_A64 a = new Assembler_A64(Aarch_64);
+        a.setProperty(Assembler_A64.PROPERTY_PEEPHOLE, true);
+        a.mov(x1, VALUE);
+        a.mov(x2, x2);      /*removed*/
+        a.flushLiterals();
+        a.ret(lr);
+        // The pad in front of the literal is dropped and the branch over the pool shortened.
+        assertArrayEquals(new int[] { 0x58000041, 0x14000003, 0x9abcdef0, 0x12345678, 0xd65f03c0 }, words(a));
+    }
+
+    @Test
+    public void removedInstructionBeforeUnpaddedPool() {
+        Assembler_A64 a = new Assembler_A64(Aarch_64);
+        a.setProperty(Assembler_A64.PROPERTY_PEEPHOLE, true);
+        a.nop();
+        a.mov(x1, VALUE);
+        a.mov(x2, x2);      /*removed*/
+        a.flushLiterals();
+        a.ret(lr);
+        assertArrayEquals(new int[] {
+            0xd503201f, 0x58000061, 0x14000004, 0xd503201f, 0x9abcdef0, 0x12345678, 0xd65f03c0
+        }, words(a));
+    }
+
+    private static int[] words(Assembler_A64 a) {
+        ByteBuffer code = code(a);
+        int[] words = new int[code.capacity() / 4];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = code.getInt(4 * i);
+        }
+        return words;
+    }
+}
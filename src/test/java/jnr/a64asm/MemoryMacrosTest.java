@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2018 Ossdev07
+ *
+ * This file is part of the JNR project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jnr.a64asm;
+
+import org.junit.Test;
+
+import static jnr.a64asm.Asm.*;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Pins the code size of MemoryMacros per size class: straight-line code with
+ * an overlapping tail up to the loop threshold, a loop above it.
+ */
+public class MemoryMacrosTest {
+    // { length, copy, set to zero, set to 0x5a, compare } at the default loop threshold
+    private static final long[][] COUNTS = {
+        { 0, 0, 0, 0, 1 },
+        { 1, 2, 1, 2, 12 },
+        { 3, 4, 2, 3, 18 },
+        { 8, 2, 1, 2, 12 },
+        { 12, 4, 2, 3, 18 },
+        { 16, 2, 1, 2, 16 },
+        { 24, 4, 2, 3, 20 },
+        { 32, 4, 2, 3, 22 },
+        { 48, 6, 3, 4, 28 },
+        { 63, 10, 5, 6, 36 },
+        { 64, 8, 4, 5, 34 },
+        { 128, 16, 8, 9, 58 },
+        { 129, 15, 9, 10, 26 },
+        { 256, 13, 8, 9, 22 },
+        { 1000, 19, 11, 12, 26 },
+        { 4096, 13, 8, 9, 22 },
+    };
+
+    private static int[] counts(MemoryMacros m, long length) {
+        int[] counts = new int[4];
+        for (int op = 0; op < counts.length; op++) {
+            Assembler_A64 a = new Assembler_A64(Aarch_64);
+            switch (op) {
+                case 0:
+                    m.copy(a, x0, x1, length);
+                    break;
+                case 1:
+                    m.set(a, x0, 0, length);
+                    break;
+                case 2:
+                    m.set(a, x0, 0x5a, length);
+                    break;
+                default:
+                    m.compare(a, w2, x0, x1, length);
+                    break;
+            }
+            counts[op] = a.offset() / 4;
+        }
+        return counts;
+    }
+
+    private static int[] words(Assembler_A64 a) {
+        int[] words = new int[a.offset() / 4];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = a.getDWordAt(4 * i);
+        }
+        return words;
+    }
+
+    @Test
+    public void sizeClasses() {
+        MemoryMacros m = new MemoryMacros(x4, x5, x6, x7);
+        for (long[] row : COUNTS) {
+            int[] expected = { (int) row[1], (int) row[2], (int) row[3], (int) row[4] };
+            assertArrayEquals("length " + row[0], expected, counts(m, row[0]));
+        }
+    }
+
+    @Test
+    public void loopThreshold() {
+        MemoryMacros low = new MemoryMacros(x4, x5, x6, x7, 64);
+        MemoryMacros high = new MemoryMacros(x4, x5, x6, x7, MemoryMacros.MAX_LOOP_THRESHOLD);
+        assertEquals(64, low.getLoopThreshold());
+        assertArrayEquals(new int[] { 8, 4, 5, 34 }, counts(low, 64));
+        assertArrayEquals(new int[] { 15, 9, 10, 26 }, counts(low, 65));
+        assertArrayEquals(new int[] { 17, 10, 11, 22 }, counts(low, 96));
+        assertArrayEquals(new int[] { 10, 5, 6, 38 }, counts(high, 65));
+        assertArrayEquals(new int[] { 32, 16, 17, 106 }, counts(high, 256));
+        assertArrayEquals(new int[] { 15, 9, 10, 26 }, counts(high, 257));
+    }
+
+    //! The last access overlaps the previous one: 12 bytes are 8 at 0 and 8 at 4.
+    @Test
+    public void overlappingTail() {
+        MemoryMacros m = new MemoryMacros(x4, x5, x6, x7);
+        Assembler_A64 a = new Assembler_A64(Aarch_64);
+        m.copy(a, x0, x1, 12);
+        assertArrayEquals(new int[] {
+            0xf9400024,     // ldr x4, [x1]
+            0xf8404025,     // ldur x5, [x1, #4]
+            0xf9000004,     // str x4, [x0]
+            0xf8004005,     // stur x5, [x0, #4]
+        }, words(a));
+
+        a.reset();
+        m.copy(a, x0, x1, 7);
+        assertArrayEquals(new int[] {
+            0xb9400024,     // ldr w4, [x1]
+            0xb8403025,     // ldur w5, [x1, #3]
+            0xb9000004,     // str w4, [x0]
+            0xb8003005,     // stur w5, [x0, #3]
+        }, words(a));
+
+        a.reset();
+        m.set(a, x0, 0, 20);
+        assertArrayEquals(new int[] {
+            0xa9007c1f,     // stp xzr, xzr, [x0]
+            0xf800c01f,     // stur xzr, [x0, #12]
+        }, words(a));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void thresholdTooSmall() {
+        new MemoryMacros(x4, x5, x6, x7, 63);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void thresholdTooLarge() {
+        new MemoryMacros(x4, x5, x6, x7, MemoryMacros.MAX_LOOP_THRESHOLD + 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void wordTemporary() {
+        new MemoryMacros(x4, x5, x6, w7);
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2018 Ossdev07
+ *
+ * This file is part of the JNR project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jnr.a64asm;
+
+import org.junit.Test;
+
+import static jnr.a64asm.Asm.*;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Pins the sequences mov(Register, long) picks for a corpus of pointers,
+ * masks and small constants.
+ */
+public class MoveImmediateTest {
+    private static final Object[][] X_CORPUS = {
+        // small values and their negations
+        { 0L,                    "movz" },
+        { 1L,                    "movz" },
+        { 0xffffL,               "movz" },
+        { 0x10000L,              "movz" },
+        { -1L,                   "movn" },
+        { -2L,                   "movn" },
+        { -0x1000L,              "movn" },
+        { 0xfffffffffffe1234L,   "movn movk" },
+        // masks
+        { 0xffL,                 "movz" },
+        { 0xffff0000L,           "movz" },
+        { 0xffffffffL,           "orr" },
+        { 0x0000ffffffffffffL,   "movn" },
+        { 0xffffffff00000000L,   "orr" },
+        { 0xfffffffffffffff0L,   "movn" },
+        { 0x7fffffffffffffffL,   "movn" },
+        { 0x8000000000000000L,   "movz" },
+        { 0x00ff00ff00ff00ffL,   "orr" },
+        { 0x5555555555555555L,   "orr" },
+        { 0x0f0f0f0f0f0f1234L,   "orr movk" },
+        // pointers
+        { 0x0000000040001000L,   "movz movk" },
+        { 0x00000000deadbeefL,   "movz movk" },
+        { 0x0000ffffb7e40000L,   "movz movk" },
+        { 0x0000100000000000L,   "movz" },
+        { 0x00007f3a12345678L,   "movz movk movk" },
+        { 0x0000aaaad0001000L,   "movz movk movk" },
+        { 0x0000555555554000L,   "movz movk movk" },
+        { 0xffff000012345000L,   "movz movk movk" },
+        { 0xffff800008001000L,   "movn movk movk" },
+        // four halfwords, no shorter sequence
+        { 0x123456789abcdef0L,   "ldr" },
+        { 0xdeadbeefcafebabeL,   "ldr" },
+    };
+
+    private static final Object[][] W_CORPUS = {
+        { 0x1234L,               "movz" },
+        { 0xffff1234L,           "movn" },
+        { 0x12345678L,           "movz movk" },
+        { 0x00ff00ffL,           "orr" },
+        { -1L,                   "movn" },
+    };
+
+    private static String mnemonic(int word) {
+        switch (word & 0x7f800000) {
+            case 0x52800000:
+                return "movz";
+            case 0x12800000:
+                return "movn";
+            case 0x72800000:
+                return "movk";
+            case 0x32000000:
+                return "orr";
+        }
+        if ((word & 0xbf000000) == 0x18000000)
+            return "ldr";
+        return Integer.toHexString(word);
+    }
+
+    private static String sequence(Register reg, long value) {
+        Assembler_A64 a = new Assembler_A64(Aarch_64);
+        a.mov(reg, value);
+        StringBuilder sb = new StringBuilder();
+        for (int pos = 0; pos < a.offset(); pos += 4) {
+            if (pos > 0)
+                sb.append(' ');
+            sb.append(mnemonic(a.getDWordAt(pos)));
+        }
+        return sb.toString();
+    }
+
+    private static int check(Register reg, Object[][] corpus) {
+        int instructions = 0;
+        for (Object[] entry : corpus) {
+            long value = (Long) entry[0];
+            String expected = (String) entry[1];
+            assertEquals(reg + ", 0x" + Long.toHexString(value), expected, sequence(reg, value));
+            instructions += expected.split(" ").length;
+        }
+        return instructions;
+    }
+
+    @Test
+    public void xRegisterCorpus() {
+        int instructions = check(x0, X_CORPUS);
+        // 1.5 instructions per constant, the literal loads counted as one
+        assertEquals(45, instructions);
+        assertEquals(30, X_CORPUS.length);
+    }
+
+    @Test
+    public void wRegisterCorpus() {
+        assertEquals(6, check(w0, W_CORPUS));
+    }
+
+    @Test
+    public void literalIsPooled() {
+        Assembler_A64 a = new Assembler_A64(Aarch_64);
+        a.mov(x0, 0x123456789abcdef0L);
+        a.mov(x1, 0x123456789abcdef0L);
+        assertEquals(8, a.offset());
+        // both loads share one 8 byte literal behind the code
+        assertEquals(16, a.codeSize());
+    }
+}
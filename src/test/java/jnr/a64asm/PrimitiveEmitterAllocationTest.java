@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2018 Ossdev07
+ *
+ * This file is part of the JNR project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jnr.a64asm;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import static jnr.a64asm.REG.*;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that the primitive emitters of SerializerIntrinsics_a64 write their
+ * words without allocating once the code buffer has grown to size. Every
+ * round uses new constants, so the emitters cannot just replay what they
+ * encoded before.
+ */
+public class PrimitiveEmitterAllocationTest {
+    private static final int ROUNDS = 10000;
+    private static final int PASSES = 5;
+
+    private long seed;
+
+    private void emit(Assembler_A64 a) {
+        long k = ++seed * 0x9e3779b97f4a7c15L;
+        int n = (int) seed;
+        long mask = Long.rotateRight((1L << (1 + n % 63)) - 1, (n / 63) % 64);
+        a.addImm(REG_X0, REG_X1, n & 0xfff, 0);
+        a.subImm(REG_X2, REG_X2, (k >>> 40) << 12);
+        a.addImm(REG_X3, REG_X4, k >>> 40);
+        a.addImm(REG_X5, REG_X6, k >>> 28);
+        a.cmpImm(REG_W7, -(n & 0xfff));
+        a.addReg(REG_X0, REG_X0, REG_X1, SHIFT_ENUM.LSL, n & 63);
+        a.subsReg(REG_W2, REG_W3, REG_W4, SHIFT_ENUM.ASR, n & 31);
+        a.andImm(REG_X0, REG_X1, mask);
+        a.orrImm(REG_W2, REG_W3, k >>> 40);
+        a.eorImm(REG_X3, REG_X4, k);
+        a.tstImm(REG_X4, mask);
+        a.movReg(REG_X5, REG_X6);
+        a.mov(REG_X7, k | 0xffffffffffff0000L);
+        a.mov(REG_X8, k & 0x0000ffff0000ffffL);
+        a.mov(REG_X9, k & 0xffff0000ffff0000L);
+        a.mov(REG_X10, k);
+        a.mov(REG_X11, mask);
+        a.ldrImm(REG_X0, REG_X1, (n & 0xff) * 8);
+        a.strImm(REG_W2, REG_X3, (n & 0xff) * 4);
+        a.ldrbImm(REG_W4, REG_X5, n & 0xff);
+        a.strhImm(REG_W6, REG_X7, (n & 0xff) * 2);
+        a.ldrPost(REG_X8, REG_X9, n & 0xff);
+        a.strPre(REG_X10, REG_X31, -(n & 0xff));
+        a.stpPre(REG_X29, REG_X30, REG_X31, -(n & 0x3f) * 8);
+        a.ldpImm(REG_X0, REG_X1, REG_X2, (n & 0x3f) * 8);
+        a.ldpPost(REG_X29, REG_X30, REG_X31, (n & 0x3f) * 8);
+        a.ldaxr(REG_X0, REG_X1);
+        a.stlxr(REG_W2, REG_X0, REG_X1);
+        a.casal(REG_X0, REG_X2, REG_X1);
+        a.blr(REG_X16);
+        a.br(REG_X17);
+        a.ret(REG_X30);
+    }
+
+    @Test
+    public void primitiveEmittersDoNotAllocate() {
+        Assume.assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        long thread = Thread.currentThread().getId();
+
+        Assembler_A64 a = new Assembler_A64(Assembler_A64.Aarch_64);
+        a.setCpuInfo(CpuInfo.NEOVERSE_N1);
+        for (int i = 0; i < ROUNDS; i++) {
+            a.reset();
+            emit(a);
+        }
+
+        // The JIT may still allocate on this thread while it compiles, so take
+        // the quietest of a few passes.
+        long allocated = Long.MAX_VALUE;
+        for (int pass = 0; pass < PASSES && allocated != 0; pass++) {
+            long before = threads.getThreadAllocatedBytes(thread);
+            for (int i = 0; i < ROUNDS; i++) {
+                a.reset();
+                emit(a);
+            }
+            allocated = Math.min(allocated, threads.getThreadAllocatedBytes(thread) - before);
+        }
+
+        assertEquals("bytes allocated by " + ROUNDS + " rounds", 0L, allocated);
+    }
+}
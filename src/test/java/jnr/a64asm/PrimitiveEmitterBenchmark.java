@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2018 Ossdev07
+ *
+ * This file is part of the JNR project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jnr.a64asm;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static jnr.a64asm.REG.*;
+
+/**
+ * Emits a stub through the primitive emitters of SerializerIntrinsics_a64,
+ * with new constants on every invocation, into an assembler whose buffer has
+ * already grown to size. The emitters are meant to allocate nothing, which
+ * the @c gc profiler shows as a @c gc.alloc.rate.norm of 0 B/op. Run with:
+ *
+ * @code
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=cp.txt
+ * java -cp target/test-classes:target/classes:$(cat cp.txt) org.openjdk.jmh.Main PrimitiveEmitterBenchmark -prof gc
+ * @endcode
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveEmitterBenchmark {
+    private Assembler_A64 a;
+    private long seed;
+
+    @Setup
+    public void setup() {
+        a = new Assembler_A64(Assembler_A64.Aarch_64);
+        a.setCpuInfo(CpuInfo.NEOVERSE_N1);
+        stub();
+    }
+
+    @Benchmark
+    public int stub() {
+        long k = ++seed * 0x9e3779b97f4a7c15L;
+        int n = (int) seed;
+        long mask = Long.rotateRight((1L << (1 + n % 63)) - 1, (n / 63) % 64);
+        a.reset();
+        a.stpPre(REG_X29, REG_X30, REG_X31, -32);
+        a.addImm(REG_X29, REG_X31, 0, 0);
+        a.mov(REG_X9, k & 0x0000ffff0000ffffL);
+        a.mov(REG_X10, k);
+        a.addImm(REG_X0, REG_X0, k >>> 28);
+        a.andImm(REG_X1, REG_X1, mask);
+        a.eorImm(REG_X2, REG_X2, k);
+        a.ldrImm(REG_X3, REG_X0, (n & 0xff) * 8);
+        a.strImm(REG_X3, REG_X1, (n & 0xff) * 8);
+        a.ldaddal(REG_X9, REG_X4, REG_X2);
+        a.cmpImm(REG_X4, n & 0xfff);
+        a.ldpPost(REG_X29, REG_X30, REG_X31, 32);
+        a.ret(REG_X30);
+        return a.offset();
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (C) 2018 Ossdev07
+ *
+ * This file is part of the JNR project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jnr.a64asm;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static jnr.a64asm.Asm.*;
+import static jnr.a64asm.ELEMENT_ENUM.*;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks the SVE instructions against the encodings of the LLVM MC assembler
+ * (llvm-mc -triple=aarch64 -mattr=+sve2 -show-encoding).
+ */
+public class SveEncodingTest {
+    private static final CpuInfo SVE2 = new CpuInfo(CpuInfo.Vendor.ARM, 0, CpuInfo.FEATURE_SVE | CpuInfo.FEATURE_SVE2);
+
+    private Assembler_A64 a;
+
+    @Before
+    public void setUp() {
+        a = new Assembler_A64(Aarch_64);
+        a.setCpuInfo(SVE2);
+    }
+
+    //! @brief Assert the single instruction emitted since the last check is @a expected.
+    private void check(int expected) {
+        assertEquals(4, a.offset());
+        assertEquals(Integer.toHexString(expected), Integer.toHexString(a.getDWordAt(0)));
+        a.reset();
+    }
+
+    private static ScalableRegister z(int index, ELEMENT_ENUM type) {
+        return ScalableRegister.z(index, type);
+    }
+
+    private static PredicateRegister p(int index, ELEMENT_ENUM type) {
+        return PredicateRegister.p(index, type);
+    }
+
+    private static Offset at(Register base, long offset) {
+        return new Offset(base, imm(offset));
+    }
+
+    @Test
+    public void arithmetic() {
+        a.add(z(0, S), z(1, S), z(2, S));                           check(0x04a20020);
+        a.sub(z(0, D), z(1, D), z(2, D));                           check(0x04e20420);
+        a.mul(z(0, S), z(1, S), z(2, S));                           check(0x04a26020);
+        a.and(z(0, D), z(1, D), z(2, D));                           check(0x04223020);
+        a.eor(z(0, D), z(1, D), z(2, D));                           check(0x04a23020);
+        a.mov(z0, z1);                                              check(0x04613020);
+        a.fadd(z(0, S), z(1, S), z(2, S));                          check(0x65820020);
+        a.fmul(z(0, D), z(1, D), z(2, D));                          check(0x65c20820);
+        a.add(z(0, S), p0.merging(), z(0, S), z(1, S));             check(0x04800020);
+        a.sdiv(z(0, S), p1.merging(), z(0, S), z(2, S));            check(0x04940440);
+        a.fmul(z(0, S), p0.merging(), z(0, S), z(1, S));            check(0x65828020);
+        a.umax(z(3, B), PredicateRegister.p(7).merging(), z(3, B), z(4, B)); check(0x04091c83);
+        a.uaddv(d0, p0, z(1, S));                                   check(0x04812020);
+        a.saddv(d0, p0, z(1, B));                                   check(0x04002020);
+        a.faddv(s0, p1, z(2, S));                                   check(0x65802440);
+        a.umaxv(s0, p0, z(1, S));                                   check(0x04892020);
+        a.mov(z(0, S), imm(0));                                     check(0x25b8c000);
+        a.dup(z(0, H), imm(-1));                                    check(0x2578dfe0);
+        a.dup(z(0, S), imm(256));                                   check(0x25b8e020);
+        a.mov(z(0, S), w1);                                         check(0x05a03820);
+        a.mov(z(0, D), x1);                                         check(0x05e03820);
+        a.index(z(0, S), imm(0), imm(1));                           check(0x04a14000);
+        a.index(z(0, D), imm(-1), imm(2));                          check(0x04e243e0);
+    }
+
+    @Test
+    public void predicates() {
+        a.ptrue(p(0, B));                                           check(0x2518e3e0);
+        a.ptrue(p(0, D));                                           check(0x25d8e3e0);
+        a.ptrue(p(1, S), imm(4));                                   check(0x2598e081);
+        a.pfalse(p(0, B));                                          check(0x2518e400);
+        a.and(p(0, B), p1.zeroing(), p(2, B), p(3, B));             check(0x25034440);
+        a.orr(p0, p1.zeroing(), p2, p3);                            check(0x25834440);
+        a.brkb(p1, p0.zeroing(), p2);                               check(0x25904041);
+        a.cmpeq(p(0, B), p1.zeroing(), z(2, B), z(3, B));           check(0x2403a440);
+        a.cmphi(p(2, S), p0.zeroing(), z(0, S), z(1, S));           check(0x24810012);
+        a.cmpeq(p(1, B), p0.zeroing(), z(0, B), imm(0));            check(0x25008001);
+        a.cmplt(p(0, S), p0.zeroing(), z(1, S), imm(-1));           check(0x259f2020);
+    }
+
+    @Test
+    public void whileAndCounts() {
+        a.whilelo(p(0, S), x0, x1);                                 check(0x25a11c00);
+        a.whilelt(p(1, D), Register.gpw(2), Register.gpw(3));       check(0x25e30441);
+        a.cntb(x0);                                                 check(0x0420e3e0);
+        a.cntd(x1, imm(31), imm(4));                                check(0x04e3e3e1);
+        a.incd(x0);                                                 check(0x04f0e3e0);
+        a.decw(x2);                                                 check(0x04b0e7e2);
+        a.addvl(sp, sp, imm(-1));                                   check(0x043f57ff);
+        a.rdvl(x0, imm(1));                                         check(0x04bf5020);
+    }
+
+    @Test
+    public void loadStoreAndFill() {
+        a.ld1d(z(0, D), p0.zeroing(), at(x0, 0));                   check(0xa5e0a000);
+        a.ld1w(z(0, S), p0.zeroing(), at(x0, 0));                   check(0xa540a000);
+        a.ld1b(z(0, B), p0.zeroing(), at(x0, 0));                   check(0xa400a000);
+        a.ld1b(z(0, D), p0.zeroing(), at(x0, 0));                   check(0xa460a000);
+        a.ld1w(z(1, S), p2.zeroing(), at(x3, -1));                  check(0xa54fa861);
+        a.ld1w(z(0, S), p0.zeroing(), x0, x1);                      check(0xa5414000);
+        a.st1d(z(0, D), p0, at(x0, 0));                             check(0xe5e0e000);
+        a.st1w(z(0, S), p0, x0, x1);                                check(0xe5414000);
+        a.st1b(z(2, B), p1, at(x3, 7));                             check(0xe407e462);
+        a.ldr(z0, at(x0, 0));                                       check(0x85804000);
+        a.ldr(z1, at(sp, 3));                                       check(0x85804fe1);
+        a.str(p0, at(x0, -1));                                      check(0xe5bf1c00);
+    }
+
+    @Test
+    public void multiplyAddAndTernary() {
+        a.mla(z(0, S), p0.merging(), z(1, S), z(2, S));             check(0x04824020);
+        a.fmla(z(0, S), p0.merging(), z(1, S), z(2, S));            check(0x65a20020);
+        a.eor3(z(0, D), z(0, D), z(1, D), z(2, D));                 check(0x04213840);
+        a.bcax(z(0, D), z(0, D), z(1, D), z(2, D));                 check(0x04613840);
+    }
+
+    @Test
+    public void testAndCount() {
+        a.ptest(p0, p(1, B));                                       check(0x2550c020);
+        a.cntp(x0, p0, p(1, S));                                    check(0x25a08020);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void needsSve() {
+        new Assembler_A64(Aarch_64).ptrue(p(0, B));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void ternaryNeedsSve2() {
+        a.setCpuInfo(new CpuInfo(CpuInfo.Vendor.ARM, 0, CpuInfo.FEATURE_SVE));
+        a.eor3(z(0, D), z(0, D), z(1, D), z(2, D));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void mixedElementSizes() {
+        a.add(z(0, S), z(1, D), z(2, S));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void loadNeedsZeroingPredicate() {
+        a.ld1w(z(0, S), p0, at(x0, 0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void loadOffsetOutOfRange() {
+        a.ld1w(z(0, S), p0.zeroing(), at(x0, 8));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void whileMixedSizes() {
+        a.whilelo(p(0, S), x0, Register.gpw(1));
+    }
+}